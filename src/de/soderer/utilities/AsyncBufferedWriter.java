@@ -0,0 +1,272 @@
+package de.soderer.utilities;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Writer with a bounded ring of large character buffers, which are encoded and written to an OutputStream by a background thread.
+ *
+ * The producer fills one buffer while the background thread writes the filled ones, so formatting and blocking I/O overlap.
+ * If all buffers are filled, the producer waits for the next written buffer (back-pressure).
+ * An error of the background thread is thrown to the producer on its next call as IOException.
+ * close() writes all remaining buffers and closes the OutputStream.
+ */
+public class AsyncBufferedWriter extends Writer {
+	/** Default number of buffers in the ring */
+	public static final int DEFAULT_BUFFER_COUNT = 4;
+
+	/** Default size of each buffer in characters */
+	public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+	/** Marker block to end the background thread */
+	private static final Block END_BLOCK = new Block(0);
+
+	/** Empty blocks to be filled by the producer */
+	private final BlockingQueue<Block> freeBlocks;
+
+	/** Filled blocks to be written by the background thread */
+	private final BlockingQueue<Block> filledBlocks;
+
+	/** Block currently filled by the producer */
+	private Block currentBlock;
+
+	private final Thread writerThread;
+
+	/** Number of blocks handed to the background thread */
+	private long submittedBlocks = 0;
+
+	/** Number of blocks processed by the background thread */
+	private long processedBlocks = 0;
+
+	/** First error of the background thread */
+	private volatile IOException error = null;
+
+	private boolean closed = false;
+
+	public AsyncBufferedWriter(OutputStream outputStream, Charset encoding) {
+		this(outputStream, encoding, DEFAULT_BUFFER_COUNT, DEFAULT_BUFFER_SIZE);
+	}
+
+	public AsyncBufferedWriter(OutputStream outputStream, Charset encoding, int bufferCount, int bufferSize) {
+		if (outputStream == null) {
+			throw new IllegalArgumentException("OutputStream is null");
+		} else if (encoding == null) {
+			throw new IllegalArgumentException("Encoding is null");
+		} else if (bufferCount < 2) {
+			throw new IllegalArgumentException("Invalid buffer count: " + bufferCount);
+		} else if (bufferSize <= 0) {
+			throw new IllegalArgumentException("Invalid buffer size: " + bufferSize);
+		}
+
+		freeBlocks = new ArrayBlockingQueue<Block>(bufferCount);
+		filledBlocks = new ArrayBlockingQueue<Block>(bufferCount + 1);
+		for (int i = 1; i < bufferCount; i++) {
+			freeBlocks.add(new Block(bufferSize));
+		}
+		currentBlock = new Block(bufferSize);
+
+		final Writer encodingWriter = new OutputStreamWriter(outputStream, encoding);
+		writerThread = new Thread("AsyncBufferedWriter") {
+			@Override
+			public void run() {
+				writeBlocks(encodingWriter);
+			}
+		};
+		writerThread.setDaemon(true);
+		writerThread.start();
+	}
+
+	@Override
+	public void write(int character) throws IOException {
+		checkState();
+		if (currentBlock.length == currentBlock.data.length) {
+			submitCurrentBlock(false);
+		}
+		currentBlock.data[currentBlock.length++] = (char) character;
+	}
+
+	@Override
+	public void write(char[] characters, int offset, int length) throws IOException {
+		checkState();
+		while (length > 0) {
+			if (currentBlock.length == currentBlock.data.length) {
+				submitCurrentBlock(false);
+			}
+			int copyLength = Math.min(length, currentBlock.data.length - currentBlock.length);
+			System.arraycopy(characters, offset, currentBlock.data, currentBlock.length, copyLength);
+			currentBlock.length += copyLength;
+			offset += copyLength;
+			length -= copyLength;
+		}
+	}
+
+	@Override
+	public void write(String text, int offset, int length) throws IOException {
+		checkState();
+		while (length > 0) {
+			if (currentBlock.length == currentBlock.data.length) {
+				submitCurrentBlock(false);
+			}
+			int copyLength = Math.min(length, currentBlock.data.length - currentBlock.length);
+			text.getChars(offset, offset + copyLength, currentBlock.data, currentBlock.length);
+			currentBlock.length += copyLength;
+			offset += copyLength;
+			length -= copyLength;
+		}
+	}
+
+	/**
+	 * Write all buffered data and flush the OutputStream, waiting until the background thread has done so.
+	 */
+	@Override
+	public void flush() throws IOException {
+		checkState();
+		submitCurrentBlock(true);
+		waitForProcessedBlocks();
+		checkError();
+	}
+
+	/**
+	 * Write all buffered data, close the OutputStream and end the background thread.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (!closed) {
+			closed = true;
+			// The queue of filled blocks has room for all blocks and the END_BLOCK, so add() never waits and cannot be interrupted.
+			// This way the background thread always ends and closes the OutputStream.
+			if (error == null && currentBlock != null) {
+				filledBlocks.add(currentBlock);
+			}
+			currentBlock = null;
+			filledBlocks.add(END_BLOCK);
+			try {
+				writerThread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while closing AsyncBufferedWriter");
+			}
+			checkError();
+		}
+	}
+
+	private void checkState() throws IOException {
+		if (closed) {
+			throw new IOException("AsyncBufferedWriter is already closed");
+		}
+		checkError();
+		if (currentBlock == null) {
+			// A previous wait for the next empty block was interrupted
+			takeFreeBlock();
+		}
+	}
+
+	private void checkError() throws IOException {
+		if (error != null) {
+			throw new IOException("Asynchronous output failed: " + error.getMessage(), error);
+		}
+	}
+
+	/**
+	 * Hand the current block to the background thread and take the next empty one, waiting if all blocks are in use
+	 */
+	private void submitCurrentBlock(boolean flushRequested) throws IOException {
+		currentBlock.flushRequested = flushRequested;
+		synchronized (this) {
+			submittedBlocks++;
+		}
+		filledBlocks.add(currentBlock);
+		currentBlock = null;
+		takeFreeBlock();
+		checkError();
+	}
+
+	private void takeFreeBlock() throws IOException {
+		try {
+			currentBlock = freeBlocks.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for AsyncBufferedWriter");
+		}
+	}
+
+	private synchronized void waitForProcessedBlocks() throws IOException {
+		try {
+			while (processedBlocks < submittedBlocks) {
+				wait();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for AsyncBufferedWriter");
+		}
+	}
+
+	private synchronized void blockProcessed() {
+		processedBlocks++;
+		notifyAll();
+	}
+
+	/**
+	 * Loop of the background thread. After an error the remaining blocks are discarded, so the producer is never blocked.
+	 */
+	private void writeBlocks(Writer encodingWriter) {
+		try {
+			while (true) {
+				Block block = filledBlocks.take();
+				if (block == END_BLOCK) {
+					break;
+				}
+				if (error == null) {
+					try {
+						encodingWriter.write(block.data, 0, block.length);
+						if (block.flushRequested) {
+							encodingWriter.flush();
+						}
+					} catch (Throwable e) {
+						// Unchecked errors of the OutputStream must also be kept, otherwise the producer would wait for free blocks forever
+						setError(e);
+					}
+				}
+				block.length = 0;
+				block.flushRequested = false;
+				freeBlocks.put(block);
+				blockProcessed();
+			}
+		} catch (InterruptedException e) {
+			if (error == null) {
+				error = new InterruptedIOException("AsyncBufferedWriter was interrupted");
+			}
+		}
+
+		try {
+			encodingWriter.close();
+		} catch (Throwable e) {
+			setError(e);
+		}
+	}
+
+	private void setError(Throwable throwable) {
+		if (error == null) {
+			error = throwable instanceof IOException ? (IOException) throwable : new IOException(throwable.getClass().getSimpleName() + ": " + throwable.getMessage(), throwable);
+		}
+	}
+
+	/**
+	 * Buffer of the ring
+	 */
+	private static class Block {
+		private final char[] data;
+		private int length = 0;
+		private boolean flushRequested = false;
+
+		private Block(int size) {
+			data = new char[size];
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package de.soderer.utilities;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * InputStream reading the remaining bytes of a ByteBuffer, e.g. a part of a memory mapped file.
+ * The ByteBuffer's position is moved while reading.
+ */
+public class ByteBufferInputStream extends InputStream {
+	private final ByteBuffer byteBuffer;
+
+	public ByteBufferInputStream(ByteBuffer byteBuffer) {
+		if (byteBuffer == null) {
+			throw new IllegalArgumentException("ByteBuffer is null");
+		}
+		this.byteBuffer = byteBuffer;
+	}
+
+	@Override
+	public int read() {
+		if (!byteBuffer.hasRemaining()) {
+			return -1;
+		} else {
+			return byteBuffer.get() & 0xFF;
+		}
+	}
+
+	@Override
+	public int read(byte[] buffer, int offset, int length) {
+		if (length == 0) {
+			return 0;
+		} else if (!byteBuffer.hasRemaining()) {
+			return -1;
+		} else {
+			int readLength = Math.min(length, byteBuffer.remaining());
+			byteBuffer.get(buffer, offset, readLength);
+			return readLength;
+		}
+	}
+
+	@Override
+	public long skip(long length) {
+		if (length <= 0) {
+			return 0;
+		} else {
+			int skipLength = (int) Math.min(length, byteBuffer.remaining());
+			byteBuffer.position(byteBuffer.position() + skipLength);
+			return skipLength;
+		}
+	}
+
+	@Override
+	public int available() {
+		return byteBuffer.remaining();
+	}
+}
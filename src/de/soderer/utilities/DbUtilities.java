@@ -380,7 +380,6 @@ public class DbUtilities {
 			csvWriter.writeValues(headers);
 
 			while (resultSet.next()) {
-				List<String> values = new ArrayList<String>();
 				for (int i = 1; i <= metaData.getColumnCount(); i++) {
 					if (metaData.getColumnType(i) == Types.BLOB
 							|| metaData.getColumnType(i) == Types.BINARY
@@ -389,36 +388,38 @@ public class DbUtilities {
 						if (dbVendor == DbVendor.SQLite || dbVendor == DbVendor.PostgreSQL) {
 							// SQLite does not allow "resultSet.getBlob(i)"
 							InputStream input = null;
+							String value;
 							try {
 								input = resultSet.getBinaryStream(metaData.getColumnName(i));
 								if (input != null) {
 									byte[] data = Utilities.toByteArray(input);
-									values.add(Base64.getEncoder().encodeToString(data));
+									value = Base64.getEncoder().encodeToString(data);
 								} else {
-									values.add("");
+									value = "";
 								}
 							} catch (Exception e) {
 								// NULL blobs throw a NullpointerException in SQLite
-								values.add("");
+								value = "";
 							} finally {
 								Utilities.closeQuietly(input);
 							}
+							csvWriter.writeField(value);
 						} else {
 							Blob blob = resultSet.getBlob(i);
 							if (resultSet.wasNull()) {
-								values.add("");
+								csvWriter.writeField("");
 							} else {
 								try (InputStream input = blob.getBinaryStream()) {
 									byte[] data = Utilities.toByteArray(input);
-									values.add(Base64.getEncoder().encodeToString(data));
+									csvWriter.writeField(Base64.getEncoder().encodeToString(data));
 								}
 							}
 						}
 					} else {
-						values.add(resultSet.getString(i));
+						csvWriter.writeField(resultSet.getString(i));
 					}
 				}
-				csvWriter.writeValues(values);
+				csvWriter.endRow();
 			}
 
 			return csvWriter.getWrittenLines() - 1;
@@ -27,11 +27,11 @@ public class MapStringReader extends BasicReader {
 		StringBuilder nextKey = new StringBuilder();
 		StringBuilder nextValue = new StringBuilder();
 
-		Character currentChar = readNextNonWhitespace();
-		while (currentChar != null) {
+		int currentChar = readNextNonWhitespaceChar();
+		while (currentChar != -1) {
 			switch (currentChar) {
 				case ' ':
-					currentChar = readNextNonWhitespace();
+					currentChar = readNextNonWhitespaceChar();
 					reuseCurrentChar();
 					if ('=' == currentChar) {
 						break;
@@ -44,53 +44,50 @@ public class MapStringReader extends BasicReader {
 					if (nextKey.length() > 0 || nextValue.length() > 0) {
 						returnMap.put(nextKey.toString(), nextValue.toString());
 						inValue = false;
-						nextKey = new StringBuilder();
-						nextValue = new StringBuilder();
+						nextKey.setLength(0);
+						nextValue.setLength(0);
 					}
-					currentChar = readNextNonWhitespace();
+					currentChar = readNextNonWhitespaceChar();
 					break;
 				case '\'':
 				case '"':
 					// Start quoted value
-					String quotedText = readQuotedText(currentChar, '\\');
+					String quotedText = readQuotedText((char) currentChar, '\\');
 					if (inValue) {
 						nextValue.append(quotedText);
 					} else {
 						nextKey.append(quotedText);
 					}
 					// Check for two-times-quote-char as escape char
-					if (currentChar == readNextCharacter()) {
+					if (currentChar == readNextChar()) {
 						if (inValue) {
-							nextValue.append(currentChar);
+							nextValue.append((char) currentChar);
 						} else {
-							nextKey.append(currentChar);
+							nextKey.append((char) currentChar);
 						}
 					}
 					reuseCurrentChar();
-					currentChar = readNextCharacter();
+					currentChar = readNextChar();
 					break;
 				case '=':
 					// Key value separator
 					inValue = !inValue;
-					currentChar = readNextNonWhitespace();
+					currentChar = readNextNonWhitespaceChar();
 					break;
 				default:
 					// Item content, maybe quoted
 					if (inValue) {
-						nextValue.append(currentChar);
+						nextValue.append((char) currentChar);
 					} else {
-						nextKey.append(currentChar);
+						nextKey.append((char) currentChar);
 					}
-					currentChar = readNextCharacter();
+					currentChar = readNextChar();
 					break;
 			}
 		}
-		
+
 		if (inValue || nextKey.length() > 0) {
 			returnMap.put(nextKey.toString(), nextValue.toString());
-			inValue = false;
-			nextKey = new StringBuilder();
-			nextValue = new StringBuilder();
 		}
 		
 		return returnMap;
@@ -1,167 +1,573 @@
-package de.soderer.utilities;
-
-import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.text.DecimalFormat;
-import java.util.regex.Pattern;
-
-public class NumberUtilities {
-	public static DecimalFormat NUMBER_WITH_POINTS = new DecimalFormat("###,##0");
-	public static DecimalFormat NUMBER_WITH_MIN_2_DIGITS = new DecimalFormat("00");
-	public static DecimalFormat NUMBER_WITH_MIN_4_DIGITS = new DecimalFormat("0000");
-	public static DecimalFormat NUMBER_WITH_MIN_6_DIGITS = new DecimalFormat("000000");
-	public static DecimalFormat NUMBER_WITH_MIN_7_DIGITS = new DecimalFormat("0000000");
-
-	/**
-	 * Check for a single digit
-	 *
-	 * @param value
-	 * @return
-	 */
-	public static boolean isDigit(String digitString) {
-		for (char character : digitString.toCharArray()) {
-			if (!Character.isDigit(character)) {
-				return false;
-			}
-		}
-		return true;
-	}
-
-	/**
-	 * Check for a integer value without decimals
-	 *
-	 * @param value
-	 * @return
-	 */
-	public static boolean isInteger(String value) {
-		try {
-			Integer.parseInt(value);
-			return true;
-		} catch (NumberFormatException e) {
-			return false;
-		}
-	}
-
-	/**
-	 * Check for a double value with optional decimals after a dot(.) and exponent
-	 *
-	 * @param value
-	 * @return
-	 */
-	public static boolean isDouble(String value) {
-		try {
-			Double.parseDouble(value);
-			return true;
-		} catch (NumberFormatException e) {
-			return false;
-		}
-	}
-	
-	/**
-	 * Compare Number objects
-	 * 
-	 * @param a
-	 * @param b
-	 * @return
-	 * 	 1 if a > b
-	 * 	 0 if a = b
-	 * 	-1 if a < b
-	 */
-	public static int compare(Number a, Number b){
-        return new BigDecimal(a.toString()).compareTo(new BigDecimal(b.toString()));
-    }
-	
-	public static boolean isNumber(String numberString) {
-		return Pattern.matches("[+|-]?[0-9]*(\\.[0-9]*)?([e|E][+|-]?[0-9]*)?", numberString);
-	}
-	
-	/**
-	 * Parse a number of unknown type in english notation like "1,234,567.90E-12".
-	 * Resulting type may be Integer, Long, Float, Double, BigDecimal. Byte and Short are returned as Integer.
-	 * The resulting type is the smallest type able to contain the given number without loss of accuracy.
-	 * 
-	 * @param numberString
-	 * @return
-	 * @throws NumberFormatException
-	 */
-	public static Number parseNumber(String numberString) throws NumberFormatException {
-		if (!isNumber(numberString)) {
-			throw new NumberFormatException("Not a number: '" + numberString + "'");
-		} else if (numberString.contains("e") || numberString.contains("E")) {
-			String exponentString = numberString.substring(numberString.toLowerCase().indexOf("e") + 1);
-			int exponent;
-			if (exponentString.length() == 0) {
-				exponent = 0;
-			} else {
-				exponent = Integer.parseInt(exponentString);
-			}
-			if (Float.MIN_EXPONENT < exponent && exponent < Float.MAX_EXPONENT) {
-				return new Float(numberString);
-			} else {
-				return new Double(numberString);
-			}
-		} else if (numberString.contains(".")) {
-			if (numberString.length() < 10) {
-				return new Float(numberString);
-			} else {
-				BigDecimal value = new BigDecimal(numberString);
-				int numberOfDecimalPoints = numberString.substring(numberString.indexOf(".") + 1).replace(",", "").length();
-				boolean isFloat = numberOfDecimalPoints <= 7 && new BigDecimal(Float.MIN_VALUE).compareTo(value) == -1 && value.compareTo(new BigDecimal(Float.MAX_VALUE)) == -1;
-				if (isFloat) {
-					return new Float(numberString);
-				} else {
-					boolean isDouble = new BigDecimal(Double.MIN_VALUE).compareTo(value) == -1 && value.compareTo(new BigDecimal(Double.MAX_VALUE)) == -1;
-					if (isDouble) {
-						return new Double(numberString);
-					} else {
-						return value;
-					}
-				}
-			}
-		} else {
-			if (numberString.length() < 10) {
-				return new Integer(numberString);
-			} else {
-				BigDecimal value = new BigDecimal(numberString);
-				boolean isInteger = new BigDecimal(Integer.MIN_VALUE).compareTo(value) == -1 && value.compareTo(new BigDecimal(Integer.MAX_VALUE)) == -1;
-				if (isInteger) {
-					return new Integer(numberString);
-				} else {
-					boolean isLong = new BigDecimal(Long.MIN_VALUE).compareTo(value) == -1 && value.compareTo(new BigDecimal(Long.MAX_VALUE)) == -1;
-					if (isLong) {
-						return new Long(numberString);
-					} else {
-						return value;
-					}
-				}
-			}
-		}
-	}
-
-	public static boolean isHexNumber(String numberString) {
-		return Pattern.matches("0(x|X)[0-9A-Fa-f]+", numberString);
-	}
-	
-	public static Number parseHexNumber(String hexNumberString) throws NumberFormatException {
-		if (!isHexNumber(hexNumberString)) {
-			throw new NumberFormatException("Not a hex number: '" + hexNumberString + "'");
-		} else {
-			if (hexNumberString.length() < 12) {
-				return Integer.parseInt(hexNumberString.substring(2), 16);
-			} else {
-				BigInteger value = new BigInteger(hexNumberString.substring(2), 16);
-				boolean isInteger = new BigInteger(Integer.toString(Integer.MIN_VALUE)).compareTo(value) == -1 && value.compareTo(new BigInteger(Integer.toString(Integer.MAX_VALUE))) == -1;
-				if (isInteger) {
-					return Integer.parseInt(hexNumberString.substring(2), 16);
-				} else {
-					boolean isLong = new BigInteger(Long.toString(Long.MIN_VALUE)).compareTo(value) == -1 && value.compareTo(new BigInteger(Long.toString(Long.MAX_VALUE))) == -1;
-					if (isLong) {
-						return Long.parseLong(hexNumberString.substring(2), 16);
-					} else {
-						return value;
-					}
-				}
-			}
-		}
-	}
-}
+package de.soderer.utilities;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.util.regex.Pattern;
+
+public class NumberUtilities {
+	public static DecimalFormat NUMBER_WITH_POINTS = new DecimalFormat("###,##0");
+	public static DecimalFormat NUMBER_WITH_MIN_2_DIGITS = new DecimalFormat("00");
+	public static DecimalFormat NUMBER_WITH_MIN_4_DIGITS = new DecimalFormat("0000");
+	public static DecimalFormat NUMBER_WITH_MIN_6_DIGITS = new DecimalFormat("000000");
+	public static DecimalFormat NUMBER_WITH_MIN_7_DIGITS = new DecimalFormat("0000000");
+
+	/**
+	 * Check for a single digit
+	 *
+	 * @param value
+	 * @return
+	 */
+	public static boolean isDigit(String digitString) {
+		for (char character : digitString.toCharArray()) {
+			if (!Character.isDigit(character)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Check for a integer value without decimals
+	 *
+	 * @param value
+	 * @return
+	 */
+	public static boolean isInteger(String value) {
+		try {
+			Integer.parseInt(value);
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Check for a double value with optional decimals after a dot(.) and exponent
+	 *
+	 * @param value
+	 * @return
+	 */
+	public static boolean isDouble(String value) {
+		try {
+			Double.parseDouble(value);
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * Compare Number objects
+	 * 
+	 * @param a
+	 * @param b
+	 * @return
+	 * 	 1 if a > b
+	 * 	 0 if a = b
+	 * 	-1 if a < b
+	 */
+	public static int compare(Number a, Number b){
+        return new BigDecimal(a.toString()).compareTo(new BigDecimal(b.toString()));
+    }
+	
+	/**
+	 * Check for a number in english notation with optional sign, decimals after a dot(.) and exponent like "-1234.56E-12"
+	 *
+	 * @param numberString
+	 * @return
+	 */
+	public static boolean isNumber(String numberString) {
+		return numberString != null && scanNumberSyntax(numberString, 0, numberString.length()) >= 0;
+	}
+
+	/**
+	 * Check a range of characters for a number in english notation without creating a substring
+	 *
+	 * @param characters
+	 * @param start
+	 *            index of first character
+	 * @param end
+	 *            index after the last character
+	 * @return
+	 */
+	public static boolean isNumber(CharSequence characters, int start, int end) {
+		return characters != null && scanNumberSyntax(characters, start, end) >= 0;
+	}
+
+	/**
+	 * Parse a number of unknown type in english notation like "1234567.90E-12".
+	 * Resulting type may be Integer, Long, Float, Double, BigDecimal. Byte and Short are returned as Integer.
+	 * The resulting type is the smallest type able to contain the given number without loss of accuracy.
+	 * 
+	 * @param numberString
+	 * @return
+	 * @throws NumberFormatException
+	 */
+	public static Number parseNumber(String numberString) throws NumberFormatException {
+		if (numberString == null) {
+			throw new NumberFormatException("Not a number: 'null'");
+		}
+		return parseNumber(numberString, 0, numberString.length());
+	}
+
+	/**
+	 * Parse a number of unknown type from a range of characters without creating a substring for ordinary values.
+	 * Same type selection as parseNumber(String).
+	 *
+	 * @param characters
+	 * @param start
+	 *            index of first character
+	 * @param end
+	 *            index after the last character
+	 * @return
+	 * @throws NumberFormatException
+	 */
+	public static Number parseNumber(CharSequence characters, int start, int end) throws NumberFormatException {
+		long syntax = characters == null ? -1 : scanNumberSyntax(characters, start, end);
+		if (syntax < 0) {
+			throw new NumberFormatException("Not a number: '" + (characters == null ? "null" : characters.subSequence(start, Math.max(start, end))) + "'");
+		}
+		int pointIndex = start + (int) (syntax >>> 32) - 1;
+		int exponentIndex = start + (int) syntax - 1;
+
+		if (exponentIndex >= start) {
+			int exponent = parseInt(characters, exponentIndex + 1, end);
+			if (Float.MIN_EXPONENT < exponent && exponent < Float.MAX_EXPONENT) {
+				return parseFloat(characters, start, end);
+			} else {
+				return parseDouble(characters, start, end);
+			}
+		}
+
+		boolean negative = characters.charAt(start) == '-';
+		int digitsStart = characters.charAt(start) == '-' || characters.charAt(start) == '+' ? start + 1 : start;
+		int integerEnd = pointIndex >= start ? pointIndex : end;
+		int firstSignificantIndex = digitsStart;
+		while (firstSignificantIndex < integerEnd && characters.charAt(firstSignificantIndex) == '0') {
+			firstSignificantIndex++;
+		}
+		int integerDigits = integerEnd - firstSignificantIndex;
+
+		if (pointIndex >= start) {
+			if (end - start < 10) {
+				return parseFloat(characters, start, end);
+			}
+
+			int numberOfDecimals = end - pointIndex - 1;
+			int firstNonZeroDecimalIndex = pointIndex + 1;
+			while (firstNonZeroDecimalIndex < end && characters.charAt(firstNonZeroDecimalIndex) == '0') {
+				firstNonZeroDecimalIndex++;
+			}
+			boolean positive = !negative && (integerDigits > 0 || firstNonZeroDecimalIndex < end);
+
+			// Float and Double ranges are checked without BigDecimal, only values near the limits need an exact comparison
+			if (positive && numberOfDecimals <= 7 && integerDigits <= 38) {
+				return parseFloat(characters, start, end);
+			} else if (positive && numberOfDecimals <= 7 && integerDigits == 39) {
+				BigDecimal value = new BigDecimal(characters.subSequence(start, end).toString());
+				if (value.compareTo(new BigDecimal(Float.MAX_VALUE)) == -1) {
+					return parseFloat(characters, start, end);
+				}
+			}
+			if (positive && integerDigits <= 308 && (integerDigits > 0 || firstNonZeroDecimalIndex - pointIndex <= 323)) {
+				return parseDouble(characters, start, end);
+			} else {
+				BigDecimal value = new BigDecimal(characters.subSequence(start, end).toString());
+				boolean isDouble = new BigDecimal(Double.MIN_VALUE).compareTo(value) == -1 && value.compareTo(new BigDecimal(Double.MAX_VALUE)) == -1;
+				if (isDouble) {
+					return parseDouble(characters, start, end);
+				} else {
+					return value;
+				}
+			}
+		} else {
+			if (end - start < 10 || integerDigits < 10) {
+				return parseInt(characters, start, end);
+			} else if (integerDigits < 19) {
+				// Integer limits are excluded like Integer.MIN_VALUE and Integer.MAX_VALUE themselves
+				long value = parseLong(characters, start, end);
+				if (Integer.MIN_VALUE < value && value < Integer.MAX_VALUE) {
+					return (int) value;
+				} else {
+					return value;
+				}
+			} else if (integerDigits == 19 && compareDigits(characters, firstSignificantIndex, negative ? "9223372036854775808" : "9223372036854775807") < 0) {
+				// Long limits are excluded like Long.MIN_VALUE and Long.MAX_VALUE themselves
+				return parseLong(characters, start, end);
+			} else {
+				return new BigDecimal(characters.subSequence(start, end).toString());
+			}
+		}
+	}
+
+	/**
+	 * Scan the syntax "[+-]?[0-9]*(\\.[0-9]*)?([eE][+-]?[0-9]+)?" with at least one digit before the exponent.
+	 *
+	 * @return -1 for invalid syntax, otherwise the index of the decimal point in the upper and the index of the exponent character in the lower 32 bits, both relative to start plus one and 0 if not present
+	 */
+	private static long scanNumberSyntax(CharSequence characters, int start, int end) {
+		if (start >= end) {
+			return -1;
+		}
+
+		int position = start;
+		char nextChar = characters.charAt(position);
+		if (nextChar == '+' || nextChar == '-') {
+			position++;
+		}
+
+		int numberOfDigits = 0;
+		int pointIndex = -1;
+		int exponentIndex = -1;
+		for (; position < end; position++) {
+			nextChar = characters.charAt(position);
+			if (nextChar >= '0' && nextChar <= '9') {
+				numberOfDigits++;
+			} else if (nextChar == '.' && pointIndex < 0) {
+				pointIndex = position;
+			} else if (nextChar == 'e' || nextChar == 'E') {
+				exponentIndex = position;
+				break;
+			} else {
+				return -1;
+			}
+		}
+		if (numberOfDigits == 0) {
+			return -1;
+		}
+
+		if (exponentIndex >= 0) {
+			position = exponentIndex + 1;
+			if (position < end && (characters.charAt(position) == '+' || characters.charAt(position) == '-')) {
+				position++;
+			}
+			if (position == end) {
+				return -1;
+			}
+			for (; position < end; position++) {
+				nextChar = characters.charAt(position);
+				if (nextChar < '0' || nextChar > '9') {
+					return -1;
+				}
+			}
+		}
+
+		return ((long) (pointIndex - start + 1) << 32) | (exponentIndex - start + 1);
+	}
+
+	/**
+	 * Compare a range of digits with a digit string of the same length
+	 */
+	private static int compareDigits(CharSequence characters, int start, String digits) {
+		for (int i = 0; i < digits.length(); i++) {
+			int difference = characters.charAt(start + i) - digits.charAt(i);
+			if (difference != 0) {
+				return difference;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Powers of ten, which are exactly representable as double
+	 */
+	private static final double[] EXACT_DOUBLE_POWERS_OF_TEN = new double[] {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	/**
+	 * Powers of ten, which are exactly representable as float
+	 */
+	private static final float[] EXACT_FLOAT_POWERS_OF_TEN = new float[] {
+		1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f };
+
+	/**
+	 * Parse an int value from a range of characters without creating a substring.
+	 * Same syntax as Integer.parseInt(String).
+	 *
+	 * @param characters
+	 * @param start
+	 *            index of first character
+	 * @param end
+	 *            index after the last character
+	 * @return
+	 * @throws NumberFormatException
+	 */
+	public static int parseInt(CharSequence characters, int start, int end) throws NumberFormatException {
+		long value = parseLong(characters, start, end);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw new NumberFormatException("Not an int value: '" + characters.subSequence(start, end) + "'");
+		}
+		return (int) value;
+	}
+
+	/**
+	 * Parse a long value from a range of characters without creating a substring.
+	 * Same syntax as Long.parseLong(String).
+	 *
+	 * @param characters
+	 * @param start
+	 *            index of first character
+	 * @param end
+	 *            index after the last character
+	 * @return
+	 * @throws NumberFormatException
+	 */
+	public static long parseLong(CharSequence characters, int start, int end) throws NumberFormatException {
+		if (characters == null || start >= end) {
+			throw new NumberFormatException("Not a long value: '" + (characters == null ? "null" : characters.subSequence(start, Math.max(start, end))) + "'");
+		}
+
+		int position = start;
+		boolean negative = false;
+		char firstChar = characters.charAt(position);
+		if (firstChar == '-' || firstChar == '+') {
+			negative = firstChar == '-';
+			position++;
+			if (position == end) {
+				throw new NumberFormatException("Not a long value: '" + characters.subSequence(start, end) + "'");
+			}
+		}
+
+		// Accumulate negatively to be able to parse Long.MIN_VALUE
+		long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long multiplicationLimit = limit / 10;
+		long value = 0;
+		for (; position < end; position++) {
+			int digit = characters.charAt(position) - '0';
+			if (digit < 0 || digit > 9 || value < multiplicationLimit) {
+				throw new NumberFormatException("Not a long value: '" + characters.subSequence(start, end) + "'");
+			}
+			value *= 10;
+			if (value < limit + digit) {
+				throw new NumberFormatException("Not a long value: '" + characters.subSequence(start, end) + "'");
+			}
+			value -= digit;
+		}
+		return negative ? value : -value;
+	}
+
+	/**
+	 * Parse a double value from a range of characters.
+	 * Simple decimal numbers with up to 15 significant digits are calculated directly without creating a substring,
+	 * all other values are delegated to Double.parseDouble(String).
+	 *
+	 * @param characters
+	 * @param start
+	 *            index of first character
+	 * @param end
+	 *            index after the last character
+	 * @return
+	 * @throws NumberFormatException
+	 */
+	public static double parseDouble(CharSequence characters, int start, int end) throws NumberFormatException {
+		if (characters == null || start >= end) {
+			throw new NumberFormatException("Not a double value: '" + (characters == null ? "null" : characters.subSequence(start, Math.max(start, end))) + "'");
+		}
+
+		int position = start;
+		boolean negative = false;
+		char nextChar = characters.charAt(position);
+		if (nextChar == '-' || nextChar == '+') {
+			negative = nextChar == '-';
+			position++;
+		}
+
+		long mantissa = 0;
+		int significantDigits = 0;
+		int numberOfDigits = 0;
+		int decimalExponent = 0;
+		boolean afterDecimalPoint = false;
+		for (; position < end; position++) {
+			nextChar = characters.charAt(position);
+			if (nextChar >= '0' && nextChar <= '9') {
+				numberOfDigits++;
+				if (mantissa > 0 || nextChar != '0') {
+					significantDigits++;
+				}
+				mantissa = mantissa * 10 + (nextChar - '0');
+				if (afterDecimalPoint) {
+					decimalExponent--;
+				}
+				if (significantDigits > 15) {
+					return Double.parseDouble(characters.subSequence(start, end).toString());
+				}
+			} else if (nextChar == '.' && !afterDecimalPoint) {
+				afterDecimalPoint = true;
+			} else {
+				break;
+			}
+		}
+
+		if (numberOfDigits == 0) {
+			return Double.parseDouble(characters.subSequence(start, end).toString());
+		}
+
+		if (position < end && (nextChar == 'e' || nextChar == 'E')) {
+			position++;
+			boolean negativeExponent = false;
+			if (position < end && (characters.charAt(position) == '-' || characters.charAt(position) == '+')) {
+				negativeExponent = characters.charAt(position) == '-';
+				position++;
+			}
+			int exponentStart = position;
+			int exponent = 0;
+			for (; position < end; position++) {
+				int digit = characters.charAt(position) - '0';
+				if (digit < 0 || digit > 9 || exponent > 1000) {
+					return Double.parseDouble(characters.subSequence(start, end).toString());
+				}
+				exponent = exponent * 10 + digit;
+			}
+			if (position == exponentStart) {
+				return Double.parseDouble(characters.subSequence(start, end).toString());
+			}
+			decimalExponent += negativeExponent ? -exponent : exponent;
+		}
+
+		if (position < end) {
+			// Some other syntax like a type suffix or hex notation
+			return Double.parseDouble(characters.subSequence(start, end).toString());
+		}
+
+		double value;
+		if (mantissa == 0) {
+			value = 0.0;
+		} else if (decimalExponent == 0) {
+			value = mantissa;
+		} else if (decimalExponent > 0 && decimalExponent <= 22) {
+			value = mantissa * EXACT_DOUBLE_POWERS_OF_TEN[decimalExponent];
+		} else if (decimalExponent < 0 && decimalExponent >= -22) {
+			value = mantissa / EXACT_DOUBLE_POWERS_OF_TEN[-decimalExponent];
+		} else {
+			return Double.parseDouble(characters.subSequence(start, end).toString());
+		}
+		return negative ? -value : value;
+	}
+
+	/**
+	 * Parse a float value from a range of characters.
+	 * Simple decimal numbers with up to 7 significant digits are calculated directly without creating a substring,
+	 * all other values are delegated to Float.parseFloat(String).
+	 *
+	 * @param characters
+	 * @param start
+	 *            index of first character
+	 * @param end
+	 *            index after the last character
+	 * @return
+	 * @throws NumberFormatException
+	 */
+	public static float parseFloat(CharSequence characters, int start, int end) throws NumberFormatException {
+		if (characters == null || start >= end) {
+			throw new NumberFormatException("Not a float value: '" + (characters == null ? "null" : characters.subSequence(start, Math.max(start, end))) + "'");
+		}
+
+		int position = start;
+		boolean negative = false;
+		char nextChar = characters.charAt(position);
+		if (nextChar == '-' || nextChar == '+') {
+			negative = nextChar == '-';
+			position++;
+		}
+
+		int mantissa = 0;
+		int significantDigits = 0;
+		int numberOfDigits = 0;
+		int decimalExponent = 0;
+		boolean afterDecimalPoint = false;
+		for (; position < end; position++) {
+			nextChar = characters.charAt(position);
+			if (nextChar >= '0' && nextChar <= '9') {
+				numberOfDigits++;
+				if (mantissa > 0 || nextChar != '0') {
+					significantDigits++;
+				}
+				mantissa = mantissa * 10 + (nextChar - '0');
+				if (afterDecimalPoint) {
+					decimalExponent--;
+				}
+				if (significantDigits > 7) {
+					return Float.parseFloat(characters.subSequence(start, end).toString());
+				}
+			} else if (nextChar == '.' && !afterDecimalPoint) {
+				afterDecimalPoint = true;
+			} else {
+				break;
+			}
+		}
+
+		if (numberOfDigits == 0) {
+			return Float.parseFloat(characters.subSequence(start, end).toString());
+		}
+
+		if (position < end && (nextChar == 'e' || nextChar == 'E')) {
+			position++;
+			boolean negativeExponent = false;
+			if (position < end && (characters.charAt(position) == '-' || characters.charAt(position) == '+')) {
+				negativeExponent = characters.charAt(position) == '-';
+				position++;
+			}
+			int exponentStart = position;
+			int exponent = 0;
+			for (; position < end; position++) {
+				int digit = characters.charAt(position) - '0';
+				if (digit < 0 || digit > 9 || exponent > 1000) {
+					return Float.parseFloat(characters.subSequence(start, end).toString());
+				}
+				exponent = exponent * 10 + digit;
+			}
+			if (position == exponentStart) {
+				return Float.parseFloat(characters.subSequence(start, end).toString());
+			}
+			decimalExponent += negativeExponent ? -exponent : exponent;
+		}
+
+		if (position < end) {
+			// Some other syntax like a type suffix or hex notation
+			return Float.parseFloat(characters.subSequence(start, end).toString());
+		}
+
+		float value;
+		if (mantissa == 0) {
+			value = 0.0f;
+		} else if (decimalExponent == 0) {
+			value = mantissa;
+		} else if (decimalExponent > 0 && decimalExponent <= 10) {
+			value = mantissa * EXACT_FLOAT_POWERS_OF_TEN[decimalExponent];
+		} else if (decimalExponent < 0 && decimalExponent >= -10) {
+			value = mantissa / EXACT_FLOAT_POWERS_OF_TEN[-decimalExponent];
+		} else {
+			return Float.parseFloat(characters.subSequence(start, end).toString());
+		}
+		return negative ? -value : value;
+	}
+
+	public static boolean isHexNumber(String numberString) {
+		return Pattern.matches("0(x|X)[0-9A-Fa-f]+", numberString);
+	}
+	
+	public static Number parseHexNumber(String hexNumberString) throws NumberFormatException {
+		if (!isHexNumber(hexNumberString)) {
+			throw new NumberFormatException("Not a hex number: '" + hexNumberString + "'");
+		} else {
+			if (hexNumberString.length() < 12) {
+				return Integer.parseInt(hexNumberString.substring(2), 16);
+			} else {
+				BigInteger value = new BigInteger(hexNumberString.substring(2), 16);
+				boolean isInteger = new BigInteger(Integer.toString(Integer.MIN_VALUE)).compareTo(value) == -1 && value.compareTo(new BigInteger(Integer.toString(Integer.MAX_VALUE))) == -1;
+				if (isInteger) {
+					return Integer.parseInt(hexNumberString.substring(2), 16);
+				} else {
+					boolean isLong = new BigInteger(Long.toString(Long.MIN_VALUE)).compareTo(value) == -1 && value.compareTo(new BigInteger(Long.toString(Long.MAX_VALUE))) == -1;
+					if (isLong) {
+						return Long.parseLong(hexNumberString.substring(2), 16);
+					} else {
+						return value;
+					}
+				}
+			}
+		}
+	}
+}
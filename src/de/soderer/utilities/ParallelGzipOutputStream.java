@@ -0,0 +1,280 @@
+package de.soderer.utilities;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * OutputStream compressing its data by GZIP-Algorithm in parallel.
+ *
+ * The data is split into blocks of fixed size, which are deflated in parallel on a thread pool.
+ * Each block is written as separate gzip member in the original order, so the output is standard multi-member gzip,
+ * which is readable by Utilities.gunzipByteArray(), GZIPInputStream and any gzip tool.
+ * The number of blocks in compression is bounded, so memory usage stays predictable.
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+	/** Default size of the uncompressed blocks */
+	public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+	/** Gzip member header: magic number, deflate method, no flags, no modification time, no extra flags, unknown OS */
+	private static final byte[] GZIP_HEADER = new byte[] { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+	/** Compressed output */
+	private OutputStream outputStream;
+
+	/** Pool for compression tasks */
+	private final ExecutorService executorService;
+
+	private final int blockSize;
+
+	private final int compressionLevel;
+
+	/** Maximum number of blocks in compression */
+	private final int maximumBlocksInCompression;
+
+	/** Block currently filled with uncompressed data */
+	private byte[] currentBlock;
+
+	private int currentBlockLength = 0;
+
+	/** Blocks in compression in the order of the data */
+	private final Deque<Future<CompressedBlock>> blocksInCompression = new ArrayDeque<Future<CompressedBlock>>();
+
+	/** Block arrays available for reuse */
+	private final Deque<byte[]> freeBlocks = new ArrayDeque<byte[]>();
+
+	/** At least one gzip member was submitted for compression */
+	private boolean memberSubmitted = false;
+
+	public ParallelGzipOutputStream(OutputStream outputStream) {
+		this(outputStream, ForkJoinPool.commonPool(), DEFAULT_BLOCK_SIZE, Deflater.DEFAULT_COMPRESSION);
+	}
+
+	public ParallelGzipOutputStream(OutputStream outputStream, ExecutorService executorService) {
+		this(outputStream, executorService, DEFAULT_BLOCK_SIZE, Deflater.DEFAULT_COMPRESSION);
+	}
+
+	/**
+	 * @param outputStream
+	 *            stream for the compressed data
+	 * @param executorService
+	 *            pool for the compression tasks
+	 * @param blockSize
+	 *            size of the uncompressed blocks
+	 * @param compressionLevel
+	 *            Deflater compression level
+	 */
+	public ParallelGzipOutputStream(OutputStream outputStream, ExecutorService executorService, int blockSize, int compressionLevel) {
+		this(outputStream, executorService, blockSize, compressionLevel, Runtime.getRuntime().availableProcessors() * 2);
+	}
+
+	/**
+	 * @param outputStream
+	 *            stream for the compressed data
+	 * @param executorService
+	 *            pool for the compression tasks
+	 * @param blockSize
+	 *            size of the uncompressed blocks
+	 * @param compressionLevel
+	 *            Deflater compression level
+	 * @param maximumBlocksInCompression
+	 *            maximum number of blocks in compression, which bounds the memory usage
+	 */
+	public ParallelGzipOutputStream(OutputStream outputStream, ExecutorService executorService, int blockSize, int compressionLevel, int maximumBlocksInCompression) {
+		if (outputStream == null) {
+			throw new IllegalArgumentException("OutputStream is null");
+		} else if (executorService == null) {
+			throw new IllegalArgumentException("ExecutorService is null");
+		} else if (blockSize <= 0) {
+			throw new IllegalArgumentException("Invalid block size: " + blockSize);
+		} else if ((compressionLevel < 0 || compressionLevel > 9) && compressionLevel != Deflater.DEFAULT_COMPRESSION) {
+			throw new IllegalArgumentException("Invalid compression level: " + compressionLevel);
+		} else if (maximumBlocksInCompression <= 0) {
+			throw new IllegalArgumentException("Invalid maximum number of blocks in compression: " + maximumBlocksInCompression);
+		}
+
+		this.outputStream = outputStream;
+		this.executorService = executorService;
+		this.blockSize = blockSize;
+		this.compressionLevel = compressionLevel;
+		this.maximumBlocksInCompression = maximumBlocksInCompression;
+		currentBlock = new byte[blockSize];
+	}
+
+	@Override
+	public void write(int value) throws IOException {
+		checkNotClosed();
+		currentBlock[currentBlockLength++] = (byte) value;
+		if (currentBlockLength == blockSize) {
+			submitCurrentBlock();
+		}
+	}
+
+	@Override
+	public void write(byte[] data, int offset, int length) throws IOException {
+		checkNotClosed();
+		if (offset < 0 || length < 0 || offset + length > data.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		while (length > 0) {
+			int copyLength = Math.min(length, blockSize - currentBlockLength);
+			System.arraycopy(data, offset, currentBlock, currentBlockLength, copyLength);
+			currentBlockLength += copyLength;
+			offset += copyLength;
+			length -= copyLength;
+			if (currentBlockLength == blockSize) {
+				submitCurrentBlock();
+			}
+		}
+	}
+
+	/**
+	 * Compress and write all buffered data. Each flush ends the current gzip member, so frequent flushes reduce the compression ratio.
+	 */
+	@Override
+	public void flush() throws IOException {
+		checkNotClosed();
+		if (currentBlockLength > 0) {
+			submitCurrentBlock();
+		}
+		while (!blocksInCompression.isEmpty()) {
+			writeNextCompressedBlock();
+		}
+		outputStream.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (outputStream != null) {
+			try {
+				if (currentBlockLength > 0 || !memberSubmitted) {
+					// An empty stream is written as one empty gzip member
+					submitCurrentBlock();
+				}
+				while (!blocksInCompression.isEmpty()) {
+					writeNextCompressedBlock();
+				}
+			} finally {
+				for (Future<CompressedBlock> blockInCompression : blocksInCompression) {
+					blockInCompression.cancel(false);
+				}
+				blocksInCompression.clear();
+				OutputStream streamToClose = outputStream;
+				outputStream = null;
+				currentBlock = null;
+				freeBlocks.clear();
+				streamToClose.close();
+			}
+		}
+	}
+
+	private void checkNotClosed() throws IOException {
+		if (outputStream == null) {
+			throw new IOException("ParallelGzipOutputStream is already closed");
+		}
+	}
+
+	private void submitCurrentBlock() throws IOException {
+		while (blocksInCompression.size() >= maximumBlocksInCompression) {
+			writeNextCompressedBlock();
+		}
+
+		final byte[] data = currentBlock;
+		final int length = currentBlockLength;
+		final int level = compressionLevel;
+		blocksInCompression.add(executorService.submit(new Callable<CompressedBlock>() {
+			@Override
+			public CompressedBlock call() {
+				return compressBlock(data, length, level);
+			}
+		}));
+		memberSubmitted = true;
+
+		currentBlock = freeBlocks.isEmpty() ? new byte[blockSize] : freeBlocks.poll();
+		currentBlockLength = 0;
+	}
+
+	/**
+	 * Wait for the oldest block in compression and write it
+	 */
+	private void writeNextCompressedBlock() throws IOException {
+		CompressedBlock compressedBlock;
+		try {
+			compressedBlock = blocksInCompression.poll().get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for gzip compression");
+		} catch (ExecutionException e) {
+			throw new IOException("Gzip compression failed: " + e.getCause().getMessage(), e.getCause());
+		}
+		outputStream.write(compressedBlock.data, 0, compressedBlock.length);
+		if (compressedBlock.uncompressedData.length == blockSize && freeBlocks.size() < maximumBlocksInCompression) {
+			freeBlocks.add(compressedBlock.uncompressedData);
+		}
+	}
+
+	/**
+	 * Compress a block of data into a complete gzip member
+	 */
+	private static CompressedBlock compressBlock(byte[] data, int length, int compressionLevel) {
+		CRC32 crc = new CRC32();
+		crc.update(data, 0, length);
+
+		Deflater deflater = new Deflater(compressionLevel, true);
+		try {
+			deflater.setInput(data, 0, length);
+			deflater.finish();
+
+			byte[] output = new byte[GZIP_HEADER.length + length + length / 1000 + 64 + 8];
+			System.arraycopy(GZIP_HEADER, 0, output, 0, GZIP_HEADER.length);
+			int outputLength = GZIP_HEADER.length;
+			while (!deflater.finished()) {
+				if (outputLength == output.length) {
+					output = Arrays.copyOf(output, output.length * 2);
+				}
+				outputLength += deflater.deflate(output, outputLength, output.length - outputLength);
+			}
+
+			if (output.length - outputLength < 8) {
+				output = Arrays.copyOf(output, outputLength + 8);
+			}
+			writeIntLittleEndian(output, outputLength, (int) crc.getValue());
+			writeIntLittleEndian(output, outputLength + 4, length);
+			return new CompressedBlock(data, output, outputLength + 8);
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static void writeIntLittleEndian(byte[] buffer, int offset, int value) {
+		buffer[offset] = (byte) value;
+		buffer[offset + 1] = (byte) (value >> 8);
+		buffer[offset + 2] = (byte) (value >> 16);
+		buffer[offset + 3] = (byte) (value >> 24);
+	}
+
+	/**
+	 * Complete gzip member of a block
+	 */
+	private static class CompressedBlock {
+		private final byte[] uncompressedData;
+		private final byte[] data;
+		private final int length;
+
+		private CompressedBlock(byte[] uncompressedData, byte[] data, int length) {
+			this.uncompressedData = uncompressedData;
+			this.data = data;
+			this.length = length;
+		}
+	}
+}
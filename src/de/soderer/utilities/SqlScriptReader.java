@@ -4,6 +4,18 @@ import java.io.InputStream;
 import java.nio.charset.Charset;
 
 public class SqlScriptReader extends BasicReader {
+	/** Characters interrupting the scan of sql statement text */
+	private static final char[] STATEMENT_STOP_CHARACTERS = new char[] { '\'', '-', '/', ';' };
+
+	/** Characters interrupting the scan of sql strings */
+	private static final char[] STRING_STOP_CHARACTERS = new char[] { '\'' };
+
+	/** Characters interrupting the scan of single line comments */
+	private static final char[] SINGLE_LINE_COMMENT_STOP_CHARACTERS = new char[] { '\n', '\r' };
+
+	/** Characters interrupting the scan of multi line comments */
+	private static final char[] MULTI_LINE_COMMENT_STOP_CHARACTERS = new char[] { '*' };
+
 	public SqlScriptReader(InputStream inputStream) throws Exception {
 		super(inputStream, (String) null);
 	}
@@ -21,21 +33,34 @@ public class SqlScriptReader extends BasicReader {
 		boolean withinString = false;
 		boolean withinSingleLineComment = false;
 		boolean withinMultiLineComment = false;
-		
-		Character nextCharacter;
-		while ((nextCharacter = readNextCharacter()) != null) {
+
+		int nextCharacter;
+		while (true) {
+			if (withinString) {
+				nextCharacter = readUpToNextChar(nextStatement, STRING_STOP_CHARACTERS);
+			} else if (withinSingleLineComment) {
+				nextCharacter = readUpToNextChar(null, SINGLE_LINE_COMMENT_STOP_CHARACTERS);
+			} else if (withinMultiLineComment) {
+				nextCharacter = readUpToNextChar(null, MULTI_LINE_COMMENT_STOP_CHARACTERS);
+			} else {
+				nextCharacter = readUpToNextChar(nextStatement, STATEMENT_STOP_CHARACTERS);
+			}
+			if (nextCharacter == -1) {
+				break;
+			}
+
 			if (withinString) {
 				if (nextCharacter == '\'') {
 					withinString = false;
 				}
-				nextStatement.append(nextCharacter);
+				nextStatement.append((char) nextCharacter);
 			} else if (withinSingleLineComment) {
 				if (nextCharacter == '\n' || nextCharacter == '\r') {
 					withinSingleLineComment = false;
 				}
 			} else if (withinMultiLineComment) {
 				if (nextCharacter == '*') {
-					nextCharacter = readNextCharacter();
+					nextCharacter = readNextChar();
 					if (nextCharacter == '/') {
 						withinMultiLineComment = false;
 					} else {
@@ -44,9 +69,9 @@ public class SqlScriptReader extends BasicReader {
 				}
 			} else if (nextCharacter == '\'') {
 				withinString = true;
-				nextStatement.append(nextCharacter);
+				nextStatement.append((char) nextCharacter);
 			} else if (nextCharacter == '-') {
-				nextCharacter = readNextCharacter();
+				nextCharacter = readNextChar();
 				if (nextCharacter == '-') {
 					withinSingleLineComment = true;
 				} else {
@@ -54,7 +79,7 @@ public class SqlScriptReader extends BasicReader {
 					nextStatement.append('-');
 				}
 			} else if (nextCharacter == '/') {
-				nextCharacter = readNextCharacter();
+				nextCharacter = readNextChar();
 				if (nextCharacter == '*') {
 					withinMultiLineComment = true;
 				} else {
@@ -64,17 +89,17 @@ public class SqlScriptReader extends BasicReader {
 			} else if (nextCharacter == ';') {
 				break;
 			} else {
-				nextStatement.append(nextCharacter);
+				nextStatement.append((char) nextCharacter);
 			}
 		}
-		
+
 		if (withinString) {
 			throw new Exception("Unclosed sql string");
 		} else if (withinMultiLineComment) {
 			throw new Exception("Unclosed multiline comment");
 		} else if (Utilities.isNotBlank(nextStatement.toString())) {
 			return nextStatement.toString().trim();
-		} else if (nextCharacter == null) {
+		} else if (nextCharacter == -1) {
 			return null;
 		} else {
 			// Skip empty statement
@@ -1,5 +1,5 @@
-package de.soderer.utilities.collection;
-
-public abstract class Predicate<K> {
-	public abstract boolean evaluate(K object);
+package de.soderer.utilities.collection;
+
+public abstract class Predicate<K> {
+	public abstract boolean evaluate(K object);
 }
\ No newline at end of file
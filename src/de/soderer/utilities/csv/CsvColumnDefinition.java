@@ -0,0 +1,81 @@
+package de.soderer.utilities.csv;
+
+import de.soderer.utilities.DateUtilities;
+
+/**
+ * Definition of a typed column for loading csv data into a CsvColumnarTable
+ */
+public class CsvColumnDefinition {
+	public enum ColumnType {
+		/** 32 bit integer values, stored as int */
+		INTEGER,
+
+		/** 64 bit integer values, stored as long */
+		LONG,
+
+		/** Floating point values, stored as double */
+		DOUBLE,
+
+		/** Date values parsed by a date pattern, stored as milliseconds since epoch */
+		DATE,
+
+		/** Text values, stored dictionary encoded */
+		STRING;
+
+		public static ColumnType getFromString(String columnTypeString) throws Exception {
+			for (ColumnType columnType : ColumnType.values()) {
+				if (columnType.toString().equalsIgnoreCase(columnTypeString)) {
+					return columnType;
+				}
+			}
+			throw new Exception("Invalid column type: " + columnTypeString);
+		}
+	}
+
+	/** Name of the column, used to find the column in the csv header line */
+	private String name;
+
+	/** Type of the column values */
+	private ColumnType columnType;
+
+	/** Date pattern for DATE columns */
+	private String datePattern = DateUtilities.YYYY_MM_DD;
+
+	public CsvColumnDefinition(String name, ColumnType columnType) {
+		if (columnType == null) {
+			throw new IllegalArgumentException("ColumnType is null");
+		}
+		this.name = name;
+		this.columnType = columnType;
+	}
+
+	public CsvColumnDefinition(String name, ColumnType columnType, String datePattern) {
+		this(name, columnType);
+		setDatePattern(datePattern);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public ColumnType getColumnType() {
+		return columnType;
+	}
+
+	public String getDatePattern() {
+		return datePattern;
+	}
+
+	public CsvColumnDefinition setDatePattern(String datePattern) {
+		if (datePattern == null || datePattern.trim().length() == 0) {
+			throw new IllegalArgumentException("Date pattern is empty");
+		}
+		this.datePattern = datePattern;
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return name + " (" + columnType + (columnType == ColumnType.DATE ? " " + datePattern : "") + ")";
+	}
+}
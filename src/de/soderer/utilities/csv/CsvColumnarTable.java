@@ -0,0 +1,514 @@
+package de.soderer.utilities.csv;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import de.soderer.utilities.csv.CsvColumnDefinition.ColumnType;
+
+/**
+ * Compact in-memory table of typed csv data.
+ *
+ * Each column is stored as growable primitive array (int[], long[] or double[]) with a bitmap for null values.
+ * Text columns are stored dictionary encoded as int codes referencing a list of distinct values.
+ * Empty csv values are stored as null in all non text columns.
+ */
+public class CsvColumnarTable {
+	/** Initial capacity of the column vectors */
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private final CsvColumnDefinition[] columnDefinitions;
+	private final ColumnVector[] columnVectors;
+	private int rowCount = 0;
+
+	private CsvColumnarTable(List<CsvColumnDefinition> columnDefinitions) {
+		this.columnDefinitions = columnDefinitions.toArray(new CsvColumnDefinition[0]);
+		columnVectors = new ColumnVector[this.columnDefinitions.length];
+		for (int i = 0; i < this.columnDefinitions.length; i++) {
+			switch (this.columnDefinitions[i].getColumnType()) {
+				case INTEGER:
+					columnVectors[i] = new IntColumnVector();
+					break;
+				case LONG:
+				case DATE:
+					columnVectors[i] = new LongColumnVector();
+					break;
+				case DOUBLE:
+					columnVectors[i] = new DoubleColumnVector();
+					break;
+				case STRING:
+					columnVectors[i] = new StringColumnVector();
+					break;
+				default:
+					throw new IllegalArgumentException("Invalid column type: " + this.columnDefinitions[i].getColumnType());
+			}
+		}
+	}
+
+	/**
+	 * Load all remaining csv lines of a CsvReader into a new table.
+	 *
+	 * If the first line is a header, the columns are found by the names of the column definitions, so any subset of the csv columns in any order may be loaded.
+	 * Column definitions without name and all column definitions for csv data without header are mapped to the csv columns by their position.
+	 *
+	 * @param csvReader
+	 * @param columnDefinitions
+	 * @param firstLineIsHeader
+	 * @return
+	 * @throws CsvDataException
+	 *             for values, which cannot be converted into the column type, with the csv line number
+	 * @throws Exception
+	 */
+	public static CsvColumnarTable load(CsvReader csvReader, List<CsvColumnDefinition> columnDefinitions, boolean firstLineIsHeader) throws Exception {
+		if (columnDefinitions == null || columnDefinitions.isEmpty()) {
+			throw new IllegalArgumentException("Column definitions are empty");
+		}
+
+		CsvColumnarTable table = new CsvColumnarTable(columnDefinitions);
+		int[] csvColumnIndexes = new int[columnDefinitions.size()];
+		SimpleDateFormat[] dateFormats = new SimpleDateFormat[columnDefinitions.size()];
+		for (int i = 0; i < columnDefinitions.size(); i++) {
+			csvColumnIndexes[i] = i;
+			if (columnDefinitions.get(i).getColumnType() == ColumnType.DATE) {
+				dateFormats[i] = new SimpleDateFormat(columnDefinitions.get(i).getDatePattern());
+				dateFormats[i].setLenient(false);
+			}
+		}
+
+		try {
+			CsvRow csvRow = csvReader.nextRow();
+			if (firstLineIsHeader && csvRow != null) {
+				List<String> headers = csvRow.toList();
+				for (int i = 0; i < columnDefinitions.size(); i++) {
+					String columnName = columnDefinitions.get(i).getName();
+					if (columnName != null) {
+						csvColumnIndexes[i] = -1;
+						for (int headerIndex = 0; headerIndex < headers.size(); headerIndex++) {
+							if (headers.get(headerIndex) != null && columnName.equals(headers.get(headerIndex).trim())) {
+								csvColumnIndexes[i] = headerIndex;
+								break;
+							}
+						}
+						if (csvColumnIndexes[i] < 0) {
+							throw new CsvDataException("Column '" + columnName + "' not found in csv header", csvRow.getCsvLineNumber());
+						}
+					}
+				}
+				csvRow = csvReader.nextRow();
+			}
+
+			while (csvRow != null) {
+				for (int i = 0; i < csvColumnIndexes.length; i++) {
+					int csvColumnIndex = csvColumnIndexes[i];
+					if (csvColumnIndex >= csvRow.size()) {
+						throw new CsvDataException("Missing value for column '" + columnDefinitions.get(i).getName() + "' at index " + csvColumnIndex + " in line " + csvRow.getCsvLineNumber(), csvRow.getCsvLineNumber());
+					} else if (csvRow.isNull(csvColumnIndex) || (csvRow.getLength(csvColumnIndex) == 0 && columnDefinitions.get(i).getColumnType() != ColumnType.STRING)) {
+						table.columnVectors[i].addNull();
+					} else {
+						try {
+							switch (columnDefinitions.get(i).getColumnType()) {
+								case INTEGER:
+									((IntColumnVector) table.columnVectors[i]).add(csvRow.getInt(csvColumnIndex));
+									break;
+								case LONG:
+									((LongColumnVector) table.columnVectors[i]).add(csvRow.getLong(csvColumnIndex));
+									break;
+								case DOUBLE:
+									((DoubleColumnVector) table.columnVectors[i]).add(csvRow.getDouble(csvColumnIndex));
+									break;
+								case DATE:
+									((LongColumnVector) table.columnVectors[i]).add(parseDate(dateFormats[i], csvRow.getString(csvColumnIndex)));
+									break;
+								case STRING:
+									((StringColumnVector) table.columnVectors[i]).add(csvRow.get(csvColumnIndex));
+									break;
+								default:
+									throw new IllegalArgumentException("Invalid column type: " + columnDefinitions.get(i).getColumnType());
+							}
+						} catch (IllegalArgumentException e) {
+							throw new CsvDataException("Invalid value '" + csvRow.getString(csvColumnIndex) + "' for column '" + columnDefinitions.get(i).getName() + "' of type " + columnDefinitions.get(i).getColumnType() + " in line " + csvRow.getCsvLineNumber(), csvRow.getCsvLineNumber(), e);
+						}
+					}
+				}
+				table.rowCount++;
+				csvRow = csvReader.nextRow();
+			}
+		} finally {
+			csvReader.close();
+		}
+
+		for (ColumnVector columnVector : table.columnVectors) {
+			columnVector.trimToSize();
+		}
+		return table;
+	}
+
+	private static long parseDate(SimpleDateFormat dateFormat, String value) {
+		ParsePosition parsePosition = new ParsePosition(0);
+		Date date = dateFormat.parse(value, parsePosition);
+		if (date == null || parsePosition.getIndex() != value.length()) {
+			throw new IllegalArgumentException("Invalid date value for pattern '" + dateFormat.toPattern() + "': '" + value + "'");
+		}
+		return date.getTime();
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public int getColumnCount() {
+		return columnDefinitions.length;
+	}
+
+	public CsvColumnDefinition getColumnDefinition(int columnIndex) {
+		return columnDefinitions[columnIndex];
+	}
+
+	/**
+	 * Get the index of a column by its name
+	 *
+	 * @param columnName
+	 * @return index or -1, if there is no such column
+	 */
+	public int getColumnIndex(String columnName) {
+		for (int i = 0; i < columnDefinitions.length; i++) {
+			if (columnDefinitions[i].getName() != null && columnDefinitions[i].getName().equals(columnName)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public boolean isNull(int columnIndex, int rowIndex) {
+		checkRowIndex(rowIndex);
+		return columnVectors[columnIndex].isNull(rowIndex);
+	}
+
+	/**
+	 * Get a value of an INTEGER column. Null values are returned as 0, use isNull() to detect them.
+	 */
+	public int getInt(int columnIndex, int rowIndex) {
+		checkRowIndex(rowIndex);
+		return getColumnVector(columnIndex, IntColumnVector.class).values[rowIndex];
+	}
+
+	/**
+	 * Get a value of a LONG, DATE or INTEGER column. Null values are returned as 0, use isNull() to detect them.
+	 */
+	public long getLong(int columnIndex, int rowIndex) {
+		checkRowIndex(rowIndex);
+		if (columnVectors[columnIndex] instanceof IntColumnVector) {
+			return ((IntColumnVector) columnVectors[columnIndex]).values[rowIndex];
+		} else {
+			return getColumnVector(columnIndex, LongColumnVector.class).values[rowIndex];
+		}
+	}
+
+	/**
+	 * Get a value of any numeric column as double. Null values are returned as 0, use isNull() to detect them.
+	 */
+	public double getDouble(int columnIndex, int rowIndex) {
+		checkRowIndex(rowIndex);
+		if (columnVectors[columnIndex] instanceof IntColumnVector) {
+			return ((IntColumnVector) columnVectors[columnIndex]).values[rowIndex];
+		} else if (columnVectors[columnIndex] instanceof LongColumnVector && columnDefinitions[columnIndex].getColumnType() == ColumnType.LONG) {
+			return ((LongColumnVector) columnVectors[columnIndex]).values[rowIndex];
+		} else {
+			return getColumnVector(columnIndex, DoubleColumnVector.class).values[rowIndex];
+		}
+	}
+
+	/**
+	 * Get a value of a DATE column
+	 *
+	 * @return date or null
+	 */
+	public Date getDate(int columnIndex, int rowIndex) {
+		checkRowIndex(rowIndex);
+		if (columnDefinitions[columnIndex].getColumnType() != ColumnType.DATE) {
+			throw new IllegalArgumentException("Column " + columnIndex + " is not of type " + ColumnType.DATE);
+		} else if (columnVectors[columnIndex].isNull(rowIndex)) {
+			return null;
+		} else {
+			return new Date(((LongColumnVector) columnVectors[columnIndex]).values[rowIndex]);
+		}
+	}
+
+	/**
+	 * Get a value of a STRING column
+	 *
+	 * @return value or null
+	 */
+	public String getString(int columnIndex, int rowIndex) {
+		checkRowIndex(rowIndex);
+		StringColumnVector columnVector = getColumnVector(columnIndex, StringColumnVector.class);
+		if (columnVector.isNull(rowIndex)) {
+			return null;
+		} else {
+			return columnVector.dictionary.get(columnVector.codes[rowIndex]);
+		}
+	}
+
+	/**
+	 * Get a value of any column as object of its type (Integer, Long, Double, Date or String)
+	 *
+	 * @return value or null
+	 */
+	public Object getValue(int columnIndex, int rowIndex) {
+		checkRowIndex(rowIndex);
+		if (columnVectors[columnIndex].isNull(rowIndex)) {
+			return null;
+		} else {
+			switch (columnDefinitions[columnIndex].getColumnType()) {
+				case INTEGER:
+					return getInt(columnIndex, rowIndex);
+				case LONG:
+					return getLong(columnIndex, rowIndex);
+				case DOUBLE:
+					return getDouble(columnIndex, rowIndex);
+				case DATE:
+					return getDate(columnIndex, rowIndex);
+				case STRING:
+					return getString(columnIndex, rowIndex);
+				default:
+					throw new IllegalArgumentException("Invalid column type: " + columnDefinitions[columnIndex].getColumnType());
+			}
+		}
+	}
+
+	/**
+	 * Get a copy of all values of an INTEGER column. Null values are contained as 0.
+	 */
+	public int[] getIntColumn(int columnIndex) {
+		return Arrays.copyOf(getColumnVector(columnIndex, IntColumnVector.class).values, rowCount);
+	}
+
+	/**
+	 * Get a copy of all values of a LONG or DATE column. Null values are contained as 0.
+	 */
+	public long[] getLongColumn(int columnIndex) {
+		return Arrays.copyOf(getColumnVector(columnIndex, LongColumnVector.class).values, rowCount);
+	}
+
+	/**
+	 * Get a copy of all values of a DOUBLE column. Null values are contained as 0.
+	 */
+	public double[] getDoubleColumn(int columnIndex) {
+		return Arrays.copyOf(getColumnVector(columnIndex, DoubleColumnVector.class).values, rowCount);
+	}
+
+	/**
+	 * Get a copy of the dictionary codes of all values of a STRING column. Null values are contained as -1.
+	 */
+	public int[] getStringCodes(int columnIndex) {
+		return Arrays.copyOf(getColumnVector(columnIndex, StringColumnVector.class).codes, rowCount);
+	}
+
+	/**
+	 * Get the distinct values of a STRING column, indexed by their dictionary codes
+	 */
+	public List<String> getStringDictionary(int columnIndex) {
+		return Collections.unmodifiableList(getColumnVector(columnIndex, StringColumnVector.class).dictionary);
+	}
+
+	private void checkRowIndex(int rowIndex) {
+		if (rowIndex < 0 || rowIndex >= rowCount) {
+			throw new IndexOutOfBoundsException("Invalid row index: " + rowIndex);
+		}
+	}
+
+	private <T extends ColumnVector> T getColumnVector(int columnIndex, Class<T> columnVectorClass) {
+		if (!columnVectorClass.isInstance(columnVectors[columnIndex])) {
+			throw new IllegalArgumentException("Column " + columnIndex + " of type " + columnDefinitions[columnIndex].getColumnType() + " cannot be read by this method");
+		}
+		return columnVectorClass.cast(columnVectors[columnIndex]);
+	}
+
+	/**
+	 * Growable column storage with a bitmap of null values
+	 */
+	private abstract static class ColumnVector {
+		protected int size = 0;
+		protected int capacity = 0;
+		private long[] nullBits = new long[INITIAL_CAPACITY / 64];
+
+		protected abstract void resize(int newCapacity);
+
+		protected void ensureCapacity() {
+			if (size == capacity) {
+				int newCapacity = capacity == 0 ? INITIAL_CAPACITY : capacity * 2;
+				if (newCapacity < 0) {
+					throw new IllegalStateException("Maximum number of values exceeded");
+				}
+				resize(newCapacity);
+				capacity = newCapacity;
+				int neededNullBitsLength = (newCapacity + 63) / 64;
+				if (nullBits.length < neededNullBitsLength) {
+					nullBits = Arrays.copyOf(nullBits, neededNullBitsLength);
+				}
+			}
+		}
+
+		public void addNull() {
+			ensureCapacity();
+			nullBits[size >>> 6] |= 1L << size;
+			addNullValue();
+			size++;
+		}
+
+		protected abstract void addNullValue();
+
+		public boolean isNull(int index) {
+			return (nullBits[index >>> 6] & (1L << index)) != 0;
+		}
+
+		public void trimToSize() {
+			if (capacity > size) {
+				resize(size);
+				capacity = size;
+				nullBits = Arrays.copyOf(nullBits, (size + 63) / 64);
+			}
+		}
+	}
+
+	private static class IntColumnVector extends ColumnVector {
+		private int[] values = new int[0];
+
+		@Override
+		protected void resize(int newCapacity) {
+			values = Arrays.copyOf(values, newCapacity);
+		}
+
+		public void add(int value) {
+			ensureCapacity();
+			values[size++] = value;
+		}
+
+		@Override
+		protected void addNullValue() {
+			values[size] = 0;
+		}
+	}
+
+	private static class LongColumnVector extends ColumnVector {
+		private long[] values = new long[0];
+
+		@Override
+		protected void resize(int newCapacity) {
+			values = Arrays.copyOf(values, newCapacity);
+		}
+
+		public void add(long value) {
+			ensureCapacity();
+			values[size++] = value;
+		}
+
+		@Override
+		protected void addNullValue() {
+			values[size] = 0;
+		}
+	}
+
+	private static class DoubleColumnVector extends ColumnVector {
+		private double[] values = new double[0];
+
+		@Override
+		protected void resize(int newCapacity) {
+			values = Arrays.copyOf(values, newCapacity);
+		}
+
+		public void add(double value) {
+			ensureCapacity();
+			values[size++] = value;
+		}
+
+		@Override
+		protected void addNullValue() {
+			values[size] = 0;
+		}
+	}
+
+	/**
+	 * Dictionary encoded text column.
+	 * The dictionary is looked up by the characters of the csv value, so Strings are only created for new distinct values.
+	 */
+	private static class StringColumnVector extends ColumnVector {
+		private int[] codes = new int[0];
+		private final List<String> dictionary = new ArrayList<String>();
+
+		/** Open addressing hash table of dictionary codes + 1, 0 marks a free slot */
+		private int[] hashTable = new int[64];
+
+		@Override
+		protected void resize(int newCapacity) {
+			codes = Arrays.copyOf(codes, newCapacity);
+		}
+
+		public void add(CharSequence value) {
+			ensureCapacity();
+			codes[size++] = getCode(value);
+		}
+
+		@Override
+		protected void addNullValue() {
+			codes[size] = -1;
+		}
+
+		private int getCode(CharSequence value) {
+			int hash = hash(value);
+			int mask = hashTable.length - 1;
+			int slot = hash & mask;
+			while (hashTable[slot] != 0) {
+				String dictionaryValue = dictionary.get(hashTable[slot] - 1);
+				if (contentEquals(dictionaryValue, value)) {
+					return hashTable[slot] - 1;
+				}
+				slot = (slot + 1) & mask;
+			}
+
+			int code = dictionary.size();
+			dictionary.add(value.toString());
+			hashTable[slot] = code + 1;
+			if (dictionary.size() * 2 > hashTable.length) {
+				rehash();
+			}
+			return code;
+		}
+
+		private void rehash() {
+			hashTable = new int[hashTable.length * 2];
+			int mask = hashTable.length - 1;
+			for (int code = 0; code < dictionary.size(); code++) {
+				int slot = hash(dictionary.get(code)) & mask;
+				while (hashTable[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				hashTable[slot] = code + 1;
+			}
+		}
+
+		private static int hash(CharSequence value) {
+			int hash = 0;
+			for (int i = 0; i < value.length(); i++) {
+				hash = 31 * hash + value.charAt(i);
+			}
+			return hash ^ (hash >>> 16);
+		}
+
+		private static boolean contentEquals(String dictionaryValue, CharSequence value) {
+			if (dictionaryValue.length() != value.length()) {
+				return false;
+			}
+			for (int i = 0; i < dictionaryValue.length(); i++) {
+				if (dictionaryValue.charAt(i) != value.charAt(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,310 @@
+package de.soderer.utilities.csv;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Index of the byte offsets of all csv lines of a csv file.
+ *
+ * The index is created by a byte level scan, which only tracks stringquotes and linebreaks and decodes no characters.
+ * It can be stored as sidecar file next to the csv file with delta encoded offsets,
+ * so later reads can seek directly to any csv line by CsvReader.openAtCsvLine() or CsvReader.openCsvLineRange(), e.g. for paging or resumable imports.
+ *
+ * Only single byte encodings and UTF-8 are supported, because the structural characters must be detectable on byte level.
+ */
+public class CsvLineIndex {
+	/** File extension of index sidecar files */
+	public static final String INDEX_FILE_EXTENSION = ".idx";
+
+	/** Marker at the start of index files: "CSVI" */
+	private static final int INDEX_FILE_MAGIC = 0x43535649;
+
+	/** Version 2 added the encoding and csv format parameters */
+	private static final byte INDEX_FILE_VERSION = 2;
+
+	/** Size of the blocks used for byte scans */
+	private static final int SCAN_BLOCK_SIZE = 64 * 1024;
+
+	/** Size of the indexed csv file */
+	private final long csvFileLength;
+
+	/** Last modification time of the indexed csv file */
+	private final long csvFileLastModified;
+
+	/** Encoding and csv format parameters, which the csv line starts depend on */
+	private final String scanParameters;
+
+	/** Byte offset of the start of each csv line */
+	private final long[] csvLineStarts;
+
+	private CsvLineIndex(long csvFileLength, long csvFileLastModified, String scanParameters, long[] csvLineStarts) {
+		this.csvFileLength = csvFileLength;
+		this.csvFileLastModified = csvFileLastModified;
+		this.scanParameters = scanParameters;
+		this.csvLineStarts = csvLineStarts;
+	}
+
+	/**
+	 * Check if csv data of an encoding can be counted and indexed on byte level
+	 */
+	public static boolean isByteScanSupported(Charset encoding) {
+		return CsvLineStartScanner.isByteScanSupported(encoding);
+	}
+
+	/**
+	 * Count the csv lines of csv data on byte level without parsing the csv values.
+	 * The data is not checked for csv format errors other than an unterminated quoted value.
+	 * The input stream is not closed.
+	 *
+	 * @param inputStream
+	 * @param encoding
+	 * @param csvFormat
+	 * @return number of csv lines
+	 * @throws IOException
+	 */
+	public static int countCsvLines(InputStream inputStream, Charset encoding, CsvFormat csvFormat) throws IOException {
+		CsvLineStartScanner scanner = scan(inputStream, encoding, csvFormat, false);
+		return scanner.getCsvLineCount();
+	}
+
+	/**
+	 * Create the index of a csv file by a byte level scan
+	 *
+	 * @param csvFile
+	 * @param encoding
+	 * @param csvFormat
+	 * @return
+	 * @throws Exception
+	 */
+	public static CsvLineIndex create(File csvFile, Charset encoding, CsvFormat csvFormat) throws Exception {
+		if (csvFile == null || !csvFile.isFile()) {
+			throw new Exception("Csv file does not exist: " + csvFile);
+		}
+
+		long csvFileLength = csvFile.length();
+		long csvFileLastModified = csvFile.lastModified();
+		try (InputStream inputStream = new FileInputStream(csvFile)) {
+			CsvLineStartScanner scanner = scan(inputStream, encoding, csvFormat, true);
+			return new CsvLineIndex(csvFileLength, csvFileLastModified, getScanParameters(encoding, csvFormat), scanner.getCsvLineStarts());
+		}
+	}
+
+	/**
+	 * Load the index sidecar file of a csv file, if it exists, is up to date and was created for the same encoding and csv format,
+	 * otherwise create the index and store it as sidecar file
+	 *
+	 * @param csvFile
+	 * @param encoding
+	 * @param csvFormat
+	 * @return
+	 * @throws Exception
+	 */
+	public static CsvLineIndex createOrLoad(File csvFile, Charset encoding, CsvFormat csvFormat) throws Exception {
+		File indexFile = getIndexFile(csvFile);
+		if (indexFile.isFile()) {
+			try {
+				CsvLineIndex csvLineIndex = load(indexFile);
+				if (csvLineIndex.isValidFor(csvFile, encoding, csvFormat)) {
+					return csvLineIndex;
+				}
+			} catch (IOException e) {
+				// Invalid index file is replaced
+			}
+		}
+
+		CsvLineIndex csvLineIndex = create(csvFile, encoding, csvFormat);
+		csvLineIndex.save(indexFile);
+		return csvLineIndex;
+	}
+
+	/**
+	 * Get the default index sidecar file of a csv file
+	 */
+	public static File getIndexFile(File csvFile) {
+		return new File(csvFile.getPath() + INDEX_FILE_EXTENSION);
+	}
+
+	/**
+	 * Store the index as file with delta encoded offsets
+	 *
+	 * @param indexFile
+	 * @throws IOException
+	 */
+	public void save(File indexFile) throws IOException {
+		try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile)))) {
+			outputStream.writeInt(INDEX_FILE_MAGIC);
+			outputStream.writeByte(INDEX_FILE_VERSION);
+			outputStream.writeLong(csvFileLength);
+			outputStream.writeLong(csvFileLastModified);
+			outputStream.writeUTF(scanParameters);
+			outputStream.writeInt(csvLineStarts.length);
+			long previousCsvLineStart = 0;
+			for (long csvLineStart : csvLineStarts) {
+				writeVariableLengthLong(outputStream, csvLineStart - previousCsvLineStart);
+				previousCsvLineStart = csvLineStart;
+			}
+		}
+	}
+
+	/**
+	 * Load an index file
+	 *
+	 * @param indexFile
+	 * @return
+	 * @throws IOException
+	 */
+	public static CsvLineIndex load(File indexFile) throws IOException {
+		try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+			if (inputStream.readInt() != INDEX_FILE_MAGIC) {
+				throw new IOException("Invalid csv index file: " + indexFile);
+			} else if (inputStream.readByte() != INDEX_FILE_VERSION) {
+				throw new IOException("Unsupported csv index file version: " + indexFile);
+			}
+			long csvFileLength = inputStream.readLong();
+			long csvFileLastModified = inputStream.readLong();
+			String scanParameters = inputStream.readUTF();
+			int csvLineCount = inputStream.readInt();
+			if (csvLineCount < 0) {
+				throw new IOException("Invalid csv index file: " + indexFile);
+			}
+			long[] csvLineStarts = new long[csvLineCount];
+			long csvLineStart = 0;
+			for (int i = 0; i < csvLineCount; i++) {
+				csvLineStart += readVariableLengthLong(inputStream);
+				csvLineStarts[i] = csvLineStart;
+			}
+			return new CsvLineIndex(csvFileLength, csvFileLastModified, scanParameters, csvLineStarts);
+		}
+	}
+
+	/**
+	 * Check if the index was created for the current state of a csv file
+	 */
+	public boolean isValidFor(File csvFile) {
+		return csvFile != null && csvFile.isFile() && csvFile.length() == csvFileLength && csvFile.lastModified() == csvFileLastModified;
+	}
+
+	/**
+	 * Check if the index was created for the current state of a csv file and for the same encoding and csv format
+	 */
+	public boolean isValidFor(File csvFile, Charset encoding, CsvFormat csvFormat) {
+		return isValidFor(csvFile) && encoding != null && csvFormat != null && scanParameters.equals(getScanParameters(encoding, csvFormat));
+	}
+
+	public int getCsvLineCount() {
+		return csvLineStarts.length;
+	}
+
+	/**
+	 * Get the size of the indexed csv file
+	 */
+	public long getCsvFileLength() {
+		return csvFileLength;
+	}
+
+	/**
+	 * Get the byte offset of the start of a csv line
+	 *
+	 * @param csvLineNumber
+	 *            number of the csv line, starting with 1
+	 * @return
+	 */
+	public long getCsvLineStart(int csvLineNumber) {
+		checkCsvLineNumber(csvLineNumber);
+		return csvLineStarts[csvLineNumber - 1];
+	}
+
+	/**
+	 * Get the byte offset of the end of a csv line including its linebreak, which is the start of the next csv line
+	 *
+	 * @param csvLineNumber
+	 *            number of the csv line, starting with 1
+	 * @return
+	 */
+	public long getCsvLineEnd(int csvLineNumber) {
+		checkCsvLineNumber(csvLineNumber);
+		return csvLineNumber < csvLineStarts.length ? csvLineStarts[csvLineNumber] : csvFileLength;
+	}
+
+	private void checkCsvLineNumber(int csvLineNumber) {
+		if (csvLineNumber < 1 || csvLineNumber > csvLineStarts.length) {
+			throw new IndexOutOfBoundsException("Invalid csv line number " + csvLineNumber + " for csv data with " + csvLineStarts.length + " csv lines");
+		}
+	}
+
+	/**
+	 * Description of the encoding and the csv format parameters, which the csv line starts depend on
+	 */
+	private static String getScanParameters(Charset encoding, CsvFormat csvFormat) {
+		return "encoding=" + encoding.name()
+			+ ";quoteMode=" + csvFormat.getQuoteMode()
+			+ ";stringQuote=" + (int) csvFormat.getStringQuote()
+			+ ";stringQuoteEscapeCharacter=" + (int) csvFormat.getStringQuoteEscapeCharacter()
+			+ ";lineBreakInDataAllowed=" + csvFormat.isLineBreakInDataAllowed();
+	}
+
+	private static CsvLineStartScanner scan(InputStream inputStream, Charset encoding, CsvFormat csvFormat, boolean collectCsvLineStarts) throws IOException {
+		if (!isByteScanSupported(encoding)) {
+			throw new IllegalArgumentException("Encoding \"" + encoding + "\" is not supported for byte level csv scanning");
+		} else if (csvFormat == null) {
+			throw new IllegalArgumentException("CsvFormat is null");
+		}
+
+		CsvLineStartScanner scanner = new CsvLineStartScanner(csvFormat, collectCsvLineStarts);
+		byte[] block = new byte[SCAN_BLOCK_SIZE];
+		long position = 0;
+		int blockLength;
+		while ((blockLength = inputStream.read(block)) != -1) {
+			int blockStart = 0;
+			if (position == 0 && StandardCharsets.UTF_8.equals(encoding)) {
+				// Skip the UTF-8 BOM, which is not part of the csv data
+				while (blockLength < 3) {
+					int nextLength = inputStream.read(block, blockLength, block.length - blockLength);
+					if (nextLength == -1) {
+						break;
+					}
+					blockLength += nextLength;
+				}
+				if (blockLength >= 3 && (block[0] & 0xFF) == 0xEF && (block[1] & 0xFF) == 0xBB && (block[2] & 0xFF) == 0xBF) {
+					blockStart = 3;
+				}
+			}
+			scanner.scan(block, blockStart, blockLength, position);
+			position += blockLength;
+		}
+
+		if (scanner.isInsideString()) {
+			throw new IOException("Unexpected end of data after quoted csv-value was started in line " + scanner.getCsvLineCount());
+		}
+		return scanner;
+	}
+
+	private static void writeVariableLengthLong(DataOutputStream outputStream, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			outputStream.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		outputStream.writeByte((int) value);
+	}
+
+	private static long readVariableLengthLong(DataInputStream inputStream) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int nextByte = inputStream.readUnsignedByte();
+			value |= (long) (nextByte & 0x7F) << shift;
+			if ((nextByte & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Invalid variable length value in csv index file");
+	}
+}
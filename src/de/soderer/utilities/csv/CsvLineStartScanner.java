@@ -0,0 +1,132 @@
+package de.soderer.utilities.csv;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import de.soderer.utilities.csv.CsvFormat.QuoteMode;
+
+/**
+ * Byte level scanner for csv line starts.
+ *
+ * A csv line starts with the first non linebreak byte after a linebreak outside of quoted values.
+ * Only stringquotes and linebreaks are tracked, no characters are decoded and no values are created.
+ * The scanner follows the stringquote rules of CsvReader, so it finds the same csv lines.
+ */
+class CsvLineStartScanner {
+	private final boolean useStringQuote;
+	private final byte stringQuote;
+	private final byte stringQuoteEscapeCharacter;
+	private final boolean escapeByPrefix;
+
+	private boolean insideString;
+	private int previousByte;
+
+	/** Collected byte offsets of csv line starts or null if only counting */
+	private long[] csvLineStarts;
+	private int csvLineCount = 0;
+	private long firstCsvLineStart = -1;
+
+	/**
+	 * Check if the structural csv characters of an encoding can be detected on byte level
+	 */
+	static boolean isByteScanSupported(Charset encoding) {
+		return encoding != null && (StandardCharsets.UTF_8.equals(encoding) || encoding.newEncoder().maxBytesPerChar() == 1.0f);
+	}
+
+	/**
+	 * Scanner starting at the beginning of csv data
+	 */
+	CsvLineStartScanner(CsvFormat csvFormat, boolean collectCsvLineStarts) {
+		this(csvFormat, false, '\n', collectCsvLineStarts);
+	}
+
+	/**
+	 * Scanner starting within csv data
+	 *
+	 * @param csvFormat
+	 * @param startsInsideString
+	 *            the first byte to scan is within a quoted value
+	 * @param previousByte
+	 *            the byte before the first byte to scan
+	 * @param collectCsvLineStarts
+	 *            keep the byte offsets of all csv line starts
+	 */
+	CsvLineStartScanner(CsvFormat csvFormat, boolean startsInsideString, int previousByte, boolean collectCsvLineStarts) {
+		useStringQuote = csvFormat.getQuoteMode() != QuoteMode.NO_QUOTE;
+		stringQuote = (byte) csvFormat.getStringQuote();
+		stringQuoteEscapeCharacter = (byte) csvFormat.getStringQuoteEscapeCharacter();
+		escapeByPrefix = stringQuote != stringQuoteEscapeCharacter;
+		insideString = startsInsideString;
+		this.previousByte = previousByte;
+		if (collectCsvLineStarts) {
+			csvLineStarts = new long[1024];
+		}
+	}
+
+	/**
+	 * Scan the next block of bytes
+	 *
+	 * @param block
+	 * @param start
+	 *            index of the first byte to scan
+	 * @param end
+	 *            index after the last byte to scan
+	 * @param blockPosition
+	 *            byte offset of the block within the csv data
+	 */
+	void scan(byte[] block, int start, int end, long blockPosition) {
+		boolean currentInsideString = insideString;
+		int currentPreviousByte = previousByte;
+		for (int i = start; i < end; i++) {
+			byte nextByte = block[i];
+			if (!currentInsideString && (currentPreviousByte == '\n' || currentPreviousByte == '\r') && nextByte != '\n' && nextByte != '\r') {
+				addCsvLineStart(blockPosition + i);
+			}
+			if (useStringQuote && nextByte == stringQuote && (!escapeByPrefix || currentPreviousByte != stringQuoteEscapeCharacter)) {
+				currentInsideString = !currentInsideString;
+			}
+			currentPreviousByte = nextByte;
+		}
+		insideString = currentInsideString;
+		previousByte = currentPreviousByte;
+	}
+
+	private void addCsvLineStart(long csvLineStart) {
+		if (firstCsvLineStart == -1) {
+			firstCsvLineStart = csvLineStart;
+		}
+		if (csvLineStarts != null) {
+			if (csvLineCount == csvLineStarts.length) {
+				csvLineStarts = Arrays.copyOf(csvLineStarts, csvLineStarts.length * 2);
+			}
+			csvLineStarts[csvLineCount] = csvLineStart;
+		}
+		csvLineCount++;
+	}
+
+	boolean isInsideString() {
+		return insideString;
+	}
+
+	int getCsvLineCount() {
+		return csvLineCount;
+	}
+
+	/**
+	 * Get the byte offset of the first csv line start or -1 if none was found
+	 */
+	long getFirstCsvLineStart() {
+		return firstCsvLineStart;
+	}
+
+	/**
+	 * Get the byte offsets of all csv line starts
+	 */
+	long[] getCsvLineStarts() {
+		if (csvLineStarts == null) {
+			throw new IllegalStateException("Csv line starts were not collected");
+		}
+		return Arrays.copyOf(csvLineStarts, csvLineCount);
+	}
+}
@@ -0,0 +1,740 @@
+package de.soderer.utilities.csv;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import de.soderer.utilities.ByteBufferInputStream;
+import de.soderer.utilities.collection.Predicate;
+import de.soderer.utilities.csv.CsvFormat.QuoteMode;
+
+/**
+ * Reader for csv files, which parses parts of the file in parallel.
+ *
+ * The file is memory mapped and split into chunks of bytes. Each chunk is resynchronized on the first real csv line start within it,
+ * respecting quoted linebreaks. This needs two fast byte scans of the file before parsing:
+ * The first one counts the stringquotes of each chunk to know, whether a chunk starts within a quoted value,
+ * the second one detects the csv line starts and counts the csv lines of each chunk.
+ * So csv line numbers and the line numbers of CsvDataExceptions are the same as for a sequential CsvReader.
+ *
+ * Only single byte encodings and UTF-8 are supported, because the structural characters must be detectable on byte level.
+ */
+public class CsvParallelReader implements Closeable {
+	/** Default size of the byte chunks parsed in parallel */
+	public static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+
+	/** Maximum size of the byte chunks parsed in parallel */
+	public static final int MAXIMUM_CHUNK_SIZE = 1024 * 1024 * 1024;
+
+	/** Size of the blocks used for byte scans */
+	private static final int SCAN_BLOCK_SIZE = 64 * 1024;
+
+	/** Csv file */
+	private File csvFile;
+
+	/** Input encoding */
+	private Charset encoding;
+
+	/** CSV data format definition */
+	private CsvFormat csvFormat;
+
+	/** Size of the byte chunks parsed in parallel */
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	/** Pool for the parallel scans and parsing */
+	private ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+
+	/** Opened csv file */
+	private RandomAccessFile randomAccessFile = null;
+
+	/** Channel of the opened csv file */
+	private FileChannel fileChannel = null;
+
+	/** Chunks of the csv file, prepared on first read */
+	private List<CsvChunk> chunks = null;
+
+	/** Indexes of the selected columns or null */
+	private int[] projectionColumnIndexes = null;
+
+	/** Names of the selected columns or null */
+	private String[] projectionColumnNames = null;
+
+	/** Selected columns resolved by the names in the header line */
+	private boolean[] resolvedSelectedColumns = null;
+
+	/** Filter for csv lines, shared by all parallel workers */
+	private Predicate<CsvRow> rowFilter = null;
+
+	/** Number of columns expected (set by first csv line) */
+	private int numberOfColumns = -1;
+
+	/** Number of csv lines of the whole file */
+	private int csvLineCount = 0;
+
+	/** Index of the first failed chunk in csv data order, so parallel workers skip the chunks after it */
+	private final AtomicInteger firstErrorChunkIndex = new AtomicInteger(Integer.MAX_VALUE);
+
+	public CsvParallelReader(File csvFile) throws Exception {
+		this(csvFile, StandardCharsets.UTF_8, new CsvFormat());
+	}
+
+	public CsvParallelReader(File csvFile, Charset encoding) throws Exception {
+		this(csvFile, encoding, new CsvFormat());
+	}
+
+	public CsvParallelReader(File csvFile, CsvFormat csvFormat) throws Exception {
+		this(csvFile, StandardCharsets.UTF_8, csvFormat);
+	}
+
+	public CsvParallelReader(File csvFile, Charset encoding, CsvFormat csvFormat) throws Exception {
+		if (csvFile == null || !csvFile.isFile()) {
+			throw new Exception("Csv file does not exist: " + csvFile);
+		} else if (encoding == null) {
+			throw new IllegalArgumentException("Encoding is null");
+		} else if (csvFormat == null) {
+			throw new IllegalArgumentException("CsvFormat is null");
+		} else if (!CsvLineStartScanner.isByteScanSupported(encoding)) {
+			throw new Exception("Encoding \"" + encoding + "\" is not supported for parallel csv reading");
+		}
+
+		this.csvFile = csvFile;
+		this.encoding = encoding;
+		this.csvFormat = csvFormat;
+	}
+
+	public CsvFormat getCsvFormat() {
+		return csvFormat;
+	}
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Set the size of the byte chunks parsed in parallel.
+	 * Must be set before the first read.
+	 *
+	 * @param chunkSize
+	 */
+	public CsvParallelReader setChunkSize(int chunkSize) {
+		if (chunkSize <= 0 || chunkSize > MAXIMUM_CHUNK_SIZE) {
+			throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+		} else if (chunks != null) {
+			throw new IllegalStateException("Csv data was already split into chunks");
+		}
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	public ForkJoinPool getForkJoinPool() {
+		return forkJoinPool;
+	}
+
+	/**
+	 * Set the pool used for scanning and parsing the chunks.
+	 * Default is the common ForkJoinPool.
+	 *
+	 * @param forkJoinPool
+	 */
+	public CsvParallelReader setForkJoinPool(ForkJoinPool forkJoinPool) {
+		if (forkJoinPool == null) {
+			throw new IllegalArgumentException("ForkJoinPool is null");
+		}
+		this.forkJoinPool = forkJoinPool;
+		return this;
+	}
+
+	/**
+	 * Read only the values of the selected columns like CsvReader.setColumnProjection(int...).
+	 * Must be set before the first read.
+	 *
+	 * @param columnIndexes
+	 *            indexes of the selected columns, starting with 0
+	 */
+	public CsvParallelReader setColumnProjection(int... columnIndexes) {
+		checkNotPrepared();
+		if (columnIndexes == null || columnIndexes.length == 0) {
+			throw new IllegalArgumentException("No columns selected");
+		}
+		projectionColumnIndexes = columnIndexes.clone();
+		projectionColumnNames = null;
+		return this;
+	}
+
+	/**
+	 * Read only the values of the selected columns like CsvReader.setColumnProjection(String...).
+	 * The first csv line is the header line, which defines the column names.
+	 * Must be set before the first read.
+	 *
+	 * @param columnNames
+	 *            names of the selected columns in the csv header line
+	 */
+	public CsvParallelReader setColumnProjection(String... columnNames) {
+		checkNotPrepared();
+		if (columnNames == null || columnNames.length == 0) {
+			throw new IllegalArgumentException("No columns selected");
+		}
+		projectionColumnNames = columnNames.clone();
+		projectionColumnIndexes = null;
+		return this;
+	}
+
+	/**
+	 * Return only csv lines accepted by the filter like CsvReader.setRowFilter().
+	 * The filter is used by all parallel workers, so it must be thread-safe.
+	 * Must be set before the first read.
+	 *
+	 * @param rowFilter
+	 *            filter or null for all csv lines
+	 */
+	public CsvParallelReader setRowFilter(Predicate<CsvRow> rowFilter) {
+		checkNotPrepared();
+		this.rowFilter = rowFilter;
+		return this;
+	}
+
+	private void checkNotPrepared() {
+		if (chunks != null) {
+			throw new IllegalStateException("Csv data was already split into chunks");
+		}
+	}
+
+	/**
+	 * Get the number of csv lines of the file, which can be less than the absolute linebreak count of the file for the reason of quoted linebreaks.
+	 * Only the byte scans are needed for this, no csv values are parsed.
+	 *
+	 * @return
+	 * @throws Exception
+	 */
+	public int getCsvLineCount() throws Exception {
+		prepareChunks();
+		return csvLineCount;
+	}
+
+	/**
+	 * Read all csv lines of the file and deliver them to the handler.
+	 *
+	 * In ordered mode the handler is called by the calling thread in the order of the csv lines, while the following chunks are parsed in parallel.
+	 * The number of parsed chunks waiting for delivery is limited to twice the parallelism of the pool.
+	 *
+	 * In unordered mode the handler is called directly by the worker threads and must be thread-safe.
+	 *
+	 * In both modes the first error in csv data order is thrown after all workers have stopped.
+	 *
+	 * @param csvRecordHandler
+	 * @param ordered
+	 * @throws Exception
+	 */
+	public void readAll(CsvRecordHandler csvRecordHandler, boolean ordered) throws Exception {
+		prepareChunks();
+		firstErrorChunkIndex.set(Integer.MAX_VALUE);
+		for (CsvChunk chunk : chunks) {
+			chunk.error = null;
+		}
+		if (ordered) {
+			readAllOrdered(csvRecordHandler);
+		} else {
+			readAllUnordered(csvRecordHandler);
+		}
+	}
+
+	/**
+	 * Read all csv lines of the file at once.
+	 *
+	 * @return
+	 * @throws Exception
+	 */
+	public List<List<String>> readAll() throws Exception {
+		final List<List<String>> csvValues = new ArrayList<List<String>>(getCsvLineCount());
+		readAll(new CsvRecordHandler() {
+			@Override
+			public void handleCsvRecord(int csvLineNumber, List<String> values) {
+				csvValues.add(values);
+			}
+		}, true);
+		return csvValues;
+	}
+
+	/**
+	 * Spliterator over all csv lines of the file in csv data order.
+	 * It is split on chunk borders, chunks are parsed by the thread consuming them.
+	 * Errors in csv data are thrown as RuntimeException with the original exception as cause.
+	 *
+	 * @return
+	 * @throws Exception
+	 */
+	public Spliterator<List<String>> spliterator() throws Exception {
+		prepareChunks();
+		return new CsvChunkSpliterator(0, chunks.size());
+	}
+
+	/**
+	 * Stream of all csv lines of the file.
+	 * A parallel stream is processed by the common ForkJoinPool, unless its terminal operation is started within another pool.
+	 *
+	 * @param parallel
+	 * @return
+	 * @throws Exception
+	 */
+	public Stream<List<String>> stream(boolean parallel) throws Exception {
+		return StreamSupport.stream(spliterator(), parallel);
+	}
+
+	/**
+	 * Close the underlying file
+	 */
+	@Override
+	public void close() {
+		if (fileChannel != null) {
+			try {
+				fileChannel.close();
+			} catch (IOException e) {
+				// Do nothing
+			}
+			fileChannel = null;
+		}
+		if (randomAccessFile != null) {
+			try {
+				randomAccessFile.close();
+			} catch (IOException e) {
+				// Do nothing
+			}
+			randomAccessFile = null;
+		}
+	}
+
+	private void readAllOrdered(CsvRecordHandler csvRecordHandler) throws Exception {
+		int maximumChunksInProgress = Math.max(2, forkJoinPool.getParallelism() * 2);
+		LinkedList<Future<List<List<String>>>> chunksInProgress = new LinkedList<Future<List<List<String>>>>();
+		int nextChunkIndex = 0;
+		int deliveredChunkIndex = 0;
+		try {
+			while (deliveredChunkIndex < chunks.size()) {
+				while (nextChunkIndex < chunks.size() && chunksInProgress.size() < maximumChunksInProgress) {
+					final int chunkIndex = nextChunkIndex++;
+					final CsvChunk chunk = chunks.get(chunkIndex);
+					chunksInProgress.add(forkJoinPool.submit(new Callable<List<List<String>>>() {
+						@Override
+						public List<List<String>> call() {
+							List<List<String>> chunkValues = new ArrayList<List<String>>(chunk.csvLines);
+							if (chunkIndex < firstErrorChunkIndex.get()) {
+								try (CsvReader csvReader = createChunkReader(chunk)) {
+									List<String> values;
+									while ((values = csvReader.readNextCsvLine()) != null) {
+										chunkValues.add(values);
+										if (rowFilter != null) {
+											chunk.addDeliveredCsvLineNumber(csvReader.getReadCsvLines());
+										}
+									}
+								} catch (Exception e) {
+									chunk.error = e;
+									setErrorChunkIndex(chunkIndex);
+								}
+							}
+							return chunkValues;
+						}
+					}));
+				}
+
+				CsvChunk chunk = chunks.get(deliveredChunkIndex++);
+				List<List<String>> chunkValues = getResult(chunksInProgress.removeFirst());
+				if (chunk.error != null) {
+					throw chunk.error;
+				}
+				int csvLineNumber = chunk.precedingCsvLines;
+				for (int i = 0; i < chunkValues.size(); i++) {
+					// Filtered csv lines leave gaps in the csv line numbers
+					csvRecordHandler.handleCsvRecord(rowFilter != null ? chunk.deliveredCsvLineNumbers[i] : ++csvLineNumber, chunkValues.get(i));
+				}
+				chunk.deliveredCsvLineNumbers = null;
+				chunk.deliveredCsvLines = 0;
+			}
+		} finally {
+			for (Future<List<List<String>>> chunkInProgress : chunksInProgress) {
+				chunkInProgress.cancel(false);
+			}
+		}
+	}
+
+	private void readAllUnordered(final CsvRecordHandler csvRecordHandler) throws Exception {
+		List<Callable<Void>> chunkTasks = new ArrayList<Callable<Void>>(chunks.size());
+		for (int i = 0; i < chunks.size(); i++) {
+			final int chunkIndex = i;
+			final CsvChunk chunk = chunks.get(chunkIndex);
+			chunkTasks.add(new Callable<Void>() {
+				@Override
+				public Void call() {
+					// Chunks before a failed chunk are read completely, so the first error in csv data order is found
+					if (chunkIndex < firstErrorChunkIndex.get()) {
+						try (CsvReader csvReader = createChunkReader(chunk)) {
+							List<String> values;
+							while (chunkIndex < firstErrorChunkIndex.get() && (values = csvReader.readNextCsvLine()) != null) {
+								csvRecordHandler.handleCsvRecord(csvReader.getReadCsvLines(), values);
+							}
+						} catch (Exception e) {
+							chunk.error = e;
+							setErrorChunkIndex(chunkIndex);
+						}
+					}
+					return null;
+				}
+			});
+		}
+
+		for (Future<Void> chunkResult : forkJoinPool.invokeAll(chunkTasks)) {
+			getResult(chunkResult);
+		}
+		throwFirstChunkError(chunks);
+	}
+
+	private void setErrorChunkIndex(int chunkIndex) {
+		int currentFirstErrorChunkIndex;
+		while ((currentFirstErrorChunkIndex = firstErrorChunkIndex.get()) > chunkIndex && !firstErrorChunkIndex.compareAndSet(currentFirstErrorChunkIndex, chunkIndex)) {
+			// Retry until the smallest error chunk index is set
+		}
+	}
+
+	/**
+	 * Throw the error of the first failed chunk in csv data order
+	 */
+	private static void throwFirstChunkError(List<CsvChunk> chunksToCheck) throws Exception {
+		for (CsvChunk chunk : chunksToCheck) {
+			if (chunk.error != null) {
+				throw chunk.error;
+			}
+		}
+	}
+
+	private static <T> T getResult(Future<T> future) throws Exception {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			} else {
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Create a CsvReader for the csv lines of a chunk, which continues the csv line numbering of the preceding chunks
+	 */
+	private CsvReader createChunkReader(CsvChunk chunk) throws Exception {
+		CsvReader csvReader = createChunkReaderWithoutProjection(chunk);
+		if (projectionColumnNames != null) {
+			csvReader.setResolvedColumnProjection(projectionColumnNames, resolvedSelectedColumns);
+		} else if (projectionColumnIndexes != null) {
+			csvReader.setColumnProjection(projectionColumnIndexes);
+		}
+		csvReader.setRowFilter(rowFilter);
+		return csvReader;
+	}
+
+	private CsvReader createChunkReaderWithoutProjection(CsvChunk chunk) throws Exception {
+		MappedByteBuffer chunkBuffer = fileChannel.map(MapMode.READ_ONLY, chunk.dataStart, chunk.dataEnd - chunk.dataStart);
+		CsvReader csvReader = new CsvReader(new ByteBufferInputStream(chunkBuffer), encoding, csvFormat);
+		csvReader.continueCsvData(chunk.precedingCsvLines, numberOfColumns);
+		return csvReader;
+	}
+
+	/**
+	 * Split the csv file into chunks starting at csv line starts and count their csv lines
+	 */
+	private synchronized void prepareChunks() throws Exception {
+		if (chunks != null) {
+			return;
+		}
+
+		randomAccessFile = new RandomAccessFile(csvFile, "r");
+		fileChannel = randomAccessFile.getChannel();
+		long fileSize = fileChannel.size();
+
+		int bomLength = 0;
+		if (StandardCharsets.UTF_8.equals(encoding) && fileSize >= 3) {
+			MappedByteBuffer fileStart = fileChannel.map(MapMode.READ_ONLY, 0, 3);
+			if ((fileStart.get(0) & 0xFF) == 0xEF && (fileStart.get(1) & 0xFF) == 0xBB && (fileStart.get(2) & 0xFF) == 0xBF) {
+				bomLength = 3;
+			}
+		}
+
+		final List<CsvChunk> newChunks = new ArrayList<CsvChunk>();
+		for (long chunkStart = bomLength; chunkStart < fileSize; chunkStart += chunkSize) {
+			newChunks.add(new CsvChunk(chunkStart, Math.min(chunkStart + chunkSize, fileSize)));
+		}
+
+		// First scan: count the stringquotes of each chunk
+		if (csvFormat.getQuoteMode() != QuoteMode.NO_QUOTE) {
+			runChunkTasks(newChunks, new ChunkTask() {
+				@Override
+				public void process(CsvChunk chunk) throws Exception {
+					countStringQuotes(chunk);
+				}
+			});
+			boolean insideString = false;
+			for (CsvChunk chunk : newChunks) {
+				chunk.startsInsideString = insideString;
+				if (chunk.stringQuoteCount % 2 == 1) {
+					insideString = !insideString;
+				}
+			}
+		}
+
+		// Second scan: detect the first csv line start of each chunk and count the csv lines starting in it
+		runChunkTasks(newChunks, new ChunkTask() {
+			@Override
+			public void process(CsvChunk chunk) throws Exception {
+				detectCsvLineStarts(chunk, newChunks.get(0) == chunk);
+			}
+		});
+
+		chunks = new ArrayList<CsvChunk>();
+		int precedingCsvLines = 0;
+		for (CsvChunk chunk : newChunks) {
+			if (chunk.csvLines > 0) {
+				if (chunks.size() > 0) {
+					chunks.get(chunks.size() - 1).dataEnd = chunk.dataStart;
+				}
+				chunk.precedingCsvLines = precedingCsvLines;
+				precedingCsvLines += chunk.csvLines;
+				chunks.add(chunk);
+			}
+		}
+		if (chunks.size() > 0) {
+			chunks.get(0).dataStart = 0;
+			chunks.get(chunks.size() - 1).dataEnd = fileSize;
+		}
+		csvLineCount = precedingCsvLines;
+
+		for (CsvChunk chunk : chunks) {
+			if (chunk.dataEnd - chunk.dataStart > Integer.MAX_VALUE) {
+				throw new Exception("Csv line starting at byte " + chunk.dataStart + " is too large for parallel reading");
+			}
+		}
+
+		if (chunks.size() > 0) {
+			// Number of columns is defined by the first csv line of the file
+			try (CsvReader csvReader = createChunkReaderWithoutProjection(chunks.get(0))) {
+				List<String> firstCsvLine = csvReader.readNextCsvLine();
+				numberOfColumns = firstCsvLine.size();
+				if (projectionColumnNames != null) {
+					resolvedSelectedColumns = CsvReader.resolveColumnNames(projectionColumnNames, firstCsvLine);
+				}
+			}
+		}
+	}
+
+	private interface ChunkTask {
+		public void process(CsvChunk chunk) throws Exception;
+	}
+
+	private void runChunkTasks(List<CsvChunk> chunksToProcess, final ChunkTask chunkTask) throws Exception {
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(chunksToProcess.size());
+		for (final CsvChunk chunk : chunksToProcess) {
+			tasks.add(new Callable<Void>() {
+				@Override
+				public Void call() {
+					try {
+						chunkTask.process(chunk);
+					} catch (Exception e) {
+						chunk.error = e;
+					}
+					return null;
+				}
+			});
+		}
+		for (Future<Void> taskResult : forkJoinPool.invokeAll(tasks)) {
+			getResult(taskResult);
+		}
+		throwFirstChunkError(chunksToProcess);
+	}
+
+	/**
+	 * Count the stringquotes of a chunk, which are not escaped by a preceding escape character
+	 */
+	private void countStringQuotes(CsvChunk chunk) throws IOException {
+		final byte stringQuote = (byte) csvFormat.getStringQuote();
+		final byte stringQuoteEscapeCharacter = (byte) csvFormat.getStringQuoteEscapeCharacter();
+		final boolean escapeByPrefix = stringQuote != stringQuoteEscapeCharacter;
+
+		long mapStart = chunk.rawStart > 0 ? chunk.rawStart - 1 : 0;
+		MappedByteBuffer chunkBuffer = fileChannel.map(MapMode.READ_ONLY, mapStart, chunk.rawEnd - mapStart);
+		int previousByte = chunk.rawStart > mapStart ? chunkBuffer.get() : -1;
+
+		byte[] block = new byte[SCAN_BLOCK_SIZE];
+		int stringQuoteCount = 0;
+		while (chunkBuffer.hasRemaining()) {
+			int blockLength = Math.min(block.length, chunkBuffer.remaining());
+			chunkBuffer.get(block, 0, blockLength);
+			for (int i = 0; i < blockLength; i++) {
+				byte nextByte = block[i];
+				if (nextByte == stringQuote && (!escapeByPrefix || previousByte != stringQuoteEscapeCharacter)) {
+					stringQuoteCount++;
+				}
+				previousByte = nextByte;
+			}
+		}
+		chunk.stringQuoteCount = stringQuoteCount;
+	}
+
+	/**
+	 * Detect the csv line starts of a chunk, which are the first non linebreak bytes after a linebreak outside of quoted values.
+	 */
+	private void detectCsvLineStarts(CsvChunk chunk, boolean isFirstChunk) throws IOException {
+		long mapStart = isFirstChunk ? chunk.rawStart : chunk.rawStart - 1;
+		MappedByteBuffer chunkBuffer = fileChannel.map(MapMode.READ_ONLY, mapStart, chunk.rawEnd - mapStart);
+		int previousByte = isFirstChunk ? '\n' : chunkBuffer.get();
+
+		CsvLineStartScanner scanner = new CsvLineStartScanner(csvFormat, chunk.startsInsideString, previousByte, false);
+		byte[] block = new byte[SCAN_BLOCK_SIZE];
+		long position = chunk.rawStart;
+		while (chunkBuffer.hasRemaining()) {
+			int blockLength = Math.min(block.length, chunkBuffer.remaining());
+			chunkBuffer.get(block, 0, blockLength);
+			scanner.scan(block, 0, blockLength, position);
+			position += blockLength;
+		}
+		chunk.dataStart = scanner.getFirstCsvLineStart();
+		chunk.csvLines = scanner.getCsvLineCount();
+	}
+
+	/**
+	 * Part of the csv file parsed by one worker
+	 */
+	private static class CsvChunk {
+		/** Byte range of the chunk before resynchronization */
+		private final long rawStart;
+		private final long rawEnd;
+
+		/** Number of not escaped stringquotes within the raw byte range */
+		private int stringQuoteCount = 0;
+
+		/** The raw byte range starts within a quoted value */
+		private boolean startsInsideString = false;
+
+		/** Byte range of the csv lines starting within the raw byte range */
+		private long dataStart = -1;
+		private long dataEnd = -1;
+
+		/** Number of csv lines starting within the raw byte range */
+		private int csvLines = 0;
+
+		/** Number of csv lines of all preceding chunks */
+		private int precedingCsvLines = 0;
+
+		/** Numbers of the csv lines accepted by the row filter */
+		private int[] deliveredCsvLineNumbers = null;
+		private int deliveredCsvLines = 0;
+
+		/** Error of the last processing of this chunk */
+		private Exception error = null;
+
+		public CsvChunk(long rawStart, long rawEnd) {
+			this.rawStart = rawStart;
+			this.rawEnd = rawEnd;
+		}
+
+		private void addDeliveredCsvLineNumber(int csvLineNumber) {
+			if (deliveredCsvLineNumbers == null) {
+				deliveredCsvLineNumbers = new int[Math.max(16, csvLines)];
+			}
+			deliveredCsvLineNumbers[deliveredCsvLines++] = csvLineNumber;
+		}
+	}
+
+	/**
+	 * Spliterator over the csv lines of a range of chunks
+	 */
+	private class CsvChunkSpliterator implements Spliterator<List<String>> {
+		private int nextChunkIndex;
+		private final int endChunkIndex;
+		private CsvChunk currentChunk = null;
+		private CsvReader currentReader = null;
+
+		public CsvChunkSpliterator(int startChunkIndex, int endChunkIndex) {
+			nextChunkIndex = startChunkIndex;
+			this.endChunkIndex = endChunkIndex;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super List<String>> action) {
+			try {
+				while (true) {
+					if (currentReader == null) {
+						if (nextChunkIndex >= endChunkIndex) {
+							return false;
+						}
+						currentChunk = chunks.get(nextChunkIndex++);
+						currentReader = createChunkReader(currentChunk);
+					}
+
+					List<String> values = currentReader.readNextCsvLine();
+					if (values != null) {
+						action.accept(values);
+						return true;
+					} else {
+						currentReader.close();
+						currentReader = null;
+						currentChunk = null;
+					}
+				}
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		@Override
+		public Spliterator<List<String>> trySplit() {
+			if (currentReader != null || endChunkIndex - nextChunkIndex < 2) {
+				return null;
+			} else {
+				int splitChunkIndex = nextChunkIndex + (endChunkIndex - nextChunkIndex) / 2;
+				CsvChunkSpliterator prefixSpliterator = new CsvChunkSpliterator(nextChunkIndex, splitChunkIndex);
+				nextChunkIndex = splitChunkIndex;
+				return prefixSpliterator;
+			}
+		}
+
+		@Override
+		public long estimateSize() {
+			long remainingCsvLines = 0;
+			if (currentReader != null) {
+				remainingCsvLines += currentChunk.precedingCsvLines + currentChunk.csvLines - currentReader.getReadCsvLines();
+			}
+			for (int i = nextChunkIndex; i < endChunkIndex; i++) {
+				remainingCsvLines += chunks.get(i).csvLines;
+			}
+			return remainingCsvLines;
+		}
+
+		@Override
+		public int characteristics() {
+			if (rowFilter != null) {
+				// The number of filtered csv lines is not known in advance
+				return ORDERED | NONNULL | IMMUTABLE;
+			} else {
+				return ORDERED | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+			}
+		}
+	}
+}
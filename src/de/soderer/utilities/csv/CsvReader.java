@@ -1,385 +1,818 @@
-package de.soderer.utilities.csv;
-
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-
-import de.soderer.utilities.BasicReader;
-import de.soderer.utilities.csv.CsvFormat.QuoteMode;
-
-/**
- * The Class CsvReader.
- */
-public class CsvReader extends BasicReader {
-	/** CSV data format definition */
-	private CsvFormat csvFormat = new CsvFormat();
-	
-	/** If a single read was done, it is impossible to make a full read at once with readAll(). */
-	private boolean singleReadStarted = false;
-
-	/** Number of columns expected (set by first read line). */
-	private int numberOfColumns = -1;
-
-	/** Number of lines read until now. */
-	private int readCsvLines = 0;
-
-	/**
-	 * CSV Reader derived constructor.
-	 *
-	 * @param inputStream
-	 *            the input stream
-	 */
-	public CsvReader(InputStream inputStream) throws Exception {
-		this(inputStream, Charset.forName(DEFAULT_ENCODING));
-	}
-
-	/**
-	 * CSV Reader derived constructor.
-	 *
-	 * @param inputStream
-	 *            the input stream
-	 * @param encoding
-	 *            the encoding
-	 */
-	public CsvReader(InputStream inputStream, String encoding) throws Exception {
-		this(inputStream, Charset.forName(encoding));
-	}
-
-	/**
-	 * CSV Reader derived constructor.
-	 *
-	 * @param inputStream
-	 *            the input stream
-	 * @param encoding
-	 *            the encoding
-	 */
-	public CsvReader(InputStream inputStream, Charset encoding) throws Exception {
-		super(inputStream, encoding);
-	}
-
-	/**
-	 * CSV Reader derived constructor.
-	 *
-	 * @param inputStream
-	 *            the input stream
-	 * @param separator
-	 *            the separator
-	 */
-	public CsvReader(InputStream inputStream, CsvFormat csvFormat) throws Exception {
-		this(inputStream, Charset.forName(DEFAULT_ENCODING), csvFormat);
-	}
-
-	/**
-	 * CSV Reader derived constructor.
-	 *
-	 * @param inputStream
-	 *            the input stream
-	 * @param encoding
-	 *            the encoding
-	 * @param separator
-	 *            the separator
-	 */
-	public CsvReader(InputStream inputStream, String encoding, CsvFormat csvFormat) throws Exception {
-		this(inputStream, Charset.forName(encoding), csvFormat);
-	}
-
-	/**
-	 * CSV Reader derived constructor.
-	 *
-	 * @param inputStream
-	 *            the input stream
-	 * @param encoding
-	 *            the encoding
-	 * @param separator
-	 *            the separator
-	 */
-	public CsvReader(InputStream inputStream, Charset encoding, CsvFormat csvFormat) throws Exception {
-		this(inputStream, encoding);
-		
-		this.csvFormat = csvFormat;
-	}
-
-	/**
-	 * Get configured csv format
-	 * 
-	 * @return
-	 */
-	public CsvFormat getCsvFormat() {
-		return csvFormat;
-	}
-
-	/**
-	 * Configured csv format
-	 * 
-	 * @param csvFormat
-	 */
-	public CsvReader setCsvFormat(CsvFormat csvFormat) {
-		this.csvFormat = csvFormat;
-		return this;
-	}
-
-	/**
-	 * Get lines read until now.
-	 *
-	 * @return the read lines
-	 */
-	public int getReadCsvLines() {
-		return readCsvLines;
-	}
-
-	/**
-	 * Read the next line of csv data.
-	 *
-	 * @return the list
-	 * @throws IOException
-	 *             Signals that an I/O exception has occurred.
-	 * @throws CsvDataException
-	 *             the csv data exception
-	 */
-	public List<String> readNextCsvLine() throws IOException, CsvDataException {
-		readCsvLines++;
-		singleReadStarted = true;
-		List<String> returnList = new ArrayList<String>();
-		StringBuilder nextValue = new StringBuilder();
-		boolean insideString = false;
-		boolean isQuotedString = false;
-		Character nextCharacter;
-		char previousCharacter = (char) -1;
-		
-		while ((nextCharacter = readNextCharacter()) != null) {
-			char nextChar = (char) nextCharacter;
-			if (csvFormat.getQuoteMode() != QuoteMode.NO_QUOTE && nextChar == csvFormat.getStringQuote()) {
-				if (csvFormat.getStringQuoteEscapeCharacter() != csvFormat.getStringQuote()) {
-					if (previousCharacter != csvFormat.getStringQuoteEscapeCharacter()) {
-						insideString = !insideString;
-					}
-				} else {
-					insideString = !insideString;
-				}
-				nextValue.append(nextChar);
-				isQuotedString = true;
-			} else if (!insideString) {
-				if (nextChar == '\r' || nextChar == '\n') {
-					if (nextValue.length() > 0 || previousCharacter == csvFormat.getSeparator()) {
-						returnList.add(parseValue(nextValue.toString()));
-					}
-
-					if (returnList.size() > 0) {
-						if (numberOfColumns != -1 && numberOfColumns != returnList.size()) {
-							if (numberOfColumns > returnList.size() && csvFormat.isFillMissingTrailingColumnsWithNull()) {
-								while (returnList.size() < numberOfColumns) {
-									returnList.add(null);
-								}
-							} else {
-								throw new CsvDataException("Inconsistent number of values in line " + readCsvLines + " (expected: " + numberOfColumns + " actually: " + returnList.size() + ")", readCsvLines);
-							}
-						}
-						numberOfColumns = returnList.size();
-						return returnList;
-					}
-				} else if (nextChar == csvFormat.getSeparator()) {
-					returnList.add(parseValue(nextValue.toString()));
-					nextValue = new StringBuilder();
-					isQuotedString = false;
-				} else if (isQuotedString) {
-					if (!Character.isWhitespace(nextChar)) {
-						throw new CsvDataException("Not allowed textdata '" + nextChar + "' after quoted text in data in line " + readCsvLines, readCsvLines);
-					}
-				} else {
-					nextValue.append(nextChar);
-				}
-			} else { // insideString
-				if ((nextChar == '\r' || nextChar == '\n') && !csvFormat.isLineBreakInDataAllowed()) {
-					throw new CsvDataException("Not allowed linebreak in data in line " + readCsvLines, readCsvLines);
-				} else {
-					nextValue.append(nextChar);
-				}
-			}
-
-			previousCharacter = nextCharacter;
-		}
-
-		if (insideString) {
-			close();
-			throw new IOException("Unexpected end of data after quoted csv-value was started in line " + readCsvLines);
-		} else {
-			if (nextValue.length() > 0 || previousCharacter == csvFormat.getSeparator()) {
-				returnList.add(parseValue(nextValue.toString()));
-			}
-
-			if (returnList.size() > 0) {
-				if (numberOfColumns != -1 && numberOfColumns != returnList.size()) {
-					if (numberOfColumns > returnList.size() && csvFormat.isFillMissingTrailingColumnsWithNull()) {
-						while (returnList.size() < numberOfColumns) {
-							returnList.add(null);
-						}
-					} else {
-						throw new CsvDataException("Inconsistent number of values in line " + readCsvLines + " (expected: " + numberOfColumns + " actually: " + returnList.size() + ")", readCsvLines);
-					}
-				}
-				numberOfColumns = returnList.size();
-				return returnList;
-			} else {
-				close();
-				return null;
-			}
-		}
-	}
-
-	/**
-	 * Read all csv data at once. This can only be done before readNextCsvLine() was called for the first time
-	 *
-	 * @return the list
-	 * @throws IOException
-	 *             Signals that an I/O exception has occurred.
-	 * @throws CsvDataException
-	 *             the csv data exception
-	 */
-	public List<List<String>> readAll() throws IOException, CsvDataException {
-		if (singleReadStarted) {
-			throw new IllegalStateException("Single readNextCsvLine was called before readAll");
-		}
-
-		try {
-			List<List<String>> csvValues = new ArrayList<List<String>>();
-			List<String> lineValues;
-			while ((lineValues = readNextCsvLine()) != null) {
-				csvValues.add(lineValues);
-			}
-			return csvValues;
-		} finally {
-			close();
-		}
-	}
-
-	/**
-	 * Parse a single value to applicate allowed double stringquotes.
-	 *
-	 * @param rawValue
-	 *            the raw value
-	 * @return the string
-	 * @throws CsvDataException
-	 *             the csv data exception
-	 */
-	private String parseValue(String rawValue) throws CsvDataException {
-		String returnValue = rawValue;
-
-		if (isNotEmpty(returnValue)) {
-			if (csvFormat.getQuoteMode() != QuoteMode.NO_QUOTE) {
-				String stringQuoteString = Character.toString(csvFormat.getStringQuote());
-				if (returnValue.contains(stringQuoteString)) {
-					returnValue = returnValue.trim();
-				}
-				if (returnValue.charAt(0) == csvFormat.getStringQuote() && returnValue.charAt(returnValue.length() - 1) == csvFormat.getStringQuote()) {
-					returnValue = returnValue.substring(1, returnValue.length() - 1);
-					returnValue = returnValue.replace(csvFormat.getStringQuoteEscapeCharacter() + stringQuoteString, stringQuoteString);
-				}
-			}
-			returnValue = returnValue.replace("\r\n", "\n").replace('\r', '\n');
-
-			if (!csvFormat.isEscapedStringQuoteInDataAllowed() && returnValue.indexOf(csvFormat.getStringQuote()) >= 0) {
-				throw new CsvDataException("Not allowed stringquote in data in line " + readCsvLines, readCsvLines);
-			}
-			
-			if (csvFormat.isAlwaysTrim()) {
-				returnValue = returnValue.trim();
-			}
-		}
-
-		return returnValue;
-	}
-
-	/**
-	 * This method reads the stream to the end and counts all csv value lines, which can be less than the absolute linebreak count of the stream for the reason of quoted linebreaks. The result also
-	 * contains the first line, which may consist of columnheaders.
-	 *
-	 * @return the csv line count
-	 * @throws IOException
-	 *             Signals that an I/O exception has occurred.
-	 * @throws CsvDataException
-	 *             the csv data exception
-	 */
-	public int getCsvLineCount() throws IOException, CsvDataException {
-		if (singleReadStarted) {
-			throw new IllegalStateException("Single readNextCsvLine was called before getCsvLineCount");
-		}
-
-		try {
-			int csvLineCount = 0;
-			while (readNextCsvLine() != null) {
-				csvLineCount++;
-			}
-			return csvLineCount;
-		} finally {
-			close();
-		}
-	}
-
-	/**
-	 * Parse a single csv data line for data entries.
-	 * 
-	 * @param csvLine
-	 * @return
-	 * @throws Exception
-	 */
-	public static List<String> parseCsvLine(String csvLine) throws Exception {
-		return parseCsvLine(new CsvFormat(), csvLine);
-	}
-
-	/**
-	 * Parse a single csv data line for data entries.
-	 * 
-	 * @param csvFormat
-	 * @param csvLine
-	 * @return
-	 * @throws Exception
-	 */
-	public static List<String> parseCsvLine(CsvFormat csvFormat, String csvLine) throws Exception {
-		CsvReader reader = null;
-		try {
-			reader = new CsvReader(new ByteArrayInputStream(csvLine.getBytes("UTF-8")), "UTF-8", csvFormat);
-			List<List<String>> fullData = reader.readAll();
-			if (fullData.size() != 1) {
-				throw new Exception("Too many csv lines in data");
-			} else {
-				return fullData.get(0);
-			}
-		} catch (CsvDataException e) {
-			throw e;
-		} finally {
-			if (reader != null) {
-				reader.close();
-			}
-		}
-	}
-
-	/**
-	 * Returns the first duplicate csv file header or null if there is no duplicate.
-	 * Leading and trailing whitespaces in csv file headers are omitted.
-	 * Csv file headers are case-sensitive.
-	 * 
-	 * @param csvFileHeaders
-	 * @return
-	 */
-	public static String checkForDuplicateCsvHeader(List<String> csvFileHeaders) {
-		Set<String> foundHeaders = new HashSet<String>();
-		for (String nextHeader : csvFileHeaders) {
-			if (nextHeader != null) {
-				nextHeader = nextHeader.trim();
-				if (nextHeader.length() > 0) {
-					if (foundHeaders.contains(nextHeader)) {
-						return nextHeader;
-					} else {
-						foundHeaders.add(nextHeader);
-					}
-				}
-			}
-		}
-		return null;
-	}
-}
+package de.soderer.utilities.csv;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import de.soderer.utilities.BasicReader;
+import de.soderer.utilities.ByteBufferInputStream;
+import de.soderer.utilities.collection.Predicate;
+import de.soderer.utilities.csv.CsvFormat.QuoteMode;
+
+/**
+ * The Class CsvReader.
+ */
+public class CsvReader extends BasicReader {
+	/** CSV data format definition */
+	private CsvFormat csvFormat = new CsvFormat();
+	
+	/** If a single read was done, it is impossible to make a full read at once with readAll(). */
+	private boolean singleReadStarted = false;
+
+	/** Number of columns expected (set by first read line). */
+	private int numberOfColumns = -1;
+
+	/** Number of lines read until now. */
+	private int readCsvLines = 0;
+
+	/** Reused buffer for the characters of the current csv line */
+	private final StringBuilder rowBuffer = new StringBuilder();
+
+	/** Reused cursor on the current csv line */
+	private final CsvRow csvRow = new CsvRow(rowBuffer);
+
+	/** Names of the selected columns, resolved by the csv header line */
+	private String[] projectionColumnNames = null;
+
+	/** Selected columns or null for all columns */
+	private boolean[] selectedColumns = null;
+
+	/** Filter for csv lines, checked on the selected values */
+	private Predicate<CsvRow> rowFilter = null;
+
+	/** Characters interrupting the scan of unquoted csv data */
+	private char[] unquotedStopCharacters = null;
+
+	/** Characters interrupting the scan of quoted csv data */
+	private char[] quotedStopCharacters = null;
+
+	/** Csv format settings the stop characters were created for */
+	private boolean stopCharactersUseStringQuote;
+	private char stopCharactersSeparator;
+	private char stopCharactersStringQuote;
+	private boolean stopCharactersLineBreakInDataAllowed;
+
+	/**
+	 * CSV Reader derived constructor.
+	 *
+	 * @param inputStream
+	 *            the input stream
+	 */
+	public CsvReader(InputStream inputStream) throws Exception {
+		this(inputStream, Charset.forName(DEFAULT_ENCODING));
+	}
+
+	/**
+	 * CSV Reader derived constructor.
+	 *
+	 * @param inputStream
+	 *            the input stream
+	 * @param encoding
+	 *            the encoding
+	 */
+	public CsvReader(InputStream inputStream, String encoding) throws Exception {
+		this(inputStream, Charset.forName(encoding));
+	}
+
+	/**
+	 * CSV Reader derived constructor.
+	 *
+	 * @param inputStream
+	 *            the input stream
+	 * @param encoding
+	 *            the encoding
+	 */
+	public CsvReader(InputStream inputStream, Charset encoding) throws Exception {
+		super(inputStream, encoding);
+	}
+
+	/**
+	 * CSV Reader derived constructor.
+	 *
+	 * @param inputStream
+	 *            the input stream
+	 * @param separator
+	 *            the separator
+	 */
+	public CsvReader(InputStream inputStream, CsvFormat csvFormat) throws Exception {
+		this(inputStream, Charset.forName(DEFAULT_ENCODING), csvFormat);
+	}
+
+	/**
+	 * CSV Reader derived constructor.
+	 *
+	 * @param inputStream
+	 *            the input stream
+	 * @param encoding
+	 *            the encoding
+	 * @param separator
+	 *            the separator
+	 */
+	public CsvReader(InputStream inputStream, String encoding, CsvFormat csvFormat) throws Exception {
+		this(inputStream, Charset.forName(encoding), csvFormat);
+	}
+
+	/**
+	 * CSV Reader derived constructor.
+	 *
+	 * @param inputStream
+	 *            the input stream
+	 * @param encoding
+	 *            the encoding
+	 * @param separator
+	 *            the separator
+	 */
+	public CsvReader(InputStream inputStream, Charset encoding, CsvFormat csvFormat) throws Exception {
+		this(inputStream, encoding);
+		
+		this.csvFormat = csvFormat;
+	}
+
+	/**
+	 * Get configured csv format
+	 * 
+	 * @return
+	 */
+	public CsvFormat getCsvFormat() {
+		return csvFormat;
+	}
+
+	/**
+	 * Configured csv format
+	 * 
+	 * @param csvFormat
+	 */
+	public CsvReader setCsvFormat(CsvFormat csvFormat) {
+		this.csvFormat = csvFormat;
+		return this;
+	}
+
+	/**
+	 * Get lines read until now.
+	 *
+	 * @return the read lines
+	 */
+	public int getReadCsvLines() {
+		return readCsvLines;
+	}
+
+	/**
+	 * Read only the values of the selected columns, the values of all other columns are skipped without processing.
+	 * The selected values are returned in the order of the csv columns.
+	 * Must be set before the first read.
+	 *
+	 * @param columnIndexes
+	 *            indexes of the selected columns, starting with 0
+	 */
+	public CsvReader setColumnProjection(int... columnIndexes) {
+		checkReadNotStarted();
+		if (columnIndexes == null || columnIndexes.length == 0) {
+			throw new IllegalArgumentException("No columns selected");
+		}
+		int maximumColumnIndex = -1;
+		for (int columnIndex : columnIndexes) {
+			if (columnIndex < 0) {
+				throw new IllegalArgumentException("Invalid column index: " + columnIndex);
+			}
+			maximumColumnIndex = Math.max(maximumColumnIndex, columnIndex);
+		}
+		boolean[] newSelectedColumns = new boolean[maximumColumnIndex + 1];
+		for (int columnIndex : columnIndexes) {
+			newSelectedColumns[columnIndex] = true;
+		}
+		projectionColumnNames = null;
+		selectedColumns = newSelectedColumns;
+		return this;
+	}
+
+	/**
+	 * Read only the values of the selected columns, the values of all other columns are skipped without processing.
+	 * The first csv line is the header line, which defines the column names. It is also returned with the selected values only.
+	 * The selected values are returned in the order of the csv columns.
+	 * Must be set before the first read.
+	 *
+	 * @param columnNames
+	 *            names of the selected columns in the csv header line
+	 */
+	public CsvReader setColumnProjection(String... columnNames) {
+		checkReadNotStarted();
+		if (columnNames == null || columnNames.length == 0) {
+			throw new IllegalArgumentException("No columns selected");
+		}
+		projectionColumnNames = columnNames.clone();
+		selectedColumns = null;
+		return this;
+	}
+
+	/**
+	 * Return only csv lines accepted by the filter. The filter is evaluated on the CsvRow of the selected values before the csv line is returned.
+	 * With column projection by names the header line is not filtered.
+	 *
+	 * @param rowFilter
+	 *            filter or null for all csv lines
+	 */
+	public CsvReader setRowFilter(Predicate<CsvRow> rowFilter) {
+		checkReadNotStarted();
+		this.rowFilter = rowFilter;
+		return this;
+	}
+
+	/**
+	 * Set a column projection by names, which was already resolved by the header line, for readers starting after the header line.
+	 */
+	void setResolvedColumnProjection(String[] columnNames, boolean[] resolvedSelectedColumns) {
+		projectionColumnNames = columnNames;
+		selectedColumns = resolvedSelectedColumns;
+	}
+
+	private void checkReadNotStarted() {
+		if (singleReadStarted) {
+			throw new IllegalStateException("Reading csv data was already started");
+		}
+	}
+
+	/**
+	 * Resolve the selected columns by the names in the csv header line
+	 */
+	static boolean[] resolveColumnNames(String[] columnNames, List<String> headerValues) throws CsvDataException {
+		boolean[] resolvedSelectedColumns = new boolean[headerValues.size()];
+		for (String columnName : columnNames) {
+			boolean found = false;
+			for (int i = 0; i < headerValues.size(); i++) {
+				if (headerValues.get(i) != null && columnName != null && headerValues.get(i).trim().equals(columnName.trim())) {
+					resolvedSelectedColumns[i] = true;
+					found = true;
+				}
+			}
+			if (!found) {
+				throw new CsvDataException("Column '" + columnName + "' of projection is missing in csv header", 1);
+			}
+		}
+		return resolvedSelectedColumns;
+	}
+
+	private boolean isSelectedColumn(int columnIndex) {
+		return selectedColumns == null || (columnIndex < selectedColumns.length && selectedColumns[columnIndex]);
+	}
+
+	/**
+	 * Open a reader on a csv file, which starts reading at a csv line found by a CsvLineIndex.
+	 * The csv line numbers and the check of the number of columns are the same as for reading the whole file.
+	 *
+	 * @param csvFile
+	 * @param encoding
+	 * @param csvFormat
+	 * @param csvLineIndex
+	 *            index of the csv file
+	 * @param csvLineNumber
+	 *            number of the first csv line to read, starting with 1
+	 * @return
+	 * @throws Exception
+	 */
+	public static CsvReader openAtCsvLine(File csvFile, Charset encoding, CsvFormat csvFormat, CsvLineIndex csvLineIndex, int csvLineNumber) throws Exception {
+		checkCsvLineIndex(csvFile, encoding, csvFormat, csvLineIndex);
+		int expectedNumberOfColumns = readNumberOfColumns(csvFile, encoding, csvFormat, csvLineIndex, csvLineNumber);
+		FileInputStream inputStream = new FileInputStream(csvFile);
+		try {
+			inputStream.getChannel().position(csvLineIndex.getCsvLineStart(csvLineNumber));
+			CsvReader csvReader = new CsvReader(inputStream, encoding, csvFormat);
+			csvReader.continueCsvData(csvLineNumber - 1, expectedNumberOfColumns);
+			return csvReader;
+		} catch (Exception e) {
+			inputStream.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Open a reader on a range of csv lines of a csv file found by a CsvLineIndex, e.g. for paging.
+	 * The csv line numbers and the check of the number of columns are the same as for reading the whole file.
+	 *
+	 * @param csvFile
+	 * @param encoding
+	 * @param csvFormat
+	 * @param csvLineIndex
+	 *            index of the csv file
+	 * @param firstCsvLineNumber
+	 *            number of the first csv line to read, starting with 1
+	 * @param numberOfCsvLines
+	 *            maximum number of csv lines to read
+	 * @return
+	 * @throws Exception
+	 */
+	public static CsvReader openCsvLineRange(File csvFile, Charset encoding, CsvFormat csvFormat, CsvLineIndex csvLineIndex, int firstCsvLineNumber, int numberOfCsvLines) throws Exception {
+		if (numberOfCsvLines <= 0) {
+			throw new IllegalArgumentException("Invalid number of csv lines: " + numberOfCsvLines);
+		}
+		checkCsvLineIndex(csvFile, encoding, csvFormat, csvLineIndex);
+		int expectedNumberOfColumns = readNumberOfColumns(csvFile, encoding, csvFormat, csvLineIndex, firstCsvLineNumber);
+		int lastCsvLineNumber = (int) Math.min((long) firstCsvLineNumber + numberOfCsvLines - 1, csvLineIndex.getCsvLineCount());
+		CsvReader csvReader = new CsvReader(mapCsvFileRange(csvFile, csvLineIndex.getCsvLineStart(firstCsvLineNumber), csvLineIndex.getCsvLineEnd(lastCsvLineNumber)), encoding, csvFormat);
+		csvReader.continueCsvData(firstCsvLineNumber - 1, expectedNumberOfColumns);
+		return csvReader;
+	}
+
+	private static void checkCsvLineIndex(File csvFile, Charset encoding, CsvFormat csvFormat, CsvLineIndex csvLineIndex) throws Exception {
+		if (csvLineIndex == null) {
+			throw new IllegalArgumentException("CsvLineIndex is null");
+		} else if (!csvLineIndex.isValidFor(csvFile)) {
+			throw new Exception("CsvLineIndex is outdated for csv file: " + csvFile);
+		} else if (!csvLineIndex.isValidFor(csvFile, encoding == null ? Charset.forName(DEFAULT_ENCODING) : encoding, csvFormat)) {
+			throw new Exception("CsvLineIndex was created for another encoding or csv format of csv file: " + csvFile);
+		}
+	}
+
+	/**
+	 * Read the number of columns from the first csv line, which defines it for all following csv lines
+	 */
+	private static int readNumberOfColumns(File csvFile, Charset encoding, CsvFormat csvFormat, CsvLineIndex csvLineIndex, int csvLineNumber) throws Exception {
+		if (csvLineNumber == 1) {
+			return -1;
+		} else {
+			try (CsvReader csvReader = new CsvReader(mapCsvFileRange(csvFile, csvLineIndex.getCsvLineStart(1), csvLineIndex.getCsvLineEnd(1)), encoding, csvFormat)) {
+				return csvReader.readNextCsvLine().size();
+			}
+		}
+	}
+
+	private static InputStream mapCsvFileRange(File csvFile, long start, long end) throws Exception {
+		if (end - start > Integer.MAX_VALUE) {
+			throw new Exception("Csv line range starting at byte " + start + " is too large for reading as range");
+		}
+		try (RandomAccessFile randomAccessFile = new RandomAccessFile(csvFile, "r")) {
+			return new ByteBufferInputStream(randomAccessFile.getChannel().map(MapMode.READ_ONLY, start, end - start));
+		}
+	}
+
+	/**
+	 * Continue the csv line numbering and the check of the number of columns of a preceding part of the same csv data.
+	 * Used by readers, which split csv data into separately parsed parts.
+	 *
+	 * @param precedingCsvLines
+	 *            number of csv lines in the preceding parts
+	 * @param expectedNumberOfColumns
+	 *            number of columns of the csv data or -1 if not known yet
+	 */
+	void continueCsvData(int precedingCsvLines, int expectedNumberOfColumns) {
+		readCsvLines = precedingCsvLines;
+		numberOfColumns = expectedNumberOfColumns;
+	}
+
+	/**
+	 * Read the next line of csv data.
+	 *
+	 * @return the list
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws CsvDataException
+	 *             the csv data exception
+	 */
+	public List<String> readNextCsvLine() throws IOException, CsvDataException {
+		CsvRow nextRow = nextRow();
+		if (nextRow == null) {
+			return null;
+		} else {
+			return nextRow.toList();
+		}
+	}
+
+	/**
+	 * Read the next line of csv data into the reused CsvRow of this reader.
+	 * The values of the CsvRow are only valid until the next call of this method.
+	 * No Strings are created for the values, unless they are requested from the CsvRow.
+	 *
+	 * @return the reused CsvRow or null at the end of data
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws CsvDataException
+	 *             the csv data exception
+	 */
+	public CsvRow nextRow() throws IOException, CsvDataException {
+		while (true) {
+			CsvRow nextRow = readRow();
+			if (nextRow == null) {
+				return null;
+			} else if (projectionColumnNames != null && selectedColumns == null) {
+				// Header line defines the selected columns and is not filtered
+				if (nextRow.getCsvLineNumber() != 1) {
+					throw new CsvDataException("Column projection by names needs the csv header line", nextRow.getCsvLineNumber());
+				}
+				selectedColumns = resolveColumnNames(projectionColumnNames, nextRow.toList());
+				nextRow.retainValues(selectedColumns);
+				return nextRow;
+			} else if (rowFilter == null || (projectionColumnNames != null && nextRow.getCsvLineNumber() == 1) || rowFilter.evaluate(nextRow)) {
+				return nextRow;
+			}
+		}
+	}
+
+	/**
+	 * Tokenize the next csv line. Values of not selected columns are skipped without being processed.
+	 */
+	private CsvRow readRow() throws IOException, CsvDataException {
+		readCsvLines++;
+		singleReadStarted = true;
+		StringBuilder nextValue = rowBuffer;
+		nextValue.setLength(0);
+		csvRow.clear(readCsvLines);
+		int valueStart = 0;
+		boolean insideString = false;
+		boolean isQuotedString = false;
+		int previousCharacter = -1;
+		int columnIndex = 0;
+		boolean valueHasData = false;
+
+		final boolean useStringQuote = csvFormat.getQuoteMode() != QuoteMode.NO_QUOTE;
+		final char separator = csvFormat.getSeparator();
+		final char stringQuote = csvFormat.getStringQuote();
+		final char stringQuoteEscapeCharacter = csvFormat.getStringQuoteEscapeCharacter();
+		final boolean lineBreakInDataAllowed = csvFormat.isLineBreakInDataAllowed();
+		updateStopCharacters(useStringQuote, separator, stringQuote, lineBreakInDataAllowed);
+
+		// Values are skipped without buffering, unless the escape character must be known as previous character
+		final boolean skipWithoutBuffer = !useStringQuote || stringQuoteEscapeCharacter == stringQuote;
+		boolean skipValue = !isSelectedColumn(0);
+
+		int nextChar;
+		while (true) {
+			if (skipValue && skipWithoutBuffer) {
+				long readCharactersBefore = getReadCharacters();
+				if (insideString) {
+					nextChar = readUpToNextChar(null, quotedStopCharacters);
+				} else if (!isQuotedString) {
+					nextChar = readUpToNextChar(null, unquotedStopCharacters);
+				} else {
+					nextChar = readNextChar();
+				}
+				if (getReadCharacters() - readCharactersBefore > (nextChar == -1 ? 0 : 1)) {
+					previousCharacter = -1;
+					valueHasData = true;
+				}
+			} else {
+				int valueLengthBefore = nextValue.length();
+				if (insideString) {
+					nextChar = readUpToNextChar(nextValue, quotedStopCharacters);
+				} else if (!isQuotedString) {
+					nextChar = readUpToNextChar(nextValue, unquotedStopCharacters);
+				} else {
+					nextChar = readNextChar();
+				}
+				if (nextValue.length() > valueLengthBefore) {
+					previousCharacter = nextValue.charAt(nextValue.length() - 1);
+					valueHasData = true;
+				}
+			}
+			if (nextChar == -1) {
+				break;
+			}
+
+			if (useStringQuote && nextChar == stringQuote) {
+				if (stringQuoteEscapeCharacter != stringQuote) {
+					if (previousCharacter != stringQuoteEscapeCharacter) {
+						insideString = !insideString;
+					}
+				} else {
+					insideString = !insideString;
+				}
+				if (!skipValue || !skipWithoutBuffer) {
+					nextValue.append((char) nextChar);
+				}
+				valueHasData = true;
+				isQuotedString = true;
+			} else if (!insideString) {
+				if (nextChar == '\r' || nextChar == '\n') {
+					if (valueHasData || previousCharacter == separator) {
+						endValue(valueStart, skipValue);
+						columnIndex++;
+					}
+
+					if (columnIndex > 0) {
+						checkNumberOfColumns(columnIndex);
+						return csvRow;
+					}
+				} else if (nextChar == separator) {
+					endValue(valueStart, skipValue);
+					columnIndex++;
+					skipValue = !isSelectedColumn(columnIndex);
+					valueStart = nextValue.length();
+					valueHasData = false;
+					isQuotedString = false;
+				} else if (isQuotedString) {
+					if (!Character.isWhitespace(nextChar)) {
+						throw new CsvDataException("Not allowed textdata '" + (char) nextChar + "' after quoted text in data in line " + readCsvLines, readCsvLines);
+					}
+				} else {
+					if (!skipValue || !skipWithoutBuffer) {
+						nextValue.append((char) nextChar);
+					}
+					valueHasData = true;
+				}
+			} else { // insideString
+				if ((nextChar == '\r' || nextChar == '\n') && !lineBreakInDataAllowed) {
+					throw new CsvDataException("Not allowed linebreak in data in line " + readCsvLines, readCsvLines);
+				} else {
+					if (!skipValue || !skipWithoutBuffer) {
+						nextValue.append((char) nextChar);
+					}
+					valueHasData = true;
+				}
+			}
+
+			previousCharacter = nextChar;
+		}
+
+		if (insideString) {
+			close();
+			throw new IOException("Unexpected end of data after quoted csv-value was started in line " + readCsvLines);
+		} else {
+			if (valueHasData || previousCharacter == separator) {
+				endValue(valueStart, skipValue);
+				columnIndex++;
+			}
+
+			if (columnIndex > 0) {
+				checkNumberOfColumns(columnIndex);
+				return csvRow;
+			} else {
+				close();
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Add the value at the end of the row buffer to the current csv row or drop it, if its column is not selected
+	 */
+	private void endValue(int valueStart, boolean skipValue) throws CsvDataException {
+		if (skipValue) {
+			rowBuffer.setLength(valueStart);
+		} else {
+			addValue(valueStart);
+		}
+	}
+
+	/**
+	 * Check the number of values of the current csv line against the number of columns of the previous lines.
+	 *
+	 * @throws CsvDataException
+	 */
+	private void checkNumberOfColumns(int lineColumns) throws CsvDataException {
+		if (numberOfColumns != -1 && numberOfColumns != lineColumns) {
+			if (numberOfColumns > lineColumns && csvFormat.isFillMissingTrailingColumnsWithNull()) {
+				for (int columnIndex = lineColumns; columnIndex < numberOfColumns; columnIndex++) {
+					if (isSelectedColumn(columnIndex)) {
+						csvRow.addNullValue();
+					}
+				}
+			} else {
+				throw new CsvDataException("Inconsistent number of values in line " + readCsvLines + " (expected: " + numberOfColumns + " actually: " + lineColumns + ")", readCsvLines);
+			}
+		} else {
+			numberOfColumns = lineColumns;
+		}
+	}
+
+	/**
+	 * Prepare the characters, which interrupt the blockwise scanning of csv data.
+	 * The arrays are only recreated if the csv format was changed.
+	 */
+	private void updateStopCharacters(boolean useStringQuote, char separator, char stringQuote, boolean lineBreakInDataAllowed) {
+		if (unquotedStopCharacters == null
+				|| stopCharactersUseStringQuote != useStringQuote
+				|| stopCharactersSeparator != separator
+				|| stopCharactersStringQuote != stringQuote
+				|| stopCharactersLineBreakInDataAllowed != lineBreakInDataAllowed) {
+			if (useStringQuote) {
+				unquotedStopCharacters = new char[] { separator, stringQuote, '\r', '\n' };
+			} else {
+				unquotedStopCharacters = new char[] { separator, '\r', '\n' };
+			}
+			if (lineBreakInDataAllowed) {
+				quotedStopCharacters = new char[] { stringQuote };
+			} else {
+				quotedStopCharacters = new char[] { stringQuote, '\r', '\n' };
+			}
+			stopCharactersUseStringQuote = useStringQuote;
+			stopCharactersSeparator = separator;
+			stopCharactersStringQuote = stringQuote;
+			stopCharactersLineBreakInDataAllowed = lineBreakInDataAllowed;
+		}
+	}
+
+	/**
+	 * Read all csv data at once. This can only be done before readNextCsvLine() was called for the first time
+	 *
+	 * @return the list
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws CsvDataException
+	 *             the csv data exception
+	 */
+	public List<List<String>> readAll() throws IOException, CsvDataException {
+		if (singleReadStarted) {
+			throw new IllegalStateException("Single readNextCsvLine was called before readAll");
+		}
+
+		try {
+			List<List<String>> csvValues = new ArrayList<List<String>>();
+			List<String> lineValues;
+			while ((lineValues = readNextCsvLine()) != null) {
+				csvValues.add(lineValues);
+			}
+			return csvValues;
+		} finally {
+			close();
+		}
+	}
+
+	/**
+	 * Parse the raw characters of a single value at the end of the row buffer to applicate allowed double stringquotes and add it to the current csv row.
+	 * The value is modified within the row buffer without creating any String.
+	 *
+	 * @param valueStart
+	 *            start index of the raw value in the row buffer
+	 * @throws CsvDataException
+	 *             the csv data exception
+	 */
+	private void addValue(int valueStart) throws CsvDataException {
+		StringBuilder buffer = rowBuffer;
+		int start = valueStart;
+		int end = buffer.length();
+
+		if (end > start) {
+			if (csvFormat.getQuoteMode() != QuoteMode.NO_QUOTE) {
+				char stringQuote = csvFormat.getStringQuote();
+				if (indexOf(buffer, stringQuote, start, end) >= 0) {
+					while (start < end && buffer.charAt(start) <= ' ') {
+						start++;
+					}
+					while (end > start && buffer.charAt(end - 1) <= ' ') {
+						end--;
+					}
+				}
+				if (end - start >= 2 && buffer.charAt(start) == stringQuote && buffer.charAt(end - 1) == stringQuote) {
+					start++;
+					end--;
+					end = unescapeStringQuotesAndLinebreaks(buffer, start, end, true, csvFormat.getStringQuoteEscapeCharacter(), stringQuote);
+				} else {
+					end = unescapeStringQuotesAndLinebreaks(buffer, start, end, false, stringQuote, stringQuote);
+				}
+			} else {
+				end = unescapeStringQuotesAndLinebreaks(buffer, start, end, false, csvFormat.getStringQuote(), csvFormat.getStringQuote());
+			}
+
+			if (!csvFormat.isEscapedStringQuoteInDataAllowed() && indexOf(buffer, csvFormat.getStringQuote(), start, end) >= 0) {
+				throw new CsvDataException("Not allowed stringquote in data in line " + readCsvLines, readCsvLines);
+			}
+
+			if (csvFormat.isAlwaysTrim()) {
+				while (start < end && buffer.charAt(start) <= ' ') {
+					start++;
+				}
+				while (end > start && buffer.charAt(end - 1) <= ' ') {
+					end--;
+				}
+			}
+		}
+
+		buffer.setLength(end);
+		csvRow.addValue(start, end);
+	}
+
+	/**
+	 * Replace escaped stringquotes by a single stringquote and replace linebreaks "\r\n" and "\r" by "\n" within a range of the buffer.
+	 * The characters are moved to the start of the range.
+	 *
+	 * @return the new end index of the range
+	 */
+	private static int unescapeStringQuotesAndLinebreaks(StringBuilder buffer, int start, int end, boolean unescapeStringQuotes, char stringQuoteEscapeCharacter, char stringQuote) {
+		int writeIndex = start;
+		int readIndex = start;
+		while (readIndex < end) {
+			char nextChar = buffer.charAt(readIndex++);
+			if (unescapeStringQuotes && nextChar == stringQuoteEscapeCharacter && readIndex < end && buffer.charAt(readIndex) == stringQuote) {
+				nextChar = stringQuote;
+				readIndex++;
+			} else if (nextChar == '\r') {
+				nextChar = '\n';
+				if (readIndex < end && buffer.charAt(readIndex) == '\n') {
+					readIndex++;
+				}
+			}
+			buffer.setCharAt(writeIndex++, nextChar);
+		}
+		return writeIndex;
+	}
+
+	private static int indexOf(StringBuilder buffer, char searchCharacter, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (buffer.charAt(i) == searchCharacter) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * This method reads the stream to the end and counts all csv value lines, which can be less than the absolute linebreak count of the stream for the reason of quoted linebreaks. The result also
+	 * contains the first line, which may consist of columnheaders.
+	 * For UTF-8 and single byte encodings the csv lines are counted by a fast byte level scan, which does not check the csv values.
+	 *
+	 * @return the csv line count
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws CsvDataException
+	 *             the csv data exception
+	 */
+	public int getCsvLineCount() throws IOException, CsvDataException {
+		if (singleReadStarted) {
+			throw new IllegalStateException("Single readNextCsvLine was called before getCsvLineCount");
+		}
+
+		try {
+			if (CsvLineIndex.isByteScanSupported(getEncoding())) {
+				return CsvLineIndex.countCsvLines(getUndecodedInputStream(), getEncoding(), csvFormat);
+			} else {
+				int csvLineCount = 0;
+				while (readNextCsvLine() != null) {
+					csvLineCount++;
+				}
+				return csvLineCount;
+			}
+		} finally {
+			close();
+		}
+	}
+
+	/**
+	 * Parse a single csv data line for data entries.
+	 * 
+	 * @param csvLine
+	 * @return
+	 * @throws Exception
+	 */
+	public static List<String> parseCsvLine(String csvLine) throws Exception {
+		return parseCsvLine(new CsvFormat(), csvLine);
+	}
+
+	/**
+	 * Parse a single csv data line for data entries.
+	 * 
+	 * @param csvFormat
+	 * @param csvLine
+	 * @return
+	 * @throws Exception
+	 */
+	public static List<String> parseCsvLine(CsvFormat csvFormat, String csvLine) throws Exception {
+		CsvReader reader = null;
+		try {
+			reader = new CsvReader(new ByteArrayInputStream(csvLine.getBytes("UTF-8")), "UTF-8", csvFormat);
+			List<List<String>> fullData = reader.readAll();
+			if (fullData.size() != 1) {
+				throw new Exception("Too many csv lines in data");
+			} else {
+				return fullData.get(0);
+			}
+		} catch (CsvDataException e) {
+			throw e;
+		} finally {
+			if (reader != null) {
+				reader.close();
+			}
+		}
+	}
+
+	/**
+	 * Returns the first duplicate csv file header or null if there is no duplicate.
+	 * Leading and trailing whitespaces in csv file headers are omitted.
+	 * Csv file headers are case-sensitive.
+	 * 
+	 * @param csvFileHeaders
+	 * @return
+	 */
+	public static String checkForDuplicateCsvHeader(List<String> csvFileHeaders) {
+		Set<String> foundHeaders = new HashSet<String>();
+		for (String nextHeader : csvFileHeaders) {
+			if (nextHeader != null) {
+				nextHeader = nextHeader.trim();
+				if (nextHeader.length() > 0) {
+					if (foundHeaders.contains(nextHeader)) {
+						return nextHeader;
+					} else {
+						foundHeaders.add(nextHeader);
+					}
+				}
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,20 @@
+package de.soderer.utilities.csv;
+
+import java.util.List;
+
+/**
+ * Receiver of csv records delivered by the CsvParallelReader
+ */
+public interface CsvRecordHandler {
+	/**
+	 * Handle a single csv record.
+	 * In unordered mode this method is called by multiple worker threads concurrently.
+	 *
+	 * @param csvLineNumber
+	 *            number of the csv line within the whole csv data, starting with 1
+	 * @param values
+	 *            the values of the csv line
+	 * @throws Exception
+	 */
+	public void handleCsvRecord(int csvLineNumber, List<String> values) throws Exception;
+}
@@ -0,0 +1,251 @@
+package de.soderer.utilities.csv;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.soderer.utilities.NumberUtilities;
+
+/**
+ * Cursor on the current csv line of a CsvReader, which is reused for every csv line read by CsvReader.nextRow().
+ *
+ * The values are kept as ranges of the reader's internal character buffer and are only converted into Strings on request.
+ * The CharSequences returned by get(int) are reused per column, so their content is only valid until the next call of CsvReader.nextRow().
+ */
+public class CsvRow {
+	/** Characters of all values of the current csv line */
+	private final StringBuilder rowBuffer;
+
+	/** Start index of each value in the rowBuffer or -1 for null values */
+	private int[] valueStarts = new int[16];
+
+	/** End index of each value in the rowBuffer */
+	private int[] valueEnds = new int[16];
+
+	/** Number of values in the current csv line */
+	private int size = 0;
+
+	/** Reused CharSequences for each column */
+	private CsvValue[] values = new CsvValue[0];
+
+	/** Number of the current csv line */
+	private int csvLineNumber = 0;
+
+	CsvRow(StringBuilder rowBuffer) {
+		this.rowBuffer = rowBuffer;
+	}
+
+	/**
+	 * Get the number of values of the current csv line
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Get the number of the current csv line, starting with 1
+	 */
+	public int getCsvLineNumber() {
+		return csvLineNumber;
+	}
+
+	public boolean isNull(int columnIndex) {
+		checkColumnIndex(columnIndex);
+		return valueStarts[columnIndex] < 0;
+	}
+
+	/**
+	 * Get the value of a column as reused CharSequence, which is only valid until the next csv line is read.
+	 *
+	 * @param columnIndex
+	 * @return value or null
+	 */
+	public CharSequence get(int columnIndex) {
+		checkColumnIndex(columnIndex);
+		if (valueStarts[columnIndex] < 0) {
+			return null;
+		} else {
+			if (columnIndex >= values.length) {
+				CsvValue[] newValues = new CsvValue[Math.max(size, columnIndex + 1)];
+				System.arraycopy(values, 0, newValues, 0, values.length);
+				values = newValues;
+			}
+			if (values[columnIndex] == null) {
+				values[columnIndex] = new CsvValue(columnIndex);
+			}
+			return values[columnIndex];
+		}
+	}
+
+	/**
+	 * Get the value of a column as new String
+	 *
+	 * @param columnIndex
+	 * @return value or null
+	 */
+	public String getString(int columnIndex) {
+		checkColumnIndex(columnIndex);
+		if (valueStarts[columnIndex] < 0) {
+			return null;
+		} else {
+			return rowBuffer.substring(valueStarts[columnIndex], valueEnds[columnIndex]);
+		}
+	}
+
+	/**
+	 * Get the length of the value of a column
+	 *
+	 * @param columnIndex
+	 * @return length or -1 for null values
+	 */
+	public int getLength(int columnIndex) {
+		checkColumnIndex(columnIndex);
+		if (valueStarts[columnIndex] < 0) {
+			return -1;
+		} else {
+			return valueEnds[columnIndex] - valueStarts[columnIndex];
+		}
+	}
+
+	/**
+	 * Parse the value of a column as int without creating a String
+	 *
+	 * @param columnIndex
+	 * @return
+	 * @throws NumberFormatException
+	 *             for null and empty values and values with invalid syntax
+	 */
+	public int getInt(int columnIndex) throws NumberFormatException {
+		checkNotNull(columnIndex);
+		return NumberUtilities.parseInt(rowBuffer, valueStarts[columnIndex], valueEnds[columnIndex]);
+	}
+
+	/**
+	 * Parse the value of a column as long without creating a String
+	 *
+	 * @param columnIndex
+	 * @return
+	 * @throws NumberFormatException
+	 *             for null and empty values and values with invalid syntax
+	 */
+	public long getLong(int columnIndex) throws NumberFormatException {
+		checkNotNull(columnIndex);
+		return NumberUtilities.parseLong(rowBuffer, valueStarts[columnIndex], valueEnds[columnIndex]);
+	}
+
+	/**
+	 * Parse the value of a column as double, simple decimal values are parsed without creating a String
+	 *
+	 * @param columnIndex
+	 * @return
+	 * @throws NumberFormatException
+	 *             for null and empty values and values with invalid syntax
+	 */
+	public double getDouble(int columnIndex) throws NumberFormatException {
+		checkNotNull(columnIndex);
+		return NumberUtilities.parseDouble(rowBuffer, valueStarts[columnIndex], valueEnds[columnIndex]);
+	}
+
+	/**
+	 * Get all values of the current csv line as new Strings
+	 */
+	public List<String> toList() {
+		List<String> returnList = new ArrayList<String>(size);
+		for (int i = 0; i < size; i++) {
+			returnList.add(valueStarts[i] < 0 ? null : rowBuffer.substring(valueStarts[i], valueEnds[i]));
+		}
+		return returnList;
+	}
+
+	@Override
+	public String toString() {
+		return toList().toString();
+	}
+
+	void clear(int newCsvLineNumber) {
+		size = 0;
+		csvLineNumber = newCsvLineNumber;
+	}
+
+	void addValue(int start, int end) {
+		if (size == valueStarts.length) {
+			int[] newValueStarts = new int[size * 2];
+			int[] newValueEnds = new int[size * 2];
+			System.arraycopy(valueStarts, 0, newValueStarts, 0, size);
+			System.arraycopy(valueEnds, 0, newValueEnds, 0, size);
+			valueStarts = newValueStarts;
+			valueEnds = newValueEnds;
+		}
+		valueStarts[size] = start;
+		valueEnds[size] = end;
+		size++;
+	}
+
+	void addNullValue() {
+		addValue(-1, -1);
+	}
+
+	/**
+	 * Remove the values of all not selected columns
+	 */
+	void retainValues(boolean[] selectedColumns) {
+		int newSize = 0;
+		for (int i = 0; i < size; i++) {
+			if (i < selectedColumns.length && selectedColumns[i]) {
+				valueStarts[newSize] = valueStarts[i];
+				valueEnds[newSize] = valueEnds[i];
+				newSize++;
+			}
+		}
+		size = newSize;
+	}
+
+	private void checkColumnIndex(int columnIndex) {
+		if (columnIndex < 0 || columnIndex >= size) {
+			throw new IndexOutOfBoundsException("Invalid column index " + columnIndex + " for csv line " + csvLineNumber + " with " + size + " values");
+		}
+	}
+
+	private void checkNotNull(int columnIndex) {
+		checkColumnIndex(columnIndex);
+		if (valueStarts[columnIndex] < 0) {
+			throw new NumberFormatException("Null value in column " + columnIndex + " of csv line " + csvLineNumber);
+		}
+	}
+
+	/**
+	 * CharSequence view on the current value of a column
+	 */
+	private class CsvValue implements CharSequence {
+		private final int columnIndex;
+
+		public CsvValue(int columnIndex) {
+			this.columnIndex = columnIndex;
+		}
+
+		@Override
+		public int length() {
+			return valueEnds[columnIndex] - valueStarts[columnIndex];
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0 || index >= length()) {
+				throw new IndexOutOfBoundsException("Invalid index: " + index);
+			}
+			return rowBuffer.charAt(valueStarts[columnIndex] + index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if (start < 0 || end > length() || start > end) {
+				throw new IndexOutOfBoundsException("Invalid range: " + start + " - " + end);
+			}
+			return rowBuffer.substring(valueStarts[columnIndex] + start, valueStarts[columnIndex] + end);
+		}
+
+		@Override
+		public String toString() {
+			return rowBuffer.substring(valueStarts[columnIndex], valueEnds[columnIndex]);
+		}
+	}
+}
@@ -1,18 +1,22 @@
 package de.soderer.utilities.csv;
 
-import java.io.BufferedWriter;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.List;
 
+import de.soderer.utilities.AsyncBufferedWriter;
 import de.soderer.utilities.csv.CsvFormat.QuoteMode;
 
 /**
  * The Class CsvWriter.
+ *
+ * Csv lines may be written as lists of values or field by field with the row builder methods writeField(...) and endRow(),
+ * which escape the values in a single pass directly into the output buffer without creating intermediate Strings.
  */
 public class CsvWriter implements Closeable {
 	/** CSV data format definition */
@@ -21,6 +25,15 @@ public class CsvWriter implements Closeable {
 	/** Default output encoding. */
 	public static final String DEFAULT_ENCODING = "UTF-8";
 
+	/** Size of the character output buffer */
+	private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+	/** Characters of number values, which are written without check for quotation, if they are not used as separator or stringquote */
+	private static final String NUMBER_CHARACTERS = "0123456789-.E";
+
+	/** Double values with a higher absolute value are not written by the integral fast path */
+	private static final double MAXIMUM_INTEGRAL_FAST_PATH_DOUBLE = 1e7;
+
 	/** Current output separator as string for internal use. */
 	private String separatorString;
 
@@ -43,7 +56,29 @@ public class CsvWriter implements Closeable {
 	private int numberOfColumns = -1;
 
 	/** Output writer. */
-	private BufferedWriter outputWriter = null;
+	private Writer outputWriter = null;
+
+	/** Encode and write output data by a background thread */
+	private boolean asynchronousOutput = false;
+
+	/** Character output buffer */
+	private final char[] outputBuffer = new char[OUTPUT_BUFFER_SIZE];
+
+	/** Number of characters in the output buffer */
+	private int outputBufferLength = 0;
+
+	/** Number of values written in the current csv line by the row builder methods */
+	private int currentRowValues = 0;
+
+	/** Settings of the csv format precomputed for the output of values */
+	private char separator;
+	private char stringQuote;
+	private char stringQuoteEscapeCharacter;
+	private String lineBreak;
+	private boolean quoteAllData;
+	private boolean quoteStrings;
+	private boolean quoteIfNeeded;
+	private boolean numbersNeedQuotationCheck;
 
 	/** Minimum sizes of columns for beautification */
 	private int[] minimumColumnSizes = null;
@@ -126,12 +161,9 @@ public class CsvWriter implements Closeable {
 	 *            the line break
 	 */
 	public CsvWriter(OutputStream outputStream, Charset encoding, CsvFormat csvFormat) {
-		this.csvFormat = csvFormat;
 		this.outputStream = outputStream;
 		this.encoding = encoding;
-		separatorString = Character.toString(csvFormat.getSeparator());
-		stringQuoteString = Character.toString(csvFormat.getStringQuote());
-		escapedStringQuoteString = csvFormat.getStringQuoteEscapeCharacter() + stringQuoteString;
+		setCsvFormat(csvFormat);
 
 		if (this.encoding == null) {
 			throw new IllegalArgumentException("Encoding is null");
@@ -156,9 +188,35 @@ public class CsvWriter implements Closeable {
 	 */
 	public CsvWriter setCsvFormat(CsvFormat csvFormat) {
 		this.csvFormat = csvFormat;
+		separatorString = Character.toString(csvFormat.getSeparator());
+		stringQuoteString = Character.toString(csvFormat.getStringQuote());
+		escapedStringQuoteString = csvFormat.getStringQuoteEscapeCharacter() + stringQuoteString;
+
+		separator = csvFormat.getSeparator();
+		stringQuote = csvFormat.getStringQuote();
+		stringQuoteEscapeCharacter = csvFormat.getStringQuoteEscapeCharacter();
+		lineBreak = csvFormat.getLineBreak();
+		quoteAllData = csvFormat.getQuoteMode() == QuoteMode.QUOTE_ALL_DATA;
+		quoteStrings = csvFormat.getQuoteMode() == QuoteMode.QUOTE_STRINGS;
+		quoteIfNeeded = csvFormat.getQuoteMode() == QuoteMode.QUOTE_IF_NEEDED;
+		numbersNeedQuotationCheck = NUMBER_CHARACTERS.indexOf(separator) >= 0 || NUMBER_CHARACTERS.indexOf(stringQuote) >= 0;
 		return this;
 	}
 
+	/**
+	 * Encode and write the output data by a background thread with a bounded ring of buffers, so formatting and blocking I/O overlap, e.g. JDBC fetching and disk writes.
+	 * Errors of the background thread are thrown on the next call of a write method or flush(), and by close() wrapped in a RuntimeException.
+	 * Must be set before the first output.
+	 *
+	 * @param asynchronousOutput
+	 */
+	public void setAsynchronousOutput(boolean asynchronousOutput) {
+		if (outputWriter != null) {
+			throw new IllegalStateException("CsvWriter output was already started");
+		}
+		this.asynchronousOutput = asynchronousOutput;
+	}
+
 	/**
 	 * Write a single line of data entries.
 	 *
@@ -182,39 +240,321 @@ public class CsvWriter implements Closeable {
 	 *             Signals that an I/O exception has occurred.
 	 */
 	public void writeValues(List<? extends Object> values) throws CsvDataException, IOException {
-		if (numberOfColumns != -1 && (values == null || numberOfColumns != values.size())) {
+		if (currentRowValues > 0) {
+			throw new IllegalStateException("Csv line started by writeField was not ended by endRow");
+		} else if (numberOfColumns != -1 && (values == null || numberOfColumns != values.size())) {
 			throw new CsvDataException(
 					"Inconsistent number of values after " + writtenLines + " written lines (expected: " + numberOfColumns + " was: " + (values == null ? "null" : values.size()) + ")", writtenLines);
 		}
 
+		checkOutputWriter();
+
+		for (int i = 0; i < values.size(); i++) {
+			if (i > 0) {
+				appendCharacter(separator);
+			}
+
+			if (minimumColumnSizes != null && minimumColumnSizes.length > i) {
+				appendPaddedValue(values.get(i), i);
+			} else {
+				appendValue(values.get(i));
+			}
+		}
+		appendText(lineBreak);
+
+		writtenLines++;
+		numberOfColumns = values.size();
+	}
+
+	/**
+	 * Write the next value of the current csv line.
+	 * The value is quoted like a String value of writeValues().
+	 *
+	 * @param value
+	 *            the value, null is written as empty value
+	 * @throws CsvDataException
+	 * @throws IOException
+	 */
+	public void writeField(CharSequence value) throws CsvDataException, IOException {
+		startField();
+		if (minimumColumnSizes != null && minimumColumnSizes.length > currentRowValues) {
+			appendPaddedValue(value == null ? null : value.toString(), currentRowValues);
+		} else {
+			appendEscapedText(value == null ? "" : value, quoteAllData || (quoteStrings && value != null));
+		}
+		currentRowValues++;
+	}
+
+	/**
+	 * Write the next value of the current csv line.
+	 * The value is quoted like a number value of writeValues().
+	 *
+	 * @param value
+	 * @throws CsvDataException
+	 * @throws IOException
+	 */
+	public void writeField(long value) throws CsvDataException, IOException {
+		startField();
+		if (minimumColumnSizes != null && minimumColumnSizes.length > currentRowValues) {
+			appendPaddedValue(value, currentRowValues);
+		} else if (numbersNeedQuotationCheck) {
+			appendEscapedText(Long.toString(value), quoteAllData);
+		} else {
+			if (quoteAllData) {
+				appendCharacter(stringQuote);
+			}
+			appendLong(value);
+			if (quoteAllData) {
+				appendCharacter(stringQuote);
+			}
+		}
+		currentRowValues++;
+	}
+
+	/**
+	 * Write the next value of the current csv line.
+	 * The value is formatted by Double.toString() and quoted like a number value of writeValues().
+	 *
+	 * @param value
+	 * @throws CsvDataException
+	 * @throws IOException
+	 */
+	public void writeField(double value) throws CsvDataException, IOException {
+		startField();
+		if (minimumColumnSizes != null && minimumColumnSizes.length > currentRowValues) {
+			appendPaddedValue(value, currentRowValues);
+		} else if (numbersNeedQuotationCheck
+				|| value != Math.rint(value)
+				|| Math.abs(value) >= MAXIMUM_INTEGRAL_FAST_PATH_DOUBLE
+				|| (value == 0.0 && 1.0 / value < 0)) {
+			appendEscapedText(Double.toString(value), quoteAllData);
+		} else {
+			// Integral values are formatted like Double.toString() without creating a String, e.g. "12.0"
+			if (quoteAllData) {
+				appendCharacter(stringQuote);
+			}
+			appendLong((long) value);
+			appendCharacter('.');
+			appendCharacter('0');
+			if (quoteAllData) {
+				appendCharacter(stringQuote);
+			}
+		}
+		currentRowValues++;
+	}
+
+	/**
+	 * Write the next value of the current csv line.
+	 * The value is quoted like a value of writeValues().
+	 *
+	 * @param value
+	 *            the value, null is written as empty value
+	 * @throws CsvDataException
+	 * @throws IOException
+	 */
+	public void writeField(Object value) throws CsvDataException, IOException {
+		startField();
+		if (minimumColumnSizes != null && minimumColumnSizes.length > currentRowValues) {
+			appendPaddedValue(value, currentRowValues);
+		} else {
+			appendValue(value);
+		}
+		currentRowValues++;
+	}
+
+	/**
+	 * End the current csv line written by writeField(...)
+	 *
+	 * @throws CsvDataException
+	 * @throws IOException
+	 */
+	public void endRow() throws CsvDataException, IOException {
+		if (numberOfColumns != -1 && numberOfColumns != currentRowValues) {
+			int writtenValues = currentRowValues;
+			currentRowValues = 0;
+			throw new CsvDataException("Inconsistent number of values after " + writtenLines + " written lines (expected: " + numberOfColumns + " was: " + writtenValues + ")", writtenLines);
+		}
+
+		checkOutputWriter();
+		appendText(lineBreak);
+
+		writtenLines++;
+		numberOfColumns = currentRowValues;
+		currentRowValues = 0;
+	}
+
+	private void startField() throws CsvDataException, IOException {
+		if (numberOfColumns != -1 && currentRowValues >= numberOfColumns) {
+			throw new CsvDataException("Inconsistent number of values after " + writtenLines + " written lines (expected: " + numberOfColumns + " was: " + (currentRowValues + 1) + ")", writtenLines);
+		}
+
+		checkOutputWriter();
+		if (currentRowValues > 0) {
+			appendCharacter(separator);
+		}
+	}
+
+	private void checkOutputWriter() {
 		if (outputWriter == null) {
 			if (outputStream == null) {
 				throw new IllegalStateException("CsvWriter is already closed");
 			}
-			outputWriter = new BufferedWriter(new OutputStreamWriter(outputStream, encoding));
+			if (asynchronousOutput) {
+				outputWriter = new AsyncBufferedWriter(outputStream, encoding);
+			} else {
+				outputWriter = new OutputStreamWriter(outputStream, encoding);
+			}
 		}
+	}
 
-		for (int i = 0; i < values.size(); i++) {
-			if (i > 0) {
-				outputWriter.write(csvFormat.getSeparator());
-			}
+	/**
+	 * Write a value like escapeValue() does, but without creating an escaped String
+	 */
+	private void appendValue(Object value) throws CsvDataException, IOException {
+		if (value == null) {
+			appendEscapedText("", quoteAllData);
+		} else if (value instanceof String) {
+			appendEscapedText((String) value, quoteAllData || quoteStrings);
+		} else {
+			appendEscapedText(value.toString(), quoteAllData);
+		}
+	}
 
-			String escapedValue = escapeValue(values.get(i));
+	private void appendPaddedValue(Object value, int columnIndex) throws CsvDataException, IOException {
+		String escapedValue = escapeValue(value);
+		if (columnPaddings != null && columnPaddings.length > columnIndex && columnPaddings[columnIndex]) {
+			escapedValue = rightPad(escapedValue, minimumColumnSizes[columnIndex]);
+		} else {
+			escapedValue = leftPad(escapedValue, minimumColumnSizes[columnIndex]);
+		}
+		appendText(escapedValue);
+	}
 
-			if (minimumColumnSizes != null && minimumColumnSizes.length > i) {
-				if (columnPaddings != null && columnPaddings.length > i && columnPaddings[i]) {
-					escapedValue = rightPad(escapedValue, minimumColumnSizes[i]);
-				} else {
-					escapedValue = leftPad(escapedValue, minimumColumnSizes[i]);
+	/**
+	 * Write a value with stringquotes as configured in a single pass.
+	 * Unquoted values are copied until a character needing quotation is found, then the already copied characters are moved behind an inserted stringquote.
+	 *
+	 * @param value
+	 * @param quote
+	 *            quotation is already known to be needed
+	 */
+	private void appendEscapedText(CharSequence value, boolean quote) throws CsvDataException, IOException {
+		int length = value.length();
+		int index = 0;
+		if (quote) {
+			appendCharacter(stringQuote);
+		} else if (length <= outputBuffer.length / 2) {
+			if (outputBuffer.length - outputBufferLength < length + 2) {
+				flushOutputBuffer();
+			}
+			int valueStart = outputBufferLength;
+			for (; index < length; index++) {
+				char nextChar = value.charAt(index);
+				if (nextChar == stringQuote || nextChar == separator || nextChar == '\r' || nextChar == '\n') {
+					break;
 				}
+				outputBuffer[outputBufferLength++] = nextChar;
 			}
+			if (index == length) {
+				return;
+			} else if (!quoteIfNeeded) {
+				outputBufferLength = valueStart;
+				throw new CsvDataException("StringQuote was deactivated but is needed for csv-value after " + writtenLines + " written lines", writtenLines);
+			} else {
+				System.arraycopy(outputBuffer, valueStart, outputBuffer, valueStart + 1, index);
+				outputBuffer[valueStart] = stringQuote;
+				outputBufferLength++;
+			}
+		} else if (!needsQuotation(value)) {
+			// Too large for moving within the output buffer
+			appendText(value);
+			return;
+		} else if (!quoteIfNeeded) {
+			throw new CsvDataException("StringQuote was deactivated but is needed for csv-value after " + writtenLines + " written lines", writtenLines);
+		} else {
+			appendCharacter(stringQuote);
+		}
 
-			outputWriter.write(escapedValue);
+		for (; index < length; index++) {
+			if (outputBufferLength + 2 > outputBuffer.length) {
+				flushOutputBuffer();
+			}
+			char nextChar = value.charAt(index);
+			if (nextChar == stringQuote) {
+				outputBuffer[outputBufferLength++] = stringQuoteEscapeCharacter;
+			}
+			outputBuffer[outputBufferLength++] = nextChar;
 		}
-		outputWriter.write(csvFormat.getLineBreak());
+		appendCharacter(stringQuote);
+	}
 
-		writtenLines++;
-		numberOfColumns = values.size();
+	private boolean needsQuotation(CharSequence value) {
+		for (int i = 0; i < value.length(); i++) {
+			char nextChar = value.charAt(i);
+			if (nextChar == stringQuote || nextChar == separator || nextChar == '\r' || nextChar == '\n') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void appendLong(long value) throws IOException {
+		if (value == Long.MIN_VALUE) {
+			appendText(Long.toString(value));
+			return;
+		}
+
+		if (outputBuffer.length - outputBufferLength < 20) {
+			flushOutputBuffer();
+		}
+		if (value < 0) {
+			outputBuffer[outputBufferLength++] = '-';
+			value = -value;
+		}
+		int digits = 1;
+		for (long rest = value / 10; rest > 0; rest /= 10) {
+			digits++;
+		}
+		int position = outputBufferLength + digits;
+		outputBufferLength = position;
+		do {
+			outputBuffer[--position] = (char) ('0' + (value % 10));
+			value /= 10;
+		} while (value > 0);
+	}
+
+	private void appendCharacter(char character) throws IOException {
+		if (outputBufferLength == outputBuffer.length) {
+			flushOutputBuffer();
+		}
+		outputBuffer[outputBufferLength++] = character;
+	}
+
+	private void appendText(CharSequence text) throws IOException {
+		int length = text.length();
+		if (length > outputBuffer.length) {
+			flushOutputBuffer();
+			outputWriter.append(text);
+		} else {
+			if (outputBuffer.length - outputBufferLength < length) {
+				flushOutputBuffer();
+			}
+			if (text instanceof String) {
+				((String) text).getChars(0, length, outputBuffer, outputBufferLength);
+				outputBufferLength += length;
+			} else {
+				for (int i = 0; i < length; i++) {
+					outputBuffer[outputBufferLength++] = text.charAt(i);
+				}
+			}
+		}
+	}
+
+	private void flushOutputBuffer() throws IOException {
+		if (outputBufferLength > 0) {
+			outputWriter.write(outputBuffer, 0, outputBufferLength);
+			outputBufferLength = 0;
+		}
 	}
 
 	/**
@@ -300,10 +640,41 @@ public class CsvWriter implements Closeable {
 	 */
 	@Override
 	public void close() {
-		closeQuietly(outputWriter);
-		outputWriter = null;
-		closeQuietly(outputStream);
-		outputStream = null;
+		if (outputWriter instanceof AsyncBufferedWriter) {
+			// Errors of asynchronous output would be lost otherwise
+			IOException outputError = null;
+			try {
+				flushOutputBuffer();
+			} catch (IOException e) {
+				outputError = e;
+			}
+			try {
+				outputWriter.close();
+			} catch (IOException e) {
+				if (outputError == null) {
+					outputError = e;
+				}
+			}
+			outputWriter = null;
+			closeQuietly(outputStream);
+			outputStream = null;
+
+			if (outputError != null) {
+				throw new RuntimeException("Cannot write csv data: " + outputError.getMessage(), outputError);
+			}
+		} else {
+			if (outputWriter != null) {
+				try {
+					flushOutputBuffer();
+				} catch (IOException e) {
+					// Do nothing
+				}
+			}
+			closeQuietly(outputWriter);
+			outputWriter = null;
+			closeQuietly(outputStream);
+			outputStream = null;
+		}
 	}
 
 	/**
@@ -323,6 +694,7 @@ public class CsvWriter implements Closeable {
 	 */
 	public void flush() throws IOException {
 		if (outputWriter != null) {
+			flushOutputBuffer();
 			outputWriter.flush();
 		}
 	}
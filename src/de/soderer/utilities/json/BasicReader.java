@@ -1,22 +1,33 @@
 package de.soderer.utilities.json;
 
-import java.io.BufferedReader;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
+/**
+ * Basic character reader for the text format readers.
+ *
+ * Characters are decoded blockwise into a reusable character buffer, which is scanned by primitive loops.
+ * The boxed Character methods are kept for compatibility, performance critical readers should use the int based methods,
+ * which signal the end of data by -1.
+ */
 public abstract class BasicReader implements Closeable {
 	/** UTF-8 BOM (Byte Order Mark) character for readers. */
 	public static final char BOM_UTF_8_CHAR = (char) 65279;
-	
+
 	/** UTF-8 BOM (Byte Order Mark) first character for wrong encoding ISO-8859. */
 	public static final char BOM_UTF_8_CHAR_ISO_8859 = (char) 239;
-	
+
 	/** Default input encoding. */
 	public static final String DEFAULT_ENCODING = "UTF-8";
-	
+
+	/** Default size of the character buffer */
+	public static final int DEFAULT_READ_BUFFER_SIZE = 64 * 1024;
+
 	/** Input stream. */
 	private InputStream inputStream;
 
@@ -24,165 +35,350 @@ public abstract class BasicReader implements Closeable {
 	private Charset encoding;
 
 	/** Input reader. */
-	private BufferedReader inputReader = null;
-	
-	private Character currentChar;
-	private Character reuseChar = null;
+	private Reader inputReader = null;
+
+	/** Size of the character buffer */
+	private final int readBufferSize;
+
+	/** Character buffer for decoded input data, which is created on first use */
+	private char[] readBuffer = null;
+
+	/** Index of the next character to be read in the character buffer */
+	private int readBufferPosition = 0;
+
+	/** Number of valid characters in the character buffer */
+	private int readBufferLength = 0;
+
+	/** Set after the first block of data was read and checked for BOM */
+	private boolean dataStarted = false;
+
+	/** Current character or -1 for end of data */
+	private int currentChar = -1;
+
+	/** Last character read from the input, used for detection of "\r\n" linebreaks */
+	private int lastReadChar = -1;
+
+	/** Return the current character once again on next read */
+	private boolean reuseCurrentChar = false;
+
+	/** Reused buffer for text values */
+	private final StringBuilder textBuffer = new StringBuilder();
+
 	private long readCharacters = 0;
 	private long readLines = 0;
 
 	public BasicReader(InputStream inputStream) throws Exception {
 		this(inputStream, (String) null);
 	}
-	
+
 	public BasicReader(InputStream inputStream, String encoding) throws Exception {
 		this(inputStream, isBlank(encoding) ? Charset.forName(DEFAULT_ENCODING) : Charset.forName(encoding));
 	}
-	
+
 	public BasicReader(InputStream inputStream, Charset encodingCharset) throws Exception {
+		this(inputStream, encodingCharset, DEFAULT_READ_BUFFER_SIZE);
+	}
+
+	public BasicReader(InputStream inputStream, Charset encodingCharset, int readBufferSize) throws Exception {
 		if (inputStream == null) {
 			throw new Exception("Invalid empty inputStream");
+		} else if (readBufferSize <= 0) {
+			throw new Exception("Invalid read buffer size: " + readBufferSize);
 		}
 		this.inputStream = inputStream;
 		this.encoding = encodingCharset == null ? Charset.forName(DEFAULT_ENCODING) : encodingCharset;
+		this.readBufferSize = readBufferSize;
 	}
-	
+
 	public long getReadCharacters() {
 		return readCharacters;
 	}
-	
+
 	public long getReadLines() {
 		return readLines;
 	}
-	
+
+	public Charset getEncoding() {
+		return encoding;
+	}
+
+	/**
+	 * Get the input stream for byte level processing, which is only possible as long as no characters were decoded.
+	 *
+	 * @return input stream
+	 */
+	protected InputStream getUndecodedInputStream() {
+		if (inputStream == null) {
+			throw new IllegalStateException("Reader is already closed");
+		} else if (inputReader != null) {
+			throw new IllegalStateException("Characters were already decoded from input stream");
+		}
+		return inputStream;
+	}
+
 	public void reuseCurrentChar() {
-		reuseChar = currentChar;
+		reuseCurrentChar = true;
 		readCharacters--;
 	}
 
+	/**
+	 * Read the next character.
+	 *
+	 * @return next character or null at the end of data
+	 * @throws IOException
+	 */
 	protected Character readNextCharacter() throws IOException {
-		if (inputReader == null) {
-			if (inputStream == null) {
-				throw new IllegalStateException("Reader is already closed");
-			}
-			inputReader = new BufferedReader(new InputStreamReader(inputStream, encoding));
-		}
-		
-		if (reuseChar != null) {
-			currentChar = reuseChar;
-			reuseChar = null;
+		int nextChar = readNextChar();
+		return nextChar == -1 ? null : Character.valueOf((char) nextChar);
+	}
+
+	/**
+	 * Read the next character without boxing.
+	 *
+	 * @return next character or -1 at the end of data
+	 * @throws IOException
+	 */
+	protected int readNextChar() throws IOException {
+		if (reuseCurrentChar) {
+			reuseCurrentChar = false;
 			readCharacters++;
 			return currentChar;
+		} else if (readBufferPosition >= readBufferLength && !fillReadBuffer()) {
+			currentChar = -1;
+			return -1;
 		} else {
-			int currentCharInt = inputReader.read();
-			if (currentCharInt != -1) {
-				// Check for UTF-8 BOM at data start
-				if (readCharacters == 0 && currentCharInt == BOM_UTF_8_CHAR && encoding == Charset.forName("UTF-8")) {
-					return readNextCharacter();
-				} else if (readCharacters == 0 && currentCharInt == BOM_UTF_8_CHAR_ISO_8859 && encoding.displayName().toUpperCase().startsWith("ISO-8859-")) {
-					throw new IOException("Data encoding \"" + encoding + "\" is invalid: UTF-8 BOM detected");
-				} else {
-					char nextChar = (char) currentCharInt;
-					readCharacters++;
-					if (nextChar == '\r' || (nextChar == '\n' && currentCharInt != '\r')) {
-						readLines++;
-					}
-					currentChar = nextChar;
-				}
-			} else {
-				currentChar = null;
+			char nextChar = readBuffer[readBufferPosition++];
+			readCharacters++;
+			if (nextChar == '\r' || (nextChar == '\n' && lastReadChar != '\r')) {
+				readLines++;
 			}
-			
-			return currentChar;
+			lastReadChar = nextChar;
+			currentChar = nextChar;
+			return nextChar;
 		}
 	}
 
 	protected Character readNextNonWhitespace() throws Exception {
-		readNextCharacter();
-		while (currentChar != null && Character.isWhitespace(currentChar) ) {
-			readNextCharacter();
+		int nextChar = readNextNonWhitespaceChar();
+		return nextChar == -1 ? null : Character.valueOf((char) nextChar);
+	}
+
+	/**
+	 * Read the next non whitespace character without boxing.
+	 *
+	 * @return next non whitespace character or -1 at the end of data
+	 * @throws IOException
+	 */
+	protected int readNextNonWhitespaceChar() throws IOException {
+		int nextChar = readNextChar();
+		while (nextChar != -1 && Character.isWhitespace(nextChar)) {
+			nextChar = readNextChar();
+		}
+		return nextChar;
+	}
+
+	/**
+	 * Append all characters up to the next occurrence of any of the stop characters to the target.
+	 * The stop character itself is consumed and returned, but not appended.
+	 *
+	 * @param target
+	 *            buffer for the read characters or null to skip them
+	 * @param stopChars
+	 *            characters to stop at
+	 * @return the found stop character or -1 at the end of data
+	 * @throws IOException
+	 */
+	protected int readUpToNextChar(StringBuilder target, char[] stopChars) throws IOException {
+		if (reuseCurrentChar) {
+			int nextChar = readNextChar();
+			if (nextChar == -1 || contains(stopChars, (char) nextChar)) {
+				return nextChar;
+			} else if (target != null) {
+				target.append((char) nextChar);
+			}
+		}
+
+		while (true) {
+			if (readBufferPosition >= readBufferLength && !fillReadBuffer()) {
+				currentChar = -1;
+				return -1;
+			}
+
+			final char[] buffer = readBuffer;
+			final int start = readBufferPosition;
+			final int end = readBufferLength;
+			int position = start;
+			int previousChar = lastReadChar;
+			scan: while (position < end) {
+				char nextChar = buffer[position];
+				for (char stopChar : stopChars) {
+					if (nextChar == stopChar) {
+						break scan;
+					}
+				}
+				if (nextChar == '\r' || (nextChar == '\n' && previousChar != '\r')) {
+					readLines++;
+				}
+				previousChar = nextChar;
+				position++;
+			}
+
+			if (position > start) {
+				if (target != null) {
+					target.append(buffer, start, position - start);
+				}
+				readCharacters += position - start;
+				readBufferPosition = position;
+				lastReadChar = previousChar;
+				currentChar = previousChar;
+			}
+
+			if (position < end) {
+				return readNextChar();
+			}
 		}
-		return currentChar;
 	}
 
 	protected String readUpToNext(boolean includeLimitChars, Character escapeCharacter, char... endChars) throws Exception {
+		readUpToNextIntoTextBuffer(includeLimitChars, escapeCharacter, endChars);
+		return textBuffer.toString();
+	}
+
+	protected String readQuotedText(char quoteChar, Character escapeCharacter) throws Exception {
+		if (currentChar != quoteChar) {
+			throw new Exception("Invalid start of double-quoted text");
+		}
+
+		readUpToNextIntoTextBuffer(true, escapeCharacter, quoteChar);
+		return textBuffer.substring(1, textBuffer.length() - 1);
+	}
+
+	private void readUpToNextIntoTextBuffer(boolean includeLimitChars, Character escapeCharacter, char... endChars) throws Exception {
 		if (anyCharsAreEqual(endChars)) {
 			throw new Exception("Invalid limit characters");
 		} else if (contains(endChars, escapeCharacter)) {
 			throw new Exception("Invalid escape characters");
 		}
-		
-		StringBuilder returnValue = new StringBuilder();
-		returnValue.append(currentChar);
-		boolean escapeNextCharacter = false;
+
+		char[] stopChars;
+		if (escapeCharacter == null) {
+			stopChars = endChars;
+		} else {
+			stopChars = new char[endChars.length + 1];
+			System.arraycopy(endChars, 0, stopChars, 0, endChars.length);
+			stopChars[endChars.length] = escapeCharacter;
+		}
+
+		textBuffer.setLength(0);
+		if (currentChar != -1) {
+			textBuffer.append((char) currentChar);
+		}
 		while (true) {
-			readNextCharacter();
-			if (currentChar == null) {
-				return returnValue.toString();
-			} else if (!escapeNextCharacter) {
-				if (escapeCharacter != null && escapeCharacter == currentChar) {
-					escapeNextCharacter = true;
-				} else {
-					for (char endChar : endChars) {
-						if (endChar == currentChar) {
-							if (includeLimitChars) {
-								returnValue.append(currentChar);
-							} else {
-								reuseCurrentChar();
-							}
-							return returnValue.toString();
-						}
-					}
-					returnValue.append(currentChar);
+			int nextChar = readUpToNextChar(textBuffer, stopChars);
+			if (nextChar == -1) {
+				return;
+			} else if (escapeCharacter != null && escapeCharacter == nextChar) {
+				int escapedChar = readEscapedCharacter(escapeCharacter);
+				if (escapedChar == -1) {
+					// Escape character at the end of data is ignored
+					return;
 				}
+				textBuffer.append((char) escapedChar);
 			} else {
-				escapeNextCharacter = false;
-				if (escapeCharacter == currentChar) {
-					currentChar = escapeCharacter;
-				} else if ('"' == currentChar) {
-					currentChar = '"';
-				} else if ('\'' == currentChar) {
-					// Single quotes should not be escaped, but we allow them here for user convenience
-					currentChar = '\'';
-				} else if ('/' == currentChar) {
-					currentChar = '/';
-				} else if ('b' == currentChar) {
-					currentChar = '\b';
-				} else if ('f' == currentChar) {
-					currentChar = '\f';
-				} else if ('n' == currentChar) {
-					currentChar = '\n';
-				} else if ('r' == currentChar) {
-					currentChar = '\r';
-				} else if ('t' == currentChar) {
-					currentChar = '\t';
-				} else if ('u' == currentChar) {
-					// Java encoded character
-					StringBuilder unicode = new StringBuilder();
-					for (int i = 0; i < 4; i++) {
-						Character hexDigit = readNextCharacter();
-						if (hexDigit == null || Character.digit(hexDigit, 16) == -1) {
-							throw new Exception("Invalid unicode sequence at character: " + getReadCharacters());
-						}
-						unicode.append(hexDigit);
-					}
-					int value = Integer.parseInt(unicode.toString(), 16);
-					currentChar = (char) value;
+				if (includeLimitChars) {
+					textBuffer.append((char) nextChar);
 				} else {
-					throw new Exception("Invalid escape sequence at character: " + getReadCharacters());
+					reuseCurrentChar();
 				}
-				returnValue.append(currentChar);
+				return;
 			}
 		}
 	}
 
-	protected String readQuotedText(char quoteChar, Character escapeCharacter) throws Exception {
-		if (currentChar != quoteChar) {
-			throw new Exception("Invalid start of double-quoted text");
+	/**
+	 * Read the character following an escape character and return its unescaped value or -1 at the end of data
+	 */
+	private int readEscapedCharacter(char escapeCharacter) throws Exception {
+		int nextChar = readNextChar();
+		if (nextChar == -1) {
+			return -1;
+		} else if (nextChar == escapeCharacter) {
+			return escapeCharacter;
+		} else if ('"' == nextChar) {
+			return '"';
+		} else if ('\'' == nextChar) {
+			// Single quotes should not be escaped, but we allow them here for user convenience
+			return '\'';
+		} else if ('/' == nextChar) {
+			return '/';
+		} else if ('b' == nextChar) {
+			return '\b';
+		} else if ('f' == nextChar) {
+			return '\f';
+		} else if ('n' == nextChar) {
+			return '\n';
+		} else if ('r' == nextChar) {
+			return '\r';
+		} else if ('t' == nextChar) {
+			return '\t';
+		} else if ('u' == nextChar) {
+			// Java encoded character
+			int value = 0;
+			for (int i = 0; i < 4; i++) {
+				int hexDigit = readNextChar();
+				int hexDigitValue = hexDigit == -1 ? -1 : Character.digit(hexDigit, 16);
+				if (hexDigitValue == -1) {
+					throw new Exception("Invalid unicode sequence at character: " + getReadCharacters());
+				}
+				value = (value << 4) + hexDigitValue;
+			}
+			return (char) value;
+		} else {
+			throw new Exception("Invalid escape sequence at character: " + getReadCharacters());
+		}
+	}
+
+	/**
+	 * Read the next block of data into the character buffer.
+	 *
+	 * @return false at the end of data
+	 * @throws IOException
+	 */
+	private boolean fillReadBuffer() throws IOException {
+		if (inputReader == null) {
+			if (inputStream == null) {
+				throw new IllegalStateException("Reader is already closed");
+			}
+			inputReader = new InputStreamReader(inputStream, encoding);
+			readBuffer = new char[readBufferSize];
+		}
+
+		int readChars = inputReader.read(readBuffer, 0, readBuffer.length);
+		while (readChars == 0) {
+			readChars = inputReader.read(readBuffer, 0, readBuffer.length);
+		}
+		if (readChars == -1) {
+			readBufferPosition = 0;
+			readBufferLength = 0;
+			return false;
+		} else {
+			readBufferPosition = 0;
+			readBufferLength = readChars;
+
+			if (!dataStarted) {
+				dataStarted = true;
+				// Check for UTF-8 BOM at data start
+				if (readBuffer[0] == BOM_UTF_8_CHAR && StandardCharsets.UTF_8.equals(encoding)) {
+					readBufferPosition = 1;
+					if (readBufferLength == 1) {
+						return fillReadBuffer();
+					}
+				} else if (readBuffer[0] == BOM_UTF_8_CHAR_ISO_8859 && encoding.displayName().toUpperCase().startsWith("ISO-8859-")) {
+					throw new IOException("Data encoding \"" + encoding + "\" is invalid: UTF-8 BOM detected");
+				}
+			}
+			return true;
 		}
-		
-		String returnValue = readUpToNext(true, escapeCharacter, quoteChar);
-		return returnValue.substring(1, returnValue.length() - 1);
 	}
 
 	/**
@@ -193,6 +389,8 @@ public abstract class BasicReader implements Closeable {
 		closeQuietly(inputReader);
 		inputReader = null;
 		inputStream = null;
+		readBufferPosition = 0;
+		readBufferLength = 0;
 	}
 
 	/**
@@ -260,13 +458,23 @@ public abstract class BasicReader implements Closeable {
 		if (characterArray == null || searchCharacter == null) {
 			return false;
 		}
-		
+
+		return contains(characterArray, searchCharacter.charValue());
+	}
+
+	/**
+	 * Check if character array contains specific character
+	 * @param characterArray
+	 * @param searchCharacter
+	 * @return
+	 */
+	private static boolean contains(char[] characterArray, char searchCharacter) {
 		for (char character : characterArray) {
 			if (character == searchCharacter) {
 				return true;
 			}
 		}
-		
+
 		return false;
 	}
 }
@@ -0,0 +1,565 @@
+package de.soderer.utilities.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import de.soderer.utilities.json.JsonReader.JsonToken;
+
+/**
+ * Reader for binary json data written by BinaryJsonWriter, see there for the format.
+ *
+ * The json items are delivered as the same JsonToken stream as JsonReader delivers for text json data.
+ * JsonObjects and JsonArrays can be skipped by their content length without decoding their contents.
+ * Multiple documents in one stream are read one after the other.
+ * Corrupt or truncated data is rejected with an "Invalid binary json data" Exception, lengths are checked before any memory is allocated for them.
+ */
+public class BinaryJsonReader implements Closeable {
+	private InputStream inputStream;
+
+	private byte[] buffer;
+	private int bufferPosition;
+	private int bufferLength;
+	/** Number of bytes of the input in front of buffer[0] */
+	private long bufferOffset;
+
+	/** Property names of the current document */
+	private String[] propertyNames = new String[0];
+	private boolean documentOpen = false;
+
+	/** Input positions behind the contents of all open json items */
+	private long[] openJsonItemEnds = new long[16];
+	private boolean[] openJsonItemIsObject = new boolean[16];
+	private boolean[] propertyKeyExpected = new boolean[16];
+	private int openJsonItemsDepth = 0;
+
+	private Object currentObject = null;
+
+	public BinaryJsonReader(InputStream inputStream) {
+		if (inputStream == null) {
+			throw new IllegalArgumentException("InputStream is null");
+		}
+		this.inputStream = inputStream;
+		buffer = new byte[65536];
+		bufferPosition = 0;
+		bufferLength = 0;
+		bufferOffset = 0;
+	}
+
+	/**
+	 * Read binary json data directly from a byte array without copying it
+	 */
+	public BinaryJsonReader(byte[] data) {
+		this(data, 0, data == null ? 0 : data.length);
+	}
+
+	public BinaryJsonReader(byte[] data, int offset, int length) {
+		if (data == null) {
+			throw new IllegalArgumentException("Data is null");
+		} else if (offset < 0 || length < 0 || offset + length > data.length) {
+			throw new IllegalArgumentException("Invalid data range");
+		}
+		inputStream = null;
+		buffer = data;
+		bufferPosition = offset;
+		bufferLength = offset + length;
+		bufferOffset = -offset;
+	}
+
+	public Object getCurrentObject() {
+		return currentObject;
+	}
+
+	public long getReadBytes() {
+		return bufferOffset + bufferPosition;
+	}
+
+	/**
+	 * Read the next JsonToken. The value of a JsonObject_PropertyKey or JsonSimpleValue is available by getCurrentObject() afterwards.
+	 *
+	 * @return null at the end of data
+	 * @throws Exception
+	 */
+	public JsonToken readNextToken() throws Exception {
+		if (openJsonItemsDepth > 0) {
+			int level = openJsonItemsDepth - 1;
+			long readBytes = getReadBytes();
+			if (readBytes >= openJsonItemEnds[level]) {
+				if (readBytes > openJsonItemEnds[level]) {
+					throw new Exception("Invalid binary json data: Item exceeds its enclosing json item at index " + readBytes);
+				}
+				currentObject = null;
+				openJsonItemsDepth--;
+				if (openJsonItemsDepth == 0) {
+					documentOpen = false;
+				}
+				return openJsonItemIsObject[level] ? JsonToken.JsonObject_Close : JsonToken.JsonArray_Close;
+			} else if (openJsonItemIsObject[level]) {
+				if (propertyKeyExpected[level]) {
+					currentObject = readPropertyName();
+					propertyKeyExpected[level] = false;
+					return JsonToken.JsonObject_PropertyKey;
+				} else {
+					propertyKeyExpected[level] = true;
+				}
+			}
+		} else if (!documentOpen) {
+			if (!readDocumentHeader()) {
+				currentObject = null;
+				return null;
+			}
+		}
+
+		byte tag = readByte();
+		if (tag == BinaryJsonWriter.TAG_JSONOBJECT || tag == BinaryJsonWriter.TAG_JSONARRAY) {
+			long end = readContentLength();
+			pushOpenJsonItem(end, tag == BinaryJsonWriter.TAG_JSONOBJECT);
+			currentObject = null;
+			return tag == BinaryJsonWriter.TAG_JSONOBJECT ? JsonToken.JsonObject_Open : JsonToken.JsonArray_Open;
+		} else {
+			currentObject = readSimpleValue(tag);
+			if (openJsonItemsDepth == 0) {
+				documentOpen = false;
+			}
+			return JsonToken.JsonSimpleValue;
+		}
+	}
+
+	/**
+	 * Skip the remaining contents of the innermost open JsonObject or JsonArray including its closing token without decoding them.
+	 * Called directly after JsonObject_Open or JsonArray_Open was read, the whole json item is skipped.
+	 */
+	public void skipCurrentJsonItem() throws Exception {
+		if (openJsonItemsDepth == 0) {
+			throw new Exception("No open json item to skip");
+		} else {
+			openJsonItemsDepth--;
+			skipBytes(openJsonItemEnds[openJsonItemsDepth] - getReadBytes());
+			if (openJsonItemsDepth == 0) {
+				documentOpen = false;
+			}
+			currentObject = null;
+		}
+	}
+
+	/**
+	 * Read the next json value as JsonNode, which is an item of the current JsonArray or the value of the property key read before
+	 *
+	 * @return false if the end of the current json item is reached, which is not consumed
+	 * @throws Exception
+	 */
+	public boolean readNextJsonNode() throws Exception {
+		if (openJsonItemsDepth > 0) {
+			int level = openJsonItemsDepth - 1;
+			if (getReadBytes() >= openJsonItemEnds[level]) {
+				return false;
+			} else if (openJsonItemIsObject[level] && propertyKeyExpected[level]) {
+				throw new Exception("Invalid read position for json value: Property key expected at index " + getReadBytes());
+			}
+		}
+
+		JsonToken nextToken = readNextToken();
+		if (nextToken == null) {
+			return false;
+		} else if (nextToken == JsonToken.JsonObject_Open || nextToken == JsonToken.JsonArray_Open) {
+			currentObject = readOpenedJsonItem();
+		}
+		return true;
+	}
+
+	/**
+	 * Read the next document
+	 *
+	 * @return JsonNode of the root json item or null at the end of data
+	 * @throws Exception
+	 */
+	public JsonNode read() throws Exception {
+		if (openJsonItemsDepth != 0 || documentOpen) {
+			throw new Exception("BinaryJsonReader position is within a document");
+		}
+
+		JsonToken nextToken = readNextToken();
+		if (nextToken == null) {
+			return null;
+		} else if (nextToken == JsonToken.JsonObject_Open || nextToken == JsonToken.JsonArray_Open) {
+			return new JsonNode(readOpenedJsonItem());
+		} else {
+			return new JsonNode(currentObject);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (inputStream != null) {
+			inputStream.close();
+			inputStream = null;
+		}
+	}
+
+	/**
+	 * Read the contents of the JsonObject or JsonArray just opened by readNextToken() including its closing token
+	 */
+	private Object readOpenedJsonItem() throws Exception {
+		int level = openJsonItemsDepth - 1;
+		Object jsonItem;
+		if (openJsonItemIsObject[level]) {
+			jsonItem = readJsonObjectContent(openJsonItemEnds[level]);
+		} else {
+			jsonItem = readJsonArrayContent(openJsonItemEnds[level]);
+		}
+		openJsonItemsDepth--;
+		if (openJsonItemsDepth == 0) {
+			documentOpen = false;
+		}
+		return jsonItem;
+	}
+
+	private JsonObject readJsonObjectContent(long end) throws Exception {
+		JsonObject jsonObject = new JsonObject();
+		while (getReadBytes() < end) {
+			String propertyName = readPropertyName();
+			jsonObject.add(propertyName, readValue(readByte()));
+		}
+		checkItemEnd(end);
+		return jsonObject;
+	}
+
+	private JsonArray readJsonArrayContent(long end) throws Exception {
+		JsonArray jsonArray = new JsonArray();
+		while (getReadBytes() < end) {
+			jsonArray.add(readValue(readByte()));
+		}
+		checkItemEnd(end);
+		return jsonArray;
+	}
+
+	private Object readValue(byte tag) throws Exception {
+		if (tag == BinaryJsonWriter.TAG_JSONOBJECT) {
+			return readJsonObjectContent(readContentLength());
+		} else if (tag == BinaryJsonWriter.TAG_JSONARRAY) {
+			return readJsonArrayContent(readContentLength());
+		} else {
+			return readSimpleValue(tag);
+		}
+	}
+
+	private void checkItemEnd(long end) throws Exception {
+		if (getReadBytes() != end) {
+			throw new Exception("Invalid binary json data: Item exceeds its enclosing json item at index " + getReadBytes());
+		}
+	}
+
+	private Object readSimpleValue(byte tag) throws Exception {
+		switch (tag) {
+			case BinaryJsonWriter.TAG_NULL:
+				return null;
+			case BinaryJsonWriter.TAG_FALSE:
+				return Boolean.FALSE;
+			case BinaryJsonWriter.TAG_TRUE:
+				return Boolean.TRUE;
+			case BinaryJsonWriter.TAG_INTEGER:
+				int zigzagInt = readVarint();
+				return (zigzagInt >>> 1) ^ -(zigzagInt & 1);
+			case BinaryJsonWriter.TAG_LONG:
+				long zigzagLong = readVarLong();
+				return (zigzagLong >>> 1) ^ -(zigzagLong & 1);
+			case BinaryJsonWriter.TAG_FLOAT:
+				return Float.intBitsToFloat(readInt());
+			case BinaryJsonWriter.TAG_DOUBLE:
+				long highBits = readInt() & 0xFFFFFFFFL;
+				return Double.longBitsToDouble((highBits << 32) | (readInt() & 0xFFFFFFFFL));
+			case BinaryJsonWriter.TAG_BIGDECIMAL:
+				int zigzagScale = readVarint();
+				int scale = (zigzagScale >>> 1) ^ -(zigzagScale & 1);
+				int unscaledLength = readLength();
+				if (unscaledLength == 0) {
+					throw new Exception("Invalid binary json data: Empty BigDecimal value at index " + getReadBytes());
+				}
+				return new BigDecimal(new BigInteger(readBytes(unscaledLength)), scale);
+			case BinaryJsonWriter.TAG_STRING:
+				return readString(readLength());
+			default:
+				throw new Exception("Invalid binary json data: Unknown type tag " + tag + " at index " + (getReadBytes() - 1));
+		}
+	}
+
+	private String readPropertyName() throws Exception {
+		int propertyNameIndex = readVarint();
+		if (propertyNameIndex < 0 || propertyNameIndex >= propertyNames.length) {
+			throw new Exception("Invalid binary json data: Unknown property name reference " + propertyNameIndex + " at index " + getReadBytes());
+		}
+		return propertyNames[propertyNameIndex];
+	}
+
+	/**
+	 * Read the header and NameTable of the next document
+	 *
+	 * @return false at the end of data
+	 */
+	private boolean readDocumentHeader() throws Exception {
+		if (!ensureAvailable(1)) {
+			return false;
+		}
+		for (byte magicByte : BinaryJsonWriter.MAGIC) {
+			if (readByte() != magicByte) {
+				throw new Exception("Invalid binary json data: Missing document header at index " + (getReadBytes() - 1));
+			}
+		}
+		byte version = readByte();
+		if (version != BinaryJsonWriter.VERSION) {
+			throw new Exception("Unsupported binary json version: " + version);
+		}
+		int propertyNamesCount = readLength();
+		// The NameTable grows as the names arrive, so a corrupt count cannot allocate more memory than the data needs
+		propertyNames = new String[Math.min(propertyNamesCount, 1024)];
+		for (int i = 0; i < propertyNamesCount; i++) {
+			if (i == propertyNames.length) {
+				propertyNames = Arrays.copyOf(propertyNames, (int) Math.min(propertyNamesCount, propertyNames.length * 2L));
+			}
+			propertyNames[i] = readString(readLength());
+		}
+		documentOpen = true;
+		return true;
+	}
+
+	private void pushOpenJsonItem(long end, boolean isObject) {
+		if (openJsonItemsDepth == openJsonItemEnds.length) {
+			int newSize = openJsonItemsDepth * 2;
+			long[] newEnds = new long[newSize];
+			System.arraycopy(openJsonItemEnds, 0, newEnds, 0, openJsonItemsDepth);
+			openJsonItemEnds = newEnds;
+			boolean[] newIsObject = new boolean[newSize];
+			System.arraycopy(openJsonItemIsObject, 0, newIsObject, 0, openJsonItemsDepth);
+			openJsonItemIsObject = newIsObject;
+			boolean[] newPropertyKeyExpected = new boolean[newSize];
+			System.arraycopy(propertyKeyExpected, 0, newPropertyKeyExpected, 0, openJsonItemsDepth);
+			propertyKeyExpected = newPropertyKeyExpected;
+		}
+		openJsonItemEnds[openJsonItemsDepth] = end;
+		openJsonItemIsObject[openJsonItemsDepth] = isObject;
+		propertyKeyExpected[openJsonItemsDepth] = true;
+		openJsonItemsDepth++;
+	}
+
+	/**
+	 * Read the content length of a JsonObject or JsonArray
+	 *
+	 * @return input position behind its contents
+	 */
+	private long readContentLength() throws Exception {
+		long contentLength = readInt() & 0xFFFFFFFFL;
+		long end = getReadBytes() + contentLength;
+		if (openJsonItemsDepth > 0 && end > openJsonItemEnds[openJsonItemsDepth - 1]) {
+			throw new Exception("Invalid binary json data: Item exceeds its enclosing json item at index " + getReadBytes());
+		}
+		return end;
+	}
+
+	private String readString(int length) throws Exception {
+		if (length <= buffer.length && ensureAvailable(length)) {
+			String value = new String(buffer, bufferPosition, length, StandardCharsets.UTF_8);
+			bufferPosition += length;
+			return value;
+		} else {
+			return new String(readBytes(length), StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * Read the length of a string or BigDecimal or the number of property names of a NameTable.
+	 * Each counted unit needs at least one byte, so in byte array mode the length cannot exceed the remaining data.
+	 */
+	private int readLength() throws Exception {
+		int length = readVarint();
+		if (length < 0) {
+			throw new Exception("Invalid binary json data: Negative length " + length + " at index " + getReadBytes());
+		} else if (inputStream == null && length > bufferLength - bufferPosition) {
+			throw new Exception("Invalid binary json data: Length " + length + " exceeds the remaining data at index " + getReadBytes());
+		}
+		return length;
+	}
+
+	private int readInt() throws Exception {
+		if (!ensureAvailable(4)) {
+			throw new Exception("Invalid binary json data: Unexpected end of data");
+		}
+		int value = ((buffer[bufferPosition] & 0xFF) << 24)
+			| ((buffer[bufferPosition + 1] & 0xFF) << 16)
+			| ((buffer[bufferPosition + 2] & 0xFF) << 8)
+			| (buffer[bufferPosition + 3] & 0xFF);
+		bufferPosition += 4;
+		return value;
+	}
+
+	private int readVarint() throws Exception {
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			byte nextByte = readByte();
+			value |= (nextByte & 0x7F) << shift;
+			if (nextByte >= 0) {
+				return value;
+			}
+		}
+		throw new Exception("Invalid binary json data: Malformed varint at index " + getReadBytes());
+	}
+
+	private long readVarLong() throws Exception {
+		long value = 0;
+		for (int shift = 0; shift < 70; shift += 7) {
+			byte nextByte = readByte();
+			value |= (long) (nextByte & 0x7F) << shift;
+			if (nextByte >= 0) {
+				return value;
+			}
+		}
+		throw new Exception("Invalid binary json data: Malformed varint at index " + getReadBytes());
+	}
+
+	private byte readByte() throws Exception {
+		if (bufferPosition == bufferLength && !ensureAvailable(1)) {
+			throw new Exception("Invalid binary json data: Unexpected end of data");
+		}
+		return buffer[bufferPosition++];
+	}
+
+	/**
+	 * Read the next bytes. The result grows as the data arrives, so a corrupt length cannot allocate more memory than the data needs.
+	 */
+	private byte[] readBytes(int length) throws Exception {
+		byte[] destination = new byte[Math.min(length, buffer.length)];
+		int copied = 0;
+		while (copied < length) {
+			if (bufferPosition == bufferLength && !ensureAvailable(1)) {
+				throw new Exception("Invalid binary json data: Unexpected end of data");
+			}
+			if (copied == destination.length) {
+				destination = Arrays.copyOf(destination, (int) Math.min(length, destination.length * 2L + 1024));
+			}
+			int copyLength = Math.min(destination.length - copied, bufferLength - bufferPosition);
+			System.arraycopy(buffer, bufferPosition, destination, copied, copyLength);
+			bufferPosition += copyLength;
+			copied += copyLength;
+		}
+		return destination;
+	}
+
+	private void skipBytes(long length) throws Exception {
+		if (length < 0) {
+			throw new Exception("Invalid binary json data: Item exceeds its enclosing json item at index " + getReadBytes());
+		} else if (length <= bufferLength - bufferPosition) {
+			bufferPosition += (int) length;
+		} else if (inputStream == null) {
+			throw new Exception("Invalid binary json data: Unexpected end of data");
+		} else {
+			long remaining = length - (bufferLength - bufferPosition);
+			bufferOffset += bufferLength;
+			bufferPosition = 0;
+			bufferLength = 0;
+			while (remaining > 0) {
+				long skipped = inputStream.skip(remaining);
+				if (skipped <= 0) {
+					if (inputStream.read() < 0) {
+						throw new Exception("Invalid binary json data: Unexpected end of data");
+					}
+					skipped = 1;
+				}
+				remaining -= skipped;
+				bufferOffset += skipped;
+			}
+		}
+	}
+
+	/**
+	 * Make sure the next bytes are available in the buffer
+	 *
+	 * @return false if the data ends before
+	 */
+	private boolean ensureAvailable(int length) throws IOException {
+		if (bufferLength - bufferPosition >= length) {
+			return true;
+		} else if (inputStream == null) {
+			return false;
+		} else {
+			int available = bufferLength - bufferPosition;
+			if (bufferPosition > 0) {
+				System.arraycopy(buffer, bufferPosition, buffer, 0, available);
+				bufferOffset += bufferPosition;
+				bufferPosition = 0;
+				bufferLength = available;
+			}
+			while (bufferLength < length) {
+				int readBytes = inputStream.read(buffer, bufferLength, buffer.length - bufferLength);
+				if (readBytes < 0) {
+					return false;
+				}
+				bufferLength += readBytes;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Convert binary json data into text json data tokenwise without building JsonObjects and JsonArrays.
+	 * Multiple documents are written linebreak separated.
+	 */
+	public static void convertBinaryJsonToJson(InputStream binaryJsonInputStream, OutputStream jsonOutputStream) throws Exception {
+		try (BinaryJsonReader binaryJsonReader = new BinaryJsonReader(binaryJsonInputStream);
+				JsonWriter jsonWriter = new JsonWriter(jsonOutputStream, "UTF-8")) {
+			boolean firstDocument = true;
+			while (true) {
+				boolean documentStart = !binaryJsonReader.documentOpen;
+				JsonToken jsonToken = binaryJsonReader.readNextToken();
+				if (jsonToken == null) {
+					break;
+				} else if (documentStart) {
+					if (!firstDocument) {
+						jsonWriter.startNextRootJsonItem("\n");
+					}
+					firstDocument = false;
+				}
+				switch (jsonToken) {
+					case JsonObject_Open:
+						jsonWriter.openJsonObject();
+						break;
+					case JsonObject_PropertyKey:
+						jsonWriter.openJsonObjectProperty((String) binaryJsonReader.getCurrentObject());
+						break;
+					case JsonObject_Close:
+						jsonWriter.closeJsonObject();
+						break;
+					case JsonArray_Open:
+						jsonWriter.openJsonArray();
+						break;
+					case JsonArray_Close:
+						jsonWriter.closeJsonArray();
+						break;
+					case JsonSimpleValue:
+						jsonWriter.addSimpleJsonValue(binaryJsonReader.getCurrentObject());
+						break;
+					default:
+						throw new Exception("Unexpected JsonToken " + jsonToken);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Read a single binary json document
+	 */
+	public static JsonNode readBinaryJsonData(byte[] data) throws Exception {
+		try (BinaryJsonReader binaryJsonReader = new BinaryJsonReader(data)) {
+			JsonNode jsonNode = binaryJsonReader.read();
+			if (jsonNode == null) {
+				throw new Exception("Invalid binary json data: No document found");
+			} else if (binaryJsonReader.getReadBytes() != data.length) {
+				throw new Exception("Invalid binary json data: Unexpected data after document at index " + binaryJsonReader.getReadBytes());
+			}
+			return jsonNode;
+		}
+	}
+}
@@ -0,0 +1,478 @@
+package de.soderer.utilities.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import de.soderer.utilities.DateUtilities;
+import de.soderer.utilities.json.JsonReader.JsonToken;
+
+/**
+ * Writer for a compact binary encoding of json data, which can be read by BinaryJsonReader.
+ *
+ * Each root json item is written as a separate document:
+ * <pre>
+ * Document   := 'B' 'J' 'S' version(1) NameTable Value
+ * NameTable  := varint(count) { varint(byteLength) UTF-8 bytes }
+ * Value      := tag payload
+ *   0x00 null
+ *   0x01 false
+ *   0x02 true
+ *   0x03 Integer    zigzag varint
+ *   0x04 Long       zigzag varint
+ *   0x05 Float      4 bytes IEEE 754, big endian
+ *   0x06 Double     8 bytes IEEE 754, big endian
+ *   0x07 BigDecimal zigzag varint(scale) varint(byteLength) unscaled value as two's complement, big endian
+ *   0x08 String     varint(byteLength) UTF-8 bytes
+ *   0x09 JsonObject 4 bytes content length, big endian { varint(NameTable index) Value }
+ *   0x0A JsonArray  4 bytes content length, big endian { Value }
+ * </pre>
+ * Every property name is stored only once in the NameTable of its document and referenced by index.
+ * The content length of JsonObjects and JsonArrays allows a reader to skip them without decoding their contents.
+ *
+ * Because of the length prefixes a document is collected in memory until its root json item is complete.
+ */
+public class BinaryJsonWriter implements Closeable {
+	static final byte[] MAGIC = new byte[] { 'B', 'J', 'S' };
+	static final byte VERSION = 1;
+
+	static final byte TAG_NULL = 0x00;
+	static final byte TAG_FALSE = 0x01;
+	static final byte TAG_TRUE = 0x02;
+	static final byte TAG_INTEGER = 0x03;
+	static final byte TAG_LONG = 0x04;
+	static final byte TAG_FLOAT = 0x05;
+	static final byte TAG_DOUBLE = 0x06;
+	static final byte TAG_BIGDECIMAL = 0x07;
+	static final byte TAG_STRING = 0x08;
+	static final byte TAG_JSONOBJECT = 0x09;
+	static final byte TAG_JSONARRAY = 0x0A;
+
+	private OutputStream outputStream;
+
+	/** Content of the current document after its NameTable */
+	private byte[] buffer = new byte[4096];
+	private int bufferPosition = 0;
+
+	private final Map<String, Integer> propertyNameIndexes = new HashMap<String, Integer>();
+	private final List<String> propertyNames = new ArrayList<String>();
+
+	/** Buffer positions of the length fields of all open json items */
+	private int[] openJsonItemLengthPositions = new int[16];
+	private boolean[] openJsonItemIsObject = new boolean[16];
+	private int openJsonItemsDepth = 0;
+
+	/** Set after a property name was written and its value is still missing */
+	private boolean propertyValueExpected = false;
+
+	private long writtenBytes = 0;
+	private long writtenDocuments = 0;
+
+	private SimpleDateFormat dateFormat = null;
+
+	public BinaryJsonWriter(OutputStream outputStream) {
+		if (outputStream == null) {
+			throw new IllegalArgumentException("OutputStream is null");
+		}
+		this.outputStream = outputStream;
+	}
+
+	public long getWrittenBytes() {
+		return writtenBytes;
+	}
+
+	public long getWrittenDocuments() {
+		return writtenDocuments;
+	}
+
+	public void openJsonObject() throws Exception {
+		checkValuePosition("opening object");
+		openJsonItem(TAG_JSONOBJECT, true);
+	}
+
+	public void openJsonObjectProperty(String propertyName) throws Exception {
+		if (openJsonItemsDepth == 0 || !openJsonItemIsObject[openJsonItemsDepth - 1] || propertyValueExpected) {
+			throw new Exception("Not matching open Json item for opening object property");
+		} else if (propertyName == null) {
+			throw new Exception("Invalid null value for property name");
+		} else {
+			Integer propertyNameIndex = propertyNameIndexes.get(propertyName);
+			if (propertyNameIndex == null) {
+				propertyNameIndex = propertyNames.size();
+				propertyNameIndexes.put(propertyName, propertyNameIndex);
+				propertyNames.add(propertyName);
+			}
+			ensureBufferCapacity(5);
+			bufferPosition = writeVarint(buffer, bufferPosition, propertyNameIndex);
+			propertyValueExpected = true;
+		}
+	}
+
+	public void addSimpleJsonObjectPropertyValue(Object propertyValue) throws Exception {
+		if (!propertyValueExpected) {
+			throw new Exception("Not matching open Json item for adding object property value");
+		} else {
+			propertyValueExpected = false;
+			writeSimpleValue(propertyValue);
+		}
+	}
+
+	public void closeJsonObject() throws Exception {
+		if (openJsonItemsDepth == 0 || !openJsonItemIsObject[openJsonItemsDepth - 1] || propertyValueExpected) {
+			throw new Exception("Not matching open Json item for closing object");
+		} else {
+			closeJsonItem();
+		}
+	}
+
+	public void openJsonArray() throws Exception {
+		checkValuePosition("opening array");
+		openJsonItem(TAG_JSONARRAY, false);
+	}
+
+	public void addSimpleJsonArrayValue(Object arrayValue) throws Exception {
+		if (openJsonItemsDepth == 0 || openJsonItemIsObject[openJsonItemsDepth - 1]) {
+			throw new Exception("Not matching open Json item for adding array value");
+		} else {
+			writeSimpleValue(arrayValue);
+		}
+	}
+
+	public void closeJsonArray() throws Exception {
+		if (openJsonItemsDepth == 0 || openJsonItemIsObject[openJsonItemsDepth - 1]) {
+			throw new Exception("Not matching open Json item for closing array");
+		} else {
+			closeJsonItem();
+		}
+	}
+
+	/**
+	 * Write a simple json value like a string, number, boolean or null as a separate document
+	 */
+	public void addSimpleValue(Object value) throws Exception {
+		if (openJsonItemsDepth != 0) {
+			throw new Exception("Not matching empty Json output for adding simple value");
+		} else {
+			writeSimpleValue(value);
+			writeDocument();
+		}
+	}
+
+	/**
+	 * Add a simple value at the current output position as root value, array item or object property value
+	 */
+	void addSimpleJsonValue(Object value) throws Exception {
+		if (openJsonItemsDepth == 0) {
+			addSimpleValue(value);
+		} else if (propertyValueExpected) {
+			addSimpleJsonObjectPropertyValue(value);
+		} else {
+			addSimpleJsonArrayValue(value);
+		}
+	}
+
+	public void add(JsonObject jsonObject) throws Exception {
+		if (jsonObject == null) {
+			throw new Exception("Invalid null value added via 'add'. If done by intention use 'addSimpleJsonArrayValue' or 'addSimpleJsonObjectPropertyValue'");
+		} else {
+			openJsonObject();
+			for (Entry<String, Object> property : jsonObject) {
+				openJsonObjectProperty(property.getKey());
+				Object propertyValue = property.getValue();
+				if (propertyValue instanceof JsonObject) {
+					add((JsonObject) propertyValue);
+				} else if (propertyValue instanceof JsonArray) {
+					add((JsonArray) propertyValue);
+				} else {
+					addSimpleJsonObjectPropertyValue(propertyValue);
+				}
+			}
+			closeJsonObject();
+		}
+	}
+
+	public void add(JsonArray jsonArray) throws Exception {
+		if (jsonArray == null) {
+			throw new Exception("Invalid null value added via 'add'. If done by intention use 'addSimpleJsonArrayValue' or 'addSimpleJsonObjectPropertyValue'");
+		} else {
+			openJsonArray();
+			for (Object arrayValue : jsonArray) {
+				if (arrayValue instanceof JsonObject) {
+					add((JsonObject) arrayValue);
+				} else if (arrayValue instanceof JsonArray) {
+					add((JsonArray) arrayValue);
+				} else {
+					addSimpleJsonArrayValue(arrayValue);
+				}
+			}
+			closeJsonArray();
+		}
+	}
+
+	public void add(JsonNode jsonNode) throws Exception {
+		if (jsonNode == null) {
+			throw new Exception("Invalid null value added via 'add'");
+		} else if (jsonNode.isJsonObject()) {
+			add((JsonObject) jsonNode.getValue());
+		} else if (jsonNode.isJsonArray()) {
+			add((JsonArray) jsonNode.getValue());
+		} else {
+			addSimpleValue(jsonNode.getValue());
+		}
+	}
+
+	public void flush() throws IOException {
+		if (outputStream != null) {
+			outputStream.flush();
+		}
+	}
+
+	/**
+	 * Close this writer and its underlying stream.
+	 * An incomplete document is not written.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (outputStream != null) {
+			try {
+				outputStream.flush();
+			} finally {
+				outputStream.close();
+				outputStream = null;
+			}
+		}
+	}
+
+	private void checkValuePosition(String action) throws Exception {
+		if (openJsonItemsDepth > 0 && openJsonItemIsObject[openJsonItemsDepth - 1] && !propertyValueExpected) {
+			throw new Exception("Not matching open Json item for " + action);
+		}
+	}
+
+	private void openJsonItem(byte tag, boolean isObject) {
+		propertyValueExpected = false;
+		if (openJsonItemsDepth == openJsonItemLengthPositions.length) {
+			int[] newLengthPositions = new int[openJsonItemsDepth * 2];
+			System.arraycopy(openJsonItemLengthPositions, 0, newLengthPositions, 0, openJsonItemsDepth);
+			openJsonItemLengthPositions = newLengthPositions;
+			boolean[] newIsObject = new boolean[openJsonItemsDepth * 2];
+			System.arraycopy(openJsonItemIsObject, 0, newIsObject, 0, openJsonItemsDepth);
+			openJsonItemIsObject = newIsObject;
+		}
+		ensureBufferCapacity(5);
+		buffer[bufferPosition++] = tag;
+		openJsonItemLengthPositions[openJsonItemsDepth] = bufferPosition;
+		openJsonItemIsObject[openJsonItemsDepth] = isObject;
+		openJsonItemsDepth++;
+		// Placeholder for the content length, which is known when the item is closed
+		bufferPosition += 4;
+	}
+
+	private void closeJsonItem() throws IOException {
+		openJsonItemsDepth--;
+		int lengthPosition = openJsonItemLengthPositions[openJsonItemsDepth];
+		int contentLength = bufferPosition - lengthPosition - 4;
+		buffer[lengthPosition] = (byte) (contentLength >>> 24);
+		buffer[lengthPosition + 1] = (byte) (contentLength >>> 16);
+		buffer[lengthPosition + 2] = (byte) (contentLength >>> 8);
+		buffer[lengthPosition + 3] = (byte) contentLength;
+		if (openJsonItemsDepth == 0) {
+			writeDocument();
+		}
+	}
+
+	private void writeSimpleValue(Object value) {
+		if (value == null) {
+			ensureBufferCapacity(1);
+			buffer[bufferPosition++] = TAG_NULL;
+		} else if (value instanceof Boolean) {
+			ensureBufferCapacity(1);
+			buffer[bufferPosition++] = ((Boolean) value) ? TAG_TRUE : TAG_FALSE;
+		} else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			ensureBufferCapacity(6);
+			buffer[bufferPosition++] = TAG_INTEGER;
+			int intValue = ((Number) value).intValue();
+			bufferPosition = writeVarint(buffer, bufferPosition, (intValue << 1) ^ (intValue >> 31));
+		} else if (value instanceof Long) {
+			ensureBufferCapacity(11);
+			buffer[bufferPosition++] = TAG_LONG;
+			long longValue = (Long) value;
+			bufferPosition = writeVarLong(buffer, bufferPosition, (longValue << 1) ^ (longValue >> 63));
+		} else if (value instanceof Float) {
+			ensureBufferCapacity(5);
+			buffer[bufferPosition++] = TAG_FLOAT;
+			writeInt(Float.floatToIntBits((Float) value));
+		} else if (value instanceof Double) {
+			ensureBufferCapacity(9);
+			buffer[bufferPosition++] = TAG_DOUBLE;
+			long bits = Double.doubleToLongBits((Double) value);
+			writeInt((int) (bits >>> 32));
+			writeInt((int) bits);
+		} else if (value instanceof Number) {
+			BigDecimal bigDecimalValue;
+			if (value instanceof BigDecimal) {
+				bigDecimalValue = (BigDecimal) value;
+			} else if (value instanceof BigInteger) {
+				bigDecimalValue = new BigDecimal((BigInteger) value);
+			} else {
+				bigDecimalValue = new BigDecimal(value.toString());
+			}
+			byte[] unscaledBytes = bigDecimalValue.unscaledValue().toByteArray();
+			ensureBufferCapacity(11 + unscaledBytes.length);
+			buffer[bufferPosition++] = TAG_BIGDECIMAL;
+			int scale = bigDecimalValue.scale();
+			bufferPosition = writeVarint(buffer, bufferPosition, (scale << 1) ^ (scale >> 31));
+			bufferPosition = writeVarint(buffer, bufferPosition, unscaledBytes.length);
+			System.arraycopy(unscaledBytes, 0, buffer, bufferPosition, unscaledBytes.length);
+			bufferPosition += unscaledBytes.length;
+		} else if (value instanceof Date) {
+			// Dates are stored as strings like in text json
+			if (dateFormat == null) {
+				dateFormat = new SimpleDateFormat(DateUtilities.ISO_8601_DATETIME_FORMAT);
+			}
+			writeString(dateFormat.format((Date) value));
+		} else {
+			writeString(value.toString());
+		}
+	}
+
+	private void writeString(String value) {
+		byte[] stringBytes = value.getBytes(StandardCharsets.UTF_8);
+		ensureBufferCapacity(6 + stringBytes.length);
+		buffer[bufferPosition++] = TAG_STRING;
+		bufferPosition = writeVarint(buffer, bufferPosition, stringBytes.length);
+		System.arraycopy(stringBytes, 0, buffer, bufferPosition, stringBytes.length);
+		bufferPosition += stringBytes.length;
+	}
+
+	private void writeInt(int value) {
+		buffer[bufferPosition++] = (byte) (value >>> 24);
+		buffer[bufferPosition++] = (byte) (value >>> 16);
+		buffer[bufferPosition++] = (byte) (value >>> 8);
+		buffer[bufferPosition++] = (byte) value;
+	}
+
+	/**
+	 * Write the header and NameTable followed by the collected root json item and start a new document
+	 */
+	private void writeDocument() throws IOException {
+		if (outputStream == null) {
+			throw new IOException("BinaryJsonWriter is already closed");
+		}
+		byte[] nameTable = new byte[16];
+		System.arraycopy(MAGIC, 0, nameTable, 0, MAGIC.length);
+		int nameTableLength = MAGIC.length;
+		nameTable[nameTableLength++] = VERSION;
+		nameTableLength = writeVarint(nameTable, nameTableLength, propertyNames.size());
+		for (String propertyName : propertyNames) {
+			byte[] propertyNameBytes = propertyName.getBytes(StandardCharsets.UTF_8);
+			if (nameTableLength + 5 + propertyNameBytes.length > nameTable.length) {
+				byte[] newNameTable = new byte[Math.max(nameTable.length * 2, nameTableLength + 5 + propertyNameBytes.length)];
+				System.arraycopy(nameTable, 0, newNameTable, 0, nameTableLength);
+				nameTable = newNameTable;
+			}
+			nameTableLength = writeVarint(nameTable, nameTableLength, propertyNameBytes.length);
+			System.arraycopy(propertyNameBytes, 0, nameTable, nameTableLength, propertyNameBytes.length);
+			nameTableLength += propertyNameBytes.length;
+		}
+		outputStream.write(nameTable, 0, nameTableLength);
+		outputStream.write(buffer, 0, bufferPosition);
+		writtenBytes += nameTableLength + bufferPosition;
+		writtenDocuments++;
+
+		bufferPosition = 0;
+		propertyNames.clear();
+		propertyNameIndexes.clear();
+	}
+
+	private void ensureBufferCapacity(int additionalBytes) {
+		if (bufferPosition + additionalBytes > buffer.length) {
+			long newSize = Math.max((long) buffer.length * 2, (long) bufferPosition + additionalBytes);
+			if (newSize > Integer.MAX_VALUE - 8) {
+				throw new IllegalStateException("Binary json document exceeds maximum size");
+			}
+			byte[] newBuffer = new byte[(int) newSize];
+			System.arraycopy(buffer, 0, newBuffer, 0, bufferPosition);
+			buffer = newBuffer;
+		}
+	}
+
+	private static int writeVarint(byte[] data, int position, int value) {
+		while ((value & ~0x7F) != 0) {
+			data[position++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		data[position++] = (byte) value;
+		return position;
+	}
+
+	private static int writeVarLong(byte[] data, int position, long value) {
+		while ((value & ~0x7FL) != 0) {
+			data[position++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		data[position++] = (byte) value;
+		return position;
+	}
+
+	/**
+	 * Convert text json data into binary json data tokenwise without building JsonObjects and JsonArrays
+	 */
+	public static void convertJsonToBinaryJson(InputStream jsonInputStream, OutputStream binaryJsonOutputStream) throws Exception {
+		try (JsonReader jsonReader = new JsonReader(jsonInputStream);
+				BinaryJsonWriter binaryJsonWriter = new BinaryJsonWriter(binaryJsonOutputStream)) {
+			jsonReader.setJsonPathTracking(false);
+			JsonToken jsonToken;
+			while ((jsonToken = jsonReader.readNextToken()) != null) {
+				switch (jsonToken) {
+					case JsonObject_Open:
+						binaryJsonWriter.openJsonObject();
+						break;
+					case JsonObject_PropertyKey:
+						binaryJsonWriter.openJsonObjectProperty((String) jsonReader.getCurrentObject());
+						break;
+					case JsonObject_Close:
+						binaryJsonWriter.closeJsonObject();
+						break;
+					case JsonArray_Open:
+						binaryJsonWriter.openJsonArray();
+						break;
+					case JsonArray_Close:
+						binaryJsonWriter.closeJsonArray();
+						break;
+					case JsonSimpleValue:
+						binaryJsonWriter.addSimpleJsonValue(jsonReader.getCurrentObject());
+						break;
+					default:
+						throw new Exception("Unexpected JsonToken " + jsonToken);
+				}
+			}
+			if (binaryJsonWriter.openJsonItemsDepth != 0) {
+				throw new Exception("Invalid json data: Unexpected end of data");
+			}
+		}
+	}
+
+	/**
+	 * Get the binary json document of a JsonObject, JsonArray or simple value
+	 */
+	public static byte[] getBinaryJsonData(JsonNode jsonNode) throws Exception {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (BinaryJsonWriter binaryJsonWriter = new BinaryJsonWriter(outputStream)) {
+			binaryJsonWriter.add(jsonNode);
+		}
+		return outputStream.toByteArray();
+	}
+}
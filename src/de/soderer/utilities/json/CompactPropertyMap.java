@@ -0,0 +1,203 @@
+package de.soderer.utilities.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Properties of a JsonObject read in compact mode of the JsonReader.<br />
+ * <br />
+ * Small objects keep their keys and values in flat parallel arrays with linear lookup, which needs much less memory than the entries of a LinkedHashMap.
+ * Objects with more than HASHING_THRESHOLD properties switch to a LinkedHashMap for lookup by hash.
+ * The order of the properties is kept in both forms.
+ */
+class CompactPropertyMap extends AbstractMap<String, Object> {
+	/** Maximum number of properties stored in flat arrays */
+	static final int HASHING_THRESHOLD = 8;
+
+	private static final String[] EMPTY_KEYS = new String[0];
+	private static final Object[] EMPTY_VALUES = new Object[0];
+
+	private String[] keys = EMPTY_KEYS;
+	private Object[] values = EMPTY_VALUES;
+	private int size = 0;
+
+	/** Properties after switching to lookup by hash, null before */
+	private Map<String, Object> hashedProperties = null;
+
+	@Override
+	public int size() {
+		return hashedProperties != null ? hashedProperties.size() : size;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return hashedProperties != null ? hashedProperties.containsKey(key) : indexOf(key) >= 0;
+	}
+
+	@Override
+	public Object get(Object key) {
+		if (hashedProperties != null) {
+			return hashedProperties.get(key);
+		} else {
+			int index = indexOf(key);
+			return index >= 0 ? values[index] : null;
+		}
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+		if (hashedProperties != null) {
+			return hashedProperties.put(key, value);
+		}
+
+		int index = indexOf(key);
+		if (index >= 0) {
+			Object previousValue = values[index];
+			values[index] = value;
+			return previousValue;
+		} else if (size == HASHING_THRESHOLD) {
+			Map<String, Object> properties = new LinkedHashMap<String, Object>();
+			for (int i = 0; i < size; i++) {
+				properties.put(keys[i], values[i]);
+			}
+			properties.put(key, value);
+			hashedProperties = properties;
+			keys = EMPTY_KEYS;
+			values = EMPTY_VALUES;
+			size = 0;
+			return null;
+		} else {
+			if (size == keys.length) {
+				int newCapacity = Math.min(Math.max(4, size * 2), HASHING_THRESHOLD);
+				keys = Arrays.copyOf(keys, newCapacity);
+				values = Arrays.copyOf(values, newCapacity);
+			}
+			keys[size] = key;
+			values[size] = value;
+			size++;
+			return null;
+		}
+	}
+
+	@Override
+	public Object remove(Object key) {
+		if (hashedProperties != null) {
+			return hashedProperties.remove(key);
+		} else {
+			int index = indexOf(key);
+			return index >= 0 ? removeAt(index) : null;
+		}
+	}
+
+	@Override
+	public void clear() {
+		hashedProperties = null;
+		keys = EMPTY_KEYS;
+		values = EMPTY_VALUES;
+		size = 0;
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		return new AbstractSet<Entry<String, Object>>() {
+			@Override
+			public int size() {
+				return CompactPropertyMap.this.size();
+			}
+
+			@Override
+			public Iterator<Entry<String, Object>> iterator() {
+				if (hashedProperties != null) {
+					return hashedProperties.entrySet().iterator();
+				} else {
+					return new FlatEntryIterator();
+				}
+			}
+		};
+	}
+
+	/**
+	 * Release the unused capacity of the flat arrays, when all properties were added
+	 */
+	void trimToSize() {
+		if (hashedProperties == null && size < keys.length) {
+			keys = size == 0 ? EMPTY_KEYS : Arrays.copyOf(keys, size);
+			values = size == 0 ? EMPTY_VALUES : Arrays.copyOf(values, size);
+		}
+	}
+
+	private int indexOf(Object key) {
+		for (int i = 0; i < size; i++) {
+			// Interned keys of the JsonReader are mostly found by identity
+			if (keys[i] == key || (keys[i] != null && keys[i].equals(key))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private Object removeAt(int index) {
+		Object previousValue = values[index];
+		int numberOfMovedProperties = size - index - 1;
+		if (numberOfMovedProperties > 0) {
+			System.arraycopy(keys, index + 1, keys, index, numberOfMovedProperties);
+			System.arraycopy(values, index + 1, values, index, numberOfMovedProperties);
+		}
+		size--;
+		keys[size] = null;
+		values[size] = null;
+		return previousValue;
+	}
+
+	private class FlatEntryIterator implements Iterator<Entry<String, Object>> {
+		private int nextIndex = 0;
+		private int lastIndex = -1;
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < size;
+		}
+
+		@Override
+		public Entry<String, Object> next() {
+			if (nextIndex >= size) {
+				throw new NoSuchElementException();
+			}
+			lastIndex = nextIndex++;
+			return new FlatEntry(keys[lastIndex], values[lastIndex]);
+		}
+
+		@Override
+		public void remove() {
+			if (lastIndex < 0) {
+				throw new IllegalStateException();
+			}
+			removeAt(lastIndex);
+			nextIndex = lastIndex;
+			lastIndex = -1;
+		}
+	}
+
+	/**
+	 * Entry, which writes a changed value through to the map
+	 */
+	private class FlatEntry extends SimpleEntry<String, Object> {
+		private static final long serialVersionUID = 1L;
+
+		public FlatEntry(String key, Object value) {
+			super(key, value);
+		}
+
+		@Override
+		public Object setValue(Object value) {
+			put(getKey(), value);
+			return super.setValue(value);
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package de.soderer.utilities.json;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Canonical 128 bit hash of the content of a json value for deduplication and caching.<br />
+ * <br />
+ * Json values, which are equal by JsonUtilities.jsonValueEquals(), have the same content hash:
+ * The properties of a JsonObject are hashed in the order of their keys and numbers by their normalized numeric value.<br />
+ * The hash is the MD5 digest of a canonical binary form of the json value, so it is stable across JVMs and program versions.
+ * It is not meant for security purposes.
+ */
+public class JsonContentHash {
+	private static final int TAG_NULL = 0;
+	private static final int TAG_FALSE = 1;
+	private static final int TAG_TRUE = 2;
+	private static final int TAG_INTEGER = 3;
+	private static final int TAG_DECIMAL = 4;
+	private static final int TAG_DOUBLE = 5;
+	private static final int TAG_STRING = 6;
+	private static final int TAG_OBJECT = 7;
+	private static final int TAG_ARRAY = 8;
+
+	private final long high64;
+	private final long low64;
+
+	private JsonContentHash(long high64, long low64) {
+		this.high64 = high64;
+		this.low64 = low64;
+	}
+
+	/**
+	 * Compute the content hash of a JsonObject, JsonArray or simple json value
+	 *
+	 * @param jsonValue
+	 * @return
+	 */
+	public static JsonContentHash of(Object jsonValue) {
+		MessageDigest messageDigest;
+		try {
+			messageDigest = MessageDigest.getInstance("MD5");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("MD5 is not available", e);
+		}
+		update(messageDigest, new byte[8], jsonValue);
+		byte[] digest = messageDigest.digest();
+		return new JsonContentHash(readLong(digest, 0), readLong(digest, 8));
+	}
+
+	/**
+	 * 64 bit content hash, which is the upper half of the 128 bit content hash
+	 */
+	public long getHash64() {
+		return high64;
+	}
+
+	public long getHigh64() {
+		return high64;
+	}
+
+	public long getLow64() {
+		return low64;
+	}
+
+	public String toHexString() {
+		return String.format("%016x%016x", high64, low64);
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		} else if (other instanceof JsonContentHash) {
+			return high64 == ((JsonContentHash) other).high64 && low64 == ((JsonContentHash) other).low64;
+		} else {
+			return false;
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (high64 ^ (high64 >>> 32));
+	}
+
+	@Override
+	public String toString() {
+		return toHexString();
+	}
+
+	private static void update(MessageDigest messageDigest, byte[] buffer, Object jsonValue) {
+		Object value = JsonUtilities.normalizeJsonValue(jsonValue);
+		if (value == null) {
+			messageDigest.update((byte) TAG_NULL);
+		} else if (value instanceof Boolean) {
+			messageDigest.update((byte) (((Boolean) value) ? TAG_TRUE : TAG_FALSE));
+		} else if (value instanceof Long) {
+			messageDigest.update((byte) TAG_INTEGER);
+			updateLong(messageDigest, buffer, (Long) value);
+		} else if (value instanceof BigDecimal) {
+			messageDigest.update((byte) TAG_DECIMAL);
+			updateLong(messageDigest, buffer, ((BigDecimal) value).scale());
+			updateBytes(messageDigest, buffer, ((BigDecimal) value).unscaledValue().toByteArray());
+		} else if (value instanceof Double) {
+			// NaN and infinite values
+			messageDigest.update((byte) TAG_DOUBLE);
+			updateLong(messageDigest, buffer, Double.doubleToLongBits((Double) value));
+		} else if (value instanceof String) {
+			messageDigest.update((byte) TAG_STRING);
+			updateBytes(messageDigest, buffer, ((String) value).getBytes(StandardCharsets.UTF_8));
+		} else if (value instanceof JsonObject) {
+			JsonObject jsonObject = (JsonObject) value;
+			messageDigest.update((byte) TAG_OBJECT);
+			updateLong(messageDigest, buffer, jsonObject.size());
+			String[] propertyKeys = jsonObject.keySet().toArray(new String[jsonObject.size()]);
+			Arrays.sort(propertyKeys);
+			for (String propertyKey : propertyKeys) {
+				updateBytes(messageDigest, buffer, propertyKey.getBytes(StandardCharsets.UTF_8));
+				update(messageDigest, buffer, jsonObject.get(propertyKey));
+			}
+		} else if (value instanceof JsonArray) {
+			JsonArray jsonArray = (JsonArray) value;
+			messageDigest.update((byte) TAG_ARRAY);
+			updateLong(messageDigest, buffer, jsonArray.size());
+			for (Object item : jsonArray) {
+				update(messageDigest, buffer, item);
+			}
+		} else {
+			throw new IllegalArgumentException("Unsupported json value type: " + value.getClass().getSimpleName());
+		}
+	}
+
+	private static void updateLong(MessageDigest messageDigest, byte[] buffer, long value) {
+		for (int i = 7; i >= 0; i--) {
+			buffer[i] = (byte) value;
+			value >>>= 8;
+		}
+		messageDigest.update(buffer, 0, 8);
+	}
+
+	private static void updateBytes(MessageDigest messageDigest, byte[] buffer, byte[] bytes) {
+		updateLong(messageDigest, buffer, bytes.length);
+		messageDigest.update(bytes);
+	}
+
+	private static long readLong(byte[] data, int offset) {
+		long value = 0;
+		for (int i = 0; i < 8; i++) {
+			value = (value << 8) | (data[offset + i] & 0xFF);
+		}
+		return value;
+	}
+}
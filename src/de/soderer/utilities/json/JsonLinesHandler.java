@@ -0,0 +1,18 @@
+package de.soderer.utilities.json;
+
+/**
+ * Receiver of json items delivered by the JsonLinesReader
+ */
+public interface JsonLinesHandler {
+	/**
+	 * Handle the json item of a single line.
+	 * In unordered mode this method is called by multiple worker threads concurrently.
+	 *
+	 * @param lineNumber
+	 *            number of the line within the whole data, starting with 1
+	 * @param jsonNode
+	 *            the json item of the line
+	 * @throws Exception
+	 */
+	public void handleJsonNode(long lineNumber, JsonNode jsonNode) throws Exception;
+}
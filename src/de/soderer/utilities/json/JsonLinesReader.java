@@ -0,0 +1,419 @@
+package de.soderer.utilities.json;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reader for JSON Lines data (also known as NDJSON), which contains one json item per line and parses the lines in parallel.
+ *
+ * The UTF-8 encoded data is read sequentially in batches of complete lines, which are parsed by the workers of a ForkJoinPool.
+ * Json data must not contain unescaped linebreaks, so the lines are split on byte level without decoding any characters.
+ * Each worker scans the lines of its batch directly within the batch bytes by one reused JsonReader.
+ * Empty lines are skipped, but counted, so line numbers of json items and errors are the same as in the data.
+ */
+public class JsonLinesReader implements Closeable {
+	/** Default size of the line batches parsed in parallel */
+	public static final int DEFAULT_BATCH_SIZE = 1024 * 1024;
+
+	/** Maximum size of the line batches parsed in parallel */
+	public static final int MAXIMUM_BATCH_SIZE = 256 * 1024 * 1024;
+
+	private InputStream inputStream;
+
+	/** Size of the line batches parsed in parallel */
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	/** Pool for parsing the line batches */
+	private ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+
+	/** Data was read already */
+	private boolean readStarted = false;
+
+	/** No more data available in the input stream */
+	private boolean endOfData = false;
+
+	/** Bytes of an incomplete line at the end of the last batch */
+	private byte[] remainder = null;
+
+	/** Number of lines split into batches */
+	private long readLines = 0;
+
+	/** Number of the first line with an error, shared by all parallel workers */
+	private final AtomicLong firstErrorLineNumber = new AtomicLong(Long.MAX_VALUE);
+
+	public JsonLinesReader(File jsonLinesFile) throws Exception {
+		if (jsonLinesFile == null || !jsonLinesFile.isFile()) {
+			throw new Exception("Json lines file does not exist: " + jsonLinesFile);
+		}
+		inputStream = new FileInputStream(jsonLinesFile);
+	}
+
+	public JsonLinesReader(InputStream inputStream) {
+		if (inputStream == null) {
+			throw new IllegalArgumentException("InputStream is null");
+		}
+		this.inputStream = inputStream;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Set the size of the line batches parsed in parallel in bytes.
+	 * Lines longer than the batch size are put into a larger batch of their own.
+	 * Must be set before the first read.
+	 *
+	 * @param batchSize
+	 */
+	public JsonLinesReader setBatchSize(int batchSize) {
+		if (batchSize <= 0 || batchSize > MAXIMUM_BATCH_SIZE) {
+			throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+		} else if (readStarted) {
+			throw new IllegalStateException("Json lines data was already read");
+		}
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	public ForkJoinPool getForkJoinPool() {
+		return forkJoinPool;
+	}
+
+	/**
+	 * Set the pool used for parsing the line batches.
+	 * Default is the common ForkJoinPool.
+	 *
+	 * @param forkJoinPool
+	 */
+	public JsonLinesReader setForkJoinPool(ForkJoinPool forkJoinPool) {
+		if (forkJoinPool == null) {
+			throw new IllegalArgumentException("ForkJoinPool is null");
+		}
+		this.forkJoinPool = forkJoinPool;
+		return this;
+	}
+
+	/**
+	 * Get the number of lines split into batches yet
+	 */
+	public long getReadLines() {
+		return readLines;
+	}
+
+	/**
+	 * Read all lines of the data and deliver their json items to the handler.
+	 *
+	 * In ordered mode the handler is called by the calling thread in the order of the lines, while the following batches are parsed in parallel.
+	 *
+	 * In unordered mode the handler is called directly by the worker threads and must be thread-safe.
+	 *
+	 * In both modes the number of batches in progress is limited to twice the parallelism of the pool
+	 * and the first error in line order is thrown after all workers have stopped.
+	 *
+	 * @param jsonLinesHandler
+	 * @param ordered
+	 * @throws Exception
+	 */
+	public void readAll(JsonLinesHandler jsonLinesHandler, boolean ordered) throws Exception {
+		if (jsonLinesHandler == null) {
+			throw new IllegalArgumentException("JsonLinesHandler is null");
+		} else if (readStarted) {
+			throw new IllegalStateException("Json lines data was already read");
+		}
+		readStarted = true;
+
+		int maximumBatchesInProgress = Math.max(2, forkJoinPool.getParallelism() * 2);
+		LinkedList<JsonLinesBatch> batchesInProgress = new LinkedList<JsonLinesBatch>();
+		try {
+			while (true) {
+				while (firstErrorLineNumber.get() == Long.MAX_VALUE && batchesInProgress.size() < maximumBatchesInProgress) {
+					final JsonLinesBatch batch = readNextBatch();
+					if (batch == null) {
+						break;
+					}
+					final JsonLinesHandler workerJsonLinesHandler = ordered ? null : jsonLinesHandler;
+					batch.result = forkJoinPool.submit(new Callable<Void>() {
+						@Override
+						public Void call() {
+							parseBatch(batch, workerJsonLinesHandler);
+							return null;
+						}
+					});
+					batchesInProgress.add(batch);
+				}
+
+				if (batchesInProgress.isEmpty()) {
+					break;
+				}
+
+				JsonLinesBatch batch = batchesInProgress.removeFirst();
+				getResult(batch.result);
+				if (ordered) {
+					for (int i = 0; i < batch.jsonNodes.size(); i++) {
+						jsonLinesHandler.handleJsonNode(batch.lineNumbers[i], batch.jsonNodes.get(i));
+					}
+					if (batch.error != null) {
+						throw batch.error;
+					}
+				} else if (batch.error != null) {
+					// All preceding batches were delivered without error, workers of the following batches stop before the next line
+					for (JsonLinesBatch followingBatch : batchesInProgress) {
+						getResult(followingBatch.result);
+					}
+					batchesInProgress.clear();
+					throw batch.error;
+				}
+			}
+		} finally {
+			if (!batchesInProgress.isEmpty()) {
+				// Stop all workers before their next line
+				firstErrorLineNumber.set(0);
+			}
+			for (JsonLinesBatch batch : batchesInProgress) {
+				batch.result.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * Read the json items of all lines of the data at once.
+	 *
+	 * @return
+	 * @throws Exception
+	 */
+	public List<JsonNode> readAll() throws Exception {
+		final List<JsonNode> jsonNodes = new ArrayList<JsonNode>();
+		readAll(new JsonLinesHandler() {
+			@Override
+			public void handleJsonNode(long lineNumber, JsonNode jsonNode) {
+				jsonNodes.add(jsonNode);
+			}
+		}, true);
+		return jsonNodes;
+	}
+
+	/**
+	 * Close the underlying stream
+	 */
+	@Override
+	public void close() {
+		if (inputStream != null) {
+			try {
+				inputStream.close();
+			} catch (IOException e) {
+				// Do nothing
+			}
+			inputStream = null;
+		}
+	}
+
+	/**
+	 * Read the next batch of complete lines or null at the end of data
+	 */
+	private JsonLinesBatch readNextBatch() throws IOException {
+		byte[] data;
+		int length = 0;
+		if (remainder != null) {
+			data = new byte[Math.max(batchSize, remainder.length * 2)];
+			System.arraycopy(remainder, 0, data, 0, remainder.length);
+			length = remainder.length;
+			remainder = null;
+		} else if (endOfData) {
+			return null;
+		} else {
+			data = new byte[batchSize];
+		}
+
+		int batchLength;
+		while (true) {
+			while (!endOfData && length < data.length) {
+				int readLength = inputStream.read(data, length, data.length - length);
+				if (readLength == -1) {
+					endOfData = true;
+				} else {
+					length += readLength;
+				}
+			}
+
+			if (endOfData) {
+				batchLength = length;
+				break;
+			} else {
+				int lastLinebreakIndex = length - 1;
+				while (lastLinebreakIndex >= 0 && data[lastLinebreakIndex] != '\n') {
+					lastLinebreakIndex--;
+				}
+				if (lastLinebreakIndex >= 0) {
+					batchLength = lastLinebreakIndex + 1;
+					if (batchLength < length) {
+						remainder = Arrays.copyOfRange(data, batchLength, length);
+					}
+					break;
+				} else if (data.length > MAXIMUM_BATCH_SIZE) {
+					throw new IOException("Line " + (readLines + 1) + " is too large for parallel reading");
+				} else {
+					// Line is longer than the batch
+					data = Arrays.copyOf(data, data.length * 2);
+				}
+			}
+		}
+
+		if (batchLength == 0) {
+			return null;
+		}
+
+		int batchStart = 0;
+		if (readLines == 0 && batchLength >= 3 && (data[0] & 0xFF) == 0xEF && (data[1] & 0xFF) == 0xBB && (data[2] & 0xFF) == 0xBF) {
+			// Skip the UTF-8 BOM, which is not part of the data
+			batchStart = 3;
+		}
+
+		int lineCount = 0;
+		for (int i = batchStart; i < batchLength; i++) {
+			if (data[i] == '\n') {
+				lineCount++;
+			}
+		}
+		if (data[batchLength - 1] != '\n') {
+			lineCount++;
+		}
+
+		JsonLinesBatch batch = new JsonLinesBatch(data, batchStart, batchLength, readLines + 1, lineCount);
+		readLines += lineCount;
+		return batch;
+	}
+
+	/**
+	 * Parse the lines of a batch and keep their json items for ordered delivery or deliver them directly to the handler
+	 */
+	private void parseBatch(JsonLinesBatch batch, JsonLinesHandler jsonLinesHandler) {
+		byte[] data = batch.data;
+		long lineNumber = batch.firstLineNumber - 1;
+		if (jsonLinesHandler == null) {
+			batch.jsonNodes = new ArrayList<JsonNode>(batch.lineCount);
+			batch.lineNumbers = new long[batch.lineCount];
+		}
+		JsonReader jsonReader = null;
+		try {
+			int lineStart = batch.start;
+			while (lineStart < batch.end) {
+				lineNumber++;
+				if (lineNumber > firstErrorLineNumber.get()) {
+					// Lines after an error are not delivered anymore
+					return;
+				}
+
+				int lineEnd = lineStart;
+				while (lineEnd < batch.end && data[lineEnd] != '\n') {
+					lineEnd++;
+				}
+				int nextLineStart = lineEnd + 1;
+				if (lineEnd > lineStart && data[lineEnd - 1] == '\r') {
+					lineEnd--;
+				}
+
+				if (!isBlank(data, lineStart, lineEnd)) {
+					JsonNode jsonNode;
+					try {
+						if (jsonReader == null) {
+							jsonReader = new JsonReader(data, lineStart, lineEnd - lineStart);
+						} else {
+							jsonReader.resetToData(data, lineStart, lineEnd - lineStart);
+						}
+						jsonNode = jsonReader.read();
+						if (jsonReader.readNextToken() != null) {
+							throw new Exception("Unexpected data after json item");
+						}
+					} catch (Exception e) {
+						throw new Exception("Invalid json data in line " + lineNumber + ": " + e.getMessage(), e);
+					}
+
+					if (jsonLinesHandler == null) {
+						batch.lineNumbers[batch.jsonNodes.size()] = lineNumber;
+						batch.jsonNodes.add(jsonNode);
+					} else {
+						jsonLinesHandler.handleJsonNode(lineNumber, jsonNode);
+					}
+				}
+				lineStart = nextLineStart;
+			}
+		} catch (Exception e) {
+			batch.error = e;
+			batch.errorLineNumber = lineNumber;
+			long currentFirstErrorLineNumber;
+			while ((currentFirstErrorLineNumber = firstErrorLineNumber.get()) > lineNumber && !firstErrorLineNumber.compareAndSet(currentFirstErrorLineNumber, lineNumber)) {
+				// Retry until the smallest error line number is set
+			}
+		}
+	}
+
+	private static boolean isBlank(byte[] data, int start, int end) {
+		for (int i = start; i < end; i++) {
+			byte nextByte = data[i];
+			if (nextByte != ' ' && nextByte != '\t' && nextByte != '\r') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static <T> T getResult(Future<T> future) throws Exception {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			} else {
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Complete lines of the data parsed by one worker
+	 */
+	private static class JsonLinesBatch {
+		private final byte[] data;
+
+		/** Byte range of the lines within the data */
+		private final int start;
+		private final int end;
+
+		/** Number of the first line of this batch */
+		private final long firstLineNumber;
+
+		/** Number of lines including empty lines */
+		private final int lineCount;
+
+		private Future<Void> result = null;
+
+		/** Parsed json items and their line numbers for ordered delivery */
+		private List<JsonNode> jsonNodes = null;
+		private long[] lineNumbers = null;
+
+		/** Error of this batch and its line number */
+		private Exception error = null;
+		private long errorLineNumber = -1;
+
+		public JsonLinesBatch(byte[] data, int start, int end, long firstLineNumber, int lineCount) {
+			this.data = data;
+			this.start = start;
+			this.end = end;
+			this.firstLineNumber = firstLineNumber;
+			this.lineCount = lineCount;
+		}
+	}
+}
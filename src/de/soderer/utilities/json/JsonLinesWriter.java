@@ -0,0 +1,97 @@
+package de.soderer.utilities.json;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writer for JSON Lines data (also known as NDJSON), which contains one json item per line.
+ *
+ * All json items are written by one uglified JsonWriter, so its output buffer and encoder are reused for all lines.
+ * The output is UTF-8 encoded and each json item is terminated by a linebreak.
+ */
+public class JsonLinesWriter implements Closeable {
+	private JsonWriter jsonWriter;
+
+	/** Number of json items written */
+	private long writtenLines = 0;
+
+	public JsonLinesWriter(File jsonLinesFile) throws IOException {
+		this(new FileOutputStream(jsonLinesFile));
+	}
+
+	public JsonLinesWriter(OutputStream outputStream) {
+		if (outputStream == null) {
+			throw new IllegalArgumentException("OutputStream is null");
+		}
+		jsonWriter = new JsonWriter(outputStream, "UTF-8");
+		jsonWriter.setUglify(true);
+	}
+
+	/**
+	 * Encode and write the output by a background thread, see JsonWriter.setAsynchronousOutput(boolean).
+	 * Must be set before the first json item is written.
+	 *
+	 * @param asynchronousOutput
+	 */
+	public JsonLinesWriter setAsynchronousOutput(boolean asynchronousOutput) {
+		jsonWriter.setAsynchronousOutput(asynchronousOutput);
+		return this;
+	}
+
+	public long getWrittenLines() {
+		return writtenLines;
+	}
+
+	public void add(JsonObject jsonObject) throws Exception {
+		jsonWriter.add(jsonObject);
+		finishLine();
+	}
+
+	public void add(JsonArray jsonArray) throws Exception {
+		jsonWriter.add(jsonArray);
+		finishLine();
+	}
+
+	public void add(JsonNode jsonNode) throws Exception {
+		if (jsonNode == null) {
+			throw new Exception("Invalid null value added via 'add'");
+		} else if (jsonNode.isJsonObject()) {
+			add((JsonObject) jsonNode.getValue());
+		} else if (jsonNode.isJsonArray()) {
+			add((JsonArray) jsonNode.getValue());
+		} else {
+			addSimpleValue(jsonNode.getValue());
+		}
+	}
+
+	/**
+	 * Write a line with a simple json value like a string, number, boolean or null
+	 */
+	public void addSimpleValue(Object value) throws Exception {
+		jsonWriter.addSimpleValue(value);
+		finishLine();
+	}
+
+	private void finishLine() throws Exception {
+		jsonWriter.startNextRootJsonItem("\n");
+		writtenLines++;
+	}
+
+	public void flush() throws IOException {
+		jsonWriter.flush();
+	}
+
+	/**
+	 * Close this writer and its underlying stream.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (jsonWriter != null) {
+			jsonWriter.close();
+			jsonWriter = null;
+		}
+	}
+}
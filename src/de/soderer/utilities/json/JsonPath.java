@@ -7,7 +7,20 @@ import java.util.Stack;
 import de.soderer.utilities.BasicReader;
 
 public class JsonPath {
+	/** Path part matching any property key or array index, written as "[*]" or ".*" */
+	public static final Object WILDCARD = new Object() {
+		@Override
+		public String toString() {
+			return "*";
+		}
+	};
+	
 	private Stack<Object> pathParts = new Stack<Object>();
+	
+	/** Path parts compiled for matching: Property keys (null for other parts), array indexes (-1 for other parts) and wildcard flags */
+	private String[] compiledPropertyKeys = new String[0];
+	private int[] compiledArrayIndexes = new int[0];
+	private boolean[] compiledWildcards = new boolean[0];
 
 	/**
 	 * Allowed syntax for JSON path:
@@ -21,6 +34,10 @@ public class JsonPath {
 	 * schema-reference-notation:
 	 * 	#/store/customer/item
 	 * 
+	 * wildcards for any property key or array index (not in schema-reference-notation, where "*" is a property key):
+	 * 	$.store.customer[*].item
+	 * 	$.store.*.item
+	 * 
 	 * @param jsonPathString
 	 * @throws Exception 
 	 * @throws UnsupportedEncodingException 
@@ -28,6 +45,7 @@ public class JsonPath {
 	public JsonPath(String jsonPathString) throws Exception {
 		try (JsonPathReader jsonPathReader = new JsonPathReader(jsonPathString)) {
 		}
+		compile();
 	}
 	
 	public JsonPath() {
@@ -71,14 +89,85 @@ public class JsonPath {
 	
 	public JsonPath appendPropertyKey(String propertyKey) {
 		pathParts.push(propertyKey);
+		compile();
 		return this;
 	}
 	
 	public JsonPath appendArrayIndex(int arrayIndex) {
 		pathParts.push(arrayIndex);
+		compile();
 		return this;
 	}
 	
+	public JsonPath appendWildcard() {
+		pathParts.push(WILDCARD);
+		compile();
+		return this;
+	}
+	
+	/**
+	 * Number of path parts
+	 */
+	public int getLength() {
+		return compiledWildcards.length;
+	}
+	
+	/**
+	 * Check if a level of a concrete JsonPath matches the part of this JsonPath at the same level
+	 * 
+	 * @param level
+	 *            index of the path part
+	 * @param propertyKey
+	 *            property key of the level or null for array levels
+	 * @param arrayIndex
+	 *            array index of the level, if it is an array level
+	 * @return
+	 */
+	boolean matches(int level, String propertyKey, int arrayIndex) {
+		if (compiledWildcards[level]) {
+			return true;
+		} else if (propertyKey != null) {
+			return propertyKey.equals(compiledPropertyKeys[level]);
+		} else {
+			return compiledArrayIndexes[level] == arrayIndex;
+		}
+	}
+	
+	/**
+	 * Check if any property key can match the part of this JsonPath at a level
+	 */
+	boolean canMatchPropertyKey(int level) {
+		return compiledWildcards[level] || compiledPropertyKeys[level] != null;
+	}
+	
+	/**
+	 * Check if any array index starting at a given array index can match the part of this JsonPath at a level
+	 */
+	boolean canMatchArrayIndexFrom(int level, int arrayIndex) {
+		return compiledWildcards[level] || compiledArrayIndexes[level] >= arrayIndex;
+	}
+	
+	private void compile() {
+		int length = pathParts.size();
+		String[] propertyKeys = new String[length];
+		int[] arrayIndexes = new int[length];
+		boolean[] wildcards = new boolean[length];
+		for (int i = 0; i < length; i++) {
+			Object pathPart = pathParts.get(i);
+			arrayIndexes[i] = -1;
+			if (pathPart == WILDCARD) {
+				wildcards[i] = true;
+			} else if (pathPart instanceof String) {
+				propertyKeys[i] = (String) pathPart;
+			} else {
+				arrayIndexes[i] = (Integer) pathPart;
+			}
+		}
+		compiledPropertyKeys = propertyKeys;
+		compiledArrayIndexes = arrayIndexes;
+		compiledWildcards = wildcards;
+	}
+	
 	private class JsonPathReader extends BasicReader {
 		public JsonPathReader(String jsonPathString) throws Exception {
 			super(new ByteArrayInputStream(jsonPathString.getBytes("UTF-8")));
@@ -99,10 +188,11 @@ public class JsonPath {
 				switch (nextChar) {
 					case '.':
 						nextJsonPathPart = readUpToNext(false, '\\', '.', '[');
-						pathParts.push(replaceEscapedCharacers(nextJsonPathPart.substring(1).trim()));
+						pushPropertyKeyOrWildcard(replaceEscapedCharacers(nextJsonPathPart.substring(1).trim()));
 						reuseCurrentChar();
 						break;
 					case '/':
+						// Segments of schema references are always property keys, even a "*"
 						nextJsonPathPart = readUpToNext(false, '\\', '/', '[');
 						pathParts.push(replaceEscapedCharacers(nextJsonPathPart.substring(1).trim()));
 						reuseCurrentChar();
@@ -112,6 +202,8 @@ public class JsonPath {
 						nextJsonPathPart = nextJsonPathPart.substring(1, nextJsonPathPart.length() - 1);
 						if (nextJsonPathPart.startsWith("'") && nextJsonPathPart.endsWith("'")) {
 							pathParts.push(replaceEscapedCharacers(nextJsonPathPart.substring(1, nextJsonPathPart.length() - 1)));
+						} else if ("*".equals(nextJsonPathPart.trim())) {
+							pathParts.push(WILDCARD);
 						} else {
 							pathParts.push(Integer.parseInt(nextJsonPathPart));
 						}
@@ -125,6 +217,14 @@ public class JsonPath {
 		}
 	}
 	
+	private void pushPropertyKeyOrWildcard(String propertyKey) {
+		if ("*".equals(propertyKey)) {
+			pathParts.push(WILDCARD);
+		} else {
+			pathParts.push(propertyKey);
+		}
+	}
+	
 	private String replaceEscapedCharacers(String value) {
 		return value.replace("~0", "~").replace("~1", "/").replace("%25", "%");
 	}
@@ -5,17 +5,44 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Stack;
 
 import de.soderer.utilities.BasicReader;
 import de.soderer.utilities.NumberUtilities;
-import de.soderer.utilities.Utilities;
 
 public class JsonReader extends BasicReader {
 	protected Object currentObject = null;
 	
 	protected Stack<JsonToken> openJsonItems = new Stack<JsonToken>();
-	protected Stack<String> currentJsonPath = new Stack<String>();
+	
+	/** Track the JsonPath of the current position for getCurrentJsonPath() */
+	private boolean jsonPathTracking = true;
+	
+	/** Levels of the current JsonPath: Array index for array levels (-1 before the first item), property name for object property levels and null for array levels */
+	private int[] jsonPathArrayIndexes = new int[16];
+	private String[] jsonPathPropertyNames = new String[16];
+	private int jsonPathDepth = 0;
+	
+	/** Byte level scanner used instead of the character methods for UTF-8 data */
+	private Utf8JsonScanner byteScanner = null;
+	
+	private boolean byteScannerChecked = false;
+	
+	/** Read JsonObjects and JsonArrays in a compact form, which needs less memory */
+	private boolean compactMode = false;
+	
+	/** Store JsonArrays of numbers of only one type as primitive arrays in compact mode */
+	private boolean primitiveNumberArrays = false;
+	
+	/** Dictionary of the property keys in compact mode, so equal keys of many JsonObjects are stored only once */
+	private Map<String, String> propertyKeyDictionary = null;
+	
+	/** Limit for the property key dictionary, so data used as property keys cannot fill up the memory */
+	private static final int MAXIMUM_PROPERTY_KEY_DICTIONARY_SIZE = 16384;
 	
 	public enum JsonToken {
 		JsonObject_Open,
@@ -38,6 +65,28 @@ public class JsonReader extends BasicReader {
 		super(inputStream, encodingCharset);
 	}
 	
+	/**
+	 * Reader for a range of UTF-8 encoded bytes, which are scanned directly without copying them, e.g. the lines of JSON Lines data
+	 */
+	JsonReader(byte[] data, int offset, int length) throws Exception {
+		super(new ByteArrayInputStream(data, offset, length), StandardCharsets.UTF_8);
+		byteScanner = new Utf8JsonScanner(data, offset, length);
+		byteScannerChecked = true;
+	}
+	
+	/**
+	 * Restart a reader created for a range of UTF-8 encoded bytes on another range of bytes
+	 */
+	void resetToData(byte[] data, int offset, int length) {
+		if (byteScanner == null) {
+			throw new IllegalStateException("JsonReader was not created for a range of bytes");
+		}
+		byteScanner.reset(data, offset, length);
+		openJsonItems.clear();
+		currentObject = null;
+		jsonPathDepth = 0;
+	}
+	
 	public Object getCurrentObject() {
 		return currentObject;
 	}
@@ -49,12 +98,18 @@ public class JsonReader extends BasicReader {
 	public JsonToken readNextToken() throws Exception {
 		JsonToken jsonToken = readNextTokenInternal();
 		
-		updateJsonPath(jsonToken);
+		if (jsonPathTracking) {
+			updateJsonPath(jsonToken);
+		}
 		
 		return jsonToken;
 	}
 	
 	protected JsonToken readNextTokenInternal() throws Exception {
+		if (isByteScannerActive()) {
+			return readNextTokenFromBytes();
+		}
+		
 		currentObject = null;
 		Character currentChar = readNextNonWhitespace();
 		if (currentChar == null) {
@@ -162,16 +217,173 @@ public class JsonReader extends BasicReader {
 				break;
 		}
 		
-		updateJsonPath(jsonToken);
+		return jsonToken;
+	}
+	
+	/**
+	 * Same token logic as readNextTokenInternal() on the UTF-8 bytes of the data
+	 */
+	private JsonToken readNextTokenFromBytes() throws Exception {
+		currentObject = null;
+		int currentChar = byteScanner.readNextNonWhitespace();
+		if (currentChar == -1) {
+			if (openJsonItems.size() > 0) {
+				throw new Exception("Premature end of data");
+			} else {
+				return null;
+			}
+		}
+		
+		JsonToken jsonToken;
+		switch (currentChar) {
+			case '{': // Open JsonObject
+				if (openJsonItems.size() > 0 && openJsonItems.peek() == JsonToken.JsonObject_PropertyKey) {
+					openJsonItems.pop();
+				}
+				openJsonItems.push(JsonToken.JsonObject_Open);
+				jsonToken = JsonToken.JsonObject_Open;
+				break;
+			case '}': // Close JsonObject
+				if (openJsonItems.pop() != JsonToken.JsonObject_Open) {
+					throw new Exception("Invalid json data '" + (char) currentChar + "' in line " + getReadLines() + " at overall index " + getReadCharacters());
+				} else {
+					jsonToken = JsonToken.JsonObject_Close;
+				}
+				break;
+			case '[': // Open JsonArray
+				if (openJsonItems.size() > 0 && openJsonItems.peek() == JsonToken.JsonObject_PropertyKey) {
+					openJsonItems.pop();
+				}
+				openJsonItems.push(JsonToken.JsonArray_Open);
+				jsonToken = JsonToken.JsonArray_Open;
+				break;
+			case ']': // Close JsonArray
+				if (openJsonItems.pop() != JsonToken.JsonArray_Open) {
+					throw new Exception("Invalid json data '" + (char) currentChar + "' in line " + getReadLines() + " at overall index " + getReadCharacters());
+				} else {
+					jsonToken = JsonToken.JsonArray_Close;
+				}
+				break;
+			case ',': // Separator of JsonObject properties or JsonArray items
+				currentChar = byteScanner.readNextNonWhitespace();
+				if (currentChar == -1) {
+					throw new Exception("Premature end of data");
+				} else if (currentChar == '}' || currentChar == ']') {
+					throw new Exception("Invalid json data '" + (char) currentChar + "' in line " + getReadLines() + " at overall index " + getReadCharacters());
+				} else {
+					byteScanner.reuseCurrentChar();
+					jsonToken = readNextTokenFromBytes();
+				}
+				break;
+			case '\'': // Not allowed single-quoted value
+				throw new Exception("Invalid json data '" + (char) currentChar + "' in line " + getReadLines() + " at overall index " + getReadCharacters());
+			case '"': // Start JsonObject propertykey or propertyvalue or JsonArray item
+				if (openJsonItems.size() == 0) {
+					currentObject = byteScanner.readQuotedText();
+					jsonToken = JsonToken.JsonSimpleValue;
+				} else if (openJsonItems.peek() == JsonToken.JsonArray_Open) {
+					currentObject = byteScanner.readQuotedText();
+					jsonToken = JsonToken.JsonSimpleValue;
+				} else if (openJsonItems.peek() == JsonToken.JsonObject_Open) {
+					currentObject = byteScanner.readQuotedText();
+					if (byteScanner.readNextNonWhitespace() != ':') {
+						throw new Exception("Invalid json data '" + (char) currentChar + "' in line " + getReadLines() + " at overall index " + getReadCharacters());
+					}
+					openJsonItems.push(JsonToken.JsonObject_PropertyKey);
+					jsonToken = JsonToken.JsonObject_PropertyKey;
+				} else if (openJsonItems.peek() == JsonToken.JsonObject_PropertyKey) {
+					currentObject = byteScanner.readQuotedText();
+					openJsonItems.pop();
+					currentChar = byteScanner.readNextNonWhitespace();
+					if (currentChar == '}') {
+						byteScanner.reuseCurrentChar();
+					} else if (currentChar != ',') {
+						throw new Exception("Invalid json data '" + (currentChar == -1 ? "null" : String.valueOf((char) currentChar)) + "' in line " + getReadLines() + " at overall index " + getReadCharacters());
+					}
+					jsonToken = JsonToken.JsonSimpleValue;
+				} else {
+					throw new Exception("Invalid json data '" + (char) currentChar + "' in line " + getReadLines() + " at overall index " + getReadCharacters());
+				}
+				break;
+			default: // Start JsonObject propertyvalue or JsonArray item
+				if (openJsonItems.size() == 0) {
+					currentObject = byteScanner.readSimpleValue(-1, -1);
+					jsonToken = JsonToken.JsonSimpleValue;
+				} else if (openJsonItems.peek() == JsonToken.JsonArray_Open) {
+					currentObject = byteScanner.readSimpleValue(',', ']');
+					jsonToken = JsonToken.JsonSimpleValue;
+				} else if (openJsonItems.peek() == JsonToken.JsonObject_PropertyKey) {
+					openJsonItems.pop();
+					currentObject = byteScanner.readSimpleValue(',', '}');
+					currentChar = byteScanner.readNextNonWhitespace();
+					if (currentChar == '}') {
+						byteScanner.reuseCurrentChar();
+					} else {
+						currentChar = byteScanner.readNextNonWhitespace();
+						if (currentChar == -1) {
+							throw new Exception("Premature end of data");
+						} else if (currentChar == '}') {
+							throw new Exception("Invalid json data '" + (char) currentChar + "' in line " + getReadLines() + " at overall index " + getReadCharacters());
+						} else {
+							byteScanner.reuseCurrentChar();
+						}
+					}
+					jsonToken = JsonToken.JsonSimpleValue;
+				} else {
+					throw new Exception("Invalid json data '" + (char) currentChar + "' in line " + getReadLines() + " at overall index " + getReadCharacters());
+				}
+				break;
+		}
 		
 		return jsonToken;
 	}
 	
+	/**
+	 * UTF-8 data is scanned on byte level, as long as the token logic of this class is used and no characters were decoded yet
+	 */
+	private boolean isByteScannerActive() throws Exception {
+		if (!byteScannerChecked) {
+			byteScannerChecked = true;
+			if (Utf8JsonScanner.isSupported(getEncoding()) && super.getReadCharacters() == 0) {
+				byteScanner = new Utf8JsonScanner(getUndecodedInputStream());
+			}
+		}
+		return byteScanner != null;
+	}
+	
+	@Override
+	public long getReadCharacters() {
+		return byteScanner != null ? byteScanner.getReadCharacters() : super.getReadCharacters();
+	}
+	
+	@Override
+	public long getReadLines() {
+		return byteScanner != null ? byteScanner.getReadLines() : super.getReadLines();
+	}
+	
+	@Override
+	public void reuseCurrentChar() {
+		if (byteScanner != null) {
+			byteScanner.reuseCurrentChar();
+		} else {
+			super.reuseCurrentChar();
+		}
+	}
+	
+	@Override
+	public void close() {
+		if (byteScanner != null) {
+			byteScanner.close();
+		}
+		super.close();
+	}
+	
 	public boolean readNextJsonNode() throws Exception {
 		if (getReadCharacters() == 0) {
 			throw new Exception("JsonReader position was not initialized for readNextJsonItem()");
 		}
 		
+		int jsonPathDepthBefore = jsonPathDepth;
 		JsonToken nextToken = readNextToken();
 		if (nextToken == JsonToken.JsonObject_Open) {
 			currentObject = readJsonObject();
@@ -185,16 +397,202 @@ public class JsonReader extends BasicReader {
 		} else if (nextToken == JsonToken.JsonObject_Close) {
 			reuseCurrentChar();
 			openJsonItems.push(JsonToken.JsonObject_Open);
+			// The closing token is read again later, closing levels are still unchanged in the path arrays
+			jsonPathDepth = jsonPathDepthBefore;
 			return false;
 		} else if (nextToken == JsonToken.JsonArray_Close) {
 			reuseCurrentChar();
 			openJsonItems.push(JsonToken.JsonArray_Open);
+			jsonPathDepth = jsonPathDepthBefore;
 			return false;
 		} else {
 			throw new Exception("Invalid data in line " + getReadLines() + " at overall index " + getReadCharacters());
 		} 
 	}
 	
+	/**
+	 * Move forward to the next value matching a JsonPath, which may contain wildcards like "$.items[*].id".
+	 * Values, which cannot contain a match, are skipped by counting brackets and double quotes only without decoding their contents.
+	 * This is done for UTF-8 data read by JsonReader itself. Other data is skipped tokenwise.
+	 * Afterwards the reader is positioned in front of the matching value, which can be read by readNextToken() or readNextJsonNode().
+	 * 
+	 * @param jsonPath
+	 * @return false if there is no further matching value
+	 * @throws Exception
+	 */
+	public boolean seekJsonPath(JsonPath jsonPath) throws Exception {
+		if (!jsonPathTracking) {
+			throw new IllegalStateException("JsonPath tracking is switched off");
+		}
+		
+		int pathLength = jsonPath.getLength();
+		while (true) {
+			if (openJsonItems.isEmpty()) {
+				if (pathLength == 0 && getReadCharacters() == 0) {
+					return true;
+				} else if (readNextToken() == null) {
+					return false;
+				}
+			} else if (openJsonItems.peek() == JsonToken.JsonObject_PropertyKey) {
+				// The value of the current property follows, its path is the current path
+				if (jsonPathDepth > pathLength || !matchesJsonPathLevels(jsonPath, jsonPathDepth)) {
+					skipNextJsonValue();
+				} else if (jsonPathDepth == pathLength) {
+					return true;
+				} else {
+					readNextToken();
+				}
+			} else if (openJsonItems.peek() == JsonToken.JsonObject_Open) {
+				// The properties of the current object are on the next level
+				if (jsonPathDepth >= pathLength || !matchesJsonPathLevels(jsonPath, jsonPathDepth) || !jsonPath.canMatchPropertyKey(jsonPathDepth)) {
+					skipRemainingJsonItems();
+				} else {
+					readNextToken();
+				}
+			} else {
+				// The items of the current array are on the array's level
+				int arrayLevel = jsonPathDepth - 1;
+				int nextArrayIndex = jsonPathArrayIndexes[arrayLevel] + 1;
+				if (arrayLevel >= pathLength || !matchesJsonPathLevels(jsonPath, arrayLevel) || !jsonPath.canMatchArrayIndexFrom(arrayLevel, nextArrayIndex)) {
+					skipRemainingJsonItems();
+				} else if (!jsonPath.matches(arrayLevel, null, nextArrayIndex)) {
+					skipNextJsonValue();
+				} else if (arrayLevel + 1 == pathLength) {
+					if (hasNextJsonArrayItem()) {
+						return true;
+					} else {
+						readNextToken();
+					}
+				} else {
+					readNextToken();
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Read the next value matching a JsonPath like readNextJsonNode() does, skipping all values, which cannot contain a match.
+	 * Repeated calls produce a stream of all values matching a JsonPath with wildcards like "$.items[*].id".
+	 * The value is available by getCurrentObject() afterwards.
+	 * 
+	 * @param jsonPath
+	 * @return false if there is no further matching value
+	 * @throws Exception
+	 */
+	public boolean readNextJsonPathMatch(JsonPath jsonPath) throws Exception {
+		while (seekJsonPath(jsonPath)) {
+			JsonToken nextToken = readNextToken();
+			if (nextToken == JsonToken.JsonObject_Open) {
+				currentObject = readJsonObject();
+				return true;
+			} else if (nextToken == JsonToken.JsonArray_Open) {
+				currentObject = readJsonArray();
+				return true;
+			} else if (nextToken == JsonToken.JsonSimpleValue) {
+				return true;
+			} else if (nextToken == null) {
+				return false;
+			}
+		}
+		return false;
+	}
+	
+	private boolean matchesJsonPathLevels(JsonPath jsonPath, int numberOfLevels) {
+		for (int i = 0; i < numberOfLevels; i++) {
+			if (!jsonPath.matches(i, jsonPathPropertyNames[i], jsonPathArrayIndexes[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Skip the next item of the current JsonArray or the value of the current JsonObject property without decoding it
+	 * 
+	 * @return false if the current JsonArray was closed instead
+	 */
+	private boolean skipNextJsonValue() throws Exception {
+		if (isByteScannerActive()) {
+			int currentChar = byteScanner.readNextNonWhitespace();
+			if (currentChar == ',' && openJsonItems.peek() == JsonToken.JsonArray_Open) {
+				currentChar = byteScanner.readNextNonWhitespace();
+			}
+			if (currentChar == -1) {
+				throw new Exception("Premature end of data");
+			} else if (currentChar == ']' || currentChar == '}') {
+				byteScanner.reuseCurrentChar();
+				readNextToken();
+				return false;
+			} else {
+				if (openJsonItems.peek() == JsonToken.JsonObject_PropertyKey) {
+					openJsonItems.pop();
+				}
+				byteScanner.skipValue(currentChar);
+			}
+		} else {
+			JsonToken nextToken = readNextTokenInternal();
+			if (nextToken == null) {
+				throw new Exception("Premature end of data");
+			} else if (nextToken == JsonToken.JsonArray_Close || nextToken == JsonToken.JsonObject_Close) {
+				updateJsonPath(nextToken);
+				return false;
+			}
+			int depth = nextToken == JsonToken.JsonArray_Open || nextToken == JsonToken.JsonObject_Open ? 1 : 0;
+			while (depth > 0) {
+				nextToken = readNextTokenInternal();
+				if (nextToken == null) {
+					throw new Exception("Premature end of data");
+				} else if (nextToken == JsonToken.JsonArray_Open || nextToken == JsonToken.JsonObject_Open) {
+					depth++;
+				} else if (nextToken == JsonToken.JsonArray_Close || nextToken == JsonToken.JsonObject_Close) {
+					depth--;
+				}
+			}
+		}
+		
+		// A skipped JsonObject or JsonArray changes the path like a simple value
+		currentObject = null;
+		updateJsonPath(JsonToken.JsonSimpleValue);
+		return true;
+	}
+	
+	/**
+	 * Skip the remaining items of the current JsonObject or JsonArray including its closing bracket
+	 */
+	private void skipRemainingJsonItems() throws Exception {
+		if (isByteScannerActive()) {
+			byteScanner.skipToContainerEnd();
+			readNextToken();
+		} else {
+			int depth = 0;
+			while (depth >= 0) {
+				JsonToken nextToken = readNextToken();
+				if (nextToken == null) {
+					throw new Exception("Premature end of data");
+				} else if (nextToken == JsonToken.JsonArray_Open || nextToken == JsonToken.JsonObject_Open) {
+					depth++;
+				} else if (nextToken == JsonToken.JsonArray_Close || nextToken == JsonToken.JsonObject_Close) {
+					depth--;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Check if the current JsonArray has a further item without reading it
+	 */
+	private boolean hasNextJsonArrayItem() throws Exception {
+		if (isByteScannerActive()) {
+			int currentChar = byteScanner.readNextNonWhitespace();
+			byteScanner.reuseCurrentChar();
+			return currentChar != -1 && currentChar != ']';
+		} else {
+			Character currentChar = readNextNonWhitespace();
+			reuseCurrentChar();
+			return currentChar != null && currentChar != ']';
+		}
+	}
+	
 	/**
 	 * Read all available Json data from the input stream at once.
 	 * This can only be done once and as the first action on a JsonReader.
@@ -219,15 +617,31 @@ public class JsonReader extends BasicReader {
 		}
 	}
 	
+	/**
+	 * Read the complete json value starting with a token, which was just read by readNextToken()
+	 */
+	Object readJsonValue(JsonToken jsonToken) throws Exception {
+		if (jsonToken == JsonToken.JsonObject_Open) {
+			return readJsonObject();
+		} else if (jsonToken == JsonToken.JsonArray_Open) {
+			return readJsonArray();
+		} else if (jsonToken == JsonToken.JsonSimpleValue) {
+			return currentObject;
+		} else {
+			throw new Exception("Unexpected JsonToken " + jsonToken + " in line " + getReadLines() + " at overall index " + getReadCharacters());
+		}
+	}
+	
 	private JsonObject readJsonObject() throws Exception {
 		if (openJsonItems.peek() != JsonToken.JsonObject_Open) {
 			throw new Exception("Invalid read position for JsonArray in line " + getReadLines() + " at overall index " + getReadCharacters());
 		} else {
-			JsonObject returnObject = new JsonObject();
+			CompactPropertyMap compactProperties = compactMode ? new CompactPropertyMap() : null;
+			JsonObject returnObject = compactMode ? new JsonObject(compactProperties) : new JsonObject();
 			JsonToken nextToken = readNextToken();
 			while (nextToken != JsonToken.JsonObject_Close) {
 				if (nextToken == JsonToken.JsonObject_PropertyKey && currentObject instanceof String) {
-					String propertyKey = (String) currentObject;
+					String propertyKey = compactMode ? internPropertyKey((String) currentObject) : (String) currentObject;
 					nextToken = readNextToken();
 					if (nextToken == JsonToken.JsonArray_Open) {
 						returnObject.add(propertyKey, readJsonArray());
@@ -243,6 +657,9 @@ public class JsonReader extends BasicReader {
 					throw new Exception("Unexpected JsonToken " + nextToken + " in line " + getReadLines() + " at overall index " + getReadCharacters());
 				}
 			}
+			if (compactProperties != null) {
+				compactProperties.trimToSize();
+			}
 			return returnObject;
 		}
 	}
@@ -267,6 +684,9 @@ public class JsonReader extends BasicReader {
 					}
 					nextToken = readNextToken();
 				}
+				if (compactMode) {
+					returnArray.trimToSize(primitiveNumberArrays);
+				}
 				return returnArray;
 			} else {
 				throw new Exception("Unexpected JsonToken " + nextToken + " in line " + getReadLines() + " at overall index " + getReadCharacters());
@@ -308,57 +728,131 @@ public class JsonReader extends BasicReader {
 		}
 	}
 	
+	/**
+	 * Switch the tracking of the current JsonPath on or off.
+	 * Bulk reads, which never call getCurrentJsonPath(), may switch it off to save the tracking effort.
+	 * Must be set before the first read operation.
+	 *
+	 * @param jsonPathTracking
+	 */
+	public void setJsonPathTracking(boolean jsonPathTracking) {
+		if (getReadCharacters() != 0) {
+			throw new IllegalStateException("JsonReader position was already initialized for other read operation");
+		}
+		this.jsonPathTracking = jsonPathTracking;
+	}
+	
+	public boolean isJsonPathTracking() {
+		return jsonPathTracking;
+	}
+	
+	/**
+	 * Switch the compact mode for reading JsonObjects and JsonArrays on or off.<br />
+	 * In compact mode small JsonObjects store their properties in flat arrays instead of a LinkedHashMap, property keys are interned per JsonReader
+	 * and the unused capacity of JsonArrays is released. This needs much less memory for large data with many small JsonObjects.
+	 * Lookup of properties in small JsonObjects is linear, which is as fast as hashing for the few properties stored in this form.
+	 *
+	 * @param compactMode
+	 */
+	public void setCompactMode(boolean compactMode) {
+		this.compactMode = compactMode;
+	}
+	
+	public boolean isCompactMode() {
+		return compactMode;
+	}
+	
+	/**
+	 * Store JsonArrays of numbers of only one type (Integer, Long, Float or Double) as primitive arrays in compact mode.<br />
+	 * The numbers are boxed again on each read access, so this saves memory at the cost of some read speed.
+	 *
+	 * @param primitiveNumberArrays
+	 */
+	public void setPrimitiveNumberArrays(boolean primitiveNumberArrays) {
+		this.primitiveNumberArrays = primitiveNumberArrays;
+	}
+	
+	public boolean isPrimitiveNumberArrays() {
+		return primitiveNumberArrays;
+	}
+	
+	private String internPropertyKey(String propertyKey) {
+		if (propertyKeyDictionary == null) {
+			propertyKeyDictionary = new HashMap<String, String>();
+		}
+		String internedPropertyKey = propertyKeyDictionary.get(propertyKey);
+		if (internedPropertyKey != null) {
+			return internedPropertyKey;
+		} else {
+			if (propertyKeyDictionary.size() < MAXIMUM_PROPERTY_KEY_DICTIONARY_SIZE) {
+				propertyKeyDictionary.put(propertyKey, propertyKey);
+			}
+			return propertyKey;
+		}
+	}
+	
 	protected void updateJsonPath(JsonToken jsonToken) {
 		if (jsonToken != null) {
 			switch(jsonToken) {
 				case JsonArray_Open:
-					if (currentJsonPath.size() > 0 && currentJsonPath.peek().startsWith("[")) {
-						riseArrayIndex();
-					}
-					currentJsonPath.push("[]");
+					riseArrayIndex();
+					pushJsonPathLevel(null);
 					break;
 				case JsonArray_Close:
-					if (currentJsonPath.size() > 0 && currentJsonPath.peek().startsWith("[")) {
-						currentJsonPath.pop();
+					if (isArrayJsonPathLevel()) {
+						jsonPathDepth--;
 					}
-					if (currentJsonPath.size() > 0 && currentJsonPath.peek().startsWith(".")) {
-						currentJsonPath.pop();
+					if (isPropertyJsonPathLevel()) {
+						jsonPathDepth--;
 					}
 					break;
 				case JsonObject_Open:
-					if (currentJsonPath.size() > 0 && currentJsonPath.peek().startsWith("[")) {
-						riseArrayIndex();
-					}
+					riseArrayIndex();
 					break;
 				case JsonObject_PropertyKey:
-					currentJsonPath.push("." + (String) getCurrentObject());
+					pushJsonPathLevel((String) getCurrentObject());
 					break;
 				case JsonSimpleValue:
-					if (currentJsonPath.size() > 0) {
-						if (currentJsonPath.peek().startsWith("[")) {
-							riseArrayIndex();
-						} else if (currentJsonPath.peek().startsWith(".")) {
-							currentJsonPath.pop();
-						}
+					if (isArrayJsonPathLevel()) {
+						riseArrayIndex();
+					} else if (isPropertyJsonPathLevel()) {
+						jsonPathDepth--;
 					}
 					break;
 				case JsonObject_Close:
-					if (currentJsonPath.size() > 0 && currentJsonPath.peek().startsWith(".")) {
-						currentJsonPath.pop();
+					if (isPropertyJsonPathLevel()) {
+						jsonPathDepth--;
 					}
 					break;
 			}
 		}
 	}
-
+	
+	private boolean isArrayJsonPathLevel() {
+		return jsonPathDepth > 0 && jsonPathPropertyNames[jsonPathDepth - 1] == null;
+	}
+	
+	private boolean isPropertyJsonPathLevel() {
+		return jsonPathDepth > 0 && jsonPathPropertyNames[jsonPathDepth - 1] != null;
+	}
+	
+	/**
+	 * Push an array level (propertyName null) or an object property level
+	 */
+	private void pushJsonPathLevel(String propertyName) {
+		if (jsonPathDepth == jsonPathPropertyNames.length) {
+			jsonPathArrayIndexes = Arrays.copyOf(jsonPathArrayIndexes, jsonPathDepth * 2);
+			jsonPathPropertyNames = Arrays.copyOf(jsonPathPropertyNames, jsonPathDepth * 2);
+		}
+		jsonPathArrayIndexes[jsonPathDepth] = -1;
+		jsonPathPropertyNames[jsonPathDepth] = propertyName;
+		jsonPathDepth++;
+	}
+	
 	private void riseArrayIndex() {
-		String currentArrayIndexString = currentJsonPath.pop();
-		currentArrayIndexString = currentArrayIndexString.substring(1, currentArrayIndexString.length() - 1);
-		int newArrayIndex = 0;
-		if (currentArrayIndexString.length() > 0) {
-			newArrayIndex = Integer.parseInt(currentArrayIndexString) + 1;
+		if (isArrayJsonPathLevel()) {
+			jsonPathArrayIndexes[jsonPathDepth - 1]++;
 		}
-		currentJsonPath.push("[" + newArrayIndex + "]");
 	}
 	
 	/**
@@ -372,6 +866,68 @@ public class JsonReader extends BasicReader {
 	 * 	"$.list.customer[0].name"<br />
 	 */
 	public String getCurrentJsonPath() {
-		return "$" + Utilities.join(currentJsonPath, "");
+		if (!jsonPathTracking) {
+			throw new IllegalStateException("JsonPath tracking is switched off");
+		}
+		StringBuilder jsonPath = new StringBuilder("$");
+		for (int i = 0; i < jsonPathDepth; i++) {
+			if (jsonPathPropertyNames[i] != null) {
+				jsonPath.append('.').append(jsonPathPropertyNames[i]);
+			} else if (jsonPathArrayIndexes[i] < 0) {
+				jsonPath.append("[]");
+			} else {
+				jsonPath.append('[').append(jsonPathArrayIndexes[i]).append(']');
+			}
+		}
+		return jsonPath.toString();
+	}
+	
+	/**
+	 * Check if the current JsonPath equals a JsonPath in the syntax of getCurrentJsonPath() without rendering the current JsonPath
+	 *
+	 * @param jsonPath
+	 * @return
+	 */
+	public boolean isCurrentJsonPath(String jsonPath) {
+		if (!jsonPathTracking) {
+			throw new IllegalStateException("JsonPath tracking is switched off");
+		} else if (jsonPath == null || !jsonPath.startsWith("$")) {
+			return false;
+		}
+		int position = 1;
+		for (int i = 0; i < jsonPathDepth; i++) {
+			if (position >= jsonPath.length()) {
+				return false;
+			}
+			String propertyName = jsonPathPropertyNames[i];
+			if (propertyName != null) {
+				if (jsonPath.charAt(position) != '.' || !jsonPath.startsWith(propertyName, position + 1)) {
+					return false;
+				}
+				position += 1 + propertyName.length();
+			} else {
+				if (jsonPath.charAt(position) != '[') {
+					return false;
+				}
+				position++;
+				int arrayIndex = jsonPathArrayIndexes[i];
+				if (arrayIndex >= 0) {
+					int indexStart = position;
+					int index = 0;
+					while (position < jsonPath.length() && jsonPath.charAt(position) >= '0' && jsonPath.charAt(position) <= '9' && index <= arrayIndex) {
+						index = index * 10 + (jsonPath.charAt(position) - '0');
+						position++;
+					}
+					if (position == indexStart || index != arrayIndex || (jsonPath.charAt(indexStart) == '0' && position - indexStart > 1)) {
+						return false;
+					}
+				}
+				if (position >= jsonPath.length() || jsonPath.charAt(position) != ']') {
+					return false;
+				}
+				position++;
+			}
+		}
+		return position == jsonPath.length();
 	}
 }
@@ -1,22 +1,23 @@
 package de.soderer.utilities.json;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import de.soderer.utilities.DateUtilities;
-import de.soderer.utilities.Utilities;
+import de.soderer.utilities.json.JsonReader.JsonToken;
+import de.soderer.utilities.json.JsonSerializerClassMetadata.FieldMetadata;
 
 public class JsonSerializer {
 	/**
@@ -31,7 +32,7 @@ public class JsonSerializer {
 	 * @throws Exception
 	 */
 	public static JsonNode serialize(Object dataObject) throws Exception {
-		return serializeInternal(dataObject, false, false, false, false, new ArrayList<>());
+		return serializeInternal(dataObject, false, false, false, false, Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>()));
 	}
 	
 	/**
@@ -46,10 +47,10 @@ public class JsonSerializer {
 	 * @throws Exception
 	 */
 	public static JsonNode serialize(Object dataObject, boolean excludeNull, boolean includeStatic, boolean includeTransient, boolean addObjectTypeInfo) throws Exception {
-		return serializeInternal(dataObject, excludeNull, includeStatic, includeTransient, addObjectTypeInfo, new ArrayList<>());
+		return serializeInternal(dataObject, excludeNull, includeStatic, includeTransient, addObjectTypeInfo, Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>()));
 	}
 		
-	private static JsonNode serializeInternal(Object dataObject, boolean excludeNull, boolean includeStatic, boolean includeTransient, boolean addObjectTypeInfo, List<Object> alreadyVisitedObjects) throws Exception {
+	private static JsonNode serializeInternal(Object dataObject, boolean excludeNull, boolean includeStatic, boolean includeTransient, boolean addObjectTypeInfo, Set<Object> alreadyVisitedObjects) throws Exception {
 		if (dataObject == null) {
 			if (excludeNull) {
 				// This may only occur on top level of data
@@ -93,7 +94,7 @@ public class JsonSerializer {
 		    	return new JsonNode(dataObject.toString());
 		    }
 		} else if (dataObject.getClass().isArray()) {
-			if (Utilities.containsObject(alreadyVisitedObjects, dataObject)) {
+			if (alreadyVisitedObjects.contains(dataObject)) {
 				throw new Exception("Cyclic reference detected. Cannot serialize object: " + dataObject.getClass() + " (Hashcode " + System.identityHashCode(dataObject) + ")");
 			} else {
 				// the same object may be included multiple times in parent objects, but not in child objects
@@ -121,7 +122,7 @@ public class JsonSerializer {
 			    }
 			}
 		} else if (dataObject instanceof Iterable<?>) {
-			if (Utilities.containsObject(alreadyVisitedObjects, dataObject)) {
+			if (alreadyVisitedObjects.contains(dataObject)) {
 				throw new Exception("Cyclic reference detected. Cannot serialize object: " + dataObject.getClass() + " (Hashcode " + System.identityHashCode(dataObject) + ")");
 			} else {
 				// the same object may be included multiple times in parent objects, but not in child objects
@@ -147,7 +148,7 @@ public class JsonSerializer {
 			    }
 			}
 		} else if (dataObject instanceof Map<?, ?>) {
-			if (Utilities.containsObject(alreadyVisitedObjects, dataObject)) {
+			if (alreadyVisitedObjects.contains(dataObject)) {
 				throw new Exception("Cyclic reference detected. Cannot serialize object: " + dataObject.getClass() + " (Hashcode " + System.identityHashCode(dataObject) + ")");
 			} else {
 				// the same object may be included multiple times in parent objects, but not in child objects
@@ -185,24 +186,15 @@ public class JsonSerializer {
 			    }
 			}
 		} else {
-			if (Utilities.containsObject(alreadyVisitedObjects, dataObject)) {
+			if (alreadyVisitedObjects.contains(dataObject)) {
 				throw new Exception("Cyclic reference detected. Cannot serialize object: " + dataObject.getClass() + " (Hashcode " + System.identityHashCode(dataObject) + ")");
 			} else {
 				// the same object may be included multiple times in parent objects, but not in child objects
 				alreadyVisitedObjects.add(dataObject);
 			
 				JsonObject dataJsonObject = new JsonObject();
-				Class<?> dataClass = dataObject.getClass();
-				for (Field dataField : dataClass.getDeclaredFields()) {
-					boolean serializeField = true;
-					if ((dataField.getModifiers() & Modifier.TRANSIENT) == Modifier.TRANSIENT && !includeTransient) {
-						serializeField = false;
-					} else if ((dataField.getModifiers() & Modifier.STATIC) == Modifier.STATIC && !includeStatic) {
-						serializeField = false;
-					}
-					
-					if (serializeField) {
-						dataField.setAccessible(true);
+				for (FieldMetadata dataField : JsonSerializerClassMetadata.get(dataObject.getClass()).getFields()) {
+					if ((!dataField.isTransient() || includeTransient) && (!dataField.isStatic() || includeStatic)) {
 						String fieldName = dataField.getName();
 						Object fieldData = dataField.get(dataObject);
 						if (fieldData != null || !excludeNull) {
@@ -233,6 +225,148 @@ public class JsonSerializer {
 		}
 	}
 	
+	/**
+	 * Serialize an object directly to a JsonWriter without creating json items in memory<br />
+	 * - Serializes null values<br />
+	 * - Excludes static fields<br />
+	 * - Excludes transient fields<br />
+	 * - Does not show object type infos<br />
+	 * 
+	 * @param dataObject
+	 * @param jsonWriter
+	 * @throws Exception
+	 */
+	public static void serialize(Object dataObject, JsonWriter jsonWriter) throws Exception {
+		serialize(dataObject, jsonWriter, false, false, false, false);
+	}
+	
+	/**
+	 * Serialize an object directly to a JsonWriter without creating json items in memory.
+	 * The output is the same as for writing the result of serialize(Object, boolean, boolean, boolean, boolean).
+	 * The object is written at the current position of the JsonWriter, so it may also be an array item or object property value.
+	 * A null object with "excludeNull" writes nothing. Cyclic references are detected after the preceding data was written.
+	 * 
+	 * @param dataObject
+	 * @param jsonWriter
+	 * @param excludeNull Do not serialize null values
+	 * @param includeStatic Serialize fields with a "static" modifier
+	 * @param includeTransient Serialize fields with a "transient" modifier
+	 * @param addObjectTypeInfo Add object type info
+	 * @throws Exception
+	 */
+	public static void serialize(Object dataObject, JsonWriter jsonWriter, boolean excludeNull, boolean includeStatic, boolean includeTransient, boolean addObjectTypeInfo) throws Exception {
+		if (jsonWriter == null) {
+			throw new IllegalArgumentException("JsonWriter is null");
+		} else if (dataObject != null || !excludeNull) {
+			serializeInternal(dataObject, jsonWriter, excludeNull, includeStatic, includeTransient, addObjectTypeInfo, Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>()));
+		}
+	}
+	
+	private static void serializeInternal(Object dataObject, JsonWriter jsonWriter, boolean excludeNull, boolean includeStatic, boolean includeTransient, boolean addObjectTypeInfo, Set<Object> alreadyVisitedObjects) throws Exception {
+		if (addObjectTypeInfo) {
+			jsonWriter.openJsonObject();
+			jsonWriter.openJsonObjectProperty("class");
+			jsonWriter.addSimpleJsonObjectPropertyValue(dataObject == null ? null : dataObject.getClass().getName());
+			jsonWriter.openJsonObjectProperty("value");
+			serializeValue(dataObject, jsonWriter, excludeNull, includeStatic, includeTransient, addObjectTypeInfo, alreadyVisitedObjects);
+			jsonWriter.closeJsonObject();
+		} else {
+			serializeValue(dataObject, jsonWriter, excludeNull, includeStatic, includeTransient, addObjectTypeInfo, alreadyVisitedObjects);
+		}
+	}
+	
+	/**
+	 * Write an object without its type info
+	 */
+	private static void serializeValue(Object dataObject, JsonWriter jsonWriter, boolean excludeNull, boolean includeStatic, boolean includeTransient, boolean addObjectTypeInfo, Set<Object> alreadyVisitedObjects) throws Exception {
+		if (dataObject == null
+				|| dataObject instanceof Number
+				|| dataObject instanceof String
+				|| dataObject instanceof Character
+				|| dataObject instanceof Boolean) {
+			jsonWriter.addSimpleJsonValue(dataObject);
+		} else if (dataObject instanceof Date) {
+			if (addObjectTypeInfo) {
+				jsonWriter.addSimpleJsonValue(dataObject);
+			} else {
+				jsonWriter.addSimpleJsonValue(new SimpleDateFormat(DateUtilities.ISO_8601_DATETIME_FORMAT).format((Date) dataObject));
+			}
+		} else if (dataObject instanceof Enum) {
+			jsonWriter.addSimpleJsonValue(dataObject.toString());
+		} else if (alreadyVisitedObjects.contains(dataObject)) {
+			throw new Exception("Cyclic reference detected. Cannot serialize object: " + dataObject.getClass() + " (Hashcode " + System.identityHashCode(dataObject) + ")");
+		} else {
+			// the same object may be included multiple times in parent objects, but not in child objects
+			alreadyVisitedObjects.add(dataObject);
+			
+			if (dataObject.getClass().isArray()) {
+				jsonWriter.openJsonArray();
+				int length = Array.getLength(dataObject);
+			    for (int i = 0; i < length; i ++) {
+			        Object item = Array.get(dataObject, i);
+			        if (item != null || !excludeNull) {
+			        	serializeInternal(item, jsonWriter, excludeNull, includeStatic, includeTransient, addObjectTypeInfo, alreadyVisitedObjects);
+			        }
+			    }
+				jsonWriter.closeJsonArray();
+			} else if (dataObject instanceof Iterable<?>) {
+				jsonWriter.openJsonArray();
+				for (Object item : (Iterable<?>) dataObject) {
+					if (item != null || !excludeNull) {
+						serializeInternal(item, jsonWriter, excludeNull, includeStatic, includeTransient, addObjectTypeInfo, alreadyVisitedObjects);
+					}
+				}
+				jsonWriter.closeJsonArray();
+			} else if (dataObject instanceof Map<?, ?>) {
+				jsonWriter.openJsonArray();
+				for (Entry<?, ?> entry : ((Map<?, ?>) dataObject).entrySet()) {
+					jsonWriter.openJsonObject();
+					
+					jsonWriter.openJsonObjectProperty("key");
+					if (entry.getKey() == null) {
+						jsonWriter.addSimpleJsonObjectPropertyValue(null);
+					} else {
+						serializeInternal(entry.getKey(), jsonWriter, excludeNull, includeStatic, includeTransient, addObjectTypeInfo, alreadyVisitedObjects);
+					}
+					
+					jsonWriter.openJsonObjectProperty("value");
+					if (entry.getValue() == null) {
+						jsonWriter.addSimpleJsonObjectPropertyValue(null);
+					} else {
+						serializeInternal(entry.getValue(), jsonWriter, excludeNull, includeStatic, includeTransient, addObjectTypeInfo, alreadyVisitedObjects);
+					}
+					
+					jsonWriter.closeJsonObject();
+				}
+				jsonWriter.closeJsonArray();
+			} else {
+				jsonWriter.openJsonObject();
+				for (FieldMetadata dataField : JsonSerializerClassMetadata.get(dataObject.getClass()).getFields()) {
+					if ((!dataField.isTransient() || includeTransient) && (!dataField.isStatic() || includeStatic)) {
+						Object fieldData = dataField.get(dataObject);
+						if (fieldData != null || !excludeNull) {
+							jsonWriter.openJsonObjectProperty(dataField.getName());
+							if (fieldData == null && addObjectTypeInfo) {
+								jsonWriter.openJsonObject();
+								jsonWriter.openJsonObjectProperty("class");
+								jsonWriter.addSimpleJsonObjectPropertyValue(dataField.getType().getName());
+								jsonWriter.openJsonObjectProperty("value");
+								jsonWriter.addSimpleJsonObjectPropertyValue(null);
+								jsonWriter.closeJsonObject();
+							} else {
+								serializeInternal(fieldData, jsonWriter, excludeNull, includeStatic, includeTransient, addObjectTypeInfo, alreadyVisitedObjects);
+							}
+						}
+					}
+				}
+				jsonWriter.closeJsonObject();
+			}
+			
+		    // the same object may be included multiple times in parent objects
+		    alreadyVisitedObjects.remove(dataObject);
+		}
+	}
+	
 	public static Object deserialize(JsonNode jsonData) throws Exception {
 		if (jsonData == null) {
 			throw new Exception("JSON data is null");
@@ -302,18 +436,16 @@ public class JsonSerializer {
 				return DateUtilities.parseIso8601DateTimeString((String) value);
 	        } else if (value instanceof JsonObject) {
 				Object object = clazz.newInstance();
+				JsonSerializerClassMetadata classMetadata = JsonSerializerClassMetadata.get(clazz);
 				for (Entry<String, Object> entry : ((JsonObject) value).entrySet()) {
 					if (!(entry.getValue() instanceof JsonObject)) {
 						throw new Exception("Invalid value type serialization value");
 					}
 					
-					Field field;
-					try {
-						field = clazz.getDeclaredField(entry.getKey());
-					} catch (Exception e) {
+					FieldMetadata field = classMetadata.getField(entry.getKey());
+					if (field == null) {
 						throw new Exception("Invalid field name serialization value");
 					}
-			        field.setAccessible(true);
 			        field.set(object, deserialize((JsonObject) entry.getValue()));
 				}
 				return object;
@@ -475,226 +607,22 @@ public class JsonSerializer {
 			return null;
 		} else {
 			Object object = classType.newInstance();
-			for (Entry<String, Object> entry : ((JsonObject) jsonObject).entrySet()) {
-				Field field;
-				try {
-					field = classType.getDeclaredField(entry.getKey());
-				} catch (Exception e) {
+			JsonSerializerClassMetadata classMetadata = JsonSerializerClassMetadata.get(classType);
+			for (Entry<String, Object> entry : jsonObject.entrySet()) {
+				FieldMetadata field = classMetadata.getField(entry.getKey());
+				if (field == null) {
 					throw new Exception("Invalid serialization field name '" + entry.getKey() + "' for class '" + classType.toString() + "'");
 				}
-		        field.setAccessible(true);
 		        
 		        Object value = entry.getValue();
 		        try {
-		        	Class<?> clazz = field.getType();
 			        if (value == null) {
 						field.set(object, null);
-					} else if (clazz == Boolean.TYPE || clazz == Boolean.class) {
-						field.set(object, value);
-					} else if (clazz == Byte.TYPE || clazz == Byte.class) {
-						field.set(object, ((Number) value).byteValue());
-			        } else if (clazz == Short.TYPE || clazz == Short.class) {
-			        	field.set(object, ((Number) value).shortValue());
-			        } else if (clazz == Integer.TYPE || clazz == Integer.class) {
-			        	field.set(object, ((Number) value).intValue());
-			        } else if (clazz == Long.TYPE || clazz == Long.class) {
-			        	field.set(object, ((Number) value).longValue());
-			        } else if (clazz == Float.TYPE || clazz == Float.class) {
-			        	field.set(object, ((Number) value).floatValue());
-			        } else if (clazz == Double.TYPE || clazz == Double.class) {
-			        	if (value.getClass() == Float.class) {
-			        		field.set(object, new Double(Float.toString((Float) value)));
-			        	} else {
-			        		field.set(object, ((Number) value).doubleValue());
-			        	}
-			        } else if (clazz == BigDecimal.class) {
-			        	field.set(object, value);
-			        } else if (clazz == Character.TYPE || clazz == Character.class) {
-			        	field.set(object, ((String) value).charAt(0));
-			        } else if (clazz == String.class) {
-						field.set(object, value);
-					} else if (Date.class.isAssignableFrom(clazz)) {
-						field.set(object, DateUtilities.parseIso8601DateTimeString((String) value));
-					} else if (clazz.isEnum()) {
-						String enumName = (String) value;
-						for (Object enumConstant : clazz.getEnumConstants()) {
-							if (enumName.equals(enumConstant.toString())) {
-								field.set(object, enumConstant);
-								break;
-							}
-						}
-					} else if (clazz.isArray()) {
-						JsonArray jsonArray = ((JsonArray) value);
-						if (clazz.getComponentType() == Boolean.TYPE) {
-							boolean[] arrayValue = new boolean[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = (boolean) jsonArray.get(i);
-							}
-							field.set(object, arrayValue);
-						} else if (clazz.getComponentType() == Boolean.class) {
-							Boolean[] arrayValue = new Boolean[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = (Boolean) jsonArray.get(i);
-							}
-							field.set(object, arrayValue);
-						} else if (clazz.getComponentType() == Byte.TYPE) {
-							byte[] arrayValue = new byte[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = ((Number) jsonArray.get(i)).byteValue();
-							}
-							field.set(object, arrayValue);
-						} else if (clazz.getComponentType() == Byte.class) {
-							Byte[] arrayValue = new Byte[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = ((Number) jsonArray.get(i)).byteValue();
-							}
-							field.set(object, arrayValue);
-						} else if (clazz.getComponentType() == Short.TYPE) {
-							short[] arrayValue = new short[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = ((Number) jsonArray.get(i)).shortValue();
-							}
-							field.set(object, arrayValue);
-						} else if (clazz.getComponentType() == Short.class) {
-							Short[] arrayValue = new Short[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = ((Number) jsonArray.get(i)).shortValue();
-							}
-							field.set(object, arrayValue);
-						} else if (clazz.getComponentType() == Integer.TYPE) {
-							int[] arrayValue = new int[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = ((Number) jsonArray.get(i)).intValue();
-							}
-							field.set(object, arrayValue);
-						} else if (clazz.getComponentType() == Integer.class) {
-							Integer[] arrayValue = new Integer[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = ((Number) jsonArray.get(i)).intValue();
-							}
-							field.set(object, arrayValue);
-						} else if (clazz.getComponentType() == Long.TYPE) {
-							long[] arrayValue = new long[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = ((Number) jsonArray.get(i)).longValue();
-							}
-							field.set(object, arrayValue);
-						} else if (clazz.getComponentType() == Long.class) {
-							Long[] arrayValue = new Long[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = ((Number) jsonArray.get(i)).longValue();
-							}
-							field.set(object, arrayValue);
-						} else if (clazz.getComponentType() == Float.TYPE) {
-							float[] arrayValue = new float[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = (float) jsonArray.get(i);
-							}
-							field.set(object, arrayValue);
-						} else if (clazz.getComponentType() == Float.class) {
-							Float[] arrayValue = new Float[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = (float) jsonArray.get(i);
-							}
-							field.set(object, arrayValue);
-						} else if (clazz.getComponentType() == Double.TYPE) {
-							double[] arrayValue = new double[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = (double) jsonArray.get(i);
-							}
-							field.set(object, arrayValue);
-						} else if (clazz.getComponentType() == Double.class) {
-							Double[] arrayValue = new Double[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = (double) jsonArray.get(i);
-							}
-							field.set(object, arrayValue);
-						} else if (clazz.getComponentType() == Character.TYPE) {
-							char[] arrayValue = new char[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = ((String) jsonArray.get(i)).charAt(0);
-							}
-							field.set(object, arrayValue);
-						} else if (clazz.getComponentType() == Character.class) {
-							Character[] arrayValue = new Character[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = ((String) jsonArray.get(i)).charAt(0);
-							}
-							field.set(object, arrayValue);
-						} else if (clazz.getComponentType() == String.class) {
-							String[] arrayValue = new String[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = (String) jsonArray.get(i);
-							}
-							field.set(object, arrayValue);
-						} else if (Date.class.isAssignableFrom(clazz.getComponentType())) {
-							Date[] arrayValue = new Date[jsonArray.size()];
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = new SimpleDateFormat(DateUtilities.ISO_8601_DATETIME_FORMAT).parse((String) jsonArray.get(i));
-							}
-							field.set(object, arrayValue);
-						} else if (Enum.class.isAssignableFrom(clazz.getComponentType())) {
-							Object[] arrayValue = (Object[]) Array.newInstance(clazz.getComponentType(), jsonArray.size());
-							for (int i = 0; i < arrayValue.length; i++) {
-								String enumName = (String) jsonArray.get(i);
-								boolean enumFound = false;
-								for (Object enumConstant : clazz.getComponentType().getEnumConstants()) {
-									if (enumName.equals(enumConstant.toString())) {
-										arrayValue[i] = enumConstant;
-										enumFound = true;
-										break;
-									}
-								}
-								if (enumFound == false) {
-									throw new Exception("Invalid enum name '" + enumName + "' for type '" + clazz.getComponentType().getName() + "'");
-								}
-							}
-							field.set(object, arrayValue);
-						} else {
-							Object[] arrayValue = (Object[]) Array.newInstance(clazz.getComponentType(), jsonArray.size());
-							for (int i = 0; i < arrayValue.length; i++) {
-								arrayValue[i] = deserialize(Object.class, (JsonObject) jsonArray.get(i));
-							}
-							field.set(object, arrayValue);
-						}
-					} else if (List.class.isAssignableFrom(clazz)) {
-						List<Object> listOfItems = new ArrayList<>();
-						for (Object item : (JsonArray) value) {
-							listOfItems.add(item);
-						}
-						field.set(object, listOfItems);
-					} else if (Set.class.isAssignableFrom(clazz)) {
-						Set<Object> setOfItems = new HashSet<>();
-						for (Object item : (JsonArray) value) {
-							setOfItems.add(item);
-						}
-						field.set(object, setOfItems);
-					} else if (Collection.class.isAssignableFrom(clazz)) {
-						Collection<Object> collectionOfItems = new ArrayList<>();
-						for (Object item : (JsonArray) value) {
-							collectionOfItems.add(item);
-						}
-						field.set(object, collectionOfItems);
-					} else if (Map.class.isAssignableFrom(clazz)) {
-						Map<Object, Object> mapObject = new HashMap<>();
-						if (!(value instanceof JsonArray)) {
-							throw new Exception("Invalid value type serialization value");
-						}
-						for (Object keyValueObject : (JsonArray) value) {
-							if (!(keyValueObject instanceof JsonObject)) {
-								throw new Exception("Invalid value type serialization value");
-							}
-							
-							Object keyObject = ((JsonObject) keyValueObject).get("key");
-							Object valueObject = ((JsonObject) keyValueObject).get("value");
-							
-							mapObject.put(keyObject, valueObject);
-						}
-						field.set(object, mapObject);
-					} else if (value instanceof JsonObject) {
-						field.set(object, deserialize(clazz, (JsonObject) value));
 					} else {
-						field.set(object, deserialize(clazz.getComponentType(), (JsonObject) value));
+						Object fieldValue = field.decode(value);
+						if (fieldValue != JsonSerializerClassMetadata.NO_VALUE) {
+							field.set(object, fieldValue);
+						}
 					}
 		        } catch (Exception e) {
 					throw new Exception("Invalid value type for field '" + entry.getKey() + "' in class '" + classType.toString() + "': " + e.getMessage(), e);
@@ -703,4 +631,277 @@ public class JsonSerializer {
 			return object;
 		}
 	}
+	
+	/**
+	 * Deserialize the next json object of a JsonReader into a new object of a class without creating json items in memory.
+	 * The values are converted like by deserialize(Class, JsonObject). Values of arrays, collections and maps are read as json items before conversion.
+	 * A json null value results in null.
+	 * 
+	 * @param classType
+	 * @param jsonReader
+	 * @return
+	 * @throws Exception
+	 */
+	public static <T> T deserialize(Class<T> classType, JsonReader jsonReader) throws Exception {
+		if (classType == null) {
+			throw new Exception("Invalid class type serialization value");
+		} else if (jsonReader == null) {
+			throw new IllegalArgumentException("JsonReader is null");
+		} else {
+			return deserializeJsonItem(classType, jsonReader, jsonReader.readNextToken());
+		}
+	}
+	
+	/**
+	 * Iterate over the items of the next json array of a JsonReader, which are deserialized one by one like by deserialize(Class, JsonReader).
+	 * So huge json arrays can be processed without keeping all items in memory.
+	 * Errors are thrown as RuntimeException with the original exception as cause.
+	 * 
+	 * @param classType
+	 * @param jsonReader
+	 * @return
+	 * @throws Exception
+	 */
+	public static <T> Iterator<T> deserializeJsonArrayItems(final Class<T> classType, final JsonReader jsonReader) throws Exception {
+		if (classType == null) {
+			throw new Exception("Invalid class type serialization value");
+		} else if (jsonReader == null) {
+			throw new IllegalArgumentException("JsonReader is null");
+		}
+		
+		JsonToken jsonToken = jsonReader.readNextToken();
+		if (jsonToken != JsonToken.JsonArray_Open) {
+			throw new Exception("Invalid json data: Expected JsonArray but found " + jsonToken + " in line " + jsonReader.getReadLines() + " at overall index " + jsonReader.getReadCharacters());
+		}
+		
+		return new Iterator<T>() {
+			private JsonToken nextItemToken = null;
+			private boolean endOfArray = false;
+			
+			@Override
+			public boolean hasNext() {
+				if (nextItemToken == null && !endOfArray) {
+					try {
+						nextItemToken = jsonReader.readNextToken();
+						if (nextItemToken == JsonToken.JsonArray_Close) {
+							nextItemToken = null;
+							endOfArray = true;
+						} else if (nextItemToken == null) {
+							throw new Exception("Premature end of data in JsonArray in line " + jsonReader.getReadLines() + " at overall index " + jsonReader.getReadCharacters());
+						}
+					} catch (RuntimeException e) {
+						throw e;
+					} catch (Exception e) {
+						throw new RuntimeException(e);
+					}
+				}
+				return nextItemToken != null;
+			}
+			
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				JsonToken itemToken = nextItemToken;
+				nextItemToken = null;
+				try {
+					return deserializeJsonItem(classType, jsonReader, itemToken);
+				} catch (RuntimeException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			}
+			
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+	
+	private static <T> T deserializeJsonItem(Class<T> classType, JsonReader jsonReader, JsonToken jsonToken) throws Exception {
+		if (jsonToken == JsonToken.JsonSimpleValue && jsonReader.getCurrentObject() == null) {
+			return null;
+		} else if (jsonToken != JsonToken.JsonObject_Open) {
+			throw new Exception("Invalid json data for class '" + classType.getName() + "': Expected JsonObject but found " + jsonToken + " in line " + jsonReader.getReadLines() + " at overall index " + jsonReader.getReadCharacters());
+		} else {
+			return classType.cast(deserializeJsonObject(classType, jsonReader));
+		}
+	}
+	
+	/**
+	 * Bind the properties of a json object, whose opening token was just read, to a new object of a class
+	 */
+	static Object deserializeJsonObject(Class<?> classType, JsonReader jsonReader) throws Exception {
+		Object object = classType.getDeclaredConstructor().newInstance();
+		JsonSerializerClassMetadata classMetadata = JsonSerializerClassMetadata.get(classType);
+		JsonToken jsonToken;
+		while ((jsonToken = jsonReader.readNextToken()) != JsonToken.JsonObject_Close) {
+			if (jsonToken != JsonToken.JsonObject_PropertyKey) {
+				throw new Exception("Unexpected JsonToken " + jsonToken + " in line " + jsonReader.getReadLines() + " at overall index " + jsonReader.getReadCharacters());
+			}
+			String propertyKey = (String) jsonReader.getCurrentObject();
+			FieldMetadata field = classMetadata.getField(propertyKey);
+			if (field == null) {
+				throw new Exception("Invalid serialization field name '" + propertyKey + "' for class '" + classType.toString() + "'");
+			}
+			
+			JsonToken valueToken = jsonReader.readNextToken();
+			try {
+				if (valueToken == JsonToken.JsonSimpleValue && jsonReader.getCurrentObject() == null) {
+					field.set(object, null);
+				} else {
+					Object fieldValue = field.read(jsonReader, valueToken);
+					if (fieldValue != JsonSerializerClassMetadata.NO_VALUE) {
+						field.set(object, fieldValue);
+					}
+				}
+			} catch (Exception e) {
+				throw new Exception("Invalid value type for field '" + propertyKey + "' in class '" + classType.toString() + "': " + e.getMessage(), e);
+			}
+		}
+		return object;
+	}
+	
+	/**
+	 * Deserialize the next json object of a JsonReader, which contains object type infos like written by serialize() with "addObjectTypeInfo".
+	 * Objects and collections of objects are bound directly from the JsonReader tokens, other values are read as json items and converted like by deserialize(JsonObject).
+	 * 
+	 * @param jsonReader
+	 * @return
+	 * @throws Exception
+	 */
+	public static Object deserialize(JsonReader jsonReader) throws Exception {
+		if (jsonReader == null) {
+			throw new IllegalArgumentException("JsonReader is null");
+		}
+		
+		JsonToken jsonToken = jsonReader.readNextToken();
+		if (jsonToken == JsonToken.JsonObject_Open) {
+			return deserializeTypedJsonObject(jsonReader);
+		} else if (jsonToken == JsonToken.JsonSimpleValue && jsonReader.getCurrentObject() == null) {
+			throw new Exception("JSON object is null");
+		} else {
+			throw new Exception("JSON data is not an object");
+		}
+	}
+	
+	/**
+	 * Deserialize a json object with object type info, whose opening token was just read
+	 */
+	private static Object deserializeTypedJsonObject(JsonReader jsonReader) throws Exception {
+		boolean classFound = false;
+		Object className = null;
+		boolean valueFound = false;
+		Object value = null;
+		JsonToken jsonToken;
+		while ((jsonToken = jsonReader.readNextToken()) != JsonToken.JsonObject_Close) {
+			if (jsonToken != JsonToken.JsonObject_PropertyKey) {
+				throw new Exception("Unexpected JsonToken " + jsonToken + " in line " + jsonReader.getReadLines() + " at overall index " + jsonReader.getReadCharacters());
+			}
+			String propertyKey = (String) jsonReader.getCurrentObject();
+			JsonToken valueToken = jsonReader.readNextToken();
+			if ("value".equals(propertyKey) && classFound && className instanceof String && !(valueToken == JsonToken.JsonSimpleValue && jsonReader.getCurrentObject() == null)) {
+				// Type is already known, so the value can be bound directly
+				return deserializeTypedValue(Class.forName((String) className), jsonReader, valueToken);
+			} else if ("class".equals(propertyKey)) {
+				classFound = true;
+				className = jsonReader.readJsonValue(valueToken);
+			} else if ("value".equals(propertyKey)) {
+				valueFound = true;
+				value = jsonReader.readJsonValue(valueToken);
+			} else {
+				// Other properties are ignored
+				jsonReader.readJsonValue(valueToken);
+			}
+		}
+		
+		JsonObject jsonObject = new JsonObject();
+		if (classFound) {
+			jsonObject.add("class", className);
+		}
+		if (valueFound) {
+			jsonObject.add("value", value);
+		}
+		return deserialize(jsonObject);
+	}
+	
+	/**
+	 * Deserialize a value, which is not null and whose first token was just read, for a known type
+	 */
+	private static Object deserializeTypedValue(Class<?> clazz, JsonReader jsonReader, JsonToken valueToken) throws Exception {
+		Object result;
+		if (valueToken == JsonToken.JsonObject_Open && !isSimpleValueType(clazz)) {
+			result = clazz.getDeclaredConstructor().newInstance();
+			JsonSerializerClassMetadata classMetadata = JsonSerializerClassMetadata.get(clazz);
+			JsonToken jsonToken;
+			while ((jsonToken = jsonReader.readNextToken()) != JsonToken.JsonObject_Close) {
+				if (jsonToken != JsonToken.JsonObject_PropertyKey) {
+					throw new Exception("Unexpected JsonToken " + jsonToken + " in line " + jsonReader.getReadLines() + " at overall index " + jsonReader.getReadCharacters());
+				}
+				String propertyKey = (String) jsonReader.getCurrentObject();
+				if (jsonReader.readNextToken() != JsonToken.JsonObject_Open) {
+					throw new Exception("Invalid value type serialization value");
+				}
+				FieldMetadata field = classMetadata.getField(propertyKey);
+				if (field == null) {
+					throw new Exception("Invalid field name serialization value");
+				}
+				field.set(result, deserializeTypedJsonObject(jsonReader));
+			}
+		} else if (valueToken == JsonToken.JsonArray_Open && !isSimpleValueType(clazz) && !clazz.isArray() && !Map.class.isAssignableFrom(clazz)) {
+			List<Object> listOfItems = new ArrayList<Object>();
+			JsonToken jsonToken;
+			while ((jsonToken = jsonReader.readNextToken()) != JsonToken.JsonArray_Close) {
+				if (jsonToken != JsonToken.JsonObject_Open) {
+					throw new Exception("Invalid value type serialization value");
+				}
+				listOfItems.add(deserializeTypedJsonObject(jsonReader));
+			}
+			
+			result = clazz.getDeclaredConstructor().newInstance();
+			if (result instanceof Collection) {
+				@SuppressWarnings("unchecked")
+				Collection<Object> collectionObject = (Collection<Object>) result;
+				collectionObject.addAll(listOfItems);
+			} else {
+				throw new Exception("Class '" + clazz.getName() + "' is not a Collection");
+			}
+		} else {
+			JsonObject jsonObject = new JsonObject();
+			jsonObject.add("class", clazz.getName());
+			jsonObject.add("value", jsonReader.readJsonValue(valueToken));
+			result = deserialize(jsonObject);
+		}
+		
+		// Remaining properties of the type info object are ignored
+		JsonToken jsonToken;
+		while ((jsonToken = jsonReader.readNextToken()) != JsonToken.JsonObject_Close) {
+			if (jsonToken != JsonToken.JsonObject_PropertyKey) {
+				throw new Exception("Unexpected JsonToken " + jsonToken + " in line " + jsonReader.getReadLines() + " at overall index " + jsonReader.getReadCharacters());
+			}
+			jsonReader.readJsonValue(jsonReader.readNextToken());
+		}
+		return result;
+	}
+	
+	/**
+	 * Check if values of a type are converted from simple json values by deserialize(JsonObject)
+	 */
+	private static boolean isSimpleValueType(Class<?> clazz) {
+		return clazz == Boolean.TYPE || clazz == Boolean.class
+				|| clazz == Byte.TYPE || clazz == Byte.class
+				|| clazz == Short.TYPE || clazz == Short.class
+				|| clazz == Integer.TYPE || clazz == Integer.class
+				|| clazz == Long.TYPE || clazz == Long.class
+				|| clazz == Float.TYPE || clazz == Float.class
+				|| clazz == Double.TYPE || clazz == Double.class
+				|| clazz == BigDecimal.class
+				|| clazz == Character.TYPE || clazz == Character.class
+				|| clazz == String.class
+				|| clazz.isEnum()
+				|| Date.class.isAssignableFrom(clazz);
+	}
 }
@@ -0,0 +1,653 @@
+package de.soderer.utilities.json;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import de.soderer.utilities.DateUtilities;
+import de.soderer.utilities.json.JsonReader.JsonToken;
+
+/**
+ * Reflection data of a class used by the JsonSerializer, which is computed only once per class.
+ *
+ * The declared fields are kept in declaration order with their modifier flags, MethodHandle accessors
+ * and a codec for the conversion of json values or JsonReader tokens to the field type.
+ * The metadata is immutable after creation and cached per class by a ClassValue, so it is thread-safe and does not prevent class unloading.
+ */
+class JsonSerializerClassMetadata {
+	private static final ClassValue<JsonSerializerClassMetadata> CLASS_METADATA = new ClassValue<JsonSerializerClassMetadata>() {
+		@Override
+		protected JsonSerializerClassMetadata computeValue(Class<?> clazz) {
+			return new JsonSerializerClassMetadata(clazz);
+		}
+	};
+
+	/** Result of a codec for values which are not set to the field */
+	static final Object NO_VALUE = new Object();
+
+	private final FieldMetadata[] fields;
+
+	private final Map<String, FieldMetadata> fieldsByName;
+
+	static JsonSerializerClassMetadata get(Class<?> clazz) {
+		return CLASS_METADATA.get(clazz);
+	}
+
+	private JsonSerializerClassMetadata(Class<?> clazz) {
+		Field[] declaredFields = clazz.getDeclaredFields();
+		fields = new FieldMetadata[declaredFields.length];
+		Map<String, FieldMetadata> newFieldsByName = new HashMap<String, FieldMetadata>();
+		for (int i = 0; i < declaredFields.length; i++) {
+			fields[i] = new FieldMetadata(declaredFields[i]);
+			newFieldsByName.put(fields[i].name, fields[i]);
+		}
+		fieldsByName = Collections.unmodifiableMap(newFieldsByName);
+	}
+
+	/**
+	 * Get the declared fields of the class in declaration order
+	 */
+	FieldMetadata[] getFields() {
+		return fields;
+	}
+
+	/**
+	 * Get a declared field of the class or null
+	 */
+	FieldMetadata getField(String fieldName) {
+		return fieldsByName.get(fieldName);
+	}
+
+	/**
+	 * Declared field of a class
+	 */
+	static class FieldMetadata {
+		private final Field field;
+		private final String name;
+		private final Class<?> type;
+		private final boolean isStatic;
+		private final boolean isTransient;
+
+		/** Accessors with the generic types (Object)Object and (Object, Object)void or null if not available */
+		private final MethodHandle getter;
+		private final MethodHandle setter;
+
+		/** Error of making the field accessible, which is thrown on access like plain reflection would do */
+		private final RuntimeException accessError;
+
+		/** Conversion of json values to the field type, created on first use */
+		private volatile FieldCodec codec = null;
+
+		private FieldMetadata(Field field) {
+			this.field = field;
+			name = field.getName();
+			type = field.getType();
+			isStatic = Modifier.isStatic(field.getModifiers());
+			isTransient = Modifier.isTransient(field.getModifiers());
+
+			MethodHandle newGetter = null;
+			MethodHandle newSetter = null;
+			RuntimeException newAccessError = null;
+			try {
+				field.setAccessible(true);
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				newGetter = lookup.unreflectGetter(field);
+				if (isStatic) {
+					newGetter = MethodHandles.dropArguments(newGetter.asType(MethodType.methodType(Object.class)), 0, Object.class);
+				} else {
+					newGetter = newGetter.asType(MethodType.methodType(Object.class, Object.class));
+				}
+				try {
+					newSetter = lookup.unreflectSetter(field);
+					if (isStatic) {
+						newSetter = MethodHandles.dropArguments(newSetter.asType(MethodType.methodType(void.class, Object.class)), 0, Object.class);
+					} else {
+						newSetter = newSetter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+					}
+				} catch (IllegalAccessException e) {
+					// Final fields are written by reflection, which signals the error
+					newSetter = null;
+				}
+			} catch (IllegalAccessException e) {
+				newGetter = null;
+				newSetter = null;
+			} catch (RuntimeException e) {
+				newAccessError = e;
+			}
+			getter = newGetter;
+			setter = newSetter;
+			accessError = newAccessError;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		Class<?> getType() {
+			return type;
+		}
+
+		boolean isStatic() {
+			return isStatic;
+		}
+
+		boolean isTransient() {
+			return isTransient;
+		}
+
+		Object get(Object object) throws Exception {
+			if (accessError != null) {
+				throw accessError;
+			} else if (getter == null) {
+				return field.get(object);
+			} else {
+				try {
+					return (Object) getter.invokeExact(object);
+				} catch (Exception e) {
+					throw e;
+				} catch (Error e) {
+					throw e;
+				} catch (Throwable e) {
+					throw new Exception(e);
+				}
+			}
+		}
+
+		void set(Object object, Object value) throws Exception {
+			if (accessError != null) {
+				throw accessError;
+			} else if (setter == null) {
+				field.set(object, value);
+			} else {
+				try {
+					setter.invokeExact(object, value);
+				} catch (RuntimeException e) {
+					// Values of invalid types are rejected by reflection, which gives the more detailed error message
+					field.set(object, value);
+				} catch (Exception e) {
+					throw e;
+				} catch (Error e) {
+					throw e;
+				} catch (Throwable e) {
+					throw new Exception(e);
+				}
+			}
+		}
+
+		/**
+		 * Convert a json value, which is not null, to the type of this field.
+		 * Returns NO_VALUE for values which are not set to the field.
+		 */
+		Object decode(Object jsonValue) throws Exception {
+			FieldCodec currentCodec = codec;
+			if (currentCodec == null) {
+				currentCodec = createCodec(type);
+				codec = currentCodec;
+			}
+			return currentCodec.decode(jsonValue);
+		}
+
+		/**
+		 * Read a json value, which is not null, from a JsonReader and convert it to the type of this field.
+		 * The first token of the value was just read.
+		 * Returns NO_VALUE for values which are not set to the field.
+		 */
+		Object read(JsonReader jsonReader, JsonToken jsonToken) throws Exception {
+			FieldCodec currentCodec = codec;
+			if (currentCodec == null) {
+				currentCodec = createCodec(type);
+				codec = currentCodec;
+			}
+			return currentCodec.read(jsonReader, jsonToken);
+		}
+	}
+
+	/**
+	 * Conversion of json values to a java type
+	 */
+	abstract static class FieldCodec {
+		abstract Object decode(Object jsonValue) throws Exception;
+
+		/**
+		 * Read a json value from a JsonReader and convert it. The first token of the value was just read.
+		 * By default the value is read completely and decoded, codecs of objects may bind the value directly.
+		 */
+		Object read(JsonReader jsonReader, JsonToken jsonToken) throws Exception {
+			return decode(jsonReader.readJsonValue(jsonToken));
+		}
+	}
+
+	/**
+	 * Create the codec for a field type, which selects the conversion only once for a type
+	 */
+	static FieldCodec createCodec(final Class<?> clazz) {
+		if (clazz == Boolean.TYPE || clazz == Boolean.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					return jsonValue;
+				}
+			};
+		} else if (clazz == Byte.TYPE || clazz == Byte.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					return ((Number) jsonValue).byteValue();
+				}
+			};
+		} else if (clazz == Short.TYPE || clazz == Short.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					return ((Number) jsonValue).shortValue();
+				}
+			};
+		} else if (clazz == Integer.TYPE || clazz == Integer.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					return ((Number) jsonValue).intValue();
+				}
+			};
+		} else if (clazz == Long.TYPE || clazz == Long.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					return ((Number) jsonValue).longValue();
+				}
+			};
+		} else if (clazz == Float.TYPE || clazz == Float.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					return ((Number) jsonValue).floatValue();
+				}
+			};
+		} else if (clazz == Double.TYPE || clazz == Double.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					if (jsonValue.getClass() == Float.class) {
+						return Double.valueOf(Float.toString((Float) jsonValue));
+					} else {
+						return ((Number) jsonValue).doubleValue();
+					}
+				}
+			};
+		} else if (clazz == BigDecimal.class || clazz == String.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					return jsonValue;
+				}
+			};
+		} else if (clazz == Character.TYPE || clazz == Character.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					return ((String) jsonValue).charAt(0);
+				}
+			};
+		} else if (Date.class.isAssignableFrom(clazz)) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) throws Exception {
+					return DateUtilities.parseIso8601DateTimeString((String) jsonValue);
+				}
+			};
+		} else if (clazz.isEnum()) {
+			final Map<String, Object> enumConstantsByName = getEnumConstantsByName(clazz);
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					Object enumConstant = enumConstantsByName.get((String) jsonValue);
+					if (enumConstant == null) {
+						// Unknown enum names are not set
+						enumConstant = NO_VALUE;
+					}
+					return enumConstant;
+				}
+			};
+		} else if (clazz.isArray()) {
+			return createArrayCodec(clazz.getComponentType());
+		} else if (List.class.isAssignableFrom(clazz) || (Collection.class.isAssignableFrom(clazz) && !Set.class.isAssignableFrom(clazz))) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					List<Object> listOfItems = new ArrayList<Object>();
+					for (Object item : (JsonArray) jsonValue) {
+						listOfItems.add(item);
+					}
+					return listOfItems;
+				}
+			};
+		} else if (Set.class.isAssignableFrom(clazz)) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					Set<Object> setOfItems = new HashSet<Object>();
+					for (Object item : (JsonArray) jsonValue) {
+						setOfItems.add(item);
+					}
+					return setOfItems;
+				}
+			};
+		} else if (Map.class.isAssignableFrom(clazz)) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) throws Exception {
+					Map<Object, Object> mapObject = new HashMap<Object, Object>();
+					if (!(jsonValue instanceof JsonArray)) {
+						throw new Exception("Invalid value type serialization value");
+					}
+					for (Object keyValueObject : (JsonArray) jsonValue) {
+						if (!(keyValueObject instanceof JsonObject)) {
+							throw new Exception("Invalid value type serialization value");
+						}
+						mapObject.put(((JsonObject) keyValueObject).get("key"), ((JsonObject) keyValueObject).get("value"));
+					}
+					return mapObject;
+				}
+			};
+		} else {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) throws Exception {
+					if (jsonValue instanceof JsonObject) {
+						return JsonSerializer.deserialize(clazz, (JsonObject) jsonValue);
+					} else {
+						return JsonSerializer.deserialize(clazz.getComponentType(), (JsonObject) jsonValue);
+					}
+				}
+
+				@Override
+				Object read(JsonReader jsonReader, JsonToken jsonToken) throws Exception {
+					if (jsonToken == JsonToken.JsonObject_Open) {
+						return JsonSerializer.deserializeJsonObject(clazz, jsonReader);
+					} else {
+						return super.read(jsonReader, jsonToken);
+					}
+				}
+			};
+		}
+	}
+
+	private static FieldCodec createArrayCodec(final Class<?> componentType) {
+		if (componentType == Boolean.TYPE) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					boolean[] arrayValue = new boolean[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = (Boolean) jsonArray.get(i);
+					}
+					return arrayValue;
+				}
+			};
+		} else if (componentType == Boolean.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					Boolean[] arrayValue = new Boolean[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = (Boolean) jsonArray.get(i);
+					}
+					return arrayValue;
+				}
+			};
+		} else if (componentType == Byte.TYPE) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					byte[] arrayValue = new byte[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = ((Number) jsonArray.get(i)).byteValue();
+					}
+					return arrayValue;
+				}
+			};
+		} else if (componentType == Byte.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					Byte[] arrayValue = new Byte[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = ((Number) jsonArray.get(i)).byteValue();
+					}
+					return arrayValue;
+				}
+			};
+		} else if (componentType == Short.TYPE) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					short[] arrayValue = new short[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = ((Number) jsonArray.get(i)).shortValue();
+					}
+					return arrayValue;
+				}
+			};
+		} else if (componentType == Short.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					Short[] arrayValue = new Short[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = ((Number) jsonArray.get(i)).shortValue();
+					}
+					return arrayValue;
+				}
+			};
+		} else if (componentType == Integer.TYPE) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					int[] arrayValue = new int[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = ((Number) jsonArray.get(i)).intValue();
+					}
+					return arrayValue;
+				}
+			};
+		} else if (componentType == Integer.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					Integer[] arrayValue = new Integer[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = ((Number) jsonArray.get(i)).intValue();
+					}
+					return arrayValue;
+				}
+			};
+		} else if (componentType == Long.TYPE) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					long[] arrayValue = new long[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = ((Number) jsonArray.get(i)).longValue();
+					}
+					return arrayValue;
+				}
+			};
+		} else if (componentType == Long.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					Long[] arrayValue = new Long[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = ((Number) jsonArray.get(i)).longValue();
+					}
+					return arrayValue;
+				}
+			};
+		} else if (componentType == Float.TYPE) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					float[] arrayValue = new float[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = (Float) jsonArray.get(i);
+					}
+					return arrayValue;
+				}
+			};
+		} else if (componentType == Float.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					Float[] arrayValue = new Float[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = (Float) jsonArray.get(i);
+					}
+					return arrayValue;
+				}
+			};
+		} else if (componentType == Double.TYPE) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					double[] arrayValue = new double[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = (Double) jsonArray.get(i);
+					}
+					return arrayValue;
+				}
+			};
+		} else if (componentType == Double.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					Double[] arrayValue = new Double[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = (Double) jsonArray.get(i);
+					}
+					return arrayValue;
+				}
+			};
+		} else if (componentType == Character.TYPE) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					char[] arrayValue = new char[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = ((String) jsonArray.get(i)).charAt(0);
+					}
+					return arrayValue;
+				}
+			};
+		} else if (componentType == Character.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					Character[] arrayValue = new Character[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = ((String) jsonArray.get(i)).charAt(0);
+					}
+					return arrayValue;
+				}
+			};
+		} else if (componentType == String.class) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					String[] arrayValue = new String[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = (String) jsonArray.get(i);
+					}
+					return arrayValue;
+				}
+			};
+		} else if (Date.class.isAssignableFrom(componentType)) {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) throws Exception {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					SimpleDateFormat dateFormat = new SimpleDateFormat(DateUtilities.ISO_8601_DATETIME_FORMAT);
+					Date[] arrayValue = new Date[jsonArray.size()];
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = dateFormat.parse((String) jsonArray.get(i));
+					}
+					return arrayValue;
+				}
+			};
+		} else if (Enum.class.isAssignableFrom(componentType)) {
+			final Map<String, Object> enumConstantsByName = getEnumConstantsByName(componentType);
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) throws Exception {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					Object[] arrayValue = (Object[]) Array.newInstance(componentType, jsonArray.size());
+					for (int i = 0; i < arrayValue.length; i++) {
+						String enumName = (String) jsonArray.get(i);
+						Object enumConstant = enumConstantsByName.get(enumName);
+						if (enumConstant == null) {
+							throw new Exception("Invalid enum name '" + enumName + "' for type '" + componentType.getName() + "'");
+						}
+						arrayValue[i] = enumConstant;
+					}
+					return arrayValue;
+				}
+			};
+		} else {
+			return new FieldCodec() {
+				@Override
+				Object decode(Object jsonValue) throws Exception {
+					JsonArray jsonArray = (JsonArray) jsonValue;
+					Object[] arrayValue = (Object[]) Array.newInstance(componentType, jsonArray.size());
+					for (int i = 0; i < arrayValue.length; i++) {
+						arrayValue[i] = JsonSerializer.deserialize(Object.class, (JsonObject) jsonArray.get(i));
+					}
+					return arrayValue;
+				}
+			};
+		}
+	}
+
+	/**
+	 * Get the enum constants of a type by their names. The first enum constant wins for duplicate names.
+	 */
+	static Map<String, Object> getEnumConstantsByName(Class<?> enumType) {
+		Map<String, Object> enumConstantsByName = new HashMap<String, Object>();
+		Object[] enumConstants = enumType.getEnumConstants();
+		if (enumConstants != null) {
+			for (int i = enumConstants.length - 1; i >= 0; i--) {
+				enumConstantsByName.put(enumConstants[i].toString(), enumConstants[i]);
+			}
+		}
+		return enumConstantsByName;
+	}
+}
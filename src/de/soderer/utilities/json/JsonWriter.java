@@ -1,23 +1,42 @@
 package de.soderer.utilities.json;
 
-import java.io.BufferedWriter;
-import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
+import java.io.Flushable;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Map.Entry;
 import java.util.Stack;
 
+import de.soderer.utilities.AsyncBufferedWriter;
 import de.soderer.utilities.DateUtilities;
-import de.soderer.utilities.Utilities;
 
 public class JsonWriter implements Closeable {
 	/** Default output encoding. */
 	public static final String DEFAULT_ENCODING = "UTF-8";
+
+	/** Size of the character buffer, in which the output is collected before it is handed to the output writer */
+	private static final int OUTPUT_BUFFER_SIZE = 8192;
+
+	/** Escape sequences of the characters, which are escaped in Json strings, indexed by character. Null for characters written unchanged. */
+	private static final String[] ESCAPE_SEQUENCES = new String[128];
+
+	static {
+		ESCAPE_SEQUENCES['\\'] = "\\\\";
+		ESCAPE_SEQUENCES['"'] = "\\\"";
+		ESCAPE_SEQUENCES['/'] = "\\/";
+		ESCAPE_SEQUENCES['\b'] = "\\b";
+		ESCAPE_SEQUENCES['\f'] = "\\f";
+		ESCAPE_SEQUENCES['\r'] = "\\r";
+		ESCAPE_SEQUENCES['\n'] = "\\n";
+		ESCAPE_SEQUENCES['\t'] = "\\t";
+	}
 	
 	/** Output stream. */
 	private OutputStream outputStream;
@@ -26,9 +45,27 @@ public class JsonWriter implements Closeable {
 	private Charset encoding;
 
 	/** Output writer. */
-	private BufferedWriter outputWriter = null;
+	private Writer outputWriter = null;
+
+	/** Encode and write output data by a background thread */
+	private boolean asynchronousOutput = false;
 
 	private long writtenCharacters = 0;
+
+	/** Number of written characters at the start of the current root Json item */
+	private long rootJsonItemStart = 0;
+
+	/** Output collected for the output writer */
+	private final char[] outputBuffer = new char[OUTPUT_BUFFER_SIZE];
+	private int outputBufferLength = 0;
+
+	/** Digits of the long value currently written */
+	private final char[] digitBuffer = new char[20];
+
+	/** Indentation strings of the already used depths */
+	private String[] indentationsByDepth = new String[16];
+
+	private SimpleDateFormat dateFormat = null;
 	
 	private Stack<JsonStackItem> openJsonStackItems = new Stack<JsonStackItem>();
 	
@@ -52,13 +89,36 @@ public class JsonWriter implements Closeable {
 		this.outputStream = outputStream;
 		this.encoding = isBlank(encoding) ? Charset.forName(DEFAULT_ENCODING) : Charset.forName(encoding);
 	}
+
+	/**
+	 * JsonWriter writing characters to a Writer without encoding them, e.g. for in-memory rendering by a StringWriter.
+	 * The writer is closed on close().
+	 *
+	 * @param writer
+	 */
+	public JsonWriter(Writer writer) {
+		if (writer == null) {
+			throw new IllegalArgumentException("Writer is null");
+		}
+		outputWriter = writer;
+	}
+
+	/**
+	 * JsonWriter appending characters to an Appendable like a StringBuilder.
+	 *
+	 * @param appendable
+	 */
+	public JsonWriter(Appendable appendable) {
+		this(appendable instanceof Writer ? (Writer) appendable : new AppendableWriter(appendable));
+	}
 	
 	public void setIndentation(String indentation) {
 		this.indention = indentation;
+		indentationsByDepth = new String[16];
 	}
 	
 	public void setIndentation(char indentationCharacter) {
-		this.indention = Character.toString(indentationCharacter);
+		setIndentation(Character.toString(indentationCharacter));
 	}
 	
 	public String getLinebreak() {
@@ -81,6 +141,20 @@ public class JsonWriter implements Closeable {
 		return writtenCharacters;
 	}
 
+	/**
+	 * Encode and write the output data by a background thread with a bounded ring of buffers, so formatting and blocking I/O overlap.
+	 * Errors of the background thread are thrown on the next call of a write method, flush() or close().
+	 * Must be set before the first output and is only available for OutputStream output.
+	 *
+	 * @param asynchronousOutput
+	 */
+	public void setAsynchronousOutput(boolean asynchronousOutput) {
+		if (outputWriter != null || writtenCharacters > 0) {
+			throw new IllegalStateException("JsonWriter output was already started");
+		}
+		this.asynchronousOutput = asynchronousOutput;
+	}
+
 	public void setUglify(boolean value) {
 		if (value) {
 			linebreak = "";
@@ -91,11 +165,13 @@ public class JsonWriter implements Closeable {
 			indention = "\t";
 			separator = " ";
 		}
+		indentationsByDepth = new String[16];
 	}
 	
 	public void openJsonObject() throws Exception {
-		if (outputWriter == null) {
-			write("{", true);
+		if (writtenCharacters == rootJsonItemStart) {
+			writeIndentation();
+			write('{');
 			openJsonStackItems.push(JsonStackItem.Object_Empty);
 		} else {
 			JsonStackItem latestOpenJsonItem = openJsonStackItems.pop();
@@ -104,19 +180,21 @@ public class JsonWriter implements Closeable {
 				throw new Exception("Not matching open Json item for opening object: " + latestOpenJsonItem);
 			} else {
 				if (latestOpenJsonItem == JsonStackItem.Array) {
-					write("," + linebreak, false);
+					write(',');
+					write(linebreak);
 				} else if (latestOpenJsonItem == JsonStackItem.Array_Empty) {
-					write(linebreak, false);
+					write(linebreak);
 				} else if (latestOpenJsonItem == JsonStackItem.Object_Value) {
 					openJsonStackItems.push(JsonStackItem.Object_Value);
-					write(linebreak, false);
+					write(linebreak);
 				}
 				
 				if (latestOpenJsonItem != JsonStackItem.Object_Value) {
 					openJsonStackItems.push(JsonStackItem.Array);
 				}
 				
-				write("{", true);
+				writeIndentation();
+				write('{');
 				openJsonStackItems.push(JsonStackItem.Object_Empty);
 			}
 		}
@@ -129,12 +207,13 @@ public class JsonWriter implements Closeable {
 			throw new Exception("Not matching open Json item for opening object property: " + latestOpenJsonItem);
 		} else {
 			if (latestOpenJsonItem == JsonStackItem.Object) {
-				write("," + linebreak, false);
-			} else {
-				write(linebreak, false);
+				write(',');
 			}
+			write(linebreak);
 			openJsonStackItems.push(JsonStackItem.Object);
-			write("\"" + formatStringOutput(propertyName) + "\":", true);
+			writeIndentation();
+			writeString(propertyName);
+			write(':');
 			openJsonStackItems.push(JsonStackItem.Object_Value);
 		}
 	}
@@ -145,17 +224,8 @@ public class JsonWriter implements Closeable {
 			openJsonStackItems.push(latestOpenJsonItem);
 			throw new Exception("Not matching open Json item for adding object property value: " + latestOpenJsonItem);
 		} else {
-			if (propertyValue == null) {
-				write(separator + "null", false);
-			} else if (propertyValue instanceof Boolean) {
-				write(separator + Boolean.toString((Boolean) propertyValue), false);
-			} else if (propertyValue instanceof Date) {
-				write(separator + "\"" + new SimpleDateFormat(DateUtilities.ISO_8601_DATETIME_FORMAT).format((Date) propertyValue) + "\"", false);
-			} else if (propertyValue instanceof Number) {
-				write(separator + ((Number) propertyValue).toString(), false);
-			} else {
-				write(separator + "\"" + formatStringOutput(propertyValue.toString()) + "\"", false);
-			}
+			write(separator);
+			writeSimpleValue(propertyValue);
 		}
 	}
 	
@@ -165,10 +235,11 @@ public class JsonWriter implements Closeable {
 			openJsonStackItems.push(latestOpenJsonItem);
 			throw new Exception("Not matching open Json item for closing object: " + latestOpenJsonItem);
 		} else if (latestOpenJsonItem == JsonStackItem.Object_Empty) {
-			write("}", false);
+			write('}');
 		} else {
-			write(linebreak, false);
-			write("}", true);
+			write(linebreak);
+			writeIndentation();
+			write('}');
 		}
 		
 		if (openJsonStackItems.size() > 0 && openJsonStackItems.peek() == JsonStackItem.Object_Value) {
@@ -177,8 +248,9 @@ public class JsonWriter implements Closeable {
 	}
 	
 	public void openJsonArray() throws Exception {
-		if (outputWriter == null) {
-			write("[", true);
+		if (writtenCharacters == rootJsonItemStart) {
+			writeIndentation();
+			write('[');
 			openJsonStackItems.push(JsonStackItem.Array_Empty);
 		} else {
 			JsonStackItem latestOpenJsonItem = openJsonStackItems.pop();
@@ -187,19 +259,21 @@ public class JsonWriter implements Closeable {
 				throw new Exception("Not matching open Json item for opening array: " + latestOpenJsonItem);
 			} else {
 				if (latestOpenJsonItem == JsonStackItem.Array) {
-					write("," + linebreak, false);
+					write(',');
+					write(linebreak);
 				} else if (latestOpenJsonItem == JsonStackItem.Array_Empty) {
-					write(linebreak, false);
+					write(linebreak);
 				} else if (latestOpenJsonItem == JsonStackItem.Object_Value) {
 					openJsonStackItems.push(JsonStackItem.Object_Value);
-					write(linebreak, false);
+					write(linebreak);
 				}
 				
 				if (latestOpenJsonItem != JsonStackItem.Object_Value) {
 					openJsonStackItems.push(JsonStackItem.Array);
 				}
 				
-				write("[", true);
+				writeIndentation();
+				write('[');
 				openJsonStackItems.push(JsonStackItem.Array_Empty);
 			}
 		}
@@ -212,42 +286,35 @@ public class JsonWriter implements Closeable {
 			throw new Exception("Not matching open Json item for adding array value: " + latestOpenJsonItem);
 		} else {
 			if (latestOpenJsonItem == JsonStackItem.Array) {
-				write("," + linebreak, false);
-			} else {
-				write(linebreak, false);
+				write(',');
 			}
+			write(linebreak);
 
 			openJsonStackItems.push(JsonStackItem.Array);
-			
-			if (arrayValue == null) {
-				write("null", true);
-			} else if (arrayValue instanceof Boolean) {
-				write(Boolean.toString((Boolean) arrayValue), true);
-			} else if (arrayValue instanceof Date) {
-				write("\"" + new SimpleDateFormat(DateUtilities.ISO_8601_DATETIME_FORMAT).format((Date) arrayValue) + "\"", true);
-			} else if (arrayValue instanceof Number) {
-				write(((Number) arrayValue).toString(), true);
-			} else {
-				write("\"" + formatStringOutput(arrayValue.toString()) + "\"", true);
-			}
+
+			writeIndentation();
+			writeSimpleValue(arrayValue);
 		}
 	}
 	
 	public void addSimpleValue(Object value) throws Exception {
-		if (writtenCharacters > 0 || openJsonStackItems.size() != 0) {
+		if (writtenCharacters > rootJsonItemStart || openJsonStackItems.size() != 0) {
 			throw new Exception("Not matching empty Json output for adding simple value");
 		} else {
-			if (value == null) {
-				write("null", true);
-			} else if (value instanceof Boolean) {
-				write(Boolean.toString((Boolean) value), true);
-			} else if (value instanceof Date) {
-				write("\"" + new SimpleDateFormat(DateUtilities.ISO_8601_DATETIME_FORMAT).format((Date) value) + "\"", true);
-			} else if (value instanceof Number) {
-				write(((Number) value).toString(), true);
-			} else {
-				write("\"" + value.toString().replace("\"", "\\\"") + "\"", true);
-			}
+			writeSimpleValue(value);
+		}
+	}
+	
+	/**
+	 * Add a simple value at the current output position as root value, array item or object property value
+	 */
+	void addSimpleJsonValue(Object value) throws Exception {
+		if (openJsonStackItems.isEmpty()) {
+			addSimpleValue(value);
+		} else if (openJsonStackItems.peek() == JsonStackItem.Object_Value) {
+			addSimpleJsonObjectPropertyValue(value);
+		} else {
+			addSimpleJsonArrayValue(value);
 		}
 	}
 	
@@ -257,10 +324,11 @@ public class JsonWriter implements Closeable {
 			openJsonStackItems.push(latestOpenJsonItem);
 			throw new Exception("Not matching open Json item for closing array: " + latestOpenJsonItem);
 		} else if (latestOpenJsonItem == JsonStackItem.Array_Empty) {
-			write("]", false);
+			write(']');
 		} else {
-			write(linebreak, false);
-			write("]", true);
+			write(linebreak);
+			writeIndentation();
+			write(']');
 		}
 		
 		if (openJsonStackItems.size() > 0 && openJsonStackItems.peek() == JsonStackItem.Object_Value) {
@@ -324,6 +392,18 @@ public class JsonWriter implements Closeable {
 		}
 	}
 
+	/**
+	 * Finish the current root Json item by a separator and allow writing another root Json item, e.g. for JSON Lines output
+	 */
+	void startNextRootJsonItem(String rootJsonItemSeparator) throws Exception {
+		if (!openJsonStackItems.isEmpty()) {
+			throw new Exception("Not matching empty Json output stack for starting next root Json item");
+		} else if (writtenCharacters > rootJsonItemStart) {
+			write(rootJsonItemSeparator);
+			rootJsonItemStart = writtenCharacters;
+		}
+	}
+
 	/**
 	 * Flush buffered data.
 	 *
@@ -331,6 +411,9 @@ public class JsonWriter implements Closeable {
 	 *             Signals that an I/O exception has occurred.
 	 */
 	public void flush() throws IOException {
+		if (outputBufferLength > 0) {
+			flushOutputBuffer();
+		}
 		if (outputWriter != null) {
 			outputWriter.flush();
 		}
@@ -341,10 +424,34 @@ public class JsonWriter implements Closeable {
 	 */
 	@Override
 	public void close() throws IOException {
-		closeQuietly(outputWriter);
+		IOException outputError = null;
+		if (outputBufferLength > 0 && (outputWriter != null || outputStream != null)) {
+			try {
+				flushOutputBuffer();
+			} catch (IOException e) {
+				outputError = e;
+			}
+		}
+		outputBufferLength = 0;
+		if (outputWriter instanceof AsyncBufferedWriter) {
+			// Errors of asynchronous output would be lost otherwise
+			try {
+				outputWriter.close();
+			} catch (IOException e) {
+				if (outputError == null) {
+					outputError = e;
+				}
+			}
+		} else {
+			closeQuietly(outputWriter);
+		}
 		outputWriter = null;
 		closeQuietly(outputStream);
 		outputStream = null;
+
+		if (outputError != null) {
+			throw outputError;
+		}
 		
 		if (!openJsonStackItems.isEmpty()) {
 			String jsonItemsStackString = "";
@@ -355,17 +462,142 @@ public class JsonWriter implements Closeable {
 		}
 	}
 	
-	private void write(String text, boolean indent) throws IOException {
+	private void writeSimpleValue(Object value) throws IOException {
+		if (value == null) {
+			write("null");
+		} else if (value instanceof Boolean) {
+			write(((Boolean) value) ? "true" : "false");
+		} else if (value instanceof Date) {
+			if (dateFormat == null) {
+				dateFormat = new SimpleDateFormat(DateUtilities.ISO_8601_DATETIME_FORMAT);
+			}
+			write('"');
+			write(dateFormat.format((Date) value));
+			write('"');
+		} else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+			writeLong(((Number) value).longValue());
+		} else if (value instanceof Number) {
+			write(value.toString());
+		} else {
+			writeString(value.toString());
+		}
+	}
+
+	/**
+	 * Write a double-quoted string value, escaping its characters in one pass directly into the output buffer
+	 */
+	private void writeString(String value) throws IOException {
+		write('"');
+		int length = value.length();
+		int unescapedStart = 0;
+		for (int i = 0; i < length; i++) {
+			char nextChar = value.charAt(i);
+			if (nextChar < 128 && ESCAPE_SEQUENCES[nextChar] != null) {
+				if (unescapedStart < i) {
+					write(value, unescapedStart, i);
+				}
+				write(ESCAPE_SEQUENCES[nextChar]);
+				unescapedStart = i + 1;
+			}
+		}
+		if (unescapedStart < length) {
+			write(value, unescapedStart, length);
+		}
+		write('"');
+	}
+
+	private void writeLong(long value) throws IOException {
+		if (value == Long.MIN_VALUE) {
+			write(Long.toString(value));
+		} else {
+			boolean negative = value < 0;
+			long remainingValue = negative ? -value : value;
+			int digitsStart = digitBuffer.length;
+			do {
+				digitBuffer[--digitsStart] = (char) ('0' + (remainingValue % 10));
+				remainingValue /= 10;
+			} while (remainingValue > 0);
+			if (negative) {
+				digitBuffer[--digitsStart] = '-';
+			}
+			write(digitBuffer, digitsStart, digitBuffer.length - digitsStart);
+		}
+	}
+
+	private void writeIndentation() throws IOException {
+		int depth = openJsonStackItems.size();
+		if (depth > 0 && indention.length() > 0) {
+			if (depth >= indentationsByDepth.length) {
+				indentationsByDepth = Arrays.copyOf(indentationsByDepth, Math.max(depth + 1, indentationsByDepth.length * 2));
+			}
+			String indentation = indentationsByDepth[depth];
+			if (indentation == null) {
+				StringBuilder indentationBuilder = new StringBuilder(indention.length() * depth);
+				for (int i = 0; i < depth; i++) {
+					indentationBuilder.append(indention);
+				}
+				indentation = indentationBuilder.toString();
+				indentationsByDepth[depth] = indentation;
+			}
+			write(indentation);
+		}
+	}
+
+	private void write(char character) throws IOException {
+		if (outputBufferLength == outputBuffer.length) {
+			flushOutputBuffer();
+		}
+		outputBuffer[outputBufferLength++] = character;
+		writtenCharacters++;
+	}
+
+	private void write(String text) throws IOException {
+		write(text, 0, text.length());
+	}
+
+	private void write(String text, int start, int end) throws IOException {
+		int length = end - start;
+		if (length > outputBuffer.length - outputBufferLength) {
+			flushOutputBuffer();
+			if (length > outputBuffer.length) {
+				outputWriter.write(text, start, length);
+				writtenCharacters += length;
+				return;
+			}
+		}
+		text.getChars(start, end, outputBuffer, outputBufferLength);
+		outputBufferLength += length;
+		writtenCharacters += length;
+	}
+
+	private void write(char[] characters, int offset, int length) throws IOException {
+		if (length > outputBuffer.length - outputBufferLength) {
+			flushOutputBuffer();
+		}
+		System.arraycopy(characters, offset, outputBuffer, outputBufferLength, length);
+		outputBufferLength += length;
+		writtenCharacters += length;
+	}
+
+	/**
+	 * Hand the collected output to the output writer, which is created on first use
+	 */
+	private void flushOutputBuffer() throws IOException {
 		if (outputWriter == null) {
 			if (outputStream == null) {
 				throw new IllegalStateException("JsonWriter is already closed");
 			}
-			outputWriter = new BufferedWriter(new OutputStreamWriter(outputStream, encoding));
+			if (asynchronousOutput) {
+				outputWriter = new AsyncBufferedWriter(outputStream, encoding);
+			} else {
+				// The output is already buffered by the outputBuffer, OutputStreamWriter only buffers the encoded bytes
+				outputWriter = new OutputStreamWriter(outputStream, encoding);
+			}
+		}
+		if (outputBufferLength > 0) {
+			outputWriter.write(outputBuffer, 0, outputBufferLength);
+			outputBufferLength = 0;
 		}
-		
-		String dataToWrite = (indent ? Utilities.repeat(indention, openJsonStackItems.size()) : "") + text;
-		writtenCharacters += dataToWrite.length();
-		outputWriter.write(dataToWrite);
 	}
 
 	/**
@@ -403,13 +635,13 @@ public class JsonWriter implements Closeable {
 	 * @throws Exception
 	 */
 	public static String getJsonItemString(JsonObject jsonObject) throws Exception {
-		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-		try (JsonWriter jsonWriter = new JsonWriter(outputStream, "UTF-8")) {
+		StringBuilder output = new StringBuilder();
+		try (JsonWriter jsonWriter = new JsonWriter(output)) {
 			jsonWriter.add(jsonObject);
 			jsonWriter.close();
 		}
 		
-		return outputStream.toString("UTF-8");
+		return output.toString();
 	}
 	
 	/**
@@ -420,13 +652,13 @@ public class JsonWriter implements Closeable {
 	 * @throws Exception
 	 */
 	public static String getJsonItemString(JsonArray jsonArray) throws Exception {
-		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-		try (JsonWriter jsonWriter = new JsonWriter(outputStream, "UTF-8")) {
+		StringBuilder output = new StringBuilder();
+		try (JsonWriter jsonWriter = new JsonWriter(output)) {
 			jsonWriter.add(jsonArray);
 			jsonWriter.close();
 		}
 		
-		return outputStream.toString("UTF-8");
+		return output.toString();
 	}
 	
 	/**
@@ -437,8 +669,8 @@ public class JsonWriter implements Closeable {
 	 * @throws Exception
 	 */
 	public static String getJsonItemString(JsonObject jsonObject, String linebreak, String indentation, String separator) throws Exception {
-		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-		try (JsonWriter jsonWriter = new JsonWriter(outputStream, "UTF-8")) {
+		StringBuilder output = new StringBuilder();
+		try (JsonWriter jsonWriter = new JsonWriter(output)) {
 			jsonWriter.setLinebreak(linebreak);
 			jsonWriter.setIndentation(indentation);
 			jsonWriter.setSeparator(separator);
@@ -446,7 +678,7 @@ public class JsonWriter implements Closeable {
 			jsonWriter.close();
 		}
 		
-		return outputStream.toString("UTF-8");
+		return output.toString();
 	}
 	
 	/**
@@ -457,8 +689,8 @@ public class JsonWriter implements Closeable {
 	 * @throws Exception
 	 */
 	public static String getJsonItemString(JsonArray jsonArray, String linebreak, String indentation, String separator) throws Exception {
-		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-		try (JsonWriter jsonWriter = new JsonWriter(outputStream, "UTF-8")) {
+		StringBuilder output = new StringBuilder();
+		try (JsonWriter jsonWriter = new JsonWriter(output)) {
 			jsonWriter.setLinebreak(linebreak);
 			jsonWriter.setIndentation(indentation);
 			jsonWriter.setSeparator(separator);
@@ -466,7 +698,7 @@ public class JsonWriter implements Closeable {
 			jsonWriter.close();
 		}
 		
-		return outputStream.toString("UTF-8");
+		return output.toString();
 	}
 	
 	public static String getJsonItemString(JsonNode jsonNode) throws Exception {
@@ -493,14 +725,60 @@ public class JsonWriter implements Closeable {
 	}
 	
 	public String formatStringOutput(String value) {
-		return value
-			.replace("\\", "\\\\")
-			.replace("\"", "\\\"")
-			.replace("/", "\\/")
-			.replace("\b", "\\b")
-			.replace("\f", "\\f")
-			.replace("\r", "\\r")
-			.replace("\n", "\\n")
-			.replace("\t", "\\t");
+		StringBuilder result = null;
+		int length = value.length();
+		int unescapedStart = 0;
+		for (int i = 0; i < length; i++) {
+			char nextChar = value.charAt(i);
+			if (nextChar < 128 && ESCAPE_SEQUENCES[nextChar] != null) {
+				if (result == null) {
+					result = new StringBuilder(length + 16);
+				}
+				result.append(value, unescapedStart, i).append(ESCAPE_SEQUENCES[nextChar]);
+				unescapedStart = i + 1;
+			}
+		}
+		if (result == null) {
+			return value;
+		} else {
+			return result.append(value, unescapedStart, length).toString();
+		}
+	}
+
+	/**
+	 * Writer appending to an Appendable
+	 */
+	private static class AppendableWriter extends Writer {
+		private final Appendable appendable;
+
+		public AppendableWriter(Appendable appendable) {
+			if (appendable == null) {
+				throw new IllegalArgumentException("Appendable is null");
+			}
+			this.appendable = appendable;
+		}
+
+		@Override
+		public void write(char[] characters, int offset, int length) throws IOException {
+			if (appendable instanceof StringBuilder) {
+				((StringBuilder) appendable).append(characters, offset, length);
+			} else {
+				appendable.append(CharBuffer.wrap(characters, offset, length));
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (appendable instanceof Flushable) {
+				((Flushable) appendable).flush();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (appendable instanceof Closeable) {
+				((Closeable) appendable).close();
+			}
+		}
 	}
 }
@@ -0,0 +1,146 @@
+package de.soderer.utilities.json;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Items of a JsonArray read in compact mode of the JsonReader, which are numbers of only one type.<br />
+ * <br />
+ * The numbers are stored in a primitive array (int[], long[], float[] or double[]) and boxed again when they are read,
+ * so the array needs only a fraction of the memory of the boxed numbers.
+ * Only numbers of the same type can be stored, so JsonArray switches to an ordinary list for other items.
+ */
+class PrimitiveNumberList extends AbstractList<Object> implements RandomAccess {
+	private final Class<?> numberClass;
+
+	/** Primitive array of the type matching the numberClass */
+	private Object values;
+	private int size = 0;
+
+	private PrimitiveNumberList(Class<?> numberClass, int capacity) {
+		this.numberClass = numberClass;
+		values = Array.newInstance(getPrimitiveType(numberClass), capacity);
+	}
+
+	/**
+	 * Create a PrimitiveNumberList with the given items, or return null, if the items are not numbers of one supported type
+	 */
+	static PrimitiveNumberList createFor(List<Object> items) {
+		if (items.isEmpty() || items.get(0) == null || getPrimitiveType(items.get(0).getClass()) == null) {
+			return null;
+		}
+		Class<?> numberClass = items.get(0).getClass();
+		for (Object item : items) {
+			if (item == null || item.getClass() != numberClass) {
+				return null;
+			}
+		}
+		PrimitiveNumberList primitiveNumberList = new PrimitiveNumberList(numberClass, items.size());
+		for (Object item : items) {
+			primitiveNumberList.store(primitiveNumberList.size++, item);
+		}
+		return primitiveNumberList;
+	}
+
+	boolean canStore(Object value) {
+		return value != null && value.getClass() == numberClass;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Object get(int index) {
+		checkIndex(index, size);
+		if (numberClass == Integer.class) {
+			return ((int[]) values)[index];
+		} else if (numberClass == Long.class) {
+			return ((long[]) values)[index];
+		} else if (numberClass == Float.class) {
+			return ((float[]) values)[index];
+		} else {
+			return ((double[]) values)[index];
+		}
+	}
+
+	@Override
+	public Object set(int index, Object value) {
+		checkIndex(index, size);
+		checkValue(value);
+		Object previousValue = get(index);
+		store(index, value);
+		return previousValue;
+	}
+
+	@Override
+	public void add(int index, Object value) {
+		checkIndex(index, size + 1);
+		checkValue(value);
+		int capacity = Array.getLength(values);
+		if (size == capacity) {
+			Object newValues = Array.newInstance(getPrimitiveType(numberClass), Math.max(4, capacity + (capacity >> 1)));
+			System.arraycopy(values, 0, newValues, 0, size);
+			values = newValues;
+		}
+		if (index < size) {
+			System.arraycopy(values, index, values, index + 1, size - index);
+		}
+		store(index, value);
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public Object remove(int index) {
+		checkIndex(index, size);
+		Object previousValue = get(index);
+		if (index < size - 1) {
+			System.arraycopy(values, index + 1, values, index, size - index - 1);
+		}
+		size--;
+		modCount++;
+		return previousValue;
+	}
+
+	private void store(int index, Object value) {
+		if (numberClass == Integer.class) {
+			((int[]) values)[index] = (Integer) value;
+		} else if (numberClass == Long.class) {
+			((long[]) values)[index] = (Long) value;
+		} else if (numberClass == Float.class) {
+			((float[]) values)[index] = (Float) value;
+		} else {
+			((double[]) values)[index] = (Double) value;
+		}
+	}
+
+	private void checkValue(Object value) {
+		if (!canStore(value)) {
+			throw new IllegalArgumentException("Value '" + value + "' is not of type " + numberClass.getSimpleName());
+		}
+	}
+
+	private void checkIndex(int index, int limit) {
+		if (index < 0 || index >= limit) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	private static Class<?> getPrimitiveType(Class<?> numberClass) {
+		if (numberClass == Integer.class) {
+			return int.class;
+		} else if (numberClass == Long.class) {
+			return long.class;
+		} else if (numberClass == Float.class) {
+			return float.class;
+		} else if (numberClass == Double.class) {
+			return double.class;
+		} else {
+			return null;
+		}
+	}
+}
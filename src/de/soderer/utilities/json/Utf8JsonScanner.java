@@ -0,0 +1,691 @@
+package de.soderer.utilities.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import de.soderer.utilities.NumberUtilities;
+
+/**
+ * Byte level scanner for UTF-8 encoded JSON data.
+ *
+ * The data is read blockwise into a reusable byte window and scanned by primitive loops.
+ * Only string contents are decoded. ASCII strings without escape sequences are created directly from the window,
+ * other strings are decoded in a reused character buffer. Simple values like null, true, false and small integers are interpreted without creating a String.
+ * Characters and lines are counted like BasicReader does, so error messages show the same positions.
+ */
+class Utf8JsonScanner {
+	/** Default size of the byte window */
+	static final int DEFAULT_WINDOW_SIZE = 64 * 1024;
+
+	/** Bytes ending the ASCII fast path for quoted text: quote, backslash, linebreaks */
+	private static final boolean[] QUOTED_TEXT_STOP_BYTES = new boolean[128];
+	static {
+		QUOTED_TEXT_STOP_BYTES['"'] = true;
+		QUOTED_TEXT_STOP_BYTES['\\'] = true;
+		QUOTED_TEXT_STOP_BYTES['\r'] = true;
+		QUOTED_TEXT_STOP_BYTES['\n'] = true;
+	}
+
+	/** Stop character value, which matches no byte */
+	private static final int NO_STOP_CHAR = 0x10000;
+
+	private InputStream inputStream;
+
+	private byte[] window;
+
+	/** Index of the next byte to be read in the window */
+	private int position = 0;
+
+	/** Number of valid bytes in the window */
+	private int length = 0;
+
+	private boolean endOfData = false;
+
+	/** Window index and character count of the last character read by readNextNonWhitespace() for reuse */
+	private int lastCharStart = -1;
+	private int lastCharLength = 0;
+
+	private boolean lastWasCarriageReturn = false;
+
+	/** Reused buffer for quoted texts with escape sequences or non ASCII characters */
+	private char[] textBuffer = new char[256];
+
+	private long readCharacters = 0;
+	private long readLines = 0;
+
+	/**
+	 * Check if the data of an encoding can be scanned on byte level
+	 */
+	static boolean isSupported(Charset encoding) {
+		return StandardCharsets.UTF_8.equals(encoding);
+	}
+
+	Utf8JsonScanner(InputStream inputStream) throws IOException {
+		this(inputStream, DEFAULT_WINDOW_SIZE);
+	}
+
+	Utf8JsonScanner(InputStream inputStream, int windowSize) throws IOException {
+		this.inputStream = inputStream;
+		window = new byte[Math.max(windowSize, 16)];
+
+		// Skip the UTF-8 BOM, which is not part of the data
+		ensureAvailable(3);
+		if (length - position >= 3 && (window[0] & 0xFF) == 0xEF && (window[1] & 0xFF) == 0xBB && (window[2] & 0xFF) == 0xBF) {
+			position = 3;
+		}
+	}
+
+	/**
+	 * Scanner for a range of bytes, which are scanned directly without copying them
+	 */
+	Utf8JsonScanner(byte[] data, int offset, int length) {
+		reset(data, offset, length);
+	}
+
+	/**
+	 * Restart the scanner on a range of bytes, which are scanned directly without copying them
+	 */
+	void reset(byte[] data, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > data.length) {
+			throw new IndexOutOfBoundsException("Invalid data range " + offset + " + " + length + " for data of length " + data.length);
+		}
+		inputStream = null;
+		window = data;
+		position = offset;
+		this.length = offset + length;
+		endOfData = true;
+		lastCharStart = -1;
+		lastCharLength = 0;
+		lastWasCarriageReturn = false;
+		readCharacters = 0;
+		readLines = 0;
+
+		// Skip the UTF-8 BOM, which is not part of the data
+		if (length >= 3 && (window[offset] & 0xFF) == 0xEF && (window[offset + 1] & 0xFF) == 0xBB && (window[offset + 2] & 0xFF) == 0xBF) {
+			position = offset + 3;
+		}
+	}
+
+	long getReadCharacters() {
+		return readCharacters;
+	}
+
+	long getReadLines() {
+		return readLines;
+	}
+
+	/**
+	 * Read the next non whitespace character
+	 *
+	 * @return next non whitespace character or -1 at the end of data
+	 * @throws IOException
+	 */
+	int readNextNonWhitespace() throws IOException {
+		lastCharStart = -1;
+		while (true) {
+			if (position >= length && !fill(length)) {
+				return -1;
+			}
+
+			byte nextByte = window[position];
+			if (nextByte >= 0) {
+				position++;
+				readCharacters++;
+				if (nextByte == '\r') {
+					readLines++;
+					lastWasCarriageReturn = true;
+				} else if (nextByte == '\n') {
+					if (!lastWasCarriageReturn) {
+						readLines++;
+					}
+					lastWasCarriageReturn = false;
+				} else {
+					lastWasCarriageReturn = false;
+					if (nextByte != ' ' && nextByte != '\t' && !Character.isWhitespace(nextByte)) {
+						lastCharStart = position - 1;
+						lastCharLength = 1;
+						return nextByte;
+					}
+				}
+			} else {
+				ensureAvailable(4);
+				int start = position;
+				int codePoint = readMultiByteCharacter();
+				int characterCount = Character.charCount(codePoint);
+				readCharacters += characterCount;
+				lastWasCarriageReturn = false;
+				if (!Character.isWhitespace(codePoint)) {
+					lastCharStart = start;
+					lastCharLength = characterCount;
+					return characterCount == 1 ? codePoint : Character.highSurrogate(codePoint);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Return the last character of readNextNonWhitespace() once again on next read
+	 */
+	void reuseCurrentChar() {
+		if (lastCharStart >= 0) {
+			position = lastCharStart;
+			readCharacters -= lastCharLength;
+			lastCharStart = -1;
+		}
+	}
+
+	/**
+	 * Read a quoted text after its opening double quote up to and including the closing double quote
+	 *
+	 * @return unescaped text
+	 * @throws Exception
+	 */
+	String readQuotedText() throws Exception {
+		lastCharStart = -1;
+
+		// Fast path for ASCII text without escape sequences and linebreaks within the window
+		int start = position;
+		int end = length;
+		byte[] data = window;
+		int index = start;
+		while (index < end) {
+			byte nextByte = data[index];
+			if (nextByte < 0 || QUOTED_TEXT_STOP_BYTES[nextByte]) {
+				break;
+			}
+			index++;
+		}
+		if (index < end && data[index] == '"') {
+			String text = new String(data, start, index - start, StandardCharsets.ISO_8859_1);
+			readCharacters += index - start + 1;
+			lastWasCarriageReturn = false;
+			position = index + 1;
+			return text;
+		}
+
+		// Slow path with decoding in the text buffer
+		int textLength = 0;
+		while (true) {
+			if (position >= length && !fill(length)) {
+				throw new Exception("Premature end of data in quoted text in line " + readLines + " at overall index " + readCharacters);
+			}
+
+			byte nextByte = window[position];
+			if (nextByte >= 0 && !QUOTED_TEXT_STOP_BYTES[nextByte]) {
+				if (textLength == textBuffer.length) {
+					textBuffer = growTextBuffer(textLength + 1);
+				}
+				textBuffer[textLength++] = (char) nextByte;
+				position++;
+				readCharacters++;
+				lastWasCarriageReturn = false;
+			} else if (nextByte == '"') {
+				position++;
+				readCharacters++;
+				lastWasCarriageReturn = false;
+				return new String(textBuffer, 0, textLength);
+			} else if (nextByte == '\\') {
+				position++;
+				readCharacters++;
+				lastWasCarriageReturn = false;
+				if (textLength == textBuffer.length) {
+					textBuffer = growTextBuffer(textLength + 1);
+				}
+				textBuffer[textLength++] = readEscapedCharacter();
+			} else if (nextByte == '\r' || nextByte == '\n') {
+				if (nextByte == '\r' || !lastWasCarriageReturn) {
+					readLines++;
+				}
+				lastWasCarriageReturn = nextByte == '\r';
+				if (textLength == textBuffer.length) {
+					textBuffer = growTextBuffer(textLength + 1);
+				}
+				textBuffer[textLength++] = (char) nextByte;
+				position++;
+				readCharacters++;
+			} else {
+				int codePoint = readMultiByteCharacter();
+				if (textLength + 2 > textBuffer.length) {
+					textBuffer = growTextBuffer(textLength + 2);
+				}
+				textLength += Character.toChars(codePoint, textBuffer, textLength);
+				readCharacters += Character.charCount(codePoint);
+				lastWasCarriageReturn = false;
+			}
+		}
+	}
+
+	/**
+	 * Read an unquoted simple value starting with the last character of readNextNonWhitespace() up to the next stop character, which is not consumed.
+	 * The value text is trimmed and interpreted as null, boolean or number like JsonReader does.
+	 *
+	 * @param stopChar1
+	 *            stop character or -1
+	 * @param stopChar2
+	 *            stop character or -1
+	 * @return value
+	 * @throws Exception
+	 */
+	Object readSimpleValue(int stopChar1, int stopChar2) throws Exception {
+		if (lastCharStart < 0) {
+			throw new IllegalStateException("Simple value start is not available");
+		}
+
+		if (stopChar1 < 0) {
+			stopChar1 = NO_STOP_CHAR;
+		}
+		if (stopChar2 < 0) {
+			stopChar2 = NO_STOP_CHAR;
+		}
+
+		// The value starts with the last character, which is counted again with the value
+		int index = position;
+		position = lastCharStart;
+		readCharacters -= lastCharLength;
+		lastCharStart = -1;
+		boolean ascii = true;
+		while (true) {
+			if (index >= length) {
+				// The window may be compacted, so the scan continues relative to the value start
+				int scannedLength = index - position;
+				boolean dataAvailable = fill(position);
+				index = position + scannedLength;
+				if (!dataAvailable) {
+					break;
+				}
+			}
+			byte nextByte = window[index];
+			if (nextByte == stopChar1 || nextByte == stopChar2) {
+				break;
+			} else if (nextByte < 0) {
+				ascii = false;
+			}
+			index++;
+		}
+		int start = position;
+		countCharacters(start, index, ascii);
+		position = index;
+
+		int end = index;
+		while (start < end && (window[start] & 0xFF) <= ' ') {
+			start++;
+		}
+		while (end > start && (window[end - 1] & 0xFF) <= ' ') {
+			end--;
+		}
+
+		if (ascii) {
+			int valueLength = end - start;
+			if (valueLength == 4 && equalsIgnoreCase(start, "null")) {
+				return null;
+			} else if (valueLength == 4 && equalsIgnoreCase(start, "true")) {
+				return true;
+			} else if (valueLength == 5 && equalsIgnoreCase(start, "false")) {
+				return false;
+			} else if (valueLength > 0 && valueLength < 10) {
+				Integer integerValue = parseSmallInteger(start, end);
+				if (integerValue != null) {
+					return integerValue;
+				}
+			}
+		}
+
+		String valueString = new String(window, start, end - start, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8).trim();
+		if (valueString.startsWith("\"")) {
+			throw new Exception("Invalid start of double-quoted text");
+		} else if (valueString.equalsIgnoreCase("null")) {
+			return null;
+		} else if (valueString.equalsIgnoreCase("true")) {
+			return true;
+		} else if (valueString.equalsIgnoreCase("false")) {
+			return false;
+		} else if (NumberUtilities.isNumber(valueString)) {
+			return NumberUtilities.parseNumber(valueString);
+		} else {
+			throw new Exception("Invalid json data in line " + readLines + " at overall index " + readCharacters);
+		}
+	}
+
+	/**
+	 * Skip a value starting with the last character of readNextNonWhitespace() without decoding it.
+	 * Quoted texts and JsonObjects or JsonArrays are skipped up to and including their end by counting brackets and double quotes only.
+	 * Simple values are skipped up to the next ',', '}' or ']', which is not consumed.
+	 *
+	 * @param firstChar
+	 *            last character of readNextNonWhitespace()
+	 * @throws Exception
+	 */
+	void skipValue(int firstChar) throws Exception {
+		if (firstChar == '"') {
+			lastCharStart = -1;
+			skipStructure(0, true, true);
+		} else if (firstChar == '{' || firstChar == '[') {
+			lastCharStart = -1;
+			skipStructure(1, false, true);
+		} else {
+			reuseCurrentChar();
+			int index = position;
+			while (true) {
+				if (index >= length) {
+					countCharacters(position, index, false);
+					position = index;
+					if (!fill(length)) {
+						return;
+					}
+					index = position;
+				}
+				byte nextByte = window[index];
+				if (nextByte == ',' || nextByte == '}' || nextByte == ']') {
+					break;
+				}
+				index++;
+			}
+			countCharacters(position, index, false);
+			position = index;
+		}
+	}
+
+	/**
+	 * Skip the remaining items of the current JsonObject or JsonArray without decoding them up to its closing bracket, which is not consumed
+	 *
+	 * @throws Exception
+	 */
+	void skipToContainerEnd() throws Exception {
+		lastCharStart = -1;
+		skipStructure(1, false, false);
+	}
+
+	/**
+	 * Skip bytes until the bracket depth and quoted text state are closed
+	 *
+	 * @param depth
+	 *            number of open brackets
+	 * @param insideQuotedText
+	 *            the scan starts within a quoted text
+	 * @param consumeEnd
+	 *            consume the closing double quote or bracket
+	 */
+	private void skipStructure(int depth, boolean insideQuotedText, boolean consumeEnd) throws Exception {
+		boolean escaped = false;
+		int index = position;
+		while (true) {
+			if (index >= length) {
+				countCharacters(position, index, false);
+				position = index;
+				if (!fill(length)) {
+					throw new Exception("Premature end of data in line " + readLines + " at overall index " + readCharacters);
+				}
+				index = position;
+			}
+			byte nextByte = window[index];
+			if (insideQuotedText) {
+				if (escaped) {
+					escaped = false;
+				} else if (nextByte == '\\') {
+					escaped = true;
+				} else if (nextByte == '"') {
+					insideQuotedText = false;
+					if (depth == 0) {
+						break;
+					}
+				}
+			} else if (nextByte == '"') {
+				insideQuotedText = true;
+			} else if (nextByte == '{' || nextByte == '[') {
+				depth++;
+			} else if (nextByte == '}' || nextByte == ']') {
+				depth--;
+				if (depth == 0) {
+					break;
+				}
+			}
+			index++;
+		}
+		if (consumeEnd) {
+			index++;
+		}
+		countCharacters(position, index, false);
+		position = index;
+	}
+
+	/**
+	 * Close the scanner and its underlying stream
+	 */
+	void close() {
+		if (inputStream != null) {
+			try {
+				inputStream.close();
+			} catch (IOException e) {
+				// Do nothing
+			}
+			inputStream = null;
+		}
+		endOfData = true;
+		position = 0;
+		length = 0;
+	}
+
+	/**
+	 * Read the character following a backslash and return its unescaped value
+	 */
+	private char readEscapedCharacter() throws Exception {
+		int nextChar = readNextAsciiByte();
+		if (nextChar == '\\') {
+			return '\\';
+		} else if ('"' == nextChar) {
+			return '"';
+		} else if ('\'' == nextChar) {
+			// Single quotes should not be escaped, but we allow them here for user convenience
+			return '\'';
+		} else if ('/' == nextChar) {
+			return '/';
+		} else if ('b' == nextChar) {
+			return '\b';
+		} else if ('f' == nextChar) {
+			return '\f';
+		} else if ('n' == nextChar) {
+			return '\n';
+		} else if ('r' == nextChar) {
+			return '\r';
+		} else if ('t' == nextChar) {
+			return '\t';
+		} else if ('u' == nextChar) {
+			// Java encoded character
+			int value = 0;
+			for (int i = 0; i < 4; i++) {
+				int hexDigit = readNextAsciiByte();
+				int hexDigitValue = hexDigit == -1 ? -1 : Character.digit(hexDigit, 16);
+				if (hexDigitValue == -1) {
+					throw new Exception("Invalid unicode sequence at character: " + readCharacters);
+				}
+				value = (value << 4) + hexDigitValue;
+			}
+			return (char) value;
+		} else {
+			throw new Exception("Invalid escape sequence at character: " + readCharacters);
+		}
+	}
+
+	/**
+	 * Read the next byte within an escape sequence
+	 *
+	 * @return ASCII character or -1 for end of data and non ASCII characters
+	 */
+	private int readNextAsciiByte() throws IOException {
+		if (position >= length && !fill(length)) {
+			return -1;
+		}
+		byte nextByte = window[position];
+		if (nextByte < 0) {
+			readCharacters += Character.charCount(readMultiByteCharacter());
+			lastWasCarriageReturn = false;
+			return -1;
+		} else {
+			position++;
+			readCharacters++;
+			if (nextByte == '\r' || (nextByte == '\n' && !lastWasCarriageReturn)) {
+				readLines++;
+			}
+			lastWasCarriageReturn = nextByte == '\r';
+			return nextByte;
+		}
+	}
+
+	/**
+	 * Decode the UTF-8 sequence at the current position. Malformed sequences are replaced by U+FFFD like the decoding readers do.
+	 *
+	 * @return code point
+	 */
+	private int readMultiByteCharacter() throws IOException {
+		ensureAvailable(4);
+		int firstByte = window[position] & 0xFF;
+		int sequenceLength;
+		int codePoint;
+		int minimumCodePoint;
+		if (firstByte >= 0xC2 && firstByte <= 0xDF) {
+			sequenceLength = 2;
+			codePoint = firstByte & 0x1F;
+			minimumCodePoint = 0x80;
+		} else if (firstByte >= 0xE0 && firstByte <= 0xEF) {
+			sequenceLength = 3;
+			codePoint = firstByte & 0x0F;
+			minimumCodePoint = 0x800;
+		} else if (firstByte >= 0xF0 && firstByte <= 0xF4) {
+			sequenceLength = 4;
+			codePoint = firstByte & 0x07;
+			minimumCodePoint = 0x10000;
+		} else {
+			position++;
+			return 0xFFFD;
+		}
+
+		for (int i = 1; i < sequenceLength; i++) {
+			if (position + i >= length || (window[position + i] & 0xC0) != 0x80) {
+				position += i;
+				return 0xFFFD;
+			}
+			codePoint = (codePoint << 6) | (window[position + i] & 0x3F);
+		}
+		position += sequenceLength;
+		if (codePoint < minimumCodePoint || codePoint > Character.MAX_CODE_POINT || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+			return 0xFFFD;
+		} else {
+			return codePoint;
+		}
+	}
+
+	/**
+	 * Count the characters of a range of bytes, which were consumed by a scan
+	 */
+	private void countCharacters(int start, int end, boolean ascii) {
+		byte[] data = window;
+		for (int i = start; i < end; i++) {
+			byte nextByte = data[i];
+			if (nextByte == '\r') {
+				readLines++;
+			} else if (nextByte == '\n' && !lastWasCarriageReturn) {
+				readLines++;
+			}
+			lastWasCarriageReturn = nextByte == '\r';
+			if (ascii || (nextByte & 0xC0) != 0x80) {
+				readCharacters += (nextByte & 0xF8) == 0xF0 ? 2 : 1;
+			}
+		}
+	}
+
+	private boolean equalsIgnoreCase(int start, String lowerCaseText) {
+		for (int i = 0; i < lowerCaseText.length(); i++) {
+			int nextByte = window[start + i];
+			if (nextByte >= 'A' && nextByte <= 'Z') {
+				nextByte += 'a' - 'A';
+			}
+			if (nextByte != lowerCaseText.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Parse an integer with up to 9 characters including the sign like Integer.parseInt() does
+	 *
+	 * @return value or null if the text is not a simple integer
+	 */
+	private Integer parseSmallInteger(int start, int end) {
+		int index = start;
+		boolean negative = false;
+		if (window[index] == '-' || window[index] == '+') {
+			negative = window[index] == '-';
+			index++;
+			if (index == end) {
+				return null;
+			}
+		}
+		int value = 0;
+		for (; index < end; index++) {
+			int digit = window[index] - '0';
+			if (digit < 0 || digit > 9) {
+				return null;
+			}
+			value = value * 10 + digit;
+		}
+		return Integer.valueOf(negative ? -value : value);
+	}
+
+	private char[] growTextBuffer(int minimumLength) {
+		char[] newTextBuffer = new char[Math.max(textBuffer.length * 2, minimumLength)];
+		System.arraycopy(textBuffer, 0, newTextBuffer, 0, textBuffer.length);
+		return newTextBuffer;
+	}
+
+	/**
+	 * Make sure that a number of bytes is available in the window, if the data has enough bytes left
+	 */
+	private void ensureAvailable(int numberOfBytes) throws IOException {
+		while (length - position < numberOfBytes && fill(position)) {
+			// Read more data
+		}
+	}
+
+	/**
+	 * Read more data into the window. The bytes from keepFrom on are moved to the start of the window, which is enlarged if it is full.
+	 *
+	 * @param keepFrom
+	 *            index of the first byte to keep
+	 * @return false at the end of data
+	 * @throws IOException
+	 */
+	private boolean fill(int keepFrom) throws IOException {
+		if (endOfData) {
+			return false;
+		} else if (inputStream == null) {
+			throw new IllegalStateException("Reader is already closed");
+		}
+
+		int keepLength = length - keepFrom;
+		if (keepFrom > 0) {
+			System.arraycopy(window, keepFrom, window, 0, keepLength);
+			position -= keepFrom;
+			lastCharStart = lastCharStart >= keepFrom ? lastCharStart - keepFrom : -1;
+		} else if (keepLength == window.length) {
+			byte[] newWindow = new byte[window.length * 2];
+			System.arraycopy(window, 0, newWindow, 0, keepLength);
+			window = newWindow;
+		}
+		length = keepLength;
+
+		int readBytes = inputStream.read(window, length, window.length - length);
+		while (readBytes == 0) {
+			readBytes = inputStream.read(window, length, window.length - length);
+		}
+		if (readBytes == -1) {
+			endOfData = true;
+			return false;
+		} else {
+			length += readBytes;
+			return true;
+		}
+	}
+}
@@ -9,6 +9,7 @@ import de.soderer.utilities.json.Json5Reader;
 import de.soderer.utilities.json.JsonNode;
 import de.soderer.utilities.json.JsonObject;
 import de.soderer.utilities.json.JsonReader;
+import de.soderer.utilities.json.schema.compiled.CompiledJsonSchema;
 import de.soderer.utilities.json.schema.validator.AdditionalPropertiesValidator;
 import de.soderer.utilities.json.schema.validator.AllOfValidator;
 import de.soderer.utilities.json.schema.validator.AnyOfValidator;
@@ -228,6 +229,25 @@ public class JsonSchema {
 		return description;
 	}
 
+	/**
+	 * Compile this JSON schema into an immutable validator graph, which may be reused for validation of many json data items by multiple threads
+	 */
+	public CompiledJsonSchema compile() throws JsonSchemaDefinitionError {
+		return new CompiledJsonSchema(jsonSchemaDefinition, jsonSchemaDependencyResolver);
+	}
+
+	/**
+	 * Validate json data while it is read token by token, without keeping the whole json data in memory.
+	 * Validation stops at the first error, which is reported with the JsonPath of the invalid json value.
+	 */
+	public void validateStreaming(InputStream jsonDataInputStream, String encoding) throws JsonSchemaDefinitionError, JsonSchemaDataValidationError {
+		compile().validateStreaming(jsonDataInputStream, encoding);
+	}
+
+	public void validateStreaming(InputStream jsonDataInputStream) throws JsonSchemaDefinitionError, JsonSchemaDataValidationError {
+		compile().validateStreaming(jsonDataInputStream);
+	}
+
 	public JsonNode validate(InputStream jsonDataInputStream, String encoding) throws JsonSchemaDefinitionError, JsonSchemaDataValidationError {
 		JsonNode jsonDataNode;
 		try (JsonReader jsonReader = new Json5Reader(jsonDataInputStream, encoding)) {
@@ -0,0 +1,85 @@
+package de.soderer.utilities.json.schema;
+
+/**
+ * Aggregated metrics of a validation batch of the JsonSchemaBatchValidator
+ */
+public class JsonSchemaBatchStatistics {
+	private long documents = 0;
+	private long validDocuments = 0;
+	private long invalidDocuments = 0;
+	private long unreadableDocuments = 0;
+	private long bytes = 0;
+	private long durationNanos = 0;
+
+	void addResult(JsonSchemaValidationResult jsonSchemaValidationResult) {
+		documents++;
+		if (jsonSchemaValidationResult.isValid()) {
+			validDocuments++;
+		} else if (jsonSchemaValidationResult.isReadable()) {
+			invalidDocuments++;
+		} else {
+			unreadableDocuments++;
+		}
+		if (jsonSchemaValidationResult.getDocumentSize() > 0) {
+			bytes += jsonSchemaValidationResult.getDocumentSize();
+		}
+	}
+
+	void setDurationNanos(long durationNanos) {
+		this.durationNanos = durationNanos;
+	}
+
+	public long getDocuments() {
+		return documents;
+	}
+
+	public long getValidDocuments() {
+		return validDocuments;
+	}
+
+	/**
+	 * Readable documents, which are invalid for the JSON schema
+	 */
+	public long getInvalidDocuments() {
+		return invalidDocuments;
+	}
+
+	/**
+	 * Documents, which could not be read or contain no valid json data
+	 */
+	public long getUnreadableDocuments() {
+		return unreadableDocuments;
+	}
+
+	public long getErrorCount() {
+		return invalidDocuments + unreadableDocuments;
+	}
+
+	public long getBytes() {
+		return bytes;
+	}
+
+	public long getDurationMillis() {
+		return durationNanos / 1000000;
+	}
+
+	public double getDocumentsPerSecond() {
+		return durationNanos == 0 ? 0 : documents * 1000000000.0 / durationNanos;
+	}
+
+	public double getBytesPerSecond() {
+		return durationNanos == 0 ? 0 : bytes * 1000000000.0 / durationNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "Documents: " + documents
+			+ ", valid: " + validDocuments
+			+ ", invalid: " + invalidDocuments
+			+ ", unreadable: " + unreadableDocuments
+			+ ", bytes: " + bytes
+			+ ", duration: " + getDurationMillis() + " ms"
+			+ ", documents/s: " + Math.round(getDocumentsPerSecond())
+			+ ", bytes/s: " + Math.round(getBytesPerSecond());
+	}
+}
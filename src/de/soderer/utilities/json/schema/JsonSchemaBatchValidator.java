@@ -0,0 +1,341 @@
+package de.soderer.utilities.json.schema;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import de.soderer.utilities.json.Json5Reader;
+import de.soderer.utilities.json.schema.compiled.CompiledJsonSchema;
+import de.soderer.utilities.json.schema.compiled.StreamingJsonSchemaValidator;
+
+/**
+ * Validator for many json documents against one JSON schema, which is read and compiled only once.<br />
+ * <br />
+ * The documents are validated concurrently by an ExecutorService, each document token by token without keeping its json data in memory.
+ * Files, byte arrays and the lines of JSON Lines data (also known as NDJSON) are supported as documents.
+ * The number of documents in progress is limited, so document data is only read shortly before its validation.<br />
+ * <br />
+ * Each document gets its own result with the first error and its JsonPath.
+ * Empty files and byte arrays and those without any json value are reported as unreadable.
+ * Invalid documents do not stop the batch. Aggregated metrics are returned at the end of the batch.
+ */
+public class JsonSchemaBatchValidator {
+	private final CompiledJsonSchema compiledJsonSchema;
+
+	/** Executor for the validation of the documents */
+	private ExecutorService executorService = ForkJoinPool.commonPool();
+
+	/** Maximum number of documents submitted to the executor at once */
+	private int maximumDocumentsInProgress = Runtime.getRuntime().availableProcessors() * 2;
+
+	/** Encoding of files and byte arrays, null for the default encoding of the JsonReader */
+	private String encoding = null;
+
+	public JsonSchemaBatchValidator(JsonSchema jsonSchema) throws JsonSchemaDefinitionError {
+		if (jsonSchema == null) {
+			throw new IllegalArgumentException("JsonSchema is null");
+		}
+		compiledJsonSchema = jsonSchema.compile();
+	}
+
+	public JsonSchemaBatchValidator(CompiledJsonSchema compiledJsonSchema) {
+		if (compiledJsonSchema == null) {
+			throw new IllegalArgumentException("CompiledJsonSchema is null");
+		}
+		this.compiledJsonSchema = compiledJsonSchema;
+	}
+
+	public ExecutorService getExecutorService() {
+		return executorService;
+	}
+
+	/**
+	 * Set the executor used for the validation of the documents.
+	 * Default is the common ForkJoinPool. On Java 21 and above an executor for virtual threads may be used, too.
+	 * The executor is not shut down by the JsonSchemaBatchValidator.
+	 *
+	 * @param executorService
+	 */
+	public JsonSchemaBatchValidator setExecutorService(ExecutorService executorService) {
+		if (executorService == null) {
+			throw new IllegalArgumentException("ExecutorService is null");
+		}
+		this.executorService = executorService;
+		return this;
+	}
+
+	public int getMaximumDocumentsInProgress() {
+		return maximumDocumentsInProgress;
+	}
+
+	/**
+	 * Set the maximum number of documents submitted to the executor at once.
+	 * Default is twice the number of available processors.
+	 *
+	 * @param maximumDocumentsInProgress
+	 */
+	public JsonSchemaBatchValidator setMaximumDocumentsInProgress(int maximumDocumentsInProgress) {
+		if (maximumDocumentsInProgress <= 0) {
+			throw new IllegalArgumentException("Invalid maximum documents in progress: " + maximumDocumentsInProgress);
+		}
+		this.maximumDocumentsInProgress = maximumDocumentsInProgress;
+		return this;
+	}
+
+	public String getEncoding() {
+		return encoding;
+	}
+
+	/**
+	 * Set the encoding of files and byte arrays. JSON Lines data is always UTF-8 encoded.
+	 *
+	 * @param encoding
+	 */
+	public JsonSchemaBatchValidator setEncoding(String encoding) {
+		this.encoding = encoding;
+		return this;
+	}
+
+	public JsonSchemaBatchStatistics validateFiles(Iterable<File> jsonDataFiles, JsonSchemaValidationResultHandler jsonSchemaValidationResultHandler) throws Exception {
+		if (jsonDataFiles == null) {
+			throw new IllegalArgumentException("Json data files are null");
+		}
+		final Iterator<File> jsonDataFileIterator = jsonDataFiles.iterator();
+		return validate(new DocumentSource() {
+			@Override
+			Document next() {
+				if (!jsonDataFileIterator.hasNext()) {
+					return null;
+				}
+				final File jsonDataFile = jsonDataFileIterator.next();
+				return new Document(jsonDataFile.getAbsolutePath(), jsonDataFile.length(), encoding) {
+					@Override
+					InputStream openInputStream() throws IOException {
+						return new FileInputStream(jsonDataFile);
+					}
+				};
+			}
+		}, jsonSchemaValidationResultHandler);
+	}
+
+	public JsonSchemaBatchStatistics validateByteArrays(Iterable<byte[]> jsonDataArrays, JsonSchemaValidationResultHandler jsonSchemaValidationResultHandler) throws Exception {
+		if (jsonDataArrays == null) {
+			throw new IllegalArgumentException("Json data arrays are null");
+		}
+		final Iterator<byte[]> jsonDataArrayIterator = jsonDataArrays.iterator();
+		return validate(new DocumentSource() {
+			private int index = 0;
+
+			@Override
+			Document next() {
+				if (!jsonDataArrayIterator.hasNext()) {
+					return null;
+				}
+				return new ByteArrayDocument("byte array " + (index++), jsonDataArrayIterator.next(), encoding);
+			}
+		}, jsonSchemaValidationResultHandler);
+	}
+
+	/**
+	 * Validate each line of JSON Lines data as a document of its own.
+	 * Empty lines are skipped, but counted, so document names contain the line numbers within the data.
+	 */
+	public JsonSchemaBatchStatistics validateJsonLines(InputStream jsonLinesInputStream, JsonSchemaValidationResultHandler jsonSchemaValidationResultHandler) throws Exception {
+		if (jsonLinesInputStream == null) {
+			throw new IllegalArgumentException("InputStream is null");
+		}
+		return validate(new JsonLinesDocumentSource(jsonLinesInputStream), jsonSchemaValidationResultHandler);
+	}
+
+	private JsonSchemaBatchStatistics validate(DocumentSource documentSource, JsonSchemaValidationResultHandler jsonSchemaValidationResultHandler) throws Exception {
+		if (jsonSchemaValidationResultHandler == null) {
+			throw new IllegalArgumentException("JsonSchemaValidationResultHandler is null");
+		}
+
+		long startTime = System.nanoTime();
+		JsonSchemaBatchStatistics statistics = new JsonSchemaBatchStatistics();
+		LinkedList<Future<JsonSchemaValidationResult>> documentsInProgress = new LinkedList<Future<JsonSchemaValidationResult>>();
+		long documentIndex = 0;
+		try {
+			while (true) {
+				while (documentsInProgress.size() < maximumDocumentsInProgress) {
+					final Document document = documentSource.next();
+					if (document == null) {
+						break;
+					}
+					final long nextDocumentIndex = documentIndex++;
+					documentsInProgress.add(executorService.submit(new Callable<JsonSchemaValidationResult>() {
+						@Override
+						public JsonSchemaValidationResult call() {
+							return validateDocument(nextDocumentIndex, document);
+						}
+					}));
+				}
+
+				if (documentsInProgress.isEmpty()) {
+					break;
+				}
+
+				JsonSchemaValidationResult jsonSchemaValidationResult = getResult(documentsInProgress.removeFirst());
+				statistics.addResult(jsonSchemaValidationResult);
+				jsonSchemaValidationResultHandler.handleResult(jsonSchemaValidationResult);
+			}
+		} finally {
+			for (Future<JsonSchemaValidationResult> documentInProgress : documentsInProgress) {
+				documentInProgress.cancel(false);
+			}
+			statistics.setDurationNanos(System.nanoTime() - startTime);
+		}
+		return statistics;
+	}
+
+	private JsonSchemaValidationResult validateDocument(long documentIndex, Document document) {
+		try (InputStream jsonDataInputStream = document.openInputStream();
+				StreamingJsonSchemaValidator streamingJsonSchemaValidator = new StreamingJsonSchemaValidator(compiledJsonSchema, new Json5Reader(jsonDataInputStream, document.encoding))) {
+			streamingJsonSchemaValidator.validate();
+			return new JsonSchemaValidationResult(documentIndex, document.name, document.size, true, null, null);
+		} catch (JsonSchemaDataValidationError e) {
+			return new JsonSchemaValidationResult(documentIndex, document.name, document.size, true, e.getMessage(), e.getJsonDataPath());
+		} catch (Exception e) {
+			return new JsonSchemaValidationResult(documentIndex, document.name, document.size, false, "Cannot read JSON data: " + (e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage()), null);
+		}
+	}
+
+	private static <T> T getResult(Future<T> future) throws Exception {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			} else {
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Single document of a batch, whose data is read by the validating thread
+	 */
+	private abstract static class Document {
+		private final String name;
+		private final long size;
+		private final String encoding;
+
+		private Document(String name, long size, String encoding) {
+			this.name = name;
+			this.size = size;
+			this.encoding = encoding;
+		}
+
+		abstract InputStream openInputStream() throws IOException;
+	}
+
+	private static class ByteArrayDocument extends Document {
+		private final byte[] data;
+
+		private ByteArrayDocument(String name, byte[] data, String encoding) {
+			super(name, data == null ? 0 : data.length, encoding);
+			this.data = data;
+		}
+
+		@Override
+		InputStream openInputStream() throws IOException {
+			if (data == null) {
+				throw new IOException("Json data is null");
+			}
+			return new ByteArrayInputStream(data);
+		}
+	}
+
+	/**
+	 * Source of the documents of a batch, which is read by the thread calling the JsonSchemaBatchValidator
+	 */
+	private abstract static class DocumentSource {
+		/**
+		 * Get the next document or null at the end of the batch
+		 */
+		abstract Document next() throws Exception;
+	}
+
+	private static class JsonLinesDocumentSource extends DocumentSource {
+		private final InputStream inputStream;
+		private final byte[] buffer = new byte[64 * 1024];
+		private int bufferPosition = 0;
+		private int bufferLength = 0;
+		private long lineNumber = 0;
+
+		private JsonLinesDocumentSource(InputStream inputStream) {
+			this.inputStream = inputStream;
+		}
+
+		@Override
+		Document next() throws IOException {
+			byte[] line;
+			while ((line = readNextLine()) != null) {
+				lineNumber++;
+				if (!isBlank(line)) {
+					return new ByteArrayDocument("line " + lineNumber, line, StandardCharsets.UTF_8.name());
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Read the bytes of the next line without its linebreak or null at the end of data
+		 */
+		private byte[] readNextLine() throws IOException {
+			ByteArrayOutputStream lineStart = null;
+			while (true) {
+				if (bufferPosition >= bufferLength) {
+					bufferPosition = 0;
+					bufferLength = inputStream.read(buffer);
+					if (bufferLength < 0) {
+						bufferLength = 0;
+						return lineStart == null ? null : lineStart.toByteArray();
+					}
+				}
+
+				for (int i = bufferPosition; i < bufferLength; i++) {
+					if (buffer[i] == '\n') {
+						byte[] line;
+						if (lineStart == null) {
+							line = Arrays.copyOfRange(buffer, bufferPosition, i);
+						} else {
+							lineStart.write(buffer, bufferPosition, i - bufferPosition);
+							line = lineStart.toByteArray();
+						}
+						bufferPosition = i + 1;
+						return line;
+					}
+				}
+
+				if (lineStart == null) {
+					lineStart = new ByteArrayOutputStream();
+				}
+				lineStart.write(buffer, bufferPosition, bufferLength - bufferPosition);
+				bufferPosition = bufferLength;
+			}
+		}
+
+		private static boolean isBlank(byte[] line) {
+			for (byte lineByte : line) {
+				if (lineByte != ' ' && lineByte != '\t' && lineByte != '\r') {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package de.soderer.utilities.json.schema;
+
+/**
+ * Result of the validation of a single json document by the JsonSchemaBatchValidator
+ */
+public class JsonSchemaValidationResult {
+	private final long documentIndex;
+	private final String documentName;
+	private final long documentSize;
+	private final boolean readable;
+	private final String errorMessage;
+	private final String errorJsonPath;
+
+	JsonSchemaValidationResult(long documentIndex, String documentName, long documentSize, boolean readable, String errorMessage, String errorJsonPath) {
+		this.documentIndex = documentIndex;
+		this.documentName = documentName;
+		this.documentSize = documentSize;
+		this.readable = readable;
+		this.errorMessage = errorMessage;
+		this.errorJsonPath = errorJsonPath;
+	}
+
+	/**
+	 * Position of the document within the batch, starting with 0
+	 */
+	public long getDocumentIndex() {
+		return documentIndex;
+	}
+
+	/**
+	 * File path, line number of JSON Lines data or index of a byte array
+	 */
+	public String getDocumentName() {
+		return documentName;
+	}
+
+	/**
+	 * Size of the document data in bytes
+	 */
+	public long getDocumentSize() {
+		return documentSize;
+	}
+
+	public boolean isValid() {
+		return errorMessage == null;
+	}
+
+	/**
+	 * Document could be read, but it may be invalid for the JSON schema nonetheless
+	 */
+	public boolean isReadable() {
+		return readable;
+	}
+
+	/**
+	 * Message of the first validation error or read error or null, if the document is valid
+	 */
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+	/**
+	 * JsonPath of the invalid json value or null, if the document is valid or not readable
+	 */
+	public String getErrorJsonPath() {
+		return errorJsonPath;
+	}
+
+	@Override
+	public String toString() {
+		return documentName + ": " + (isValid() ? "OK" : errorMessage);
+	}
+}
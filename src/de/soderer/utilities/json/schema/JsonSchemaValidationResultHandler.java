@@ -0,0 +1,15 @@
+package de.soderer.utilities.json.schema;
+
+/**
+ * Receiver of the results delivered by the JsonSchemaBatchValidator
+ */
+public interface JsonSchemaValidationResultHandler {
+	/**
+	 * Handle the validation result of a single document.
+	 * Results are delivered by the thread calling the JsonSchemaBatchValidator in the order of the documents.
+	 *
+	 * @param jsonSchemaValidationResult
+	 * @throws Exception
+	 */
+	public void handleResult(JsonSchemaValidationResult jsonSchemaValidationResult) throws Exception;
+}
@@ -0,0 +1,75 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.soderer.utilities.json.JsonDataType;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+
+/**
+ * Streaming state for validators, which validate JsonObject and JsonArray values against multiple optional schemas at once.
+ * Simple values are validated directly.
+ */
+abstract class BranchingValidationState extends TypeOnlyValidationState {
+	protected final List<StreamingValidationBranch> branches = new ArrayList<StreamingValidationBranch>();
+
+	BranchingValidationState(CompiledJsonSchemaValidator validator, JsonDataPath jsonPath) {
+		super(validator, jsonPath);
+	}
+
+	/**
+	 * Create the branches, when a JsonObject or JsonArray value is opened
+	 */
+	protected abstract void createBranches(JsonDataType jsonDataType) throws JsonSchemaDataValidationError;
+
+	/**
+	 * Check the results of the branches at the end of the JsonObject or JsonArray value
+	 */
+	protected abstract void branchesCompleted() throws JsonSchemaDataValidationError;
+
+	@Override
+	void openJsonObject() throws JsonSchemaDataValidationError {
+		createBranches(JsonDataType.OBJECT);
+		for (StreamingValidationBranch branch : branches) {
+			branch.openJsonObject();
+		}
+	}
+
+	@Override
+	void addPropertyStates(String propertyKey, JsonDataPath propertyPath, List<StreamingValidationState> propertyStates) throws JsonSchemaDataValidationError {
+		for (StreamingValidationBranch branch : branches) {
+			branch.addPropertyStates(propertyKey, propertyPath, propertyStates);
+		}
+	}
+
+	@Override
+	void closeJsonObject() throws JsonSchemaDataValidationError {
+		for (StreamingValidationBranch branch : branches) {
+			branch.closeJsonObject();
+		}
+		branchesCompleted();
+	}
+
+	@Override
+	void openJsonArray() throws JsonSchemaDataValidationError {
+		createBranches(JsonDataType.ARRAY);
+		for (StreamingValidationBranch branch : branches) {
+			branch.openJsonArray();
+		}
+	}
+
+	@Override
+	void addItemStates(int index, JsonDataPath itemPath, List<StreamingValidationState> itemStates) throws JsonSchemaDataValidationError {
+		for (StreamingValidationBranch branch : branches) {
+			branch.addItemStates(index, itemPath, itemStates);
+		}
+	}
+
+	@Override
+	void closeJsonArray() throws JsonSchemaDataValidationError {
+		for (StreamingValidationBranch branch : branches) {
+			branch.closeJsonArray();
+		}
+		branchesCompleted();
+	}
+}
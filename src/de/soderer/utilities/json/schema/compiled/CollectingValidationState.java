@@ -0,0 +1,68 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.List;
+
+import de.soderer.utilities.json.JsonArray;
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonObject;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+
+/**
+ * Streaming state, which collects a whole json value, for validators that need to compare the json value as a whole
+ */
+abstract class CollectingValidationState extends StreamingValidationState {
+	/** JsonObject or JsonArray in collection */
+	private Object collectedValue = null;
+
+	/**
+	 * Called when the json value is read completely
+	 */
+	protected abstract void valueCollected(Object value) throws JsonSchemaDataValidationError;
+
+	@Override
+	void validateSimpleValue(JsonNode jsonNode) throws JsonSchemaDataValidationError {
+		valueCollected(jsonNode.getValue());
+	}
+
+	@Override
+	void openJsonObject() throws JsonSchemaDataValidationError {
+		collectedValue = new JsonObject();
+	}
+
+	@Override
+	void addPropertyStates(final String propertyKey, JsonDataPath propertyPath, List<StreamingValidationState> propertyStates) throws JsonSchemaDataValidationError {
+		final JsonObject jsonObject = (JsonObject) collectedValue;
+		propertyStates.add(new CollectingValidationState() {
+			@Override
+			protected void valueCollected(Object value) {
+				jsonObject.add(propertyKey, value);
+			}
+		});
+	}
+
+	@Override
+	void closeJsonObject() throws JsonSchemaDataValidationError {
+		valueCollected(collectedValue);
+	}
+
+	@Override
+	void openJsonArray() throws JsonSchemaDataValidationError {
+		collectedValue = new JsonArray();
+	}
+
+	@Override
+	void addItemStates(int index, JsonDataPath itemPath, List<StreamingValidationState> itemStates) throws JsonSchemaDataValidationError {
+		final JsonArray jsonArray = (JsonArray) collectedValue;
+		itemStates.add(new CollectingValidationState() {
+			@Override
+			protected void valueCollected(Object value) {
+				jsonArray.add(value);
+			}
+		});
+	}
+
+	@Override
+	void closeJsonArray() throws JsonSchemaDataValidationError {
+		valueCollected(collectedValue);
+	}
+}
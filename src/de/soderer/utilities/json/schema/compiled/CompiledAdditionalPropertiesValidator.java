@@ -0,0 +1,134 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import de.soderer.utilities.Utilities;
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonObject;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+class CompiledAdditionalPropertiesValidator extends CompiledJsonSchemaValidator {
+	/** Property keys defined by "properties" */
+	private final Set<String> definedPropertyKeys;
+	/** Property key patterns defined by "patternProperties" */
+	private final Pattern[] definedPropertyKeyPatterns;
+	/** Schema for additional properties or null, if additional properties are allowed or forbidden in general */
+	private final CompiledJsonSchemaNode additionalPropertySchemaNode;
+	private final boolean additionalPropertiesAllowed;
+
+	CompiledAdditionalPropertiesValidator(JsonObject parentValidatorData, JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		if (validatorData instanceof Boolean) {
+			additionalPropertySchemaNode = null;
+			additionalPropertiesAllowed = (Boolean) validatorData;
+		} else if (validatorData instanceof JsonObject) {
+			additionalPropertySchemaNode = jsonSchemaCompiler.compile((JsonObject) validatorData, jsonSchemaPath);
+			additionalPropertiesAllowed = true;
+		} else {
+			throw new JsonSchemaDefinitionError("AdditionalProperties data is not a 'boolean' or 'object'", jsonSchemaPath);
+		}
+
+		if (parentValidatorData.containsPropertyKey("properties")) {
+			if (parentValidatorData.get("properties") == null) {
+				throw new JsonSchemaDefinitionError("Properties data is 'null'", jsonSchemaPath);
+			} else if (!(parentValidatorData.get("properties") instanceof JsonObject)) {
+				throw new JsonSchemaDefinitionError("Properties data is not a JsonObject", jsonSchemaPath);
+			} else {
+				definedPropertyKeys = new HashSet<String>(((JsonObject) parentValidatorData.get("properties")).keySet());
+			}
+		} else {
+			definedPropertyKeys = Collections.emptySet();
+		}
+
+		if (parentValidatorData.containsPropertyKey("patternProperties")) {
+			if (parentValidatorData.get("patternProperties") == null) {
+				throw new JsonSchemaDefinitionError("PatternProperties data is 'null'", jsonSchemaPath);
+			} else if (!(parentValidatorData.get("patternProperties") instanceof JsonObject)) {
+				throw new JsonSchemaDefinitionError("PatternProperties data is not a JsonObject", jsonSchemaPath);
+			} else {
+				definedPropertyKeyPatterns = CompiledPatternPropertiesValidator.compilePropertyKeyPatterns((JsonObject) parentValidatorData.get("patternProperties"), jsonSchemaPath);
+			}
+		} else {
+			definedPropertyKeyPatterns = new Pattern[0];
+		}
+	}
+
+	/**
+	 * Check if a property key is neither defined by "properties" nor matched by "patternProperties"
+	 */
+	boolean isAdditionalPropertyKey(String propertyKey) {
+		if (definedPropertyKeys.contains(propertyKey)) {
+			return false;
+		}
+		for (Pattern propertyKeyPattern : definedPropertyKeyPatterns) {
+			if (propertyKeyPattern.matcher(propertyKey).find()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		if (!(jsonNode.isJsonObject())) {
+			if (!useDraftV4Mode) {
+				throw new JsonSchemaDataValidationError("Expected data type 'object' but was '" + jsonNode.getJsonDataType().getName() + "'", jsonPath.toString());
+			}
+		} else if (additionalPropertySchemaNode != null || !additionalPropertiesAllowed) {
+			JsonObject jsonObject = (JsonObject) jsonNode.getValue();
+			List<String> additionalPropertyNames = null;
+			for (String checkPropertyKey : jsonObject.keySet()) {
+				if (isAdditionalPropertyKey(checkPropertyKey)) {
+					if (additionalPropertyNames == null) {
+						additionalPropertyNames = new ArrayList<String>();
+					}
+					additionalPropertyNames.add(checkPropertyKey);
+				}
+			}
+
+			if (additionalPropertyNames != null) {
+				if (additionalPropertySchemaNode == null) {
+					throw new JsonSchemaDataValidationError("Unexpected property keys found '" + Utilities.join(additionalPropertyNames, "', '") + "'", jsonPath.toString());
+				} else {
+					for (String propertyKey : additionalPropertyNames) {
+						JsonNode newJsonNode;
+						try {
+							newJsonNode = new JsonNode(jsonObject.get(propertyKey));
+						} catch (Exception e) {
+							throw new JsonSchemaDataValidationError("Invalid data type '" + jsonObject.get(propertyKey).getClass().getSimpleName() + "'", jsonPath.appendPropertyKey(propertyKey).toString());
+						}
+						additionalPropertySchemaNode.validate(newJsonNode, jsonPath.appendPropertyKey(propertyKey));
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	void addStreamingValidationStates(final JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		states.add(new TypeOnlyValidationState(this, jsonPath) {
+			@Override
+			void openJsonObject() {
+				// Properties are validated one by one
+			}
+
+			@Override
+			void addPropertyStates(String propertyKey, JsonDataPath propertyPath, List<StreamingValidationState> propertyStates) throws JsonSchemaDataValidationError {
+				if ((additionalPropertySchemaNode != null || !additionalPropertiesAllowed) && isAdditionalPropertyKey(propertyKey)) {
+					if (additionalPropertySchemaNode == null) {
+						throw new JsonSchemaDataValidationError("Unexpected property keys found '" + propertyKey + "'", jsonPath.toString());
+					} else {
+						additionalPropertySchemaNode.addStreamingValidationStates(propertyPath, propertyStates);
+					}
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,115 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.soderer.utilities.json.JsonArray;
+import de.soderer.utilities.json.JsonDataType;
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonObject;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+/**
+ * Validator for "anyOf", "allOf" and "oneOf"
+ */
+class CompiledCombinationValidator extends CompiledJsonSchemaValidator {
+	private final String keyword;
+	private final List<CompiledJsonSchemaNode> optionSchemaNodes = new ArrayList<CompiledJsonSchemaNode>();
+
+	CompiledCombinationValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData, String keyword) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		this.keyword = keyword;
+		String keywordName = Character.toUpperCase(keyword.charAt(0)) + keyword.substring(1);
+		if (!(validatorData instanceof JsonArray)) {
+			throw new JsonSchemaDefinitionError(keywordName + " property does not have an array value", jsonSchemaPath);
+		}
+		for (Object optionData : (JsonArray) validatorData) {
+			if (optionData instanceof JsonObject) {
+				optionSchemaNodes.add(jsonSchemaCompiler.compile((JsonObject) optionData, jsonSchemaPath));
+			} else {
+				throw new JsonSchemaDefinitionError(keywordName + " array contains a non-JsonObject", jsonSchemaPath);
+			}
+		}
+		if (optionSchemaNodes.isEmpty()) {
+			throw new JsonSchemaDefinitionError(keywordName + " array is empty", jsonSchemaPath);
+		}
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		if ("allOf".equals(keyword)) {
+			for (CompiledJsonSchemaNode optionSchemaNode : optionSchemaNodes) {
+				try {
+					optionSchemaNode.validate(jsonNode, jsonPath);
+				} catch (JsonSchemaDataValidationError e) {
+					throw new JsonSchemaDataValidationError("Some option of 'allOf' property did not apply to JsonNode", jsonPath.toString());
+				}
+			}
+		} else {
+			int applyCount = 0;
+			for (CompiledJsonSchemaNode optionSchemaNode : optionSchemaNodes) {
+				try {
+					optionSchemaNode.validate(jsonNode, jsonPath);
+					applyCount++;
+					if ("anyOf".equals(keyword) || applyCount > 1) {
+						break;
+					}
+				} catch (JsonSchemaDataValidationError e) {
+					// Do nothing, just check the next option
+				}
+			}
+
+			if (applyCount < 1) {
+				throw new JsonSchemaDataValidationError("No option of '" + keyword + "' property did apply to JsonNode", jsonPath.toString());
+			} else if (applyCount > 1) {
+				throw new JsonSchemaDataValidationError("More than one option of 'oneOf' property did apply to JsonNode", jsonPath.toString());
+			}
+		}
+	}
+
+	@Override
+	protected List<CompiledJsonSchemaNode> getInPlaceSchemaNodes() {
+		return optionSchemaNodes;
+	}
+
+	@Override
+	void addStreamingValidationStates(final JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		states.add(new BranchingValidationState(this, jsonPath) {
+			@Override
+			protected void createBranches(JsonDataType jsonDataType) {
+				for (CompiledJsonSchemaNode optionSchemaNode : optionSchemaNodes) {
+					if ("allOf".equals(keyword)) {
+						branches.add(new StreamingValidationBranch(optionSchemaNode, jsonPath) {
+							@Override
+							protected void fail(JsonSchemaDataValidationError validationError) throws JsonSchemaDataValidationError {
+								throw new JsonSchemaDataValidationError("Some option of 'allOf' property did not apply to JsonNode", jsonPath.toString());
+							}
+						});
+					} else {
+						branches.add(new StreamingValidationBranch(optionSchemaNode, jsonPath));
+					}
+				}
+			}
+
+			@Override
+			protected void branchesCompleted() throws JsonSchemaDataValidationError {
+				if (!"allOf".equals(keyword)) {
+					int applyCount = 0;
+					for (StreamingValidationBranch branch : branches) {
+						if (!branch.isFailed()) {
+							applyCount++;
+						}
+					}
+
+					if (applyCount < 1) {
+						throw new JsonSchemaDataValidationError("No option of '" + keyword + "' property did apply to JsonNode", jsonPath.toString());
+					} else if ("oneOf".equals(keyword) && applyCount > 1) {
+						throw new JsonSchemaDataValidationError("More than one option of 'oneOf' property did apply to JsonNode", jsonPath.toString());
+					}
+				}
+			}
+		});
+	}
+}
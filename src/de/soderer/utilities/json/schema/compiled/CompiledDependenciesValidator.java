@@ -0,0 +1,154 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import de.soderer.utilities.json.JsonArray;
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonObject;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+class CompiledDependenciesValidator extends CompiledJsonSchemaValidator {
+	private final String[] parentPropertyKeys;
+	/** Required property keys for each parent property key or null, if there is a schema dependency */
+	private final String[][] dependentPropertyKeys;
+	/** Schema for each parent property key or null, if there are property dependencies */
+	private final CompiledJsonSchemaNode[] dependentSchemaNodes;
+	/** Parent property keys and dependent property keys */
+	private final Set<String> relevantPropertyKeys = new HashSet<String>();
+	private final List<CompiledJsonSchemaNode> schemaNodes = new ArrayList<CompiledJsonSchemaNode>();
+
+	CompiledDependenciesValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		if (!(validatorData instanceof JsonObject)) {
+			throw new JsonSchemaDefinitionError("Dependencies value is not an 'object'", jsonSchemaPath);
+		}
+
+		JsonObject dependenciesObject = (JsonObject) validatorData;
+		parentPropertyKeys = new String[dependenciesObject.size()];
+		dependentPropertyKeys = new String[dependenciesObject.size()][];
+		dependentSchemaNodes = new CompiledJsonSchemaNode[dependenciesObject.size()];
+		int index = 0;
+		for (Entry<String, Object> entry : dependenciesObject.entrySet()) {
+			parentPropertyKeys[index] = entry.getKey();
+			relevantPropertyKeys.add(entry.getKey());
+			if (entry.getValue() == null) {
+				throw new JsonSchemaDefinitionError("Dependencies value is 'null'", jsonSchemaPath);
+			} else if (entry.getValue() instanceof JsonArray) {
+				JsonArray dependentPropertyKeysArray = (JsonArray) entry.getValue();
+				dependentPropertyKeys[index] = new String[dependentPropertyKeysArray.size()];
+				for (int i = 0; i < dependentPropertyKeysArray.size(); i++) {
+					Object item = dependentPropertyKeysArray.get(i);
+					if (item == null || !(item instanceof String)) {
+						throw new JsonSchemaDefinitionError("Dependencies value for key '" + entry.getKey() + "' contains invalid data that is not 'string'", jsonSchemaPath);
+					}
+					dependentPropertyKeys[index][i] = (String) item;
+					relevantPropertyKeys.add((String) item);
+				}
+			} else if (entry.getValue() instanceof JsonObject) {
+				dependentSchemaNodes[index] = jsonSchemaCompiler.compile((JsonObject) entry.getValue(), jsonSchemaPath);
+				schemaNodes.add(dependentSchemaNodes[index]);
+			} else if (entry.getValue() instanceof String) {
+				dependentPropertyKeys[index] = new String[] { (String) entry.getValue() };
+				relevantPropertyKeys.add((String) entry.getValue());
+			} else {
+				throw new JsonSchemaDefinitionError("Dependencies value for key '" + entry.getKey() + "' is not an 'object' or 'array' or 'string'", jsonSchemaPath);
+			}
+			index++;
+		}
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		if (!jsonNode.isJsonObject()) {
+			if (!useDraftV4Mode) {
+				throw new JsonSchemaDataValidationError("Expected a 'object' value for dependency but was '" + jsonNode.getJsonDataType().getName() + "'", jsonPath.toString());
+			}
+		} else {
+			JsonObject jsonObject = (JsonObject) jsonNode.getValue();
+			for (int i = 0; i < parentPropertyKeys.length; i++) {
+				if (jsonObject.containsPropertyKey(parentPropertyKeys[i])) {
+					if (dependentSchemaNodes[i] != null) {
+						dependentSchemaNodes[i].validate(jsonNode, jsonPath);
+					} else {
+						for (String dependentPropertyKey : dependentPropertyKeys[i]) {
+							if (!jsonObject.containsPropertyKey(dependentPropertyKey)) {
+								throw new JsonSchemaDataValidationError("Dependent property key '" + dependentPropertyKey + "' for existing parent key '" + parentPropertyKeys[i] + "' is missing", jsonPath.toString());
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	protected List<CompiledJsonSchemaNode> getInPlaceSchemaNodes() {
+		return schemaNodes;
+	}
+
+	/**
+	 * Schema dependencies are validated for each JsonObject from its start, because the parent property key may be one of its last properties.
+	 */
+	@Override
+	void addStreamingValidationStates(final JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		states.add(new TypeOnlyValidationState(this, jsonPath) {
+			/** Found property keys, which are parent property keys or dependent property keys */
+			private Set<String> foundPropertyKeys;
+			private StreamingValidationBranch[] dependentSchemaBranches;
+
+			@Override
+			void openJsonObject() throws JsonSchemaDataValidationError {
+				foundPropertyKeys = new HashSet<String>();
+				dependentSchemaBranches = new StreamingValidationBranch[parentPropertyKeys.length];
+				for (int i = 0; i < parentPropertyKeys.length; i++) {
+					if (dependentSchemaNodes[i] != null) {
+						dependentSchemaBranches[i] = new StreamingValidationBranch(dependentSchemaNodes[i], jsonPath);
+						dependentSchemaBranches[i].openJsonObject();
+					}
+				}
+			}
+
+			@Override
+			void addPropertyStates(String propertyKey, JsonDataPath propertyPath, List<StreamingValidationState> propertyStates) throws JsonSchemaDataValidationError {
+				if (relevantPropertyKeys.contains(propertyKey)) {
+					foundPropertyKeys.add(propertyKey);
+				}
+				for (StreamingValidationBranch dependentSchemaBranch : dependentSchemaBranches) {
+					if (dependentSchemaBranch != null) {
+						dependentSchemaBranch.addPropertyStates(propertyKey, propertyPath, propertyStates);
+					}
+				}
+			}
+
+			@Override
+			void closeJsonObject() throws JsonSchemaDataValidationError {
+				for (StreamingValidationBranch dependentSchemaBranch : dependentSchemaBranches) {
+					if (dependentSchemaBranch != null) {
+						dependentSchemaBranch.closeJsonObject();
+					}
+				}
+				for (int i = 0; i < parentPropertyKeys.length; i++) {
+					if (foundPropertyKeys.contains(parentPropertyKeys[i])) {
+						if (dependentSchemaBranches[i] != null) {
+							if (dependentSchemaBranches[i].isFailed()) {
+								throw dependentSchemaBranches[i].getError();
+							}
+						} else {
+							for (String dependentPropertyKey : dependentPropertyKeys[i]) {
+								if (!foundPropertyKeys.contains(dependentPropertyKey)) {
+									throw new JsonSchemaDataValidationError("Dependent property key '" + dependentPropertyKey + "' for existing parent key '" + parentPropertyKeys[i] + "' is missing", jsonPath.toString());
+								}
+							}
+						}
+					}
+				}
+			}
+		});
+	}
+}
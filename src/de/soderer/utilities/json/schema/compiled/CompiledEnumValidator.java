@@ -0,0 +1,58 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import de.soderer.utilities.Utilities;
+import de.soderer.utilities.json.JsonArray;
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonObject;
+import de.soderer.utilities.json.JsonUtilities;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+class CompiledEnumValidator extends CompiledJsonSchemaValidator {
+	private final JsonArray enumValues;
+	/** Normalized enum values for lookup by hash, including null, JsonObject and JsonArray values */
+	private final Set<Object> normalizedEnumValues = new HashSet<Object>();
+	private final boolean hasComplexEnumValues;
+
+	CompiledEnumValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		if (!(validatorData instanceof JsonArray)) {
+			throw new JsonSchemaDefinitionError("Enum contains a non-JsonArray", jsonSchemaPath);
+		} else if (((JsonArray) validatorData).size() == 0) {
+			throw new JsonSchemaDefinitionError("Enum contains an empty JsonArray", jsonSchemaPath);
+		}
+		enumValues = (JsonArray) validatorData;
+		boolean foundComplexEnumValue = false;
+		for (Object enumValue : enumValues) {
+			normalizedEnumValues.add(JsonUtilities.normalizeJsonValue(enumValue));
+			if (enumValue instanceof JsonObject || enumValue instanceof JsonArray) {
+				foundComplexEnumValue = true;
+			}
+		}
+		hasComplexEnumValues = foundComplexEnumValue;
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		Object value = jsonNode.getValue();
+		if (normalizedEnumValues.contains(JsonUtilities.normalizeJsonValue(value))) {
+			return;
+		}
+		throw new JsonSchemaDataValidationError("Enumeration expected one of '" + Utilities.join(enumValues, "', '") + "' but was " + (jsonNode.isSimpleValue() ? "'" + value + "'" : "'" + jsonNode.getJsonDataType() + "'"), jsonPath.toString());
+	}
+
+	@Override
+	void addStreamingValidationStates(JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		if (!hasComplexEnumValues) {
+			// JsonObject and JsonArray values are invalid by their data type
+			states.add(new TypeOnlyValidationState(this, jsonPath));
+		} else {
+			super.addStreamingValidationStates(jsonPath, states);
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import de.soderer.utilities.DateUtilities;
+import de.soderer.utilities.NetworkUtilities;
+import de.soderer.utilities.TextUtilities;
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+class CompiledFormatValidator extends CompiledJsonSchemaValidator {
+	private static final ThreadLocal<SimpleDateFormat> DATETIME_FORMAT = new ThreadLocal<SimpleDateFormat>() {
+		@Override
+		protected SimpleDateFormat initialValue() {
+			return new SimpleDateFormat(DateUtilities.ISO_8601_DATETIME_FORMAT);
+		}
+	};
+
+	private final String formatName;
+	private final String formatKey;
+
+	CompiledFormatValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		if (!(validatorData instanceof String)) {
+			throw new JsonSchemaDefinitionError("Format value is not a string", jsonSchemaPath);
+		}
+		formatName = (String) validatorData;
+		formatKey = formatName.toLowerCase();
+		switch (formatKey) {
+			case "email":
+			case "date-time":
+			case "hostname":
+			case "ipv4":
+			case "ipv6":
+			case "uri":
+			case "regex":
+			case "base64":
+				break;
+			default:
+				throw new JsonSchemaDefinitionError("Unknown format name '" + formatName + "'", jsonSchemaPath);
+		}
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		if (!jsonNode.isString()) {
+			throw new JsonSchemaDataValidationError("Expected a 'string' value for formatcheck but was '" + jsonNode.getJsonDataType().getName() + "'", jsonPath.toString());
+		}
+
+		String value = jsonNode.getValue().toString();
+		boolean isValid;
+		switch (formatKey) {
+			case "email":
+				isValid = NetworkUtilities.isValidEmail(value);
+				break;
+			case "date-time":
+				try {
+					DATETIME_FORMAT.get().parse(value);
+					isValid = true;
+				} catch (ParseException e) {
+					isValid = false;
+				}
+				break;
+			case "hostname":
+				isValid = NetworkUtilities.isValidHostname(value);
+				break;
+			case "ipv4":
+				isValid = NetworkUtilities.isValidIpV4(value);
+				break;
+			case "ipv6":
+				isValid = NetworkUtilities.isValidIpV6(value);
+				break;
+			case "uri":
+				isValid = NetworkUtilities.isValidUri(value);
+				break;
+			case "regex":
+				try {
+					Pattern.compile(value);
+					isValid = true;
+				} catch (Exception e) {
+					isValid = false;
+				}
+				break;
+			case "base64":
+				if (!TextUtilities.isValidBase64(value)) {
+					throw new JsonSchemaDataValidationError("Invalid data for format '" + formatName + "' was '" + TextUtilities.trimStringToMaximumLength(value, 20, " ...") + "'", jsonPath.toString());
+				}
+				isValid = true;
+				break;
+			default:
+				isValid = false;
+		}
+		if (!isValid) {
+			throw new JsonSchemaDataValidationError("Invalid data for format '" + formatName + "' was '" + value + "'", jsonPath.toString());
+		}
+	}
+
+	@Override
+	void addStreamingValidationStates(JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		states.add(new TypeOnlyValidationState(this, jsonPath));
+	}
+}
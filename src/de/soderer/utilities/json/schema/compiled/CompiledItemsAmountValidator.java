@@ -0,0 +1,78 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.List;
+
+import de.soderer.utilities.json.JsonArray;
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+/**
+ * Validator for "minItems" and "maxItems"
+ */
+class CompiledItemsAmountValidator extends CompiledJsonSchemaValidator {
+	private final boolean isMinimum;
+	private final int itemsAmount;
+
+	CompiledItemsAmountValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData, boolean isMinimum) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		this.isMinimum = isMinimum;
+		if (validatorData instanceof Integer) {
+			itemsAmount = (Integer) validatorData;
+		} else if (validatorData instanceof String) {
+			try {
+				itemsAmount = Integer.parseInt((String) validatorData);
+			} catch (NumberFormatException e) {
+				throw new JsonSchemaDefinitionError("Data for " + (isMinimum ? "minimum" : "maximum") + " items '" + validatorData + "' is not a number", jsonSchemaPath);
+			}
+		} else {
+			throw new JsonSchemaDefinitionError("Data for " + (isMinimum ? "minimum" : "maximum") + " items '" + validatorData + "' is not a number", jsonSchemaPath);
+		}
+		if (itemsAmount < 0) {
+			throw new JsonSchemaDefinitionError("Data for " + (isMinimum ? "minimum" : "maximum") + " items amount is negative", jsonSchemaPath);
+		}
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		if (!(jsonNode.isJsonArray())) {
+			if (!useDraftV4Mode) {
+				throw new JsonSchemaDataValidationError("Expected data type 'array' but was '" + jsonNode.getJsonDataType().getName() + "'", jsonPath.toString());
+			}
+		} else {
+			int size = ((JsonArray) jsonNode.getValue()).size();
+			if (isMinimum && size < itemsAmount) {
+				throw new JsonSchemaDataValidationError("Required minimum number of items is '" + itemsAmount + "' but was '" + size + "'", jsonPath.toString());
+			} else if (!isMinimum && size > itemsAmount) {
+				throw new JsonSchemaDataValidationError("Required maximum number of items is '" + itemsAmount + "' but was '" + size + "'", jsonPath.toString());
+			}
+		}
+	}
+
+	@Override
+	void addStreamingValidationStates(final JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		states.add(new TypeOnlyValidationState(this, jsonPath) {
+			private int size;
+
+			@Override
+			void openJsonArray() {
+				size = 0;
+			}
+
+			@Override
+			void addItemStates(int index, JsonDataPath itemPath, List<StreamingValidationState> itemStates) {
+				size++;
+			}
+
+			@Override
+			void closeJsonArray() throws JsonSchemaDataValidationError {
+				if (isMinimum && size < itemsAmount) {
+					throw new JsonSchemaDataValidationError("Required minimum number of items is '" + itemsAmount + "' but was '" + size + "'", jsonPath.toString());
+				} else if (!isMinimum && size > itemsAmount) {
+					throw new JsonSchemaDataValidationError("Required maximum number of items is '" + itemsAmount + "' but was '" + size + "'", jsonPath.toString());
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,141 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.List;
+
+import de.soderer.utilities.json.JsonArray;
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonObject;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+class CompiledItemsValidator extends CompiledJsonSchemaValidator {
+	/** Schema for all items, if "items" is an object */
+	private final CompiledJsonSchemaNode itemSchemaNode;
+	/** Schemas for the leading items, if "items" is an array */
+	private final CompiledJsonSchemaNode[] tupleItemSchemaNodes;
+	/** Schema for items after the leading items defined by "additionalItems" */
+	private final CompiledJsonSchemaNode additionalItemSchemaNode;
+	private final boolean additionalItemsAllowed;
+
+	CompiledItemsValidator(JsonObject parentValidatorData, JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		if (validatorData instanceof JsonObject) {
+			itemSchemaNode = jsonSchemaCompiler.compile((JsonObject) validatorData, jsonSchemaPath);
+			tupleItemSchemaNodes = null;
+			additionalItemSchemaNode = null;
+			additionalItemsAllowed = true;
+			if (parentValidatorData.containsPropertyKey("additionalItems") && !useDraftV4Mode) {
+				throw new JsonSchemaDefinitionError("'additionalItems' is only allowed for 'items' with 'array' data value", jsonSchemaPath);
+			}
+		} else if (validatorData instanceof JsonArray) {
+			itemSchemaNode = null;
+			JsonArray itemsArray = (JsonArray) validatorData;
+			tupleItemSchemaNodes = new CompiledJsonSchemaNode[itemsArray.size()];
+			for (int i = 0; i < itemsArray.size(); i++) {
+				if (!(itemsArray.get(i) instanceof JsonObject)) {
+					throw new JsonSchemaDefinitionError("Items data item is not an 'object'", jsonSchemaPath);
+				}
+				tupleItemSchemaNodes[i] = jsonSchemaCompiler.compile((JsonObject) itemsArray.get(i), jsonSchemaPath);
+			}
+
+			if (parentValidatorData.containsPropertyKey("additionalItems")) {
+				Object additionalItemsRaw = parentValidatorData.get("additionalItems");
+				if (additionalItemsRaw == null) {
+					throw new JsonSchemaDefinitionError("Property 'additionalItems' is 'null'", jsonSchemaPath);
+				} else if (additionalItemsRaw instanceof Boolean) {
+					additionalItemSchemaNode = null;
+					additionalItemsAllowed = (Boolean) additionalItemsRaw;
+				} else if (additionalItemsRaw instanceof JsonObject) {
+					additionalItemSchemaNode = jsonSchemaCompiler.compile((JsonObject) additionalItemsRaw, jsonSchemaPath);
+					additionalItemsAllowed = true;
+				} else {
+					throw new JsonSchemaDefinitionError("AdditionalItems data is not a 'boolean' or 'object'", jsonSchemaPath);
+				}
+			} else {
+				additionalItemSchemaNode = null;
+				additionalItemsAllowed = true;
+			}
+		} else {
+			throw new JsonSchemaDefinitionError("Items data is not an 'object' or 'array'", jsonSchemaPath);
+		}
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		if (!(jsonNode.isJsonArray())) {
+			if (!useDraftV4Mode) {
+				throw new JsonSchemaDataValidationError("Expected data type 'array' but was '" + jsonNode.getJsonDataType().getName() + "'", jsonPath.toString());
+			}
+		} else {
+			JsonArray jsonArray = (JsonArray) jsonNode.getValue();
+			if (itemSchemaNode != null) {
+				for (int i = 0; i < jsonArray.size(); i++) {
+					validateItem(itemSchemaNode, jsonArray, i, jsonPath);
+				}
+			} else {
+				if (jsonArray.size() < tupleItemSchemaNodes.length) {
+					throw new JsonSchemaDataValidationError("Minimum amount of array items is " + tupleItemSchemaNodes.length + " but was " + jsonArray.size(), jsonPath.toString());
+				}
+				for (int i = 0; i < tupleItemSchemaNodes.length; i++) {
+					validateItem(tupleItemSchemaNodes[i], jsonArray, i, jsonPath);
+				}
+
+				if (!additionalItemsAllowed) {
+					if (jsonArray.size() > tupleItemSchemaNodes.length) {
+						throw new JsonSchemaDataValidationError("Maximum amount of array items is " + tupleItemSchemaNodes.length + " but was " + jsonArray.size(), jsonPath.toString());
+					}
+				} else if (additionalItemSchemaNode != null) {
+					for (int i = tupleItemSchemaNodes.length; i < jsonArray.size(); i++) {
+						validateItem(additionalItemSchemaNode, jsonArray, i, jsonPath);
+					}
+				}
+			}
+		}
+	}
+
+	private static void validateItem(CompiledJsonSchemaNode schemaNode, JsonArray jsonArray, int index, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		JsonNode itemJsonNode;
+		try {
+			itemJsonNode = new JsonNode(jsonArray.get(index));
+		} catch (Exception e) {
+			throw new JsonSchemaDataValidationError("Invalid data type '" + jsonArray.get(index).getClass().getSimpleName() + "'", jsonPath.appendArrayIndex(index).toString());
+		}
+		schemaNode.validate(itemJsonNode, jsonPath.appendArrayIndex(index));
+	}
+
+	@Override
+	void addStreamingValidationStates(final JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		states.add(new TypeOnlyValidationState(this, jsonPath) {
+			private int size;
+
+			@Override
+			void openJsonArray() {
+				size = 0;
+			}
+
+			@Override
+			void addItemStates(int index, JsonDataPath itemPath, List<StreamingValidationState> itemStates) {
+				size++;
+				if (itemSchemaNode != null) {
+					itemSchemaNode.addStreamingValidationStates(itemPath, itemStates);
+				} else if (index < tupleItemSchemaNodes.length) {
+					tupleItemSchemaNodes[index].addStreamingValidationStates(itemPath, itemStates);
+				} else if (additionalItemSchemaNode != null) {
+					additionalItemSchemaNode.addStreamingValidationStates(itemPath, itemStates);
+				}
+			}
+
+			@Override
+			void closeJsonArray() throws JsonSchemaDataValidationError {
+				if (tupleItemSchemaNodes != null) {
+					if (size < tupleItemSchemaNodes.length) {
+						throw new JsonSchemaDataValidationError("Minimum amount of array items is " + tupleItemSchemaNodes.length + " but was " + size, jsonPath.toString());
+					} else if (!additionalItemsAllowed && size > tupleItemSchemaNodes.length) {
+						throw new JsonSchemaDataValidationError("Maximum amount of array items is " + tupleItemSchemaNodes.length + " but was " + size, jsonPath.toString());
+					}
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,87 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.io.InputStream;
+
+import de.soderer.utilities.json.Json5Reader;
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonObject;
+import de.soderer.utilities.json.JsonReader;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+import de.soderer.utilities.json.schema.JsonSchemaDependencyResolver;
+
+/**
+ * JSON schema compiled into an immutable graph of validators, see JsonSchema.compile().<br />
+ * <br />
+ * The schema data is checked completely on compilation, "$ref" references are resolved once and RegEx patterns and enums are prepared for matching.
+ * So validation of json data only applies the prepared validators.
+ * A CompiledJsonSchema may be used by multiple threads concurrently.
+ */
+public class CompiledJsonSchema {
+	private final CompiledJsonSchemaNode rootNode;
+
+	public CompiledJsonSchema(JsonObject jsonSchemaDefinition, JsonSchemaDependencyResolver jsonSchemaDependencyResolver) throws JsonSchemaDefinitionError {
+		if (jsonSchemaDefinition == null) {
+			throw new JsonSchemaDefinitionError("Contains null data", null);
+		} else if (jsonSchemaDependencyResolver == null) {
+			throw new JsonSchemaDefinitionError("Invalid data type 'null' for JsonSchemaDependencyResolver", "$");
+		}
+		rootNode = new JsonSchemaCompiler(jsonSchemaDependencyResolver).compileRoot(jsonSchemaDefinition);
+	}
+
+	public CompiledJsonSchemaNode getRootNode() {
+		return rootNode;
+	}
+
+	public void validate(JsonNode jsonDataNode) throws JsonSchemaDataValidationError {
+		rootNode.validate(jsonDataNode, JsonDataPath.ROOT);
+	}
+
+	public void validate(Object jsonData) throws JsonSchemaDataValidationError {
+		JsonNode jsonDataNode;
+		try {
+			jsonDataNode = new JsonNode(jsonData);
+		} catch (Exception e) {
+			throw new JsonSchemaDataValidationError("Invalid data type '" + jsonData.getClass().getSimpleName() + "'", "$");
+		}
+		validate(jsonDataNode);
+	}
+
+	public JsonNode validate(InputStream jsonDataInputStream) throws JsonSchemaDataValidationError {
+		return validate(jsonDataInputStream, (String) null);
+	}
+
+	public JsonNode validate(InputStream jsonDataInputStream, String encoding) throws JsonSchemaDataValidationError {
+		JsonNode jsonDataNode;
+		try (JsonReader jsonReader = new Json5Reader(jsonDataInputStream, encoding)) {
+			jsonDataNode = jsonReader.read();
+		} catch (Exception e) {
+			throw new JsonSchemaDataValidationError("Cannot read JSON data: " + e.getMessage(), "");
+		}
+
+		validate(jsonDataNode);
+		return jsonDataNode;
+	}
+
+	/**
+	 * Validate json data while it is read token by token, without keeping the whole json data in memory.
+	 * Validation stops at the first error.
+	 */
+	public void validateStreaming(InputStream jsonDataInputStream) throws JsonSchemaDataValidationError {
+		validateStreaming(jsonDataInputStream, (String) null);
+	}
+
+	/**
+	 * Validate json data while it is read token by token, without keeping the whole json data in memory.
+	 * Validation stops at the first error.
+	 */
+	public void validateStreaming(InputStream jsonDataInputStream, String encoding) throws JsonSchemaDataValidationError {
+		try (StreamingJsonSchemaValidator streamingJsonSchemaValidator = new StreamingJsonSchemaValidator(this, new Json5Reader(jsonDataInputStream, encoding))) {
+			streamingJsonSchemaValidator.validate();
+		} catch (JsonSchemaDataValidationError e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonSchemaDataValidationError("Cannot read JSON data: " + e.getMessage(), "");
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.List;
+
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+
+/**
+ * Compiled form of one JSON schema object with the validators for all its keywords.
+ * A JSON schema object referenced multiple times, even recursively, is compiled into a single node.
+ */
+public class CompiledJsonSchemaNode {
+	private final String jsonSchemaPath;
+
+	/** Set once by the JsonSchemaCompiler, references to this node may already exist before */
+	private CompiledJsonSchemaValidator[] validators = null;
+
+	CompiledJsonSchemaNode(String jsonSchemaPath) {
+		this.jsonSchemaPath = jsonSchemaPath;
+	}
+
+	public String getJsonSchemaPath() {
+		return jsonSchemaPath;
+	}
+
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		for (CompiledJsonSchemaValidator validator : validators) {
+			validator.validate(jsonNode, jsonPath);
+		}
+	}
+
+	void addStreamingValidationStates(JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		for (CompiledJsonSchemaValidator validator : validators) {
+			validator.addStreamingValidationStates(jsonPath, states);
+		}
+	}
+
+	CompiledJsonSchemaValidator[] getValidators() {
+		return validators;
+	}
+
+	void setValidators(CompiledJsonSchemaValidator[] validators) {
+		this.validators = validators;
+	}
+}
@@ -0,0 +1,56 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.Collections;
+import java.util.List;
+
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+/**
+ * Validator for one JSON schema keyword, which checks its schema data once when it is compiled.
+ * Compiled validators are immutable and may be used by multiple threads for any json data.
+ */
+abstract class CompiledJsonSchemaValidator {
+	protected final String jsonSchemaPath;
+	protected final boolean useDraftV4Mode;
+
+	protected CompiledJsonSchemaValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData) throws JsonSchemaDefinitionError {
+		if (validatorData == null) {
+			throw new JsonSchemaDefinitionError("ValidatorData is 'null'", jsonSchemaPath);
+		}
+
+		this.jsonSchemaPath = jsonSchemaPath;
+		useDraftV4Mode = jsonSchemaCompiler.isUseDraftV4Mode();
+	}
+
+	public abstract void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError;
+
+	/**
+	 * Add the states for validation of a json value, which is read token by token.
+	 * By default the json value is collected completely and validated at its end,
+	 * so validators checking the contents of JsonObject or JsonArray values should override this.
+	 */
+	void addStreamingValidationStates(final JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		states.add(new CollectingValidationState() {
+			@Override
+			protected void valueCollected(Object value) throws JsonSchemaDataValidationError {
+				JsonNode jsonNode;
+				try {
+					jsonNode = new JsonNode(value);
+				} catch (Exception e) {
+					throw new JsonSchemaDataValidationError("Invalid data type '" + value.getClass().getSimpleName() + "'", jsonPath.toString());
+				}
+				validate(jsonNode, jsonPath);
+			}
+		});
+	}
+
+	/**
+	 * Compiled schemas, which this validator applies to the same json value it validates itself.
+	 * These are used for detection of cyclic references.
+	 */
+	protected List<CompiledJsonSchemaNode> getInPlaceSchemaNodes() {
+		return Collections.emptyList();
+	}
+}
@@ -0,0 +1,48 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.List;
+
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+/**
+ * Validator for "minLength" and "maxLength"
+ */
+class CompiledLengthValidator extends CompiledJsonSchemaValidator {
+	private final boolean isMinimum;
+	private final int length;
+
+	CompiledLengthValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData, boolean isMinimum) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		this.isMinimum = isMinimum;
+		if (!(validatorData instanceof Integer)) {
+			throw new JsonSchemaDefinitionError("Data for " + (isMinimum ? "minLength" : "maxLength") + " is not an integer", jsonSchemaPath);
+		} else if (((Integer) validatorData) < 0) {
+			throw new JsonSchemaDefinitionError("Data for " + (isMinimum ? "minLength" : "maxLength") + " is negative", jsonSchemaPath);
+		}
+		length = (Integer) validatorData;
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		if (!(jsonNode.isString())) {
+			if (!useDraftV4Mode) {
+				throw new JsonSchemaDataValidationError("Expected data type 'string' but was '" + jsonNode.getJsonDataType().getName() + "'", jsonPath.toString());
+			}
+		} else {
+			int dataLength = jsonNode.getValue().toString().length();
+			if (isMinimum && dataLength < length) {
+				throw new JsonSchemaDataValidationError("String minLength is '" + length + "' but was '" + dataLength + "'", jsonPath.toString());
+			} else if (!isMinimum && dataLength > length) {
+				throw new JsonSchemaDataValidationError("String maxLength is '" + length + "' but was '" + dataLength + "'", jsonPath.toString());
+			}
+		}
+	}
+
+	@Override
+	void addStreamingValidationStates(JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		states.add(new TypeOnlyValidationState(this, jsonPath));
+	}
+}
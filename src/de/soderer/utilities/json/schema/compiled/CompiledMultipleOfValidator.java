@@ -0,0 +1,68 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+class CompiledMultipleOfValidator extends CompiledJsonSchemaValidator {
+	private final Number multipleOfValue;
+	private final BigDecimal divisor;
+	/** Divisor for integer data, if the divisor is an integer value, otherwise 0 */
+	private final long integerDivisor;
+
+	CompiledMultipleOfValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		try {
+			if (validatorData instanceof String) {
+				multipleOfValue = new BigDecimal((String) validatorData);
+			} else if (validatorData instanceof Number) {
+				multipleOfValue = (Number) validatorData;
+			} else {
+				throw new JsonSchemaDefinitionError("Data for multipleOf '" + validatorData + "' is not a number", jsonSchemaPath);
+			}
+			divisor = new BigDecimal(multipleOfValue.toString());
+		} catch (NumberFormatException e) {
+			throw new JsonSchemaDefinitionError("Data for multipleOf '" + validatorData + "' is not a number", jsonSchemaPath);
+		}
+		if (divisor.signum() == 0) {
+			throw new JsonSchemaDefinitionError("Data for multipleOf must not be zero", jsonSchemaPath);
+		}
+
+		long integerDivisorValue = 0;
+		try {
+			integerDivisorValue = divisor.longValueExact();
+		} catch (ArithmeticException e) {
+			// Divisor has decimals or is too big for integer arithmetics
+		}
+		integerDivisor = integerDivisorValue;
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		if (!(jsonNode.isNumber())) {
+			if (!useDraftV4Mode) {
+				throw new JsonSchemaDataValidationError("Expected data type 'number' but was '" + jsonNode.getJsonDataType().getName() + "'", jsonPath.toString());
+			}
+		} else {
+			Object value = jsonNode.getValue();
+			boolean isMultiple;
+			if (integerDivisor != 0 && (value instanceof Integer || value instanceof Long)) {
+				isMultiple = ((Number) value).longValue() % integerDivisor == 0;
+			} else {
+				isMultiple = new BigDecimal(value.toString()).remainder(divisor).signum() == 0;
+			}
+			if (!isMultiple) {
+				throw new JsonSchemaDataValidationError("Number must be multiple of '" + multipleOfValue.toString() + "' but value was '" + value + "'", jsonPath.toString());
+			}
+		}
+	}
+
+	@Override
+	void addStreamingValidationStates(JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		states.add(new TypeOnlyValidationState(this, jsonPath));
+	}
+}
@@ -0,0 +1,58 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.Collections;
+import java.util.List;
+
+import de.soderer.utilities.json.JsonDataType;
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonObject;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+class CompiledNotValidator extends CompiledJsonSchemaValidator {
+	private final CompiledJsonSchemaNode notSchemaNode;
+
+	CompiledNotValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		if (!(validatorData instanceof JsonObject)) {
+			throw new JsonSchemaDefinitionError("Not-validation property does not have an JsonObject value", jsonSchemaPath);
+		}
+		notSchemaNode = jsonSchemaCompiler.compile((JsonObject) validatorData, jsonSchemaPath);
+		if (notSchemaNode.getValidators() != null && notSchemaNode.getValidators().length == 0) {
+			throw new JsonSchemaDefinitionError("Not-validation JsonObject is empty", jsonSchemaPath);
+		}
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		try {
+			notSchemaNode.validate(jsonNode, jsonPath);
+		} catch (JsonSchemaDataValidationError e) {
+			return;
+		}
+		throw new JsonSchemaDataValidationError("The 'not' property did apply to JsonNode", jsonPath.toString());
+	}
+
+	@Override
+	protected List<CompiledJsonSchemaNode> getInPlaceSchemaNodes() {
+		return Collections.singletonList(notSchemaNode);
+	}
+
+	@Override
+	void addStreamingValidationStates(final JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		states.add(new BranchingValidationState(this, jsonPath) {
+			@Override
+			protected void createBranches(JsonDataType jsonDataType) {
+				branches.add(new StreamingValidationBranch(notSchemaNode, jsonPath));
+			}
+
+			@Override
+			protected void branchesCompleted() throws JsonSchemaDataValidationError {
+				if (!branches.get(0).isFailed()) {
+					throw new JsonSchemaDataValidationError("The 'not' property did apply to JsonNode", jsonPath.toString());
+				}
+			}
+		});
+	}
+}
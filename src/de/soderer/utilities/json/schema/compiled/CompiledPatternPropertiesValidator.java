@@ -0,0 +1,92 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.regex.Pattern;
+
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonObject;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+class CompiledPatternPropertiesValidator extends CompiledJsonSchemaValidator {
+	private final Pattern[] propertyKeyPatterns;
+	private final CompiledJsonSchemaNode[] propertySchemaNodes;
+
+	CompiledPatternPropertiesValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		if (!(validatorData instanceof JsonObject)) {
+			throw new JsonSchemaDefinitionError("PatternProperties data is not a JsonObject", jsonSchemaPath);
+		}
+
+		JsonObject patternPropertiesObject = (JsonObject) validatorData;
+		propertyKeyPatterns = compilePropertyKeyPatterns(patternPropertiesObject, jsonSchemaPath);
+		propertySchemaNodes = new CompiledJsonSchemaNode[patternPropertiesObject.size()];
+		int index = 0;
+		for (Entry<String, Object> entry : patternPropertiesObject.entrySet()) {
+			propertySchemaNodes[index++] = jsonSchemaCompiler.compile((JsonObject) entry.getValue(), jsonSchemaPath + "." + entry.getKey());
+		}
+	}
+
+	/**
+	 * Compile the property key patterns of "patternProperties" data
+	 */
+	static Pattern[] compilePropertyKeyPatterns(JsonObject patternPropertiesObject, String jsonSchemaPath) throws JsonSchemaDefinitionError {
+		Pattern[] propertyKeyPatterns = new Pattern[patternPropertiesObject.size()];
+		int index = 0;
+		for (Entry<String, Object> entry : patternPropertiesObject.entrySet()) {
+			if (entry.getValue() == null || !(entry.getValue() instanceof JsonObject)) {
+				throw new JsonSchemaDefinitionError("PatternProperties data contains a non-JsonObject", jsonSchemaPath);
+			}
+			try {
+				propertyKeyPatterns[index++] = Pattern.compile(entry.getKey());
+			} catch (Exception e) {
+				throw new JsonSchemaDefinitionError("PatternProperties data contains invalid RegEx pattern: " + entry.getKey(), jsonSchemaPath);
+			}
+		}
+		return propertyKeyPatterns;
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		if (!(jsonNode.isJsonObject())) {
+			if (!useDraftV4Mode) {
+				throw new JsonSchemaDataValidationError("Expected data type 'object' but was '" + jsonNode.getJsonDataType().getName() + "'", jsonPath.toString());
+			}
+		} else {
+			for (Entry<String, Object> propertyEntry : ((JsonObject) jsonNode.getValue()).entrySet()) {
+				for (int i = 0; i < propertyKeyPatterns.length; i++) {
+					if (propertyKeyPatterns[i].matcher(propertyEntry.getKey()).find()) {
+						JsonNode propertyJsonNode;
+						try {
+							propertyJsonNode = new JsonNode(propertyEntry.getValue());
+						} catch (Exception e) {
+							throw new JsonSchemaDataValidationError("Invalid property data type was '" + propertyEntry.getValue().getClass().getSimpleName() + "'", jsonPath.appendPropertyKey(propertyEntry.getKey()).toString());
+						}
+						propertySchemaNodes[i].validate(propertyJsonNode, jsonPath.appendPropertyKey(propertyEntry.getKey()));
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	void addStreamingValidationStates(JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		states.add(new TypeOnlyValidationState(this, jsonPath) {
+			@Override
+			void openJsonObject() {
+				// Properties are validated one by one
+			}
+
+			@Override
+			void addPropertyStates(String propertyKey, JsonDataPath propertyPath, List<StreamingValidationState> propertyStates) {
+				for (int i = 0; i < propertyKeyPatterns.length; i++) {
+					if (propertyKeyPatterns[i].matcher(propertyKey).find()) {
+						propertySchemaNodes[i].addStreamingValidationStates(propertyPath, propertyStates);
+					}
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,57 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+class CompiledPatternValidator extends CompiledJsonSchemaValidator {
+	private final String patternString;
+	private final Pattern pattern;
+
+	CompiledPatternValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		if (!(validatorData instanceof String)) {
+			throw new JsonSchemaDefinitionError("Pattern is no string", jsonSchemaPath);
+		}
+		patternString = (String) validatorData;
+		try {
+			pattern = Pattern.compile(patternString);
+		} catch (Exception e) {
+			throw new JsonSchemaDefinitionError("Pattern contains invalid RegEx pattern: " + patternString, jsonSchemaPath);
+		}
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		if (jsonNode.isNumber()) {
+			if (!useDraftV4Mode) {
+				if (!pattern.matcher(jsonNode.getValue().toString()).find()) {
+					throw new JsonSchemaDataValidationError("RegEx pattern '" + patternString + "' is not matched by data number '" + jsonNode.getValue() + "'", jsonPath.toString());
+				}
+			}
+		} else if (jsonNode.isBoolean()) {
+			if (!useDraftV4Mode) {
+				if (!pattern.matcher(jsonNode.getValue().toString()).find()) {
+					throw new JsonSchemaDataValidationError("RegEx pattern '" + patternString + "' is not matched by data boolean '" + jsonNode.getValue() + "'", jsonPath.toString());
+				}
+			}
+		} else if (jsonNode.isString()) {
+			if (!pattern.matcher(jsonNode.getValue().toString()).find()) {
+				throw new JsonSchemaDataValidationError("RegEx pattern '" + patternString + "' is not matched by data string '" + jsonNode.getValue() + "'", jsonPath.toString());
+			}
+		} else {
+			if (!useDraftV4Mode) {
+				throw new JsonSchemaDataValidationError("Expected data type 'string' or 'number' or 'boolean' but was '" + jsonNode.getJsonDataType().getName() + "'", jsonPath.toString());
+			}
+		}
+	}
+
+	@Override
+	void addStreamingValidationStates(JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		states.add(new TypeOnlyValidationState(this, jsonPath));
+	}
+}
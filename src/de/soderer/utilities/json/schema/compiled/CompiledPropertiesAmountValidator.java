@@ -0,0 +1,70 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.List;
+
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonObject;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+/**
+ * Validator for "minProperties" and "maxProperties"
+ */
+class CompiledPropertiesAmountValidator extends CompiledJsonSchemaValidator {
+	private final boolean isMinimum;
+	private final int propertiesAmount;
+
+	CompiledPropertiesAmountValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData, boolean isMinimum) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		this.isMinimum = isMinimum;
+		if (!(validatorData instanceof Integer)) {
+			throw new JsonSchemaDefinitionError("Data for " + (isMinimum ? "minimum" : "maximum") + " property keys amount is not an integer", jsonSchemaPath);
+		} else if (((Integer) validatorData) < 0) {
+			throw new JsonSchemaDefinitionError("Data for " + (isMinimum ? "minimum" : "maximum") + " property keys amount is negative", jsonSchemaPath);
+		}
+		propertiesAmount = (Integer) validatorData;
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		if (!(jsonNode.isJsonObject())) {
+			if (!useDraftV4Mode) {
+				throw new JsonSchemaDataValidationError("Expected data type 'object' but was '" + jsonNode.getJsonDataType().getName() + "'", jsonPath.toString());
+			}
+		} else {
+			int size = ((JsonObject) jsonNode.getValue()).size();
+			if (isMinimum && size < propertiesAmount) {
+				throw new JsonSchemaDataValidationError("Required minimum number of properties is '" + propertiesAmount + "' but was '" + size + "'", jsonPath.toString());
+			} else if (!isMinimum && size > propertiesAmount) {
+				throw new JsonSchemaDataValidationError("Required maximum number of properties is '" + propertiesAmount + "' but was '" + size + "'", jsonPath.toString());
+			}
+		}
+	}
+
+	@Override
+	void addStreamingValidationStates(final JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		states.add(new TypeOnlyValidationState(this, jsonPath) {
+			private int size;
+
+			@Override
+			void openJsonObject() {
+				size = 0;
+			}
+
+			@Override
+			void addPropertyStates(String propertyKey, JsonDataPath propertyPath, List<StreamingValidationState> propertyStates) {
+				size++;
+			}
+
+			@Override
+			void closeJsonObject() throws JsonSchemaDataValidationError {
+				if (isMinimum && size < propertiesAmount) {
+					throw new JsonSchemaDataValidationError("Required minimum number of properties is '" + propertiesAmount + "' but was '" + size + "'", jsonPath.toString());
+				} else if (!isMinimum && size > propertiesAmount) {
+					throw new JsonSchemaDataValidationError("Required maximum number of properties is '" + propertiesAmount + "' but was '" + size + "'", jsonPath.toString());
+				}
+			}
+		});
+	}
+}
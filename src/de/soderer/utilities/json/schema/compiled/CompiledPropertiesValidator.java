@@ -0,0 +1,80 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonObject;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+class CompiledPropertiesValidator extends CompiledJsonSchemaValidator {
+	private final String[] propertyKeys;
+	private final CompiledJsonSchemaNode[] propertySchemaNodes;
+	private final Map<String, CompiledJsonSchemaNode> propertySchemaNodesByKey = new HashMap<String, CompiledJsonSchemaNode>();
+
+	CompiledPropertiesValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		if (!(validatorData instanceof JsonObject)) {
+			throw new JsonSchemaDefinitionError("Properties data is not a JsonObject", jsonSchemaPath);
+		}
+
+		JsonObject propertiesObject = (JsonObject) validatorData;
+		propertyKeys = new String[propertiesObject.size()];
+		propertySchemaNodes = new CompiledJsonSchemaNode[propertiesObject.size()];
+		int index = 0;
+		for (Entry<String, Object> entry : propertiesObject.entrySet()) {
+			if (!(entry.getValue() instanceof JsonObject)) {
+				throw new JsonSchemaDefinitionError("Properties data is not a JsonObject", jsonSchemaPath);
+			}
+			propertyKeys[index] = entry.getKey();
+			propertySchemaNodes[index] = jsonSchemaCompiler.compile((JsonObject) entry.getValue(), jsonSchemaPath + "." + entry.getKey());
+			propertySchemaNodesByKey.put(entry.getKey(), propertySchemaNodes[index]);
+			index++;
+		}
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		if (!(jsonNode.isJsonObject())) {
+			if (!useDraftV4Mode) {
+				throw new JsonSchemaDataValidationError("Expected data type 'object' but was '" + jsonNode.getJsonDataType().getName() + "'", jsonPath.toString());
+			}
+		} else {
+			JsonObject jsonObject = (JsonObject) jsonNode.getValue();
+			for (int i = 0; i < propertyKeys.length; i++) {
+				Object propertyValue = jsonObject.get(propertyKeys[i]);
+				if (propertyValue != null || jsonObject.containsPropertyKey(propertyKeys[i])) {
+					JsonNode newJsonNode;
+					try {
+						newJsonNode = new JsonNode(propertyValue);
+					} catch (Exception e) {
+						throw new JsonSchemaDataValidationError("Invalid data type '" + propertyValue.getClass().getSimpleName() + "'", jsonPath.appendPropertyKey(propertyKeys[i]).toString());
+					}
+					propertySchemaNodes[i].validate(newJsonNode, jsonPath.appendPropertyKey(propertyKeys[i]));
+				}
+			}
+		}
+	}
+
+	@Override
+	void addStreamingValidationStates(JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		states.add(new TypeOnlyValidationState(this, jsonPath) {
+			@Override
+			void openJsonObject() {
+				// Properties are validated one by one
+			}
+
+			@Override
+			void addPropertyStates(String propertyKey, JsonDataPath propertyPath, List<StreamingValidationState> propertyStates) {
+				CompiledJsonSchemaNode propertySchemaNode = propertySchemaNodesByKey.get(propertyKey);
+				if (propertySchemaNode != null) {
+					propertySchemaNode.addStreamingValidationStates(propertyPath, propertyStates);
+				}
+			}
+		});
+	}
+}
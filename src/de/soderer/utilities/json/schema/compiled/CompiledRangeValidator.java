@@ -0,0 +1,81 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.List;
+
+import de.soderer.utilities.NumberUtilities;
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonObject;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+/**
+ * Validator for "minimum" and "maximum" including "exclusiveMinimum" and "exclusiveMaximum"
+ */
+class CompiledRangeValidator extends CompiledJsonSchemaValidator {
+	private final boolean isMinimum;
+	private final Number limitValue;
+	private final double limit;
+	private final boolean exclusive;
+
+	CompiledRangeValidator(JsonObject parentValidatorData, JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData, boolean isMinimum) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		this.isMinimum = isMinimum;
+		String keyword = isMinimum ? "minimum" : "maximum";
+		if (validatorData instanceof String) {
+			try {
+				limitValue = NumberUtilities.parseNumber((String) validatorData);
+			} catch (NumberFormatException e) {
+				throw new JsonSchemaDefinitionError("Data for " + keyword + " '" + validatorData + "' is not a number", jsonSchemaPath);
+			}
+		} else if (validatorData instanceof Number) {
+			limitValue = (Number) validatorData;
+		} else {
+			throw new JsonSchemaDefinitionError("Data for " + keyword + " '" + validatorData + "' is not a number", jsonSchemaPath);
+		}
+		limit = limitValue.doubleValue();
+
+		String exclusiveKeyword = isMinimum ? "exclusiveMinimum" : "exclusiveMaximum";
+		if (parentValidatorData.containsPropertyKey(exclusiveKeyword)) {
+			Object exclusiveRaw = parentValidatorData.get(exclusiveKeyword);
+			if (exclusiveRaw == null) {
+				throw new JsonSchemaDefinitionError("Property '" + exclusiveKeyword + "' is 'null'", jsonSchemaPath);
+			} else if (exclusiveRaw instanceof Boolean) {
+				exclusive = (Boolean) exclusiveRaw;
+			} else {
+				throw new JsonSchemaDefinitionError((isMinimum ? "ExclusiveMinimum" : "ExclusiveMaximum") + " data is not 'boolean'", jsonSchemaPath);
+			}
+		} else {
+			exclusive = false;
+		}
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		if (!(jsonNode.isNumber())) {
+			if (!useDraftV4Mode) {
+				throw new JsonSchemaDataValidationError("Expected data type 'number' but was '" + jsonNode.getJsonDataType().getName() + "'", jsonPath.toString());
+			}
+		} else {
+			double dataValue = ((Number) jsonNode.getValue()).doubleValue();
+			if (isMinimum) {
+				if (dataValue < limit) {
+					throw new JsonSchemaDataValidationError("Minimum number is '" + limitValue + "' but value was '" + jsonNode.getValue() + "'", jsonPath.toString());
+				} else if (exclusive && dataValue == limit) {
+					throw new JsonSchemaDataValidationError("Exclusive minimum number is '" + limitValue + "' but value was '" + jsonNode.getValue() + "'", jsonPath.toString());
+				}
+			} else {
+				if (dataValue > limit) {
+					throw new JsonSchemaDataValidationError("Maximum number is '" + limitValue + "' but value was '" + jsonNode.getValue() + "'", jsonPath.toString());
+				} else if (exclusive && dataValue == limit) {
+					throw new JsonSchemaDataValidationError("Exclusive maximum number is '" + limitValue + "' but value was '" + jsonNode.getValue() + "'", jsonPath.toString());
+				}
+			}
+		}
+	}
+
+	@Override
+	void addStreamingValidationStates(JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		states.add(new TypeOnlyValidationState(this, jsonPath));
+	}
+}
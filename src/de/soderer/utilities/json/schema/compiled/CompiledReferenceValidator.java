@@ -0,0 +1,40 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.Collections;
+import java.util.List;
+
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+/**
+ * Validator for "$ref", which is resolved once on compilation.
+ * The referenced node may still be in compilation for recursive schemas and is linked nonetheless.
+ */
+class CompiledReferenceValidator extends CompiledJsonSchemaValidator {
+	private final CompiledJsonSchemaNode referencedSchemaNode;
+
+	CompiledReferenceValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		if (!(validatorData instanceof String)) {
+			throw new JsonSchemaDefinitionError("Reference key is not a 'string'", jsonSchemaPath);
+		}
+		referencedSchemaNode = jsonSchemaCompiler.compileReference((String) validatorData, jsonSchemaPath);
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		referencedSchemaNode.validate(jsonNode, jsonPath);
+	}
+
+	@Override
+	protected List<CompiledJsonSchemaNode> getInPlaceSchemaNodes() {
+		return Collections.singletonList(referencedSchemaNode);
+	}
+
+	@Override
+	void addStreamingValidationStates(JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		referencedSchemaNode.addStreamingValidationStates(jsonPath, states);
+	}
+}
@@ -0,0 +1,79 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.List;
+
+import de.soderer.utilities.json.JsonArray;
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonObject;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+class CompiledRequiredValidator extends CompiledJsonSchemaValidator {
+	private final String[] requiredPropertyKeys;
+
+	CompiledRequiredValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		if (!(validatorData instanceof JsonArray)) {
+			throw new JsonSchemaDefinitionError("Data for required property keys is not a JsonArray", jsonSchemaPath);
+		}
+
+		JsonArray requiredArray = (JsonArray) validatorData;
+		requiredPropertyKeys = new String[requiredArray.size()];
+		for (int i = 0; i < requiredArray.size(); i++) {
+			Object propertyKey = requiredArray.get(i);
+			if (propertyKey == null) {
+				throw new JsonSchemaDefinitionError("Data entry for required property key name must be 'string' but was 'null'", jsonSchemaPath);
+			} else if (!(propertyKey instanceof String)) {
+				throw new JsonSchemaDefinitionError("Data entry for required property key name must be 'string' but was '" + propertyKey.getClass().getSimpleName() + "'", jsonSchemaPath);
+			}
+			requiredPropertyKeys[i] = (String) propertyKey;
+		}
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		if (!(jsonNode.isJsonObject())) {
+			if (!useDraftV4Mode) {
+				throw new JsonSchemaDataValidationError("Expected data type 'object' but was '" + jsonNode.getJsonDataType().getName() + "'", jsonPath.toString());
+			}
+		} else {
+			JsonObject jsonObject = (JsonObject) jsonNode.getValue();
+			for (String propertyKey : requiredPropertyKeys) {
+				if (!jsonObject.containsPropertyKey(propertyKey)) {
+					throw new JsonSchemaDataValidationError("Invalid property key. Missing required property '" + propertyKey + "'", jsonPath.toString());
+				}
+			}
+		}
+	}
+
+	@Override
+	void addStreamingValidationStates(final JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		states.add(new TypeOnlyValidationState(this, jsonPath) {
+			private boolean[] foundPropertyKeys;
+
+			@Override
+			void openJsonObject() {
+				foundPropertyKeys = new boolean[requiredPropertyKeys.length];
+			}
+
+			@Override
+			void addPropertyStates(String propertyKey, JsonDataPath propertyPath, List<StreamingValidationState> propertyStates) {
+				for (int i = 0; i < requiredPropertyKeys.length; i++) {
+					if (requiredPropertyKeys[i].equals(propertyKey)) {
+						foundPropertyKeys[i] = true;
+					}
+				}
+			}
+
+			@Override
+			void closeJsonObject() throws JsonSchemaDataValidationError {
+				for (int i = 0; i < requiredPropertyKeys.length; i++) {
+					if (!foundPropertyKeys[i]) {
+						throw new JsonSchemaDataValidationError("Invalid property key. Missing required property '" + requiredPropertyKeys[i] + "'", jsonPath.toString());
+					}
+				}
+			}
+		});
+	}
+}
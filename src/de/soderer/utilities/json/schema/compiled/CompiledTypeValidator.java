@@ -0,0 +1,126 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.soderer.utilities.json.JsonArray;
+import de.soderer.utilities.json.JsonDataType;
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonObject;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+class CompiledTypeValidator extends CompiledJsonSchemaValidator {
+	/** Type name for a single type or null for a type array */
+	private final String singleTypeName;
+	private final boolean anyType;
+	/** Allowed data types indexed by JsonDataType.ordinal() */
+	private final boolean[] allowedDataTypes = new boolean[JsonDataType.values().length];
+	private final List<CompiledJsonSchemaNode> typeSchemaNodes = new ArrayList<CompiledJsonSchemaNode>();
+
+	CompiledTypeValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		boolean anyTypeFound = false;
+		if (validatorData instanceof String) {
+			singleTypeName = (String) validatorData;
+			if ("any".equals(singleTypeName)) {
+				anyTypeFound = true;
+			} else {
+				addAllowedDataType(singleTypeName, validatorData);
+			}
+		} else if (validatorData instanceof JsonArray) {
+			singleTypeName = null;
+			for (Object typeData : ((JsonArray) validatorData)) {
+				if (typeData == null) {
+					throw new JsonSchemaDefinitionError("Type data array contains a 'null' item", jsonSchemaPath);
+				} else if (typeData instanceof String) {
+					if ("any".equals(typeData)) {
+						anyTypeFound = true;
+					} else {
+						addAllowedDataType((String) typeData, validatorData);
+					}
+				} else if (typeData instanceof JsonObject) {
+					typeSchemaNodes.add(jsonSchemaCompiler.compile((JsonObject) typeData, jsonSchemaPath));
+				} else {
+					throw new JsonSchemaDefinitionError("Type data array contains a item that is no 'string' and no 'object'", jsonSchemaPath);
+				}
+			}
+		} else {
+			throw new JsonSchemaDefinitionError("Type data is not a 'string' or 'array'", jsonSchemaPath);
+		}
+		anyType = anyTypeFound;
+	}
+
+	private void addAllowedDataType(String typeName, Object validatorData) throws JsonSchemaDefinitionError {
+		JsonDataType jsonDataType;
+		try {
+			jsonDataType = JsonDataType.getFromString(typeName);
+		} catch (Exception e) {
+			throw new JsonSchemaDefinitionError("Invalid JSON data type '" + validatorData + "'", jsonSchemaPath);
+		}
+		allowedDataTypes[jsonDataType.ordinal()] = true;
+		if (jsonDataType == JsonDataType.NUMBER) {
+			allowedDataTypes[JsonDataType.INTEGER.ordinal()] = true;
+		}
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		if (anyType || allowedDataTypes[jsonNode.getJsonDataType().ordinal()]) {
+			return;
+		} else if (singleTypeName != null) {
+			throw new JsonSchemaDataValidationError("Expected data type is '" + singleTypeName + "' but was '" + jsonNode.getJsonDataType().getName() + "'", jsonPath.toString());
+		} else {
+			for (CompiledJsonSchemaNode typeSchemaNode : typeSchemaNodes) {
+				try {
+					typeSchemaNode.validate(jsonNode, jsonPath);
+					return;
+				} catch (JsonSchemaDataValidationError e) {
+					// Do nothing, just check the next array item
+				}
+			}
+			throw new JsonSchemaDataValidationError("Invalid data type '" + jsonNode.getJsonDataType().getName() + "'", jsonPath.toString());
+		}
+	}
+
+	@Override
+	protected List<CompiledJsonSchemaNode> getInPlaceSchemaNodes() {
+		return typeSchemaNodes;
+	}
+
+	@Override
+	void addStreamingValidationStates(JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		if (anyType) {
+			return;
+		} else if (typeSchemaNodes.isEmpty()) {
+			states.add(new TypeOnlyValidationState(this, jsonPath));
+		} else {
+			states.add(new BranchingValidationState(this, jsonPath) {
+				private JsonDataType jsonDataType;
+
+				@Override
+				protected void createBranches(JsonDataType containerDataType) {
+					jsonDataType = containerDataType;
+					if (!allowedDataTypes[jsonDataType.ordinal()]) {
+						for (CompiledJsonSchemaNode typeSchemaNode : typeSchemaNodes) {
+							branches.add(new StreamingValidationBranch(typeSchemaNode, jsonPath));
+						}
+					}
+				}
+
+				@Override
+				protected void branchesCompleted() throws JsonSchemaDataValidationError {
+					if (!allowedDataTypes[jsonDataType.ordinal()]) {
+						for (StreamingValidationBranch branch : branches) {
+							if (!branch.isFailed()) {
+								return;
+							}
+						}
+						throw new JsonSchemaDataValidationError("Invalid data type '" + jsonDataType.getName() + "'", jsonPath.toString());
+					}
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.soderer.utilities.json.JsonArray;
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonUtilities;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+
+class CompiledUniqueItemsValidator extends CompiledJsonSchemaValidator {
+	private final boolean uniqueItems;
+
+	CompiledUniqueItemsValidator(JsonSchemaCompiler jsonSchemaCompiler, String jsonSchemaPath, Object validatorData) throws JsonSchemaDefinitionError {
+		super(jsonSchemaCompiler, jsonSchemaPath, validatorData);
+
+		if (validatorData instanceof Boolean) {
+			uniqueItems = (Boolean) validatorData;
+		} else if (validatorData instanceof String) {
+			uniqueItems = Boolean.parseBoolean((String) validatorData);
+		} else {
+			throw new JsonSchemaDefinitionError("Data for 'uniqueItems' is not 'boolean'", jsonSchemaPath);
+		}
+	}
+
+	@Override
+	public void validate(JsonNode jsonNode, JsonDataPath jsonPath) throws JsonSchemaDataValidationError {
+		if (!(jsonNode.isJsonArray())) {
+			if (!useDraftV4Mode) {
+				throw new JsonSchemaDataValidationError("Expected data type 'array' but was '" + jsonNode.getJsonDataType().getName() + "'", jsonPath.toString());
+			}
+		} else if (uniqueItems) {
+			JsonArray jsonArray = (JsonArray) jsonNode.getValue();
+			int firstNonUniqueItemIndex = JsonUtilities.getFirstNonUniqueItemIndex(jsonArray);
+			if (firstNonUniqueItemIndex >= 0) {
+				throw new JsonSchemaDataValidationError("Item '" + jsonArray.get(firstNonUniqueItemIndex) + "' of array is not unique", jsonPath.toString());
+			}
+		}
+	}
+
+	/**
+	 * Items are collected for comparison, so the memory needed is proportional to the size of the array
+	 */
+	@Override
+	void addStreamingValidationStates(final JsonDataPath jsonPath, List<StreamingValidationState> states) {
+		if (!uniqueItems) {
+			states.add(new TypeOnlyValidationState(this, jsonPath));
+		} else {
+			states.add(new TypeOnlyValidationState(this, jsonPath) {
+				/** Normalized items mapped to their first occurrence */
+				private Map<Object, Object> items;
+
+				@Override
+				void openJsonArray() {
+					items = new HashMap<Object, Object>();
+				}
+
+				@Override
+				void addItemStates(int index, JsonDataPath itemPath, List<StreamingValidationState> itemStates) {
+					itemStates.add(new CollectingValidationState() {
+						@Override
+						protected void valueCollected(Object item) throws JsonSchemaDataValidationError {
+							Object normalizedItem = JsonUtilities.normalizeJsonValue(item);
+							if (items.containsKey(normalizedItem)) {
+								throw new JsonSchemaDataValidationError("Item '" + items.get(normalizedItem) + "' of array is not unique", jsonPath.toString());
+							}
+							items.put(normalizedItem, item);
+						}
+					});
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package de.soderer.utilities.json.schema.compiled;
+
+/**
+ * Immutable path of a json value within the validated json data.
+ * The path string like "$.items[2].name" is only built, when a validation error needs it.
+ */
+public class JsonDataPath {
+	public static final JsonDataPath ROOT = new JsonDataPath(null, null, -1);
+
+	private final JsonDataPath parent;
+	private final String propertyKey;
+	private final int arrayIndex;
+
+	private JsonDataPath(JsonDataPath parent, String propertyKey, int arrayIndex) {
+		this.parent = parent;
+		this.propertyKey = propertyKey;
+		this.arrayIndex = arrayIndex;
+	}
+
+	public JsonDataPath appendPropertyKey(String propertyKey) {
+		return new JsonDataPath(this, propertyKey, -1);
+	}
+
+	public JsonDataPath appendArrayIndex(int arrayIndex) {
+		return new JsonDataPath(this, null, arrayIndex);
+	}
+
+	@Override
+	public String toString() {
+		if (parent == null) {
+			return "$";
+		} else {
+			StringBuilder builder = new StringBuilder();
+			appendTo(builder);
+			return builder.toString();
+		}
+	}
+
+	private void appendTo(StringBuilder builder) {
+		if (parent == null) {
+			builder.append("$");
+		} else {
+			parent.appendTo(builder);
+			if (propertyKey != null) {
+				builder.append(".").append(propertyKey);
+			} else {
+				builder.append("[").append(arrayIndex).append("]");
+			}
+		}
+	}
+}
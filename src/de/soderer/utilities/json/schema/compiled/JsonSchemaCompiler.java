@@ -0,0 +1,245 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import de.soderer.utilities.Utilities;
+import de.soderer.utilities.json.JsonObject;
+import de.soderer.utilities.json.schema.JsonSchemaDefinitionError;
+import de.soderer.utilities.json.schema.JsonSchemaDependencyResolver;
+
+/**
+ * Compiles JSON schema objects into CompiledJsonSchemaNodes.
+ * Each JSON schema object is compiled only once, so "$ref" references to the same definition share one node.
+ * A reference to a node, which is still being compiled, links to it before its validators are set. This allows recursive schemas.
+ */
+class JsonSchemaCompiler {
+	private final JsonSchemaDependencyResolver jsonSchemaDependencyResolver;
+	private final boolean useDraftV4Mode;
+
+	private final Map<JsonObject, CompiledJsonSchemaNode> compiledNodes = new IdentityHashMap<JsonObject, CompiledJsonSchemaNode>();
+
+	JsonSchemaCompiler(JsonSchemaDependencyResolver jsonSchemaDependencyResolver) {
+		this.jsonSchemaDependencyResolver = jsonSchemaDependencyResolver;
+		useDraftV4Mode = jsonSchemaDependencyResolver.isUseDraftV4Mode();
+	}
+
+	boolean isUseDraftV4Mode() {
+		return useDraftV4Mode;
+	}
+
+	CompiledJsonSchemaNode compileRoot(JsonObject jsonSchemaDefinition) throws JsonSchemaDefinitionError {
+		CompiledJsonSchemaNode rootNode = compile(jsonSchemaDefinition, "$");
+		checkCyclicDependencies();
+		return rootNode;
+	}
+
+	CompiledJsonSchemaNode compile(JsonObject jsonSchemaDefinitionObject, String jsonSchemaPath) throws JsonSchemaDefinitionError {
+		CompiledJsonSchemaNode compiledNode = compiledNodes.get(jsonSchemaDefinitionObject);
+		if (compiledNode == null) {
+			compiledNode = new CompiledJsonSchemaNode(jsonSchemaPath);
+			compiledNodes.put(jsonSchemaDefinitionObject, compiledNode);
+			List<CompiledJsonSchemaValidator> validators = createValidators(jsonSchemaDefinitionObject, jsonSchemaPath);
+			compiledNode.setValidators(validators.toArray(new CompiledJsonSchemaValidator[validators.size()]));
+		}
+		return compiledNode;
+	}
+
+	/**
+	 * Resolve a "$ref" reference and compile the referenced JSON schema object
+	 */
+	CompiledJsonSchemaNode compileReference(String reference, String jsonSchemaPath) throws JsonSchemaDefinitionError {
+		Object dereferencedValue;
+		try {
+			dereferencedValue = jsonSchemaDependencyResolver.getDependencyByReference(reference, jsonSchemaPath);
+		} catch (JsonSchemaDefinitionError e) {
+			throw e;
+		} catch (Exception e) {
+			throw new JsonSchemaDefinitionError("Error '" + e.getClass().getSimpleName() + "' while resolving JSON schema reference '" + reference + "': " + e.getMessage(), jsonSchemaPath);
+		}
+		if (dereferencedValue == null) {
+			throw new JsonSchemaDefinitionError("Invalid JSON schema reference data type for key '" + reference + "'. Expected 'object' but was 'null'", jsonSchemaPath);
+		} else if (!(dereferencedValue instanceof JsonObject)) {
+			throw new JsonSchemaDefinitionError("Invalid JSON schema reference data type for key '" + reference + "'. Expected 'object' but was '" + dereferencedValue.getClass().getSimpleName() + "'", jsonSchemaPath);
+		} else {
+			return compile((JsonObject) dereferencedValue, reference);
+		}
+	}
+
+	private List<CompiledJsonSchemaValidator> createValidators(JsonObject jsonSchemaDefinitionObject, String currentJsonSchemaPath) throws JsonSchemaDefinitionError {
+		List<CompiledJsonSchemaValidator> validators = new ArrayList<CompiledJsonSchemaValidator>();
+		for (Entry<String, Object> entry : jsonSchemaDefinitionObject.entrySet()) {
+			String validatorJsonSchemaPath = currentJsonSchemaPath + "." + entry.getKey();
+			switch (entry.getKey()) {
+				case "type":
+					validators.add(new CompiledTypeValidator(this, validatorJsonSchemaPath, entry.getValue()));
+					break;
+				case "properties":
+					validators.add(new CompiledPropertiesValidator(this, validatorJsonSchemaPath, entry.getValue()));
+					break;
+				case "patternProperties":
+					validators.add(new CompiledPatternPropertiesValidator(this, validatorJsonSchemaPath, entry.getValue()));
+					break;
+				case "additionalProperties":
+					validators.add(new CompiledAdditionalPropertiesValidator(jsonSchemaDefinitionObject, this, validatorJsonSchemaPath, entry.getValue()));
+					break;
+				case "required":
+					validators.add(new CompiledRequiredValidator(this, validatorJsonSchemaPath, entry.getValue()));
+					break;
+				case "minProperties":
+					validators.add(new CompiledPropertiesAmountValidator(this, validatorJsonSchemaPath, entry.getValue(), true));
+					break;
+				case "maxProperties":
+					validators.add(new CompiledPropertiesAmountValidator(this, validatorJsonSchemaPath, entry.getValue(), false));
+					break;
+				case "items":
+					validators.add(new CompiledItemsValidator(jsonSchemaDefinitionObject, this, validatorJsonSchemaPath, entry.getValue()));
+					break;
+				case "minItems":
+					validators.add(new CompiledItemsAmountValidator(this, validatorJsonSchemaPath, entry.getValue(), true));
+					break;
+				case "maxItems":
+					validators.add(new CompiledItemsAmountValidator(this, validatorJsonSchemaPath, entry.getValue(), false));
+					break;
+				case "minLength":
+					validators.add(new CompiledLengthValidator(this, validatorJsonSchemaPath, entry.getValue(), true));
+					break;
+				case "maxLength":
+					validators.add(new CompiledLengthValidator(this, validatorJsonSchemaPath, entry.getValue(), false));
+					break;
+				case "uniqueItems":
+					validators.add(new CompiledUniqueItemsValidator(this, validatorJsonSchemaPath, entry.getValue()));
+					break;
+				case "minimum":
+					validators.add(new CompiledRangeValidator(jsonSchemaDefinitionObject, this, validatorJsonSchemaPath, entry.getValue(), true));
+					break;
+				case "maximum":
+					validators.add(new CompiledRangeValidator(jsonSchemaDefinitionObject, this, validatorJsonSchemaPath, entry.getValue(), false));
+					break;
+				case "multipleOf":
+					validators.add(new CompiledMultipleOfValidator(this, validatorJsonSchemaPath, entry.getValue()));
+					break;
+				case "anyOf":
+				case "allOf":
+				case "oneOf":
+					validators.add(new CompiledCombinationValidator(this, validatorJsonSchemaPath, entry.getValue(), entry.getKey()));
+					break;
+				case "not":
+					validators.add(new CompiledNotValidator(this, validatorJsonSchemaPath, entry.getValue()));
+					break;
+				case "enum":
+					validators.add(new CompiledEnumValidator(this, validatorJsonSchemaPath, entry.getValue()));
+					break;
+				case "format":
+					validators.add(new CompiledFormatValidator(this, validatorJsonSchemaPath, entry.getValue()));
+					break;
+				case "pattern":
+					validators.add(new CompiledPatternValidator(this, validatorJsonSchemaPath, entry.getValue()));
+					break;
+				case "dependencies":
+					validators.add(new CompiledDependenciesValidator(this, validatorJsonSchemaPath, entry.getValue()));
+					break;
+
+				case "exclusiveMinimum":
+					// Do nothing, because this is validated by CompiledRangeValidator, too
+					if (!jsonSchemaDefinitionObject.containsPropertyKey("minimum")) {
+						throw new JsonSchemaDefinitionError("Missing 'minimum' rule for 'exclusiveMinimum'", currentJsonSchemaPath);
+					}
+					break;
+				case "exclusiveMaximum":
+					// Do nothing, because this is validated by CompiledRangeValidator, too
+					if (!jsonSchemaDefinitionObject.containsPropertyKey("maximum")) {
+						throw new JsonSchemaDefinitionError("Missing 'maximum' rule for 'exclusiveMaximum'", currentJsonSchemaPath);
+					}
+					break;
+				case "additionalItems":
+					// Do nothing, because this is validated by CompiledItemsValidator, too
+					if (!jsonSchemaDefinitionObject.containsPropertyKey("items") && !useDraftV4Mode) {
+						throw new JsonSchemaDefinitionError("Missing 'items' rule for 'additionalItems'", currentJsonSchemaPath);
+					}
+					break;
+
+				case "$ref":
+					validators.add(new CompiledReferenceValidator(this, validatorJsonSchemaPath, entry.getValue()));
+					break;
+
+				case "id":
+					// id should be a descriptive url
+					if (!"$".equals(currentJsonSchemaPath) && !currentJsonSchemaPath.endsWith("#")) {
+						throw new JsonSchemaDefinitionError("JSON schema 'id' must be defined on top level of JSON schema", currentJsonSchemaPath);
+					}
+					break;
+				case "$schema":
+					// $schema should be a descriptive url
+					if (!"$".equals(currentJsonSchemaPath) && !currentJsonSchemaPath.endsWith("#")) {
+						throw new JsonSchemaDefinitionError("JSON schema '$schema' must be defined on top level of JSON schema", currentJsonSchemaPath);
+					}
+					break;
+				case "definitions":
+					// Defined JSON schema definitions
+					if (!"$".equals(currentJsonSchemaPath) && !currentJsonSchemaPath.endsWith("#")) {
+						throw new JsonSchemaDefinitionError("JSON schema 'definitions' must be defined on top level of JSON schema", currentJsonSchemaPath);
+					}
+					break;
+
+				case "title":
+					// Descriptive title
+					if (!(entry.getValue() instanceof String)) {
+						throw new JsonSchemaDefinitionError("Invalid data type '" + entry.getValue().getClass().getSimpleName() + "' for key 'description'", currentJsonSchemaPath);
+					}
+					break;
+				case "description":
+					// Descriptive comments
+					if (!(entry.getValue() instanceof String)) {
+						throw new JsonSchemaDefinitionError("Invalid data type '" + entry.getValue().getClass().getSimpleName() + "' for key 'description'", currentJsonSchemaPath);
+					}
+					break;
+				case "default":
+					// Default value for processing the given JSON data, which is irrelevant for validation
+					break;
+				default:
+					if (!useDraftV4Mode) {
+						throw new JsonSchemaDefinitionError("Unexpected data key '" + entry.getKey() + "'", currentJsonSchemaPath);
+					}
+			}
+		}
+		return validators;
+	}
+
+	/**
+	 * Detect references, which apply a JSON schema object to the same json value again without descending into the json data.
+	 * Those would never end validating, while references within properties or items are allowed for recursive data structures.
+	 */
+	private void checkCyclicDependencies() throws JsonSchemaDefinitionError {
+		Map<CompiledJsonSchemaNode, Boolean> finishedNodes = new IdentityHashMap<CompiledJsonSchemaNode, Boolean>();
+		for (CompiledJsonSchemaNode compiledNode : compiledNodes.values()) {
+			checkCyclicDependencies(compiledNode, new ArrayList<CompiledJsonSchemaNode>(), finishedNodes);
+		}
+	}
+
+	private void checkCyclicDependencies(CompiledJsonSchemaNode compiledNode, List<CompiledJsonSchemaNode> currentNodes, Map<CompiledJsonSchemaNode, Boolean> finishedNodes) throws JsonSchemaDefinitionError {
+		if (finishedNodes.containsKey(compiledNode)) {
+			return;
+		}
+		for (int i = 0; i < currentNodes.size(); i++) {
+			if (currentNodes.get(i) == compiledNode) {
+				List<String> cyclicJsonSchemaPaths = new ArrayList<String>();
+				for (CompiledJsonSchemaNode cyclicNode : currentNodes.subList(i, currentNodes.size())) {
+					cyclicJsonSchemaPaths.add(cyclicNode.getJsonSchemaPath());
+				}
+				throw new JsonSchemaDefinitionError("Cyclic dependency detected: '" + Utilities.join(cyclicJsonSchemaPaths, "', '") + "'", compiledNode.getJsonSchemaPath());
+			}
+		}
+		currentNodes.add(compiledNode);
+		for (CompiledJsonSchemaValidator validator : compiledNode.getValidators()) {
+			for (CompiledJsonSchemaNode inPlaceNode : validator.getInPlaceSchemaNodes()) {
+				checkCyclicDependencies(inPlaceNode, currentNodes, finishedNodes);
+			}
+		}
+		currentNodes.remove(currentNodes.size() - 1);
+		finishedNodes.put(compiledNode, Boolean.TRUE);
+	}
+}
@@ -0,0 +1,201 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Stack;
+
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonReader;
+import de.soderer.utilities.json.JsonReader.JsonToken;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+
+/**
+ * Validation of json data against a CompiledJsonSchema while it is read token by token by a JsonReader.<br />
+ * <br />
+ * The json data is never kept in memory as a whole. Only the validation states of the currently open JsonObjects and JsonArrays are kept,
+ * like the found property keys for "required" or the option results for "oneOf".
+ * Only "uniqueItems" and "enum" with JsonObject or JsonArray values collect the json values they need to compare.<br />
+ * <br />
+ * The first validation error is thrown by readNextToken() as soon as it is detected, with the JsonPath of the invalid json value.<br />
+ * <br />
+ * Example:<br />
+ * try (StreamingJsonSchemaValidator validator = new StreamingJsonSchemaValidator(compiledJsonSchema, new JsonReader(inputStream))) {<br />
+ * 	JsonToken jsonToken;<br />
+ * 	while ((jsonToken = validator.readNextToken()) != null) {<br />
+ * 		... validator.getCurrentObject() ...<br />
+ * 	}<br />
+ * }<br />
+ */
+public class StreamingJsonSchemaValidator implements Closeable {
+	private final CompiledJsonSchemaNode rootNode;
+	private final JsonReader jsonReader;
+
+	/** Validation states of the currently open JsonObjects and JsonArrays */
+	private final Stack<OpenJsonItem> openJsonItems = new Stack<OpenJsonItem>();
+
+	/** States and path for the value of the last read property key */
+	private List<StreamingValidationState> propertyValueStates = null;
+	private JsonDataPath propertyValuePath = null;
+
+	/** Path of the json value started by the last read token */
+	private JsonDataPath currentValuePath = null;
+
+	private boolean rootValueStarted = false;
+
+	public StreamingJsonSchemaValidator(CompiledJsonSchema compiledJsonSchema, JsonReader jsonReader) {
+		if (compiledJsonSchema == null) {
+			throw new IllegalArgumentException("CompiledJsonSchema is null");
+		} else if (jsonReader == null) {
+			throw new IllegalArgumentException("JsonReader is null");
+		}
+		rootNode = compiledJsonSchema.getRootNode();
+		this.jsonReader = jsonReader;
+	}
+
+	public Object getCurrentObject() {
+		return jsonReader.getCurrentObject();
+	}
+
+	/**
+	 * Read the next token by the JsonReader and validate it
+	 *
+	 * @return the token read or null at the end of the json data
+	 * @throws JsonSchemaDataValidationError on the first invalid json value
+	 * @throws Exception on invalid json syntax
+	 */
+	public JsonToken readNextToken() throws Exception {
+		JsonToken jsonToken = jsonReader.readNextToken();
+		if (jsonToken == null) {
+			return null;
+		}
+
+		switch (jsonToken) {
+			case JsonObject_Open:
+				List<StreamingValidationState> objectStates = startValue();
+				for (StreamingValidationState state : objectStates) {
+					state.openJsonObject();
+				}
+				openJsonItems.push(new OpenJsonItem(objectStates, currentValuePath, false));
+				break;
+			case JsonObject_PropertyKey:
+				OpenJsonItem openJsonObject = openJsonItems.peek();
+				if (openJsonObject.states.isEmpty()) {
+					propertyValueStates = Collections.emptyList();
+					propertyValuePath = null;
+				} else {
+					String propertyKey = (String) jsonReader.getCurrentObject();
+					propertyValueStates = new ArrayList<StreamingValidationState>();
+					propertyValuePath = openJsonObject.jsonPath.appendPropertyKey(propertyKey);
+					for (StreamingValidationState state : openJsonObject.states) {
+						state.addPropertyStates(propertyKey, propertyValuePath, propertyValueStates);
+					}
+				}
+				break;
+			case JsonObject_Close:
+				for (StreamingValidationState state : openJsonItems.pop().states) {
+					state.closeJsonObject();
+				}
+				break;
+			case JsonArray_Open:
+				List<StreamingValidationState> arrayStates = startValue();
+				for (StreamingValidationState state : arrayStates) {
+					state.openJsonArray();
+				}
+				openJsonItems.push(new OpenJsonItem(arrayStates, currentValuePath, true));
+				break;
+			case JsonArray_Close:
+				for (StreamingValidationState state : openJsonItems.pop().states) {
+					state.closeJsonArray();
+				}
+				break;
+			case JsonSimpleValue:
+				List<StreamingValidationState> simpleValueStates = startValue();
+				if (!simpleValueStates.isEmpty()) {
+					JsonNode jsonNode;
+					try {
+						jsonNode = new JsonNode(jsonReader.getCurrentObject());
+					} catch (Exception e) {
+						throw new JsonSchemaDataValidationError("Invalid data type '" + jsonReader.getCurrentObject().getClass().getSimpleName() + "'", currentValuePath.toString());
+					}
+					for (StreamingValidationState state : simpleValueStates) {
+						state.validateSimpleValue(jsonNode);
+					}
+				}
+				break;
+			default:
+				throw new Exception("Unexpected JsonToken: " + jsonToken);
+		}
+		return jsonToken;
+	}
+
+	/**
+	 * Read and validate all remaining json data
+	 */
+	public void validate() throws Exception {
+		while (readNextToken() != null) {
+			// Validation is done for each token
+		}
+		if (!rootValueStarted) {
+			throw new Exception("Invalid json data: No JSON data found at root");
+		}
+	}
+
+	/**
+	 * Get the states for the json value started by the current token
+	 */
+	private List<StreamingValidationState> startValue() throws Exception {
+		if (openJsonItems.isEmpty()) {
+			if (rootValueStarted) {
+				throw new Exception("Json data contains more than one root json item");
+			}
+			rootValueStarted = true;
+			List<StreamingValidationState> rootStates = new ArrayList<StreamingValidationState>();
+			currentValuePath = JsonDataPath.ROOT;
+			rootNode.addStreamingValidationStates(currentValuePath, rootStates);
+			return rootStates;
+		} else {
+			OpenJsonItem parentJsonItem = openJsonItems.peek();
+			if (parentJsonItem.isJsonArray) {
+				parentJsonItem.itemCount++;
+				if (parentJsonItem.states.isEmpty()) {
+					currentValuePath = null;
+					return Collections.emptyList();
+				} else {
+					int index = parentJsonItem.itemCount - 1;
+					List<StreamingValidationState> itemStates = new ArrayList<StreamingValidationState>();
+					currentValuePath = parentJsonItem.jsonPath.appendArrayIndex(index);
+					for (StreamingValidationState state : parentJsonItem.states) {
+						state.addItemStates(index, currentValuePath, itemStates);
+					}
+					return itemStates;
+				}
+			} else {
+				currentValuePath = propertyValuePath;
+				List<StreamingValidationState> states = propertyValueStates;
+				propertyValueStates = null;
+				propertyValuePath = null;
+				return states;
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		jsonReader.close();
+	}
+
+	private static class OpenJsonItem {
+		private final List<StreamingValidationState> states;
+		private final JsonDataPath jsonPath;
+		private final boolean isJsonArray;
+		private int itemCount = 0;
+
+		private OpenJsonItem(List<StreamingValidationState> states, JsonDataPath jsonPath, boolean isJsonArray) {
+			this.states = states;
+			this.jsonPath = jsonPath;
+			this.isJsonArray = isJsonArray;
+		}
+	}
+}
@@ -0,0 +1,189 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+
+/**
+ * Streaming validation of a json value against a schema, which is only an option like those of "anyOf" or "not".<br />
+ * The first error of the option is recorded instead of being thrown, also for the property values and array items of the json value.
+ * After a first error the option is not validated any further.
+ */
+class StreamingValidationBranch extends StreamingValidationState {
+	private final List<StreamingValidationState> states = new ArrayList<StreamingValidationState>();
+	private JsonSchemaDataValidationError error = null;
+
+	StreamingValidationBranch(CompiledJsonSchemaNode schemaNode, JsonDataPath jsonPath) {
+		List<StreamingValidationState> schemaNodeStates = new ArrayList<StreamingValidationState>();
+		schemaNode.addStreamingValidationStates(jsonPath, schemaNodeStates);
+		for (StreamingValidationState schemaNodeState : schemaNodeStates) {
+			states.add(new BranchMemberState(schemaNodeState));
+		}
+	}
+
+	boolean isFailed() {
+		return error != null;
+	}
+
+	JsonSchemaDataValidationError getError() {
+		return error;
+	}
+
+	/**
+	 * Record the first error of this option. Subclasses may throw an error to fail fast.
+	 */
+	protected void fail(JsonSchemaDataValidationError validationError) throws JsonSchemaDataValidationError {
+		if (error == null) {
+			error = validationError;
+		}
+	}
+
+	@Override
+	void validateSimpleValue(JsonNode jsonNode) throws JsonSchemaDataValidationError {
+		for (StreamingValidationState state : states) {
+			state.validateSimpleValue(jsonNode);
+		}
+	}
+
+	@Override
+	void openJsonObject() throws JsonSchemaDataValidationError {
+		for (StreamingValidationState state : states) {
+			state.openJsonObject();
+		}
+	}
+
+	@Override
+	void addPropertyStates(String propertyKey, JsonDataPath propertyPath, List<StreamingValidationState> propertyStates) throws JsonSchemaDataValidationError {
+		for (StreamingValidationState state : states) {
+			state.addPropertyStates(propertyKey, propertyPath, propertyStates);
+		}
+	}
+
+	@Override
+	void closeJsonObject() throws JsonSchemaDataValidationError {
+		for (StreamingValidationState state : states) {
+			state.closeJsonObject();
+		}
+	}
+
+	@Override
+	void openJsonArray() throws JsonSchemaDataValidationError {
+		for (StreamingValidationState state : states) {
+			state.openJsonArray();
+		}
+	}
+
+	@Override
+	void addItemStates(int index, JsonDataPath itemPath, List<StreamingValidationState> itemStates) throws JsonSchemaDataValidationError {
+		for (StreamingValidationState state : states) {
+			state.addItemStates(index, itemPath, itemStates);
+		}
+	}
+
+	@Override
+	void closeJsonArray() throws JsonSchemaDataValidationError {
+		for (StreamingValidationState state : states) {
+			state.closeJsonArray();
+		}
+	}
+
+	/**
+	 * State of this option, which records its errors in the option instead of throwing them
+	 */
+	private class BranchMemberState extends StreamingValidationState {
+		private final StreamingValidationState state;
+
+		private BranchMemberState(StreamingValidationState state) {
+			this.state = state;
+		}
+
+		@Override
+		void validateSimpleValue(JsonNode jsonNode) throws JsonSchemaDataValidationError {
+			if (error == null) {
+				try {
+					state.validateSimpleValue(jsonNode);
+				} catch (JsonSchemaDataValidationError e) {
+					fail(e);
+				}
+			}
+		}
+
+		@Override
+		void openJsonObject() throws JsonSchemaDataValidationError {
+			if (error == null) {
+				try {
+					state.openJsonObject();
+				} catch (JsonSchemaDataValidationError e) {
+					fail(e);
+				}
+			}
+		}
+
+		@Override
+		void addPropertyStates(String propertyKey, JsonDataPath propertyPath, List<StreamingValidationState> propertyStates) throws JsonSchemaDataValidationError {
+			if (error == null) {
+				List<StreamingValidationState> memberPropertyStates = new ArrayList<StreamingValidationState>();
+				try {
+					state.addPropertyStates(propertyKey, propertyPath, memberPropertyStates);
+				} catch (JsonSchemaDataValidationError e) {
+					fail(e);
+					return;
+				}
+				for (StreamingValidationState memberPropertyState : memberPropertyStates) {
+					propertyStates.add(new BranchMemberState(memberPropertyState));
+				}
+			}
+		}
+
+		@Override
+		void closeJsonObject() throws JsonSchemaDataValidationError {
+			if (error == null) {
+				try {
+					state.closeJsonObject();
+				} catch (JsonSchemaDataValidationError e) {
+					fail(e);
+				}
+			}
+		}
+
+		@Override
+		void openJsonArray() throws JsonSchemaDataValidationError {
+			if (error == null) {
+				try {
+					state.openJsonArray();
+				} catch (JsonSchemaDataValidationError e) {
+					fail(e);
+				}
+			}
+		}
+
+		@Override
+		void addItemStates(int index, JsonDataPath itemPath, List<StreamingValidationState> itemStates) throws JsonSchemaDataValidationError {
+			if (error == null) {
+				List<StreamingValidationState> memberItemStates = new ArrayList<StreamingValidationState>();
+				try {
+					state.addItemStates(index, itemPath, memberItemStates);
+				} catch (JsonSchemaDataValidationError e) {
+					fail(e);
+					return;
+				}
+				for (StreamingValidationState memberItemState : memberItemStates) {
+					itemStates.add(new BranchMemberState(memberItemState));
+				}
+			}
+		}
+
+		@Override
+		void closeJsonArray() throws JsonSchemaDataValidationError {
+			if (error == null) {
+				try {
+					state.closeJsonArray();
+				} catch (JsonSchemaDataValidationError e) {
+					fail(e);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import java.util.List;
+
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+
+/**
+ * State of a validator for one json value, which is read token by token.<br />
+ * A simple value is handed over as a whole. For a JsonObject or JsonArray the validator is informed on opening and closing,
+ * and it is asked for the states to validate each property value or array item before that is read.
+ * So only the states of the currently open json values are kept in memory.
+ */
+abstract class StreamingValidationState {
+	void validateSimpleValue(JsonNode jsonNode) throws JsonSchemaDataValidationError {
+		// Nothing to do by default
+	}
+
+	void openJsonObject() throws JsonSchemaDataValidationError {
+		// Nothing to do by default
+	}
+
+	/**
+	 * Add the states for validation of the value of the next property
+	 */
+	void addPropertyStates(String propertyKey, JsonDataPath propertyPath, List<StreamingValidationState> propertyStates) throws JsonSchemaDataValidationError {
+		// Nothing to do by default
+	}
+
+	void closeJsonObject() throws JsonSchemaDataValidationError {
+		// Nothing to do by default
+	}
+
+	void openJsonArray() throws JsonSchemaDataValidationError {
+		// Nothing to do by default
+	}
+
+	/**
+	 * Add the states for validation of the next array item
+	 */
+	void addItemStates(int index, JsonDataPath itemPath, List<StreamingValidationState> itemStates) throws JsonSchemaDataValidationError {
+		// Nothing to do by default
+	}
+
+	void closeJsonArray() throws JsonSchemaDataValidationError {
+		// Nothing to do by default
+	}
+}
@@ -0,0 +1,47 @@
+package de.soderer.utilities.json.schema.compiled;
+
+import de.soderer.utilities.json.JsonArray;
+import de.soderer.utilities.json.JsonNode;
+import de.soderer.utilities.json.JsonObject;
+import de.soderer.utilities.json.schema.JsonSchemaDataValidationError;
+
+/**
+ * Streaming state for validators, which check the contents of simple values only.
+ * JsonObject and JsonArray values are validated by their data type, using an empty JsonObject or JsonArray in their place.
+ * Validators checking the contents of JsonObject or JsonArray values override the according methods.
+ */
+class TypeOnlyValidationState extends StreamingValidationState {
+	private static final JsonNode EMPTY_JSON_OBJECT_NODE = createJsonNode(new JsonObject());
+	private static final JsonNode EMPTY_JSON_ARRAY_NODE = createJsonNode(new JsonArray());
+
+	protected final CompiledJsonSchemaValidator validator;
+	protected final JsonDataPath jsonPath;
+
+	TypeOnlyValidationState(CompiledJsonSchemaValidator validator, JsonDataPath jsonPath) {
+		this.validator = validator;
+		this.jsonPath = jsonPath;
+	}
+
+	private static JsonNode createJsonNode(Object value) {
+		try {
+			return new JsonNode(value);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	void validateSimpleValue(JsonNode jsonNode) throws JsonSchemaDataValidationError {
+		validator.validate(jsonNode, jsonPath);
+	}
+
+	@Override
+	void openJsonObject() throws JsonSchemaDataValidationError {
+		validator.validate(EMPTY_JSON_OBJECT_NODE, jsonPath);
+	}
+
+	@Override
+	void openJsonArray() throws JsonSchemaDataValidationError {
+		validator.validate(EMPTY_JSON_ARRAY_NODE, jsonPath);
+	}
+}
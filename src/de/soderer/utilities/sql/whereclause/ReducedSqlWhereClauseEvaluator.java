@@ -0,0 +1,1217 @@
+package de.soderer.utilities.sql.whereclause;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import de.soderer.utilities.NumberUtilities;
+import de.soderer.utilities.Utilities;
+import de.soderer.utilities.collection.Predicate;
+import de.soderer.utilities.csv.CsvRow;
+import de.soderer.utilities.sql.whereclause.token.Expression;
+import de.soderer.utilities.sql.whereclause.token.ListExpression;
+import de.soderer.utilities.sql.whereclause.token.RulePart;
+import de.soderer.utilities.sql.whereclause.token.SubSelect;
+import de.soderer.utilities.sql.whereclause.token.Value;
+
+/**
+ * Evaluator for rules parsed by ReducedSqlWhereClauseParser.
+ *
+ * A rule is compiled once into a tree of typed nodes: field names are resolved to column indexes, constant lists are sorted or hashed,
+ * like patterns and date formats are precompiled. The compiled Predicate holds no mutable state, so one compiled rule can be shared by parallel scans,
+ * e.g. as row filter of CsvReader and CsvParallelReader.
+ *
+ * Null values behave like SQL NULL: every comparison, like and in check with a null value is false. Empty csv values are null like in Oracle.
+ * Numbers are evaluated as double, dates as milliseconds in the default time zone and "sysdate" is the time of each evaluation.
+ * The date functions use Oracle style formats like 'dd.mm.yyyy hh24:mi:ss', where hh, hh12 and hh24 are all read as hour of day.
+ * Subselects cannot be evaluated.
+ *
+ * Usage:
+ * <pre>
+ * RulePart rule = new ReducedSqlWhereClauseParser().parse("age &gt;= 18 and name like 'M%'", descriptors);
+ * csvReader.setRowFilter(ReducedSqlWhereClauseEvaluator.compileForCsvRows(rule, csvHeader, DateUtilities.DD_MM_YYYY));
+ * </pre>
+ */
+public class ReducedSqlWhereClauseEvaluator {
+	/** Marker for null date values */
+	private static final long NULL_DATE = Long.MIN_VALUE;
+
+	private static final long MILLISECONDS_PER_DAY = 24L * 60 * 60 * 1000;
+
+	/**
+	 * Compile a rule for the CsvRows of a CsvReader.
+	 * The csv line 1 is the header line, which defines the column names, so it is always accepted.
+	 *
+	 * @param rule
+	 *            parsed rule
+	 * @param csvHeader
+	 *            column names of the csv data in the order of the CsvRow values, e.g. the selected columns of a column projection
+	 * @param datePattern
+	 *            DateTimeFormatter pattern of date fields like "dd.MM.yyyy" or null if there are no date fields
+	 * @return thread-safe predicate
+	 */
+	public static Predicate<CsvRow> compileForCsvRows(RulePart rule, List<String> csvHeader, String datePattern) {
+		final BoolNode<CsvRow> rootNode = new Compiler<CsvRow>(new CsvRowAccessor(csvHeader, datePattern)).compileRule(rule);
+		return new Predicate<CsvRow>() {
+			@Override
+			public boolean evaluate(CsvRow csvRow) {
+				return csvRow.getCsvLineNumber() == 1 || rootNode.evaluate(csvRow);
+			}
+		};
+	}
+
+	/**
+	 * Compile a rule for the csv lines read by CsvReader.readNextCsvLine()
+	 *
+	 * @param rule
+	 *            parsed rule
+	 * @param csvHeader
+	 *            column names of the csv data
+	 * @param datePattern
+	 *            DateTimeFormatter pattern of date fields like "dd.MM.yyyy" or null if there are no date fields
+	 * @return thread-safe predicate
+	 */
+	public static Predicate<List<String>> compileForCsvValues(RulePart rule, List<String> csvHeader, String datePattern) {
+		return createPredicate(new Compiler<List<String>>(new CsvValuesAccessor(csvHeader, datePattern)).compileRule(rule));
+	}
+
+	/**
+	 * Compile a rule for records with the field names of the rule as keys, which are lowercase.
+	 * Supported values are Numbers, CharSequences, Booleans and Date, Calendar, LocalDate, LocalDateTime and ZonedDateTime for date fields.
+	 *
+	 * @param rule
+	 *            parsed rule
+	 * @return thread-safe predicate
+	 */
+	public static Predicate<Map<String, Object>> compileForMaps(RulePart rule) {
+		return compileForMaps(rule, null, null);
+	}
+
+	/**
+	 * Compile a rule for records with case sensitive keys
+	 *
+	 * @param rule
+	 *            parsed rule
+	 * @param keyNames
+	 *            keys of the records, which are matched case insensitive with the field names of the rule, or null to use the field names of the rule
+	 * @param datePattern
+	 *            DateTimeFormatter pattern of date fields with CharSequence values or null
+	 * @return thread-safe predicate
+	 */
+	public static Predicate<Map<String, Object>> compileForMaps(RulePart rule, Collection<String> keyNames, String datePattern) {
+		return createPredicate(new Compiler<Map<String, Object>>(new MapAccessor(keyNames, datePattern)).compileRule(rule));
+	}
+
+	private static <T> Predicate<T> createPredicate(final BoolNode<T> rootNode) {
+		return new Predicate<T>() {
+			@Override
+			public boolean evaluate(T record) {
+				return rootNode.evaluate(record);
+			}
+		};
+	}
+
+	private enum CompareOperator {
+		LESS,
+		LESS_OR_EQUAL,
+		EQUAL,
+		NOT_EQUAL,
+		GREATER_OR_EQUAL,
+		GREATER;
+
+		public static CompareOperator getFromString(String sign) {
+			if ("<".equals(sign)) {
+				return LESS;
+			} else if ("<=".equals(sign)) {
+				return LESS_OR_EQUAL;
+			} else if ("=".equals(sign)) {
+				return EQUAL;
+			} else if ("!=".equals(sign) || "<>".equals(sign)) {
+				return NOT_EQUAL;
+			} else if (">=".equals(sign)) {
+				return GREATER_OR_EQUAL;
+			} else if (">".equals(sign)) {
+				return GREATER;
+			} else {
+				throw new IllegalArgumentException("Invalid compare operator: " + sign);
+			}
+		}
+
+		public boolean matches(int comparison) {
+			switch (this) {
+				case LESS:
+					return comparison < 0;
+				case LESS_OR_EQUAL:
+					return comparison <= 0;
+				case EQUAL:
+					return comparison == 0;
+				case NOT_EQUAL:
+					return comparison != 0;
+				case GREATER_OR_EQUAL:
+					return comparison >= 0;
+				default:
+					return comparison > 0;
+			}
+		}
+	}
+
+	/**
+	 * Translates the nodes of a parsed rule into evaluation nodes
+	 */
+	private static class Compiler<T> {
+		private final RecordAccessor<T> accessor;
+
+		private Compiler(RecordAccessor<T> accessor) {
+			this.accessor = accessor;
+		}
+
+		private BoolNode<T> compileRule(RulePart rule) {
+			if (!(rule instanceof Value) || ((Value) rule).type != Value.Type.Bool) {
+				throw new IllegalArgumentException("Rule cannot be evaluated: " + rule);
+			}
+			return compileBool((Value) rule);
+		}
+
+		private BoolNode<T> compileBool(Value value) {
+			if (value instanceof ListExpression) {
+				return compileList((ListExpression) value);
+			} else if (value instanceof Expression) {
+				Expression expression = (Expression) value;
+				String sign = expression.infixOperator == null ? null : expression.infixOperator.sign;
+				if ("and".equals(sign)) {
+					final BoolNode<T> node1 = compileBool(expression.value1);
+					final BoolNode<T> node2 = compileBool(expression.value2);
+					return new BoolNode<T>() {
+						@Override
+						boolean evaluate(T record) {
+							return node1.evaluate(record) && node2.evaluate(record);
+						}
+					};
+				} else if ("or".equals(sign)) {
+					final BoolNode<T> node1 = compileBool(expression.value1);
+					final BoolNode<T> node2 = compileBool(expression.value2);
+					return new BoolNode<T>() {
+						@Override
+						boolean evaluate(T record) {
+							return node1.evaluate(record) || node2.evaluate(record);
+						}
+					};
+				} else if ("is null".equals(sign) || "is not null".equals(sign)) {
+					final NullCheckNode<T> nullCheckNode = compileNullCheck(expression.value1);
+					if ("is null".equals(sign)) {
+						return new BoolNode<T>() {
+							@Override
+							boolean evaluate(T record) {
+								return nullCheckNode.isNull(record);
+							}
+						};
+					} else {
+						return new BoolNode<T>() {
+							@Override
+							boolean evaluate(T record) {
+								return !nullCheckNode.isNull(record);
+							}
+						};
+					}
+				} else if ("like".equals(sign) || "not like".equals(sign)) {
+					return compileLike(expression.value1, expression.value2, "not like".equals(sign));
+				} else if (Expression.COMPARE_OPERATOR_SIGNS.contains(sign)) {
+					return compileCompare(expression.value1, CompareOperator.getFromString(sign), expression.value2);
+				} else {
+					throw new IllegalArgumentException("Unsupported boolean expression: " + expression);
+				}
+			} else if (value instanceof SubSelect) {
+				throw new IllegalArgumentException("Subselects cannot be evaluated: " + value);
+			} else if (Utilities.isNotEmpty(value.fieldName)) {
+				final int fieldIndex = accessor.resolveFieldIndex(value.fieldName, Value.Type.Bool);
+				return new BoolNode<T>() {
+					@Override
+					boolean evaluate(T record) {
+						return accessor.getBool(record, fieldIndex) == 1;
+					}
+				};
+			} else {
+				throw new IllegalArgumentException("Unsupported boolean value: " + value);
+			}
+		}
+
+		private NullCheckNode<T> compileNullCheck(Value value) {
+			if (Utilities.isNotEmpty(value.fieldName) && !Expression.SYSDATE_VALUES.contains(value.fieldName) && !(value instanceof Expression) && !(value instanceof ListExpression)) {
+				final int fieldIndex = accessor.resolveFieldIndex(value.fieldName, value.type);
+				return new NullCheckNode<T>() {
+					@Override
+					boolean isNull(T record) {
+						return accessor.isNull(record, fieldIndex);
+					}
+				};
+			}
+
+			switch (value.type) {
+				case Number:
+					final NumberNode<T> numberNode = compileNumber(value);
+					return new NullCheckNode<T>() {
+						@Override
+						boolean isNull(T record) {
+							return Double.isNaN(numberNode.evaluate(record));
+						}
+					};
+				case String:
+					final StringNode<T> stringNode = compileString(value);
+					return new NullCheckNode<T>() {
+						@Override
+						boolean isNull(T record) {
+							return stringNode.evaluate(record) == null;
+						}
+					};
+				case Date:
+					final DateNode<T> dateNode = compileDate(value);
+					return new NullCheckNode<T>() {
+						@Override
+						boolean isNull(T record) {
+							return dateNode.evaluate(record) == NULL_DATE;
+						}
+					};
+				default:
+					// Boolean expressions are never null
+					compileBool(value);
+					return new NullCheckNode<T>() {
+						@Override
+						boolean isNull(T record) {
+							return false;
+						}
+					};
+			}
+		}
+
+		private BoolNode<T> compileCompare(Value value1, final CompareOperator compareOperator, Value value2) {
+			Value.Type type1 = value1.type;
+			Value.Type type2 = value2.type;
+			if (type1 == Value.Type.Number && type2 == Value.Type.String) {
+				type2 = Value.Type.Number;
+			} else if (type1 == Value.Type.String && type2 == Value.Type.Number) {
+				type1 = Value.Type.Number;
+			} else if (type1 != type2) {
+				throw new IllegalArgumentException("Incompatible value types for comparison: " + value1 + " (" + value1.type + "), " + value2 + " (" + value2.type + ")");
+			}
+
+			switch (type1) {
+				case Number:
+					final NumberNode<T> numberNode1 = compileNumber(value1);
+					final NumberNode<T> numberNode2 = compileNumber(value2);
+					return new BoolNode<T>() {
+						@Override
+						boolean evaluate(T record) {
+							double number1 = numberNode1.evaluate(record);
+							if (Double.isNaN(number1)) {
+								return false;
+							}
+							double number2 = numberNode2.evaluate(record);
+							if (Double.isNaN(number2)) {
+								return false;
+							}
+							return compareOperator.matches(number1 < number2 ? -1 : (number1 > number2 ? 1 : 0));
+						}
+					};
+				case String:
+					final StringNode<T> stringNode1 = compileString(value1);
+					final StringNode<T> stringNode2 = compileString(value2);
+					return new BoolNode<T>() {
+						@Override
+						boolean evaluate(T record) {
+							CharSequence string1 = stringNode1.evaluate(record);
+							if (string1 == null) {
+								return false;
+							}
+							CharSequence string2 = stringNode2.evaluate(record);
+							if (string2 == null) {
+								return false;
+							}
+							return compareOperator.matches(compare(string1, string2));
+						}
+					};
+				case Date:
+					final DateNode<T> dateNode1 = compileDate(value1);
+					final DateNode<T> dateNode2 = compileDate(value2);
+					return new BoolNode<T>() {
+						@Override
+						boolean evaluate(T record) {
+							long date1 = dateNode1.evaluate(record);
+							if (date1 == NULL_DATE) {
+								return false;
+							}
+							long date2 = dateNode2.evaluate(record);
+							if (date2 == NULL_DATE) {
+								return false;
+							}
+							return compareOperator.matches(Long.compare(date1, date2));
+						}
+					};
+				default:
+					throw new IllegalArgumentException("Unsupported value types for comparison: " + value1 + " (" + value1.type + "), " + value2 + " (" + value2.type + ")");
+			}
+		}
+
+		private BoolNode<T> compileLike(Value value, Value patternValue, final boolean negate) {
+			final StringNode<T> stringNode = compileString(value);
+			if (isConstant(patternValue)) {
+				final LikePattern likePattern = new LikePattern(patternValue.stringValue);
+				return new BoolNode<T>() {
+					@Override
+					boolean evaluate(T record) {
+						CharSequence string = stringNode.evaluate(record);
+						return string != null && likePattern.matches(string) != negate;
+					}
+				};
+			} else {
+				final StringNode<T> patternNode = compileString(patternValue);
+				return new BoolNode<T>() {
+					@Override
+					boolean evaluate(T record) {
+						CharSequence string = stringNode.evaluate(record);
+						if (string == null) {
+							return false;
+						}
+						CharSequence pattern = patternNode.evaluate(record);
+						return pattern != null && new LikePattern(pattern.toString()).matches(string) != negate;
+					}
+				};
+			}
+		}
+
+		private BoolNode<T> compileList(ListExpression listExpression) {
+			final boolean negate = "not in".equals(listExpression.operator.sign);
+			boolean allConstant = true;
+			for (Value listValue : listExpression.valueList) {
+				if (listValue instanceof SubSelect) {
+					throw new IllegalArgumentException("Subselects cannot be evaluated: " + listValue);
+				} else if (!isConstant(listValue)) {
+					allConstant = false;
+				}
+			}
+
+			if (!allConstant) {
+				// Lists with fields or functions are checked value by value with SQL semantics
+				final List<BoolNode<T>> checkNodes = new ArrayList<BoolNode<T>>();
+				for (Value listValue : listExpression.valueList) {
+					checkNodes.add(compileCompare(listExpression.value, negate ? CompareOperator.NOT_EQUAL : CompareOperator.EQUAL, listValue));
+				}
+				return new BoolNode<T>() {
+					@Override
+					boolean evaluate(T record) {
+						for (BoolNode<T> checkNode : checkNodes) {
+							if (checkNode.evaluate(record) == !negate) {
+								return !negate;
+							}
+						}
+						return negate;
+					}
+				};
+			}
+
+			switch (listExpression.value.type) {
+				case Number:
+					final NumberNode<T> numberNode = compileNumber(listExpression.value);
+					final double[] numbers = new double[listExpression.valueList.size()];
+					for (int i = 0; i < numbers.length; i++) {
+						// Adding 0.0 normalizes -0.0, which is not found by binarySearch for 0.0
+						numbers[i] = listExpression.valueList.get(i).numberValue + 0.0;
+					}
+					Arrays.sort(numbers);
+					return new BoolNode<T>() {
+						@Override
+						boolean evaluate(T record) {
+							double number = numberNode.evaluate(record);
+							return !Double.isNaN(number) && (Arrays.binarySearch(numbers, number + 0.0) >= 0) != negate;
+						}
+					};
+				case String:
+					final StringNode<T> stringNode = compileString(listExpression.value);
+					List<String> strings = new ArrayList<String>();
+					for (Value listValue : listExpression.valueList) {
+						strings.add(listValue.stringValue);
+					}
+					final StringSet stringSet = new StringSet(strings);
+					return new BoolNode<T>() {
+						@Override
+						boolean evaluate(T record) {
+							CharSequence string = stringNode.evaluate(record);
+							return string != null && stringSet.contains(string) != negate;
+						}
+					};
+				default:
+					throw new IllegalArgumentException("Unsupported value type for list check: " + listExpression.value + " (" + listExpression.value.type + ")");
+			}
+		}
+
+		private NumberNode<T> compileNumber(Value value) {
+			if (value instanceof Expression) {
+				Expression expression = (Expression) value;
+				if (expression.functionOperator != null && Expression.MOD_FUNCTION_SIGN.equals(expression.functionOperator.sign)) {
+					final NumberNode<T> dividendNode = compileNumber(expression.value1);
+					final NumberNode<T> divisorNode = compileNumber(expression.value2);
+					return new NumberNode<T>() {
+						@Override
+						double evaluate(T record) {
+							double divisor = divisorNode.evaluate(record);
+							double dividend = dividendNode.evaluate(record);
+							// Like in SQL mod(m, 0) is m
+							return divisor == 0 ? dividend : dividend % divisor;
+						}
+					};
+				} else if (expression.infixOperator != null && Expression.CALCULATION_OPERATOR_SIGNS.contains(expression.infixOperator.sign) && expression.value1.type == Value.Type.Number) {
+					final NumberNode<T> numberNode1 = compileNumber(expression.value1);
+					final NumberNode<T> numberNode2 = compileNumber(expression.value2);
+					if ("+".equals(expression.infixOperator.sign)) {
+						return new NumberNode<T>() {
+							@Override
+							double evaluate(T record) {
+								return numberNode1.evaluate(record) + numberNode2.evaluate(record);
+							}
+						};
+					} else {
+						return new NumberNode<T>() {
+							@Override
+							double evaluate(T record) {
+								return numberNode1.evaluate(record) - numberNode2.evaluate(record);
+							}
+						};
+					}
+				} else {
+					throw new IllegalArgumentException("Unsupported number expression: " + expression);
+				}
+			} else if (value instanceof ListExpression || value instanceof SubSelect) {
+				throw new IllegalArgumentException("Unsupported number value: " + value);
+			} else if (Utilities.isNotEmpty(value.fieldName)) {
+				if (value.type == Value.Type.Number) {
+					final int fieldIndex = accessor.resolveFieldIndex(value.fieldName, Value.Type.Number);
+					return new NumberNode<T>() {
+						@Override
+						double evaluate(T record) {
+							return accessor.getNumber(record, fieldIndex);
+						}
+					};
+				} else if (value.type == Value.Type.String) {
+					final StringNode<T> stringNode = compileString(value);
+					return new NumberNode<T>() {
+						@Override
+						double evaluate(T record) {
+							return toNumber(stringNode.evaluate(record));
+						}
+					};
+				} else {
+					throw new IllegalArgumentException("Field is not a number: " + value.fieldName);
+				}
+			} else {
+				final double number;
+				if (value.type == Value.Type.Number) {
+					number = value.numberValue;
+				} else if (value.type == Value.Type.String) {
+					try {
+						number = toNumber(value.stringValue);
+					} catch (NumberFormatException e) {
+						throw new IllegalArgumentException("Invalid number value: " + value);
+					}
+				} else {
+					throw new IllegalArgumentException("Unsupported number value: " + value);
+				}
+				return new NumberNode<T>() {
+					@Override
+					double evaluate(T record) {
+						return number;
+					}
+				};
+			}
+		}
+
+		private StringNode<T> compileString(Value value) {
+			if (value instanceof Expression) {
+				Expression expression = (Expression) value;
+				if (expression.functionOperator != null && "lower".equals(expression.functionOperator.sign)) {
+					final StringNode<T> stringNode = compileString(expression.value1);
+					return new StringNode<T>() {
+						@Override
+						CharSequence evaluate(T record) {
+							CharSequence string = stringNode.evaluate(record);
+							return string == null ? null : string.toString().toLowerCase();
+						}
+					};
+				} else if (expression.functionOperator != null && "upper".equals(expression.functionOperator.sign)) {
+					final StringNode<T> stringNode = compileString(expression.value1);
+					return new StringNode<T>() {
+						@Override
+						CharSequence evaluate(T record) {
+							CharSequence string = stringNode.evaluate(record);
+							return string == null ? null : string.toString().toUpperCase();
+						}
+					};
+				} else if (expression.functionOperator != null && "char".equals(expression.functionOperator.sign)) {
+					final DateNode<T> dateNode = compileDate(expression.value1);
+					final SqlDateFormat sqlDateFormat = new SqlDateFormat(getConstantDateFormat(expression));
+					return new StringNode<T>() {
+						@Override
+						CharSequence evaluate(T record) {
+							long date = dateNode.evaluate(record);
+							return date == NULL_DATE ? null : sqlDateFormat.format(date);
+						}
+					};
+				} else {
+					throw new IllegalArgumentException("Unsupported string expression: " + expression);
+				}
+			} else if (value instanceof ListExpression || value instanceof SubSelect) {
+				throw new IllegalArgumentException("Unsupported string value: " + value);
+			} else if (Utilities.isNotEmpty(value.fieldName)) {
+				if (value.type != Value.Type.String) {
+					throw new IllegalArgumentException("Field is not a string: " + value.fieldName);
+				}
+				final int fieldIndex = accessor.resolveFieldIndex(value.fieldName, Value.Type.String);
+				return new StringNode<T>() {
+					@Override
+					CharSequence evaluate(T record) {
+						return accessor.getString(record, fieldIndex);
+					}
+				};
+			} else if (value.type == Value.Type.String) {
+				final String string = value.stringValue;
+				return new StringNode<T>() {
+					@Override
+					CharSequence evaluate(T record) {
+						return string;
+					}
+				};
+			} else {
+				throw new IllegalArgumentException("Unsupported string value: " + value);
+			}
+		}
+
+		private DateNode<T> compileDate(Value value) {
+			if (value instanceof Expression) {
+				Expression expression = (Expression) value;
+				if (expression.functionOperator != null && "date".equals(expression.functionOperator.sign)) {
+					final SqlDateFormat sqlDateFormat = new SqlDateFormat(getConstantDateFormat(expression));
+					if (isConstant(expression.value1)) {
+						final long date = sqlDateFormat.parse(expression.value1.stringValue);
+						return new DateNode<T>() {
+							@Override
+							long evaluate(T record) {
+								return date;
+							}
+						};
+					} else {
+						final StringNode<T> stringNode = compileString(expression.value1);
+						return new DateNode<T>() {
+							@Override
+							long evaluate(T record) {
+								CharSequence string = stringNode.evaluate(record);
+								return string == null || string.length() == 0 ? NULL_DATE : sqlDateFormat.parse(string);
+							}
+						};
+					}
+				} else if (expression.infixOperator != null && Expression.CALCULATION_OPERATOR_SIGNS.contains(expression.infixOperator.sign) && expression.value1.type == Value.Type.Date) {
+					// Date arithmetic in days like in Oracle: sysdate - 1
+					final DateNode<T> dateNode = compileDate(expression.value1);
+					final NumberNode<T> daysNode = compileNumber(expression.value2);
+					final int factor = "+".equals(expression.infixOperator.sign) ? 1 : -1;
+					return new DateNode<T>() {
+						@Override
+						long evaluate(T record) {
+							long date = dateNode.evaluate(record);
+							double days = daysNode.evaluate(record);
+							if (date == NULL_DATE || Double.isNaN(days)) {
+								return NULL_DATE;
+							} else {
+								return date + factor * Math.round(days * MILLISECONDS_PER_DAY);
+							}
+						}
+					};
+				} else {
+					throw new IllegalArgumentException("Unsupported date expression: " + expression);
+				}
+			} else if (value instanceof ListExpression || value instanceof SubSelect) {
+				throw new IllegalArgumentException("Unsupported date value: " + value);
+			} else if (Utilities.isNotEmpty(value.fieldName) && Expression.SYSDATE_VALUES.contains(value.fieldName)) {
+				return new DateNode<T>() {
+					@Override
+					long evaluate(T record) {
+						return System.currentTimeMillis();
+					}
+				};
+			} else if (Utilities.isNotEmpty(value.fieldName) && value.type == Value.Type.Date) {
+				final int fieldIndex = accessor.resolveFieldIndex(value.fieldName, Value.Type.Date);
+				return new DateNode<T>() {
+					@Override
+					long evaluate(T record) {
+						return accessor.getDate(record, fieldIndex);
+					}
+				};
+			} else {
+				throw new IllegalArgumentException("Unsupported date value: " + value);
+			}
+		}
+
+		private static String getConstantDateFormat(Expression expression) {
+			if (!isConstant(expression.value2)) {
+				throw new IllegalArgumentException("Date format of function " + expression.functionOperator.sign + " must be a constant string: " + expression);
+			}
+			return expression.value2.stringValue;
+		}
+
+		private static boolean isConstant(Value value) {
+			return !(value instanceof Expression) && !(value instanceof ListExpression) && !(value instanceof SubSelect) && Utilities.isEmpty(value.fieldName)
+					&& (value.type == Value.Type.String || value.type == Value.Type.Number);
+		}
+	}
+
+	private static double toNumber(CharSequence value) {
+		if (value == null || value.length() == 0) {
+			return Double.NaN;
+		} else {
+			return NumberUtilities.parseDouble(value, 0, value.length());
+		}
+	}
+
+	/**
+	 * Lexicographic comparison like String.compareTo()
+	 */
+	private static int compare(CharSequence string1, CharSequence string2) {
+		int length1 = string1.length();
+		int length2 = string2.length();
+		int minimumLength = Math.min(length1, length2);
+		for (int i = 0; i < minimumLength; i++) {
+			char char1 = string1.charAt(i);
+			char char2 = string2.charAt(i);
+			if (char1 != char2) {
+				return char1 - char2;
+			}
+		}
+		return length1 - length2;
+	}
+
+	private static boolean regionMatches(CharSequence string, int offset, String part) {
+		for (int i = 0; i < part.length(); i++) {
+			if (string.charAt(offset + i) != part.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private abstract static class BoolNode<T> {
+		abstract boolean evaluate(T record);
+	}
+
+	private abstract static class NullCheckNode<T> {
+		abstract boolean isNull(T record);
+	}
+
+	/**
+	 * Node with a number value, which is NaN for null
+	 */
+	private abstract static class NumberNode<T> {
+		abstract double evaluate(T record);
+	}
+
+	/**
+	 * Node with a string value, which may be a reused CharSequence of a CsvRow
+	 */
+	private abstract static class StringNode<T> {
+		abstract CharSequence evaluate(T record);
+	}
+
+	/**
+	 * Node with a date value in milliseconds, which is NULL_DATE for null
+	 */
+	private abstract static class DateNode<T> {
+		abstract long evaluate(T record);
+	}
+
+	/**
+	 * Precompiled SQL like pattern with the wildcards % and _. Simple patterns are checked without regular expression.
+	 */
+	private static class LikePattern {
+		private enum MatchType {
+			EQUALS,
+			STARTS_WITH,
+			ENDS_WITH,
+			CONTAINS,
+			REGULAR_EXPRESSION
+		}
+
+		private final MatchType matchType;
+		private final String text;
+		private final Pattern pattern;
+
+		private LikePattern(String likePattern) {
+			boolean startsWithWildcard = likePattern.startsWith("%");
+			boolean endsWithWildcard = likePattern.length() > 1 && likePattern.endsWith("%");
+			String innerText = likePattern.substring(startsWithWildcard ? 1 : 0, endsWithWildcard ? likePattern.length() - 1 : likePattern.length());
+			if (innerText.indexOf('%') < 0 && innerText.indexOf('_') < 0) {
+				text = innerText;
+				pattern = null;
+				if (startsWithWildcard && endsWithWildcard) {
+					matchType = MatchType.CONTAINS;
+				} else if (startsWithWildcard) {
+					matchType = MatchType.ENDS_WITH;
+				} else if (endsWithWildcard) {
+					matchType = MatchType.STARTS_WITH;
+				} else {
+					matchType = MatchType.EQUALS;
+				}
+			} else {
+				StringBuilder regularExpression = new StringBuilder();
+				StringBuilder literal = new StringBuilder();
+				for (char nextChar : likePattern.toCharArray()) {
+					if (nextChar == '%' || nextChar == '_') {
+						if (literal.length() > 0) {
+							regularExpression.append(Pattern.quote(literal.toString()));
+							literal.setLength(0);
+						}
+						regularExpression.append(nextChar == '%' ? ".*" : ".");
+					} else {
+						literal.append(nextChar);
+					}
+				}
+				if (literal.length() > 0) {
+					regularExpression.append(Pattern.quote(literal.toString()));
+				}
+				matchType = MatchType.REGULAR_EXPRESSION;
+				text = null;
+				pattern = Pattern.compile(regularExpression.toString(), Pattern.DOTALL);
+			}
+		}
+
+		private boolean matches(CharSequence value) {
+			switch (matchType) {
+				case EQUALS:
+					return value.length() == text.length() && regionMatches(value, 0, text);
+				case STARTS_WITH:
+					return value.length() >= text.length() && regionMatches(value, 0, text);
+				case ENDS_WITH:
+					return value.length() >= text.length() && regionMatches(value, value.length() - text.length(), text);
+				case CONTAINS:
+					for (int i = 0; i <= value.length() - text.length(); i++) {
+						if (regionMatches(value, i, text)) {
+							return true;
+						}
+					}
+					return false;
+				default:
+					return pattern.matcher(value).matches();
+			}
+		}
+	}
+
+	/**
+	 * Immutable hash set of Strings, which finds CharSequences without creating Strings
+	 */
+	private static class StringSet {
+		private final String[] table;
+		private final int mask;
+
+		private StringSet(Collection<String> values) {
+			int capacity = 2;
+			while (capacity < values.size() * 2) {
+				capacity *= 2;
+			}
+			table = new String[capacity];
+			mask = capacity - 1;
+			for (String value : values) {
+				int index = hash(value) & mask;
+				while (table[index] != null && !table[index].equals(value)) {
+					index = (index + 1) & mask;
+				}
+				table[index] = value;
+			}
+		}
+
+		private boolean contains(CharSequence value) {
+			int index = hash(value) & mask;
+			while (table[index] != null) {
+				if (table[index].length() == value.length() && regionMatches(value, 0, table[index])) {
+					return true;
+				}
+				index = (index + 1) & mask;
+			}
+			return false;
+		}
+
+		private static int hash(CharSequence value) {
+			int hash = 0;
+			for (int i = 0; i < value.length(); i++) {
+				hash = 31 * hash + value.charAt(i);
+			}
+			return hash ^ (hash >>> 16);
+		}
+	}
+
+	/**
+	 * Oracle style date format like 'dd.mm.yyyy hh24:mi:ss' of the date and char functions.
+	 * Parsing accepts one or two digits for day, month, hour, minute and second if they are followed by a separator.
+	 */
+	private static class SqlDateFormat {
+		private final DateTimeFormatter parser;
+		private final DateTimeFormatter formatter;
+		private final ZoneId zoneId = ZoneId.systemDefault();
+
+		private SqlDateFormat(String sqlDateFormat) {
+			List<Object> parts = new ArrayList<Object>();
+			String lowerFormat = sqlDateFormat.toLowerCase();
+			int position = 0;
+			while (position < lowerFormat.length()) {
+				if (lowerFormat.startsWith("yyyy", position)) {
+					parts.add(ChronoField.YEAR);
+					position += 4;
+				} else if (lowerFormat.startsWith("yy", position)) {
+					parts.add("yy");
+					position += 2;
+				} else if (lowerFormat.startsWith("mm", position)) {
+					parts.add(ChronoField.MONTH_OF_YEAR);
+					position += 2;
+				} else if (lowerFormat.startsWith("dd", position)) {
+					parts.add(ChronoField.DAY_OF_MONTH);
+					position += 2;
+				} else if (lowerFormat.startsWith("hh24", position) || lowerFormat.startsWith("hh12", position)) {
+					parts.add(ChronoField.HOUR_OF_DAY);
+					position += 4;
+				} else if (lowerFormat.startsWith("hh", position)) {
+					parts.add(ChronoField.HOUR_OF_DAY);
+					position += 2;
+				} else if (lowerFormat.startsWith("mi", position)) {
+					parts.add(ChronoField.MINUTE_OF_HOUR);
+					position += 2;
+				} else if (lowerFormat.startsWith("ss", position)) {
+					parts.add(ChronoField.SECOND_OF_MINUTE);
+					position += 2;
+				} else if (lowerFormat.charAt(position) == '"') {
+					int end = lowerFormat.indexOf('"', position + 1);
+					if (end < 0) {
+						throw new IllegalArgumentException("Invalid date format: " + sqlDateFormat);
+					}
+					parts.add(sqlDateFormat.substring(position + 1, end));
+					position = end + 1;
+				} else {
+					parts.add(sqlDateFormat.substring(position, position + 1));
+					position++;
+				}
+			}
+
+			DateTimeFormatterBuilder parserBuilder = new DateTimeFormatterBuilder();
+			DateTimeFormatterBuilder formatterBuilder = new DateTimeFormatterBuilder();
+			for (int i = 0; i < parts.size(); i++) {
+				Object part = parts.get(i);
+				if (part == ChronoField.YEAR) {
+					parserBuilder.appendValue(ChronoField.YEAR, 4);
+					formatterBuilder.appendValue(ChronoField.YEAR, 4);
+				} else if ("yy".equals(part)) {
+					parserBuilder.appendValueReduced(ChronoField.YEAR, 2, 2, 2000);
+					formatterBuilder.appendValueReduced(ChronoField.YEAR, 2, 2, 2000);
+				} else if (part instanceof ChronoField) {
+					boolean followedByValue = i + 1 < parts.size() && (parts.get(i + 1) instanceof ChronoField || "yy".equals(parts.get(i + 1)));
+					if (followedByValue) {
+						parserBuilder.appendValue((ChronoField) part, 2);
+					} else {
+						parserBuilder.appendValue((ChronoField) part, 1, 2, SignStyle.NOT_NEGATIVE);
+					}
+					formatterBuilder.appendValue((ChronoField) part, 2);
+				} else {
+					parserBuilder.appendLiteral((String) part);
+					formatterBuilder.appendLiteral((String) part);
+				}
+			}
+			parser = parserBuilder.parseDefaulting(ChronoField.HOUR_OF_DAY, 0).parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0).parseDefaulting(ChronoField.SECOND_OF_MINUTE, 0).toFormatter()
+					.withResolverStyle(ResolverStyle.STRICT);
+			formatter = formatterBuilder.toFormatter();
+		}
+
+		private long parse(CharSequence value) {
+			try {
+				return LocalDateTime.from(parser.parse(value)).atZone(zoneId).toInstant().toEpochMilli();
+			} catch (DateTimeParseException e) {
+				throw new IllegalArgumentException("Invalid date value: '" + value + "'", e);
+			}
+		}
+
+		private String format(long date) {
+			return formatter.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(date), zoneId));
+		}
+	}
+
+	/**
+	 * Read access on the field values of a record type. Implementations must be stateless after compilation.
+	 */
+	private abstract static class RecordAccessor<T> {
+		protected final ZoneId zoneId = ZoneId.systemDefault();
+
+		/** Format of date fields with string values or null */
+		protected final DateTimeFormatter dateFormatter;
+
+		protected RecordAccessor(String datePattern) {
+			if (datePattern == null) {
+				dateFormatter = null;
+			} else {
+				dateFormatter = new DateTimeFormatterBuilder().appendPattern(datePattern).parseDefaulting(ChronoField.HOUR_OF_DAY, 0).parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
+						.parseDefaulting(ChronoField.SECOND_OF_MINUTE, 0).toFormatter();
+			}
+		}
+
+		/**
+		 * Resolve a field name of the rule to the index used for value access
+		 */
+		abstract int resolveFieldIndex(String fieldName, Value.Type fieldType);
+
+		abstract boolean isNull(T record, int fieldIndex);
+
+		/**
+		 * @return value or null
+		 */
+		abstract CharSequence getString(T record, int fieldIndex);
+
+		/**
+		 * @return value or NaN for null
+		 */
+		abstract double getNumber(T record, int fieldIndex);
+
+		/**
+		 * @return value in milliseconds or NULL_DATE for null
+		 */
+		abstract long getDate(T record, int fieldIndex);
+
+		/**
+		 * @return 1 for true, 0 for false or -1 for null
+		 */
+		abstract int getBool(T record, int fieldIndex);
+
+		protected long parseDate(CharSequence value) {
+			if (value == null || value.length() == 0) {
+				return NULL_DATE;
+			} else if (dateFormatter == null) {
+				throw new IllegalArgumentException("No date format defined for date value: '" + value + "'");
+			} else {
+				try {
+					return LocalDateTime.from(dateFormatter.parse(value)).atZone(zoneId).toInstant().toEpochMilli();
+				} catch (DateTimeParseException e) {
+					throw new IllegalArgumentException("Invalid date value: '" + value + "'", e);
+				}
+			}
+		}
+
+		protected static int parseBool(CharSequence value) {
+			if (value == null || value.length() == 0) {
+				return -1;
+			} else {
+				return Utilities.interpretAsBool(value.toString()) ? 1 : 0;
+			}
+		}
+	}
+
+	/**
+	 * Access on csv values by column index
+	 */
+	private abstract static class CsvAccessor<T> extends RecordAccessor<T> {
+		private final List<String> csvHeader;
+
+		protected CsvAccessor(List<String> csvHeader, String datePattern) {
+			super(datePattern);
+			if (csvHeader == null) {
+				throw new IllegalArgumentException("Csv header is null");
+			}
+			this.csvHeader = csvHeader;
+		}
+
+		@Override
+		int resolveFieldIndex(String fieldName, Value.Type fieldType) {
+			if (fieldType == Value.Type.Date && dateFormatter == null) {
+				throw new IllegalArgumentException("Date pattern is needed for date field: " + fieldName);
+			}
+			for (int i = 0; i < csvHeader.size(); i++) {
+				if (csvHeader.get(i) != null && csvHeader.get(i).trim().equalsIgnoreCase(fieldName)) {
+					return i;
+				}
+			}
+			throw new IllegalArgumentException("Field of rule is not included in csv header: " + fieldName);
+		}
+	}
+
+	private static class CsvRowAccessor extends CsvAccessor<CsvRow> {
+		private CsvRowAccessor(List<String> csvHeader, String datePattern) {
+			super(csvHeader, datePattern);
+		}
+
+		@Override
+		boolean isNull(CsvRow csvRow, int columnIndex) {
+			return columnIndex >= csvRow.size() || csvRow.getLength(columnIndex) <= 0;
+		}
+
+		@Override
+		CharSequence getString(CsvRow csvRow, int columnIndex) {
+			return isNull(csvRow, columnIndex) ? null : csvRow.get(columnIndex);
+		}
+
+		@Override
+		double getNumber(CsvRow csvRow, int columnIndex) {
+			return isNull(csvRow, columnIndex) ? Double.NaN : csvRow.getDouble(columnIndex);
+		}
+
+		@Override
+		long getDate(CsvRow csvRow, int columnIndex) {
+			return parseDate(getString(csvRow, columnIndex));
+		}
+
+		@Override
+		int getBool(CsvRow csvRow, int columnIndex) {
+			return parseBool(getString(csvRow, columnIndex));
+		}
+	}
+
+	private static class CsvValuesAccessor extends CsvAccessor<List<String>> {
+		private CsvValuesAccessor(List<String> csvHeader, String datePattern) {
+			super(csvHeader, datePattern);
+		}
+
+		@Override
+		boolean isNull(List<String> values, int columnIndex) {
+			return columnIndex >= values.size() || values.get(columnIndex) == null || values.get(columnIndex).length() == 0;
+		}
+
+		@Override
+		CharSequence getString(List<String> values, int columnIndex) {
+			return isNull(values, columnIndex) ? null : values.get(columnIndex);
+		}
+
+		@Override
+		double getNumber(List<String> values, int columnIndex) {
+			return toNumber(getString(values, columnIndex));
+		}
+
+		@Override
+		long getDate(List<String> values, int columnIndex) {
+			return parseDate(getString(values, columnIndex));
+		}
+
+		@Override
+		int getBool(List<String> values, int columnIndex) {
+			return parseBool(getString(values, columnIndex));
+		}
+	}
+
+	/**
+	 * Access on record values by key. The field names are resolved to an array of keys.
+	 */
+	private static class MapAccessor extends RecordAccessor<Map<String, Object>> {
+		private final Collection<String> keyNames;
+		private final List<String> resolvedKeys = new ArrayList<String>();
+		private volatile String[] keys = new String[0];
+
+		private MapAccessor(Collection<String> keyNames, String datePattern) {
+			super(datePattern);
+			this.keyNames = keyNames;
+		}
+
+		@Override
+		int resolveFieldIndex(String fieldName, Value.Type fieldType) {
+			String key = null;
+			if (keyNames == null) {
+				key = fieldName;
+			} else {
+				for (String keyName : keyNames) {
+					if (keyName != null && keyName.equalsIgnoreCase(fieldName)) {
+						key = keyName;
+						break;
+					}
+				}
+				if (key == null) {
+					throw new IllegalArgumentException("Field of rule is not included in key names: " + fieldName);
+				}
+			}
+			int index = resolvedKeys.indexOf(key);
+			if (index < 0) {
+				resolvedKeys.add(key);
+				index = resolvedKeys.size() - 1;
+				keys = resolvedKeys.toArray(new String[resolvedKeys.size()]);
+			}
+			return index;
+		}
+
+		@Override
+		boolean isNull(Map<String, Object> record, int keyIndex) {
+			return record.get(keys[keyIndex]) == null;
+		}
+
+		@Override
+		CharSequence getString(Map<String, Object> record, int keyIndex) {
+			Object value = record.get(keys[keyIndex]);
+			if (value == null) {
+				return null;
+			} else if (value instanceof CharSequence) {
+				return (CharSequence) value;
+			} else {
+				return value.toString();
+			}
+		}
+
+		@Override
+		double getNumber(Map<String, Object> record, int keyIndex) {
+			Object value = record.get(keys[keyIndex]);
+			if (value == null) {
+				return Double.NaN;
+			} else if (value instanceof Number) {
+				return ((Number) value).doubleValue();
+			} else if (value instanceof CharSequence) {
+				return toNumber((CharSequence) value);
+			} else {
+				throw new IllegalArgumentException("Value of field " + keys[keyIndex] + " is not a number: " + value);
+			}
+		}
+
+		@Override
+		long getDate(Map<String, Object> record, int keyIndex) {
+			Object value = record.get(keys[keyIndex]);
+			if (value == null) {
+				return NULL_DATE;
+			} else if (value instanceof Date) {
+				return ((Date) value).getTime();
+			} else if (value instanceof Calendar) {
+				return ((Calendar) value).getTimeInMillis();
+			} else if (value instanceof LocalDateTime) {
+				return ((LocalDateTime) value).atZone(zoneId).toInstant().toEpochMilli();
+			} else if (value instanceof LocalDate) {
+				return ((LocalDate) value).atStartOfDay(zoneId).toInstant().toEpochMilli();
+			} else if (value instanceof ZonedDateTime) {
+				return ((ZonedDateTime) value).toInstant().toEpochMilli();
+			} else if (value instanceof CharSequence) {
+				return parseDate((CharSequence) value);
+			} else {
+				throw new IllegalArgumentException("Value of field " + keys[keyIndex] + " is not a date: " + value);
+			}
+		}
+
+		@Override
+		int getBool(Map<String, Object> record, int keyIndex) {
+			Object value = record.get(keys[keyIndex]);
+			if (value == null) {
+				return -1;
+			} else if (value instanceof Boolean) {
+				return ((Boolean) value) ? 1 : 0;
+			} else if (value instanceof Number) {
+				return ((Number) value).doubleValue() != 0 ? 1 : 0;
+			} else {
+				return parseBool(value.toString());
+			}
+		}
+	}
+}